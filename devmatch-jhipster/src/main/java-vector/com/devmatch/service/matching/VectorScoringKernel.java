@@ -0,0 +1,41 @@
+package com.devmatch.service.matching;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ScoringKernel} based on the Vector API: rows are scored by blocks of the preferred vector width, the
+ * running sums of a block staying in a register while every column is added to it.
+ * <p>
+ * This class is only compiled by the {@code vector} Maven profile, and must only be loaded when the
+ * {@code jdk.incubator.vector} module is available, see {@link ScoringKernel#create()}.
+ */
+public class VectorScoringKernel implements ScoringKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void score(float[][] columns, float[] weights, int rows, float[] scores) {
+        int upperBound = SPECIES.loopBound(rows);
+        int row = 0;
+        for (; row < upperBound; row += SPECIES.length()) {
+            FloatVector sum = FloatVector.zero(SPECIES);
+            for (int column = 0; column < columns.length; column++) {
+                sum = sum.add(FloatVector.fromArray(SPECIES, columns[column], row).mul(weights[column]));
+            }
+            sum.intoArray(scores, row);
+        }
+        for (; row < rows; row++) {
+            float sum = 0f;
+            for (int column = 0; column < columns.length; column++) {
+                sum += columns[column][row] * weights[column];
+            }
+            scores[row] = sum;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VectorScoringKernel[" + SPECIES + "]";
+    }
+}
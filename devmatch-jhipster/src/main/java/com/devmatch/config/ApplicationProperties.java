@@ -13,12 +13,42 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Matching matching = new Matching();
+
+    private final Ai ai = new Ai();
+
+    private final Cache cache = new Cache();
+
+    private final Audit audit = new Audit();
+
+    private final Pagination pagination = new Pagination();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Matching getMatching() {
+        return matching;
+    }
+
+    public Ai getAi() {
+        return ai;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Audit getAudit() {
+        return audit;
+    }
+
+    public Pagination getPagination() {
+        return pagination;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +63,260 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Matching {
+
+        private String batchCron = "0 0 2 * * ?";
+
+        private int batchParallelism = 0;
+
+        public String getBatchCron() {
+            return batchCron;
+        }
+
+        public void setBatchCron(String batchCron) {
+            this.batchCron = batchCron;
+        }
+
+        public int getBatchParallelism() {
+            return batchParallelism;
+        }
+
+        public void setBatchParallelism(int batchParallelism) {
+            this.batchParallelism = batchParallelism;
+        }
+    }
+
+    public static class Ai {
+
+        private String model = "stub";
+
+        private int maxConcurrency = 4;
+
+        private boolean virtualThreads = true;
+
+        private long cacheMaxSize = 10_000;
+
+        private long cacheTimeToLiveSeconds = 86_400;
+
+        private String embeddingProvider = "hashed-ngram";
+
+        private int embeddingDimension = 256;
+
+        private int shortlistSize = 200;
+
+        private int hnswM = 16;
+
+        private int hnswEfConstruction = 100;
+
+        private int hnswEfSearch = 400;
+
+        private long streamTimeoutSeconds = 600;
+
+        public String getModel() {
+            return model;
+        }
+
+        public void setModel(String model) {
+            this.model = model;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public long getCacheMaxSize() {
+            return cacheMaxSize;
+        }
+
+        public void setCacheMaxSize(long cacheMaxSize) {
+            this.cacheMaxSize = cacheMaxSize;
+        }
+
+        public long getCacheTimeToLiveSeconds() {
+            return cacheTimeToLiveSeconds;
+        }
+
+        public void setCacheTimeToLiveSeconds(long cacheTimeToLiveSeconds) {
+            this.cacheTimeToLiveSeconds = cacheTimeToLiveSeconds;
+        }
+
+        public String getEmbeddingProvider() {
+            return embeddingProvider;
+        }
+
+        public void setEmbeddingProvider(String embeddingProvider) {
+            this.embeddingProvider = embeddingProvider;
+        }
+
+        public int getEmbeddingDimension() {
+            return embeddingDimension;
+        }
+
+        public void setEmbeddingDimension(int embeddingDimension) {
+            this.embeddingDimension = embeddingDimension;
+        }
+
+        public int getShortlistSize() {
+            return shortlistSize;
+        }
+
+        public void setShortlistSize(int shortlistSize) {
+            this.shortlistSize = shortlistSize;
+        }
+
+        public int getHnswM() {
+            return hnswM;
+        }
+
+        public void setHnswM(int hnswM) {
+            this.hnswM = hnswM;
+        }
+
+        public int getHnswEfConstruction() {
+            return hnswEfConstruction;
+        }
+
+        public void setHnswEfConstruction(int hnswEfConstruction) {
+            this.hnswEfConstruction = hnswEfConstruction;
+        }
+
+        public int getHnswEfSearch() {
+            return hnswEfSearch;
+        }
+
+        public void setHnswEfSearch(int hnswEfSearch) {
+            this.hnswEfSearch = hnswEfSearch;
+        }
+
+        public long getStreamTimeoutSeconds() {
+            return streamTimeoutSeconds;
+        }
+
+        public void setStreamTimeoutSeconds(long streamTimeoutSeconds) {
+            this.streamTimeoutSeconds = streamTimeoutSeconds;
+        }
+    }
+
+    public static class Cache {
+
+        private int timeToLiveSeconds = 3600;
+
+        private long maxEntries = 1000;
+
+        private long catalogueMaxEntries = 100;
+
+        public int getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public long getCatalogueMaxEntries() {
+            return catalogueMaxEntries;
+        }
+
+        public void setCatalogueMaxEntries(long catalogueMaxEntries) {
+            this.catalogueMaxEntries = catalogueMaxEntries;
+        }
+    }
+    public static class Audit {
+
+        private int bufferCapacity = 65_536;
+
+        private long flushIntervalMillis = 500;
+
+        private String archiveDirectory = "audit-archive";
+
+        private int retentionDays = 180;
+
+        private String archiveCron = "0 30 3 * * ?";
+
+        private int segmentMaxRecords = 100_000;
+
+        public int getBufferCapacity() {
+            return bufferCapacity;
+        }
+
+        public void setBufferCapacity(int bufferCapacity) {
+            this.bufferCapacity = bufferCapacity;
+        }
+
+        public long getFlushIntervalMillis() {
+            return flushIntervalMillis;
+        }
+
+        public void setFlushIntervalMillis(long flushIntervalMillis) {
+            this.flushIntervalMillis = flushIntervalMillis;
+        }
+
+        public String getArchiveDirectory() {
+            return archiveDirectory;
+        }
+
+        public void setArchiveDirectory(String archiveDirectory) {
+            this.archiveDirectory = archiveDirectory;
+        }
+
+        public int getRetentionDays() {
+            return retentionDays;
+        }
+
+        public void setRetentionDays(int retentionDays) {
+            this.retentionDays = retentionDays;
+        }
+
+        public String getArchiveCron() {
+            return archiveCron;
+        }
+
+        public void setArchiveCron(String archiveCron) {
+            this.archiveCron = archiveCron;
+        }
+
+        public int getSegmentMaxRecords() {
+            return segmentMaxRecords;
+        }
+
+        public void setSegmentMaxRecords(int segmentMaxRecords) {
+            this.segmentMaxRecords = segmentMaxRecords;
+        }
+    }
+
+    public static class Pagination {
+
+        private long approximateCountRefreshMillis = 60_000;
+
+        public long getApproximateCountRefreshMillis() {
+            return approximateCountRefreshMillis;
+        }
+
+        public void setApproximateCountRefreshMillis(long approximateCountRefreshMillis) {
+            this.approximateCountRefreshMillis = approximateCountRefreshMillis;
+        }
+    }
+
     // jhipster-needle-application-properties-property-class
 }
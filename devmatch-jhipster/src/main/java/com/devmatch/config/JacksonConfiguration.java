@@ -3,6 +3,8 @@ package com.devmatch.config;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
 import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module.Feature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -11,6 +13,9 @@ import java.io.IOException;
 import java.time.LocalTime;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 @Configuration
 public class JacksonConfiguration {
@@ -39,6 +44,31 @@ public class JacksonConfiguration {
         return new Jdk8Module();
     }
 
+    /**
+     * Support for the CBOR encoding, for the clients asking for it in their {@code Accept} or {@code Content-Type}
+     * header.
+     * <p>
+     * Its object mapper is built with the same modules and settings as the JSON one. Being a bean, the converter
+     * replaces the default one of Spring MVC at its place, after the JSON one, so that JSON stays the encoding of
+     * the clients accepting any type.
+     * @param builder the builder of the object mappers configured by Spring Boot.
+     * @return the converter.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Support for the Smile encoding, configured like the CBOR one.
+     * @param builder the builder of the object mappers configured by Spring Boot.
+     * @return the converter.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
     /*
      * Support for Hibernate types in Jackson.
      */
@@ -7,6 +7,8 @@ import java.io.Serializable;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * A Developer.
@@ -71,6 +73,10 @@ public class Developer implements Serializable {
     @Column(name = "fecha_modificacion")
     private Instant fechaModificacion;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "developer")
     @JsonIgnoreProperties(value = { "developer" }, allowSetters = true)
     private Set<Experience> experiences = new HashSet<>();
@@ -81,6 +87,7 @@ public class Developer implements Serializable {
         joinColumns = @JoinColumn(name = "developer_id"),
         inverseJoinColumns = @JoinColumn(name = "skills_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JsonIgnoreProperties(value = { "developers", "projects" }, allowSetters = true)
     private Set<Technology> skills = new HashSet<>();
 
@@ -255,6 +262,19 @@ public class Developer implements Serializable {
         this.fechaModificacion = fechaModificacion;
     }
 
+    public long getVersion() {
+        return this.version;
+    }
+
+    public Developer version(long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Set<Experience> getExperiences() {
         return this.experiences;
     }
@@ -345,6 +365,7 @@ public class Developer implements Serializable {
             ", usuarioModificacion='" + getUsuarioModificacion() + "'" +
             ", fechaCreacion='" + getFechaCreacion() + "'" +
             ", fechaModificacion='" + getFechaModificacion() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
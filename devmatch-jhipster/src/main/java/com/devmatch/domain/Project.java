@@ -7,6 +7,8 @@ import java.io.Serializable;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * A Project.
@@ -61,12 +63,17 @@ public class Project implements Serializable {
     @Column(name = "fecha_modificacion")
     private Instant fechaModificacion;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "rel_project__required_technologies",
         joinColumns = @JoinColumn(name = "project_id"),
         inverseJoinColumns = @JoinColumn(name = "required_technologies_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JsonIgnoreProperties(value = { "developers", "projects" }, allowSetters = true)
     private Set<Technology> requiredTechnologies = new HashSet<>();
 
@@ -202,6 +209,19 @@ public class Project implements Serializable {
         this.fechaModificacion = fechaModificacion;
     }
 
+    public long getVersion() {
+        return this.version;
+    }
+
+    public Project version(long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Set<Technology> getRequiredTechnologies() {
         return this.requiredTechnologies;
     }
@@ -258,6 +278,7 @@ public class Project implements Serializable {
             ", usuarioModificacion='" + getUsuarioModificacion() + "'" +
             ", fechaCreacion='" + getFechaCreacion() + "'" +
             ", fechaModificacion='" + getFechaModificacion() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
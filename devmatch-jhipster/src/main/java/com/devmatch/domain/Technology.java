@@ -6,12 +6,15 @@ import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * A Technology.
  */
 @Entity
 @Table(name = "technology")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Technology implements Serializable {
 
@@ -32,6 +35,10 @@ public class Technology implements Serializable {
     @Column(name = "category", length = 50)
     private String category;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @ManyToMany(fetch = FetchType.LAZY, mappedBy = "skills")
     @JsonIgnoreProperties(value = { "experiences", "skills" }, allowSetters = true)
     private Set<Developer> developers = new HashSet<>();
@@ -81,6 +88,19 @@ public class Technology implements Serializable {
         this.category = category;
     }
 
+    public long getVersion() {
+        return this.version;
+    }
+
+    public Technology version(long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Set<Developer> getDevelopers() {
         return this.developers;
     }
@@ -169,6 +189,7 @@ public class Technology implements Serializable {
             "id=" + getId() +
             ", name='" + getName() + "'" +
             ", category='" + getCategory() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
@@ -1,12 +1,48 @@
 package com.devmatch.repository;
 
 import com.devmatch.domain.AuditHistory;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data JPA repository for the AuditHistory entity.
+ * <p>
+ * The history of an entity is read newest first by seeking on the {@code (entity_type, entity_id,
+ * fecha_modificacion, id)} index, so that each page costs the same whatever its depth. Records older than the
+ * retention period are moved to the archive by {@link com.devmatch.service.AuditArchiveService}.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface AuditHistoryRepository extends JpaRepository<AuditHistory, Long> {}
+public interface AuditHistoryRepository extends JpaRepository<AuditHistory, Long> {
+    @Query(
+        "select auditHistory from AuditHistory auditHistory where auditHistory.entityType = :entityType and auditHistory.entityId = :entityId order by auditHistory.fechaModificacion desc, auditHistory.id desc"
+    )
+    List<AuditHistory> findLatestByEntity(@Param("entityType") String entityType, @Param("entityId") Long entityId, Limit limit);
+
+    @Query(
+        "select auditHistory from AuditHistory auditHistory where auditHistory.entityType = :entityType and auditHistory.entityId = :entityId and (auditHistory.fechaModificacion < :fechaModificacion or (auditHistory.fechaModificacion = :fechaModificacion and auditHistory.id < :id)) order by auditHistory.fechaModificacion desc, auditHistory.id desc"
+    )
+    List<AuditHistory> findLatestByEntityBefore(
+        @Param("entityType") String entityType,
+        @Param("entityId") Long entityId,
+        @Param("fechaModificacion") Instant fechaModificacion,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query("select auditHistory from AuditHistory auditHistory where auditHistory.fechaModificacion < :cutoff order by auditHistory.id")
+    List<AuditHistory> findOlderThan(@Param("cutoff") Instant cutoff, Limit limit);
+
+    @Modifying
+    @Query("delete from AuditHistory auditHistory where auditHistory.id in :ids and auditHistory.fechaModificacion < :cutoff")
+    int deleteArchived(@Param("ids") Collection<Long> ids, @Param("cutoff") Instant cutoff);
+
+    Slice<AuditHistory> findSliceBy(Pageable pageable);
+}
@@ -1,11 +1,15 @@
 package com.devmatch.repository;
 
 import com.devmatch.domain.Developer;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -16,6 +20,9 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface DeveloperRepository extends DeveloperRepositoryWithBagRelationships, JpaRepository<Developer, Long> {
+    String ROWS_QUERY =
+        "select developer.id as id, developer.name as name, developer.email as email, developer.experienceLevel as experienceLevel, developer.bio as bio, developer.location as location, developer.githubProfile as githubProfile, developer.linkedin as linkedin, developer.motivation as motivation, developer.usuarioCreacion as usuarioCreacion, developer.usuarioModificacion as usuarioModificacion, developer.fechaCreacion as fechaCreacion, developer.fechaModificacion as fechaModificacion, developer.version as version from Developer developer";
+
     default Optional<Developer> findOneWithEagerRelationships(Long id) {
         return this.fetchBagRelationships(this.findById(id));
     }
@@ -24,7 +31,103 @@ public interface DeveloperRepository extends DeveloperRepositoryWithBagRelations
         return this.fetchBagRelationships(this.findAll());
     }
 
-    default Page<Developer> findAllWithEagerRelationships(Pageable pageable) {
-        return this.fetchBagRelationships(this.findAll(pageable));
+    @Query(
+        "select developer.id as developerId, developer.experienceLevel as experienceLevel, skill.id as technologyId from Developer developer join developer.skills skill"
+    )
+    List<SkillLink> findAllSkillLinks();
+
+    @Query("select developer.email from Developer developer where developer.email in :emails")
+    List<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query(value = ROWS_QUERY, countQuery = "select count(developer) from Developer developer")
+    Page<DeveloperRow> findAllRows(Pageable pageable);
+
+    @Query(ROWS_QUERY)
+    Slice<DeveloperRow> findRowSlice(Pageable pageable);
+
+    @Query(
+        "select developer.id as developerId, skill.id as technologyId from Developer developer join developer.skills skill where developer.id in :developerIds"
+    )
+    List<SkillId> findSkillIdsByDeveloperIdIn(@Param("developerIds") Collection<Long> developerIds);
+
+    @Query("select developer.id as developerId, developer.bio as bio, developer.motivation as motivation from Developer developer")
+    List<ProfileText> findAllProfileTexts();
+
+    Slice<Developer> findSliceBy(Pageable pageable);
+
+    @Query("select developer.version from Developer developer where developer.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query(
+        value = "select developer.id as id, developer.version as version from Developer developer",
+        countQuery = "select count(developer) from Developer developer"
+    )
+    Page<EntityVersion> findVersions(Pageable pageable);
+
+    @Query("select developer.id as id, developer.version as version from Developer developer")
+    Slice<EntityVersion> findVersionSlice(Pageable pageable);
+
+    /**
+     * A single (developer, technology) row of the developer skills relationship.
+     */
+    interface SkillLink {
+        Long getDeveloperId();
+
+        String getExperienceLevel();
+
+        Long getTechnologyId();
+    }
+
+    /**
+     * The columns of a developer, read without hydrating the entity.
+     */
+    interface DeveloperRow {
+        Long getId();
+
+        String getName();
+
+        String getEmail();
+
+        String getExperienceLevel();
+
+        String getBio();
+
+        String getLocation();
+
+        String getGithubProfile();
+
+        String getLinkedin();
+
+        String getMotivation();
+
+        String getUsuarioCreacion();
+
+        String getUsuarioModificacion();
+
+        Instant getFechaCreacion();
+
+        Instant getFechaModificacion();
+
+        Long getVersion();
+    }
+
+    /**
+     * The free texts of a developer profile.
+     */
+    interface ProfileText {
+        Long getDeveloperId();
+
+        String getBio();
+
+        String getMotivation();
+    }
+
+    /**
+     * A single (developer, technology id) row of the developer skills relationship.
+     */
+    interface SkillId {
+        Long getDeveloperId();
+
+        Long getTechnologyId();
     }
 }
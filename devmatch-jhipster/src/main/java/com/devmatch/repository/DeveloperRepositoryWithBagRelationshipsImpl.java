@@ -8,8 +8,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 
 /**
  * Utility repository to load bag relationships based on https://vladmihalcea.com/hibernate-multiplebagfetchexception/
@@ -27,11 +25,6 @@ public class DeveloperRepositoryWithBagRelationshipsImpl implements DeveloperRep
         return developer.map(this::fetchSkills);
     }
 
-    @Override
-    public Page<Developer> fetchBagRelationships(Page<Developer> developers) {
-        return new PageImpl<>(fetchBagRelationships(developers.getContent()), developers.getPageable(), developers.getTotalElements());
-    }
-
     @Override
     public List<Developer> fetchBagRelationships(List<Developer> developers) {
         return Optional.of(developers).map(this::fetchSkills).orElse(Collections.emptyList());
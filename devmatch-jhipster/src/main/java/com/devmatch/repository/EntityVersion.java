@@ -0,0 +1,10 @@
+package com.devmatch.repository;
+
+/**
+ * The id and optimistic locking version of an entity, read without hydrating it.
+ */
+public interface EntityVersion {
+    Long getId();
+
+    Long getVersion();
+}
@@ -1,6 +1,10 @@
 package com.devmatch.repository;
 
 import com.devmatch.domain.Experience;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +13,20 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ExperienceRepository extends JpaRepository<Experience, Long> {}
+public interface ExperienceRepository extends JpaRepository<Experience, Long> {
+    List<Experience> findAllByDeveloperIdIn(Collection<Long> developerIds);
+
+    @Query("select experience.developer.id as developerId, experience.description as description from Experience experience")
+    List<ExperienceDescription> findAllDescriptions();
+
+    Slice<Experience> findSliceBy(Pageable pageable);
+
+    /**
+     * The description of an experience of a developer.
+     */
+    interface ExperienceDescription {
+        Long getDeveloperId();
+
+        String getDescription();
+    }
+}
@@ -1,7 +1,18 @@
 package com.devmatch.repository;
 
 import com.devmatch.domain.MatchResult;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +20,160 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface MatchResultRepository extends JpaRepository<MatchResult, Long> {}
+public interface MatchResultRepository extends JpaRepository<MatchResult, Long> {
+    /**
+     * Number of rows fetched per database round trip when streaming the export.
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select matchResult.project.id as projectId, matchResult.developer.id as developerId, matchResult.technicalMatch as technicalMatch, matchResult.aiTechnicalAffinity as aiTechnicalAffinity, matchResult.aiMotivationalAffinity as aiMotivationalAffinity, matchResult.aiExperienceRelevance as aiExperienceRelevance from MatchResult matchResult where matchResult.project.id = :projectId and matchResult.developer.id in :developerIds"
+    )
+    List<MatchScores> findScoresByProjectIdAndDeveloperIdIn(
+        @Param("projectId") Long projectId,
+        @Param("developerIds") Collection<Long> developerIds
+    );
+
+    @Modifying
+    @Query(
+        "update MatchResult matchResult set matchResult.technicalMatch = :technicalMatch, matchResult.createdAt = :createdAt where matchResult.project.id = :projectId and matchResult.developer.id in :developerIds"
+    )
+    int updateTechnicalMatch(
+        @Param("projectId") Long projectId,
+        @Param("developerIds") Collection<Long> developerIds,
+        @Param("technicalMatch") BigDecimal technicalMatch,
+        @Param("createdAt") String createdAt
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select matchResult.project.id as projectId, matchResult.developer.id as developerId, matchResult.technicalMatch as technicalMatch, matchResult.aiTechnicalAffinity as aiTechnicalAffinity, matchResult.aiMotivationalAffinity as aiMotivationalAffinity, matchResult.aiExperienceRelevance as aiExperienceRelevance from MatchResult matchResult where matchResult.developer.id = :developerId")
+    List<MatchScores> findScoresByDeveloperId(@Param("developerId") Long developerId);
+
+    @Modifying
+    @Query(
+        "update MatchResult matchResult set matchResult.technicalMatch = :technicalMatch, matchResult.createdAt = :createdAt where matchResult.developer.id = :developerId and matchResult.project.id in :projectIds"
+    )
+    int updateTechnicalMatchOfDeveloper(
+        @Param("developerId") Long developerId,
+        @Param("projectIds") Collection<Long> projectIds,
+        @Param("technicalMatch") BigDecimal technicalMatch,
+        @Param("createdAt") String createdAt
+    );
+
+    @Modifying
+    @Query("delete from MatchResult matchResult where matchResult.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select matchResult.project.id as projectId, matchResult.developer.id as developerId, matchResult.technicalMatch as technicalMatch, matchResult.aiTechnicalAffinity as aiTechnicalAffinity, matchResult.aiMotivationalAffinity as aiMotivationalAffinity, matchResult.aiExperienceRelevance as aiExperienceRelevance from MatchResult matchResult where matchResult.project.id = :projectId and matchResult.createdAt <> :createdAt and matchResult.technicalMatch <> 0"
+    )
+    List<MatchScores> findStaleScores(@Param("projectId") Long projectId, @Param("createdAt") String createdAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select matchResult.project.id as projectId, matchResult.developer.id as developerId, matchResult.technicalMatch as technicalMatch, matchResult.aiTechnicalAffinity as aiTechnicalAffinity, matchResult.aiMotivationalAffinity as aiMotivationalAffinity, matchResult.aiExperienceRelevance as aiExperienceRelevance from MatchResult matchResult where matchResult.project.id = :projectId and matchResult.developer.id = :developerId"
+    )
+    Optional<MatchScores> findScoresByProjectIdAndDeveloperId(@Param("projectId") Long projectId, @Param("developerId") Long developerId);
+
+    @Modifying
+    @Query(
+        "update MatchResult matchResult set matchResult.aiTechnicalAffinity = :technicalAffinity, matchResult.aiMotivationalAffinity = :motivationalAffinity, matchResult.aiExperienceRelevance = :experienceRelevance, matchResult.aiComment = :comment where matchResult.project.id = :projectId and matchResult.developer.id = :developerId"
+    )
+    int updateAiAnalysis(
+        @Param("projectId") Long projectId,
+        @Param("developerId") Long developerId,
+        @Param("technicalAffinity") Integer technicalAffinity,
+        @Param("motivationalAffinity") Integer motivationalAffinity,
+        @Param("experienceRelevance") Integer experienceRelevance,
+        @Param("comment") String comment
+    );
+
+    @Query(
+        "select matchResult.project.id as projectId, count(matchResult) as matches, sum(matchResult.technicalMatch) as technicalMatchSum, count(matchResult.aiTechnicalAffinity) as aiTechnicalAffinityCount, sum(matchResult.aiTechnicalAffinity) as aiTechnicalAffinitySum, count(matchResult.aiMotivationalAffinity) as aiMotivationalAffinityCount, sum(matchResult.aiMotivationalAffinity) as aiMotivationalAffinitySum, count(matchResult.aiExperienceRelevance) as aiExperienceRelevanceCount, sum(matchResult.aiExperienceRelevance) as aiExperienceRelevanceSum from MatchResult matchResult group by matchResult.project.id"
+    )
+    List<ProjectStatistics> findStatisticsByProject();
+
+    @Query(
+        "select matchResult.project.id as projectId, count(matchResult) as matches, sum(matchResult.technicalMatch) as technicalMatchSum, count(matchResult.aiTechnicalAffinity) as aiTechnicalAffinityCount, sum(matchResult.aiTechnicalAffinity) as aiTechnicalAffinitySum, count(matchResult.aiMotivationalAffinity) as aiMotivationalAffinityCount, sum(matchResult.aiMotivationalAffinity) as aiMotivationalAffinitySum, count(matchResult.aiExperienceRelevance) as aiExperienceRelevanceCount, sum(matchResult.aiExperienceRelevance) as aiExperienceRelevanceSum from MatchResult matchResult where matchResult.project.id in :projectIds group by matchResult.project.id"
+    )
+    List<ProjectStatistics> findStatisticsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+        }
+    )
+    @Query(
+        "select matchResult.id as id, matchResult.project.id as projectId, matchResult.developer.id as developerId, matchResult.technicalMatch as technicalMatch, matchResult.aiTechnicalAffinity as aiTechnicalAffinity, matchResult.aiMotivationalAffinity as aiMotivationalAffinity, matchResult.aiExperienceRelevance as aiExperienceRelevance, matchResult.aiComment as aiComment, matchResult.createdAt as createdAt from MatchResult matchResult order by matchResult.id"
+    )
+    Stream<ExportRow> streamAllForExport();
+
+    Slice<MatchResult> findSliceBy(Pageable pageable);
+
+    /**
+     * The columns of an exported match result.
+     */
+    interface ExportRow {
+        Long getId();
+
+        Long getProjectId();
+
+        Long getDeveloperId();
+
+        BigDecimal getTechnicalMatch();
+
+        Integer getAiTechnicalAffinity();
+
+        Integer getAiMotivationalAffinity();
+
+        Integer getAiExperienceRelevance();
+
+        String getAiComment();
+
+        String getCreatedAt();
+    }
+
+    /**
+     * The scores of a match result, read and locked before writing it so that the change of its statistics is known.
+     */
+    interface MatchScores {
+        Long getProjectId();
+
+        Long getDeveloperId();
+
+        BigDecimal getTechnicalMatch();
+
+        Integer getAiTechnicalAffinity();
+
+        Integer getAiMotivationalAffinity();
+
+        Integer getAiExperienceRelevance();
+    }
+
+    /**
+     * The counts and sums of the scores of the match results of a project; sums are {@code null} without scores.
+     */
+    interface ProjectStatistics {
+        Long getProjectId();
+
+        Long getMatches();
+
+        BigDecimal getTechnicalMatchSum();
+
+        Long getAiTechnicalAffinityCount();
+
+        Long getAiTechnicalAffinitySum();
+
+        Long getAiMotivationalAffinityCount();
+
+        Long getAiMotivationalAffinitySum();
+
+        Long getAiExperienceRelevanceCount();
+
+        Long getAiExperienceRelevanceSum();
+    }
+}
@@ -5,7 +5,10 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -24,7 +27,36 @@ public interface ProjectRepository extends ProjectRepositoryWithBagRelationships
         return this.fetchBagRelationships(this.findAll());
     }
 
-    default Page<Project> findAllWithEagerRelationships(Pageable pageable) {
-        return this.fetchBagRelationships(this.findAll(pageable));
+    default Slice<Project> findSliceWithEagerRelationships(Pageable pageable) {
+        Slice<Project> slice = this.findSliceBy(pageable);
+        return new SliceImpl<>(this.fetchBagRelationships(slice.getContent()), slice.getPageable(), slice.hasNext());
+    }
+
+    @Query(
+        "select project.id as projectId, technology.id as technologyId from Project project left join project.requiredTechnologies technology where lower(project.status) = lower(:status)"
+    )
+    List<RequiredTechnology> findRequiredTechnologiesByStatus(@Param("status") String status);
+
+    Slice<Project> findSliceBy(Pageable pageable);
+
+    @Query("select project.version from Project project where project.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query(
+        value = "select project.id as id, project.version as version from Project project",
+        countQuery = "select count(project) from Project project"
+    )
+    Page<EntityVersion> findVersions(Pageable pageable);
+
+    @Query("select project.id as id, project.version as version from Project project")
+    Slice<EntityVersion> findVersionSlice(Pageable pageable);
+
+    /**
+     * Projection of a required technology of a project; the technology id is {@code null} for a project requiring none.
+     */
+    interface RequiredTechnology {
+        Long getProjectId();
+
+        Long getTechnologyId();
     }
 }
@@ -8,8 +8,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 
 /**
  * Utility repository to load bag relationships based on https://vladmihalcea.com/hibernate-multiplebagfetchexception/
@@ -27,11 +25,6 @@ public class ProjectRepositoryWithBagRelationshipsImpl implements ProjectReposit
         return project.map(this::fetchRequiredTechnologies);
     }
 
-    @Override
-    public Page<Project> fetchBagRelationships(Page<Project> projects) {
-        return new PageImpl<>(fetchBagRelationships(projects.getContent()), projects.getPageable(), projects.getTotalElements());
-    }
-
     @Override
     public List<Project> fetchBagRelationships(List<Project> projects) {
         return Optional.of(projects).map(this::fetchRequiredTechnologies).orElse(Collections.emptyList());
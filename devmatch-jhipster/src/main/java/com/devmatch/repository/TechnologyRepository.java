@@ -1,7 +1,13 @@
 package com.devmatch.repository;
 
 import com.devmatch.domain.Technology;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +15,30 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface TechnologyRepository extends JpaRepository<Technology, Long> {}
+public interface TechnologyRepository extends JpaRepository<Technology, Long> {
+    @Query("select technology.id as id, technology.name as name from Technology technology")
+    List<TechnologyName> findAllNames();
+
+    Slice<Technology> findSliceBy(Pageable pageable);
+
+    @Query("select technology.version from Technology technology where technology.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query(
+        value = "select technology.id as id, technology.version as version from Technology technology",
+        countQuery = "select count(technology) from Technology technology"
+    )
+    Page<EntityVersion> findVersions(Pageable pageable);
+
+    @Query("select technology.id as id, technology.version as version from Technology technology")
+    Slice<EntityVersion> findVersionSlice(Pageable pageable);
+
+    /**
+     * The name of a technology.
+     */
+    interface TechnologyName {
+        Long getId();
+
+        String getName();
+    }
+}
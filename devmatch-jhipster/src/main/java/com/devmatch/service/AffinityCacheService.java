@@ -0,0 +1,101 @@
+package com.devmatch.service;
+
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.service.ai.AffinityRequest;
+import com.devmatch.service.ai.AffinityScore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service caching the AI analyses of (project, developer) pairs.
+ * <p>
+ * Entries are keyed by a SHA-256 hash of the content sent to the model: the project description and required
+ * technologies, and the developer experience level, bio, motivation, skills and experiences. An unchanged pair is
+ * thus never sent twice to the model, whichever its ids. Entries are never evicted on updates: an edited project or
+ * developer hashes to other keys, so its stale analyses are no longer read and simply expire.
+ * <p>
+ * Hit and miss counts are published as the {@value #CACHE_NAME} Micrometer cache meters.
+ */
+@Service
+public class AffinityCacheService {
+
+    public static final String CACHE_NAME = "ai.affinity";
+
+    private static final char SEPARATOR = '\u001f';
+
+    private static final String LIST_SEPARATOR = "\u001e";
+
+    private final Cache<String, AffinityScore> cache;
+
+    public AffinityCacheService(ApplicationProperties applicationProperties, MeterRegistry registry) {
+        ApplicationProperties.Ai ai = applicationProperties.getAi();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(ai.getCacheMaxSize())
+            .expireAfterWrite(Duration.ofSeconds(ai.getCacheTimeToLiveSeconds()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the cached analysis of a request.
+     *
+     * @param request the request sent to the model.
+     * @return the analysis of a request with the same content, if any.
+     */
+    public Optional<AffinityScore> get(AffinityRequest request) {
+        return Optional.ofNullable(cache.getIfPresent(key(request)));
+    }
+
+    /**
+     * Cache the analysis of a request.
+     *
+     * @param request the request sent to the model.
+     * @param score the analysis of the model.
+     */
+    public void put(AffinityRequest request, AffinityScore score) {
+        cache.put(key(request), score);
+    }
+
+    /**
+     * @return the approximate number of cached analyses.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    static String key(AffinityRequest request) {
+        StringBuilder content = new StringBuilder();
+        append(content, request.getProjectDescription());
+        append(content, sorted(request.getRequiredTechnologies()));
+        append(content, request.getExperienceLevel());
+        append(content, request.getBio());
+        append(content, request.getMotivation());
+        append(content, sorted(request.getSkills()));
+        append(content, sorted(request.getExperiences()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void append(StringBuilder content, String value) {
+        content.append(value == null ? "" : value).append(SEPARATOR);
+    }
+
+    private static String sorted(List<String> values) {
+        return String.join(LIST_SEPARATOR, values.stream().map(String::valueOf).sorted().toList());
+    }
+}
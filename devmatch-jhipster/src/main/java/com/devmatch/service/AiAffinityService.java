@@ -0,0 +1,462 @@
+package com.devmatch.service;
+
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Experience;
+import com.devmatch.domain.Project;
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.ExperienceRepository;
+import com.devmatch.repository.ProjectRepository;
+import com.devmatch.service.ai.AffinityModel;
+import com.devmatch.service.ai.AffinityRequest;
+import com.devmatch.service.ai.AffinityScore;
+import com.devmatch.service.dto.MatchAffinityDTO;
+import com.devmatch.service.dto.MatchCandidateDTO;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service scoring the AI affinity of developers with a project, in the background.
+ * <p>
+ * Technical matches are returned and stored right away, while each (project, developer) pair is sent to the
+ * {@link AffinityModel} on its own thread; the AI columns of its match result are filled as soon as the model
+ * answers. At most {@code application.ai.max-concurrency} model calls run at once, and pairs whose content was
+ * already analyzed are served by the {@link AffinityCacheService}.
+ * <p>
+ * Model calls run on virtual threads when the JVM supports them, and on a pool of
+ * {@code application.ai.max-concurrency} platform threads otherwise. The progress of an analysis can be followed with
+ * an {@link AnalysisListener}.
+ * <p>
+ * A single analysis runs per project at a time: a request made while one is in progress follows it, whatever
+ * shortlist it asks for, instead of storing the matches and calling the model again. Listeners attaching to an
+ * analysis in progress first receive the events they missed.
+ */
+@Service
+public class AiAffinityService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AiAffinityService.class);
+
+    private static final AnalysisListener NO_LISTENER = new AnalysisListener() {};
+
+    private final ProjectRepository projectRepository;
+
+    private final DeveloperRepository developerRepository;
+
+    private final ExperienceRepository experienceRepository;
+
+    private final MatchingEngineService matchingEngineService;
+
+    private final MatchResultService matchResultService;
+
+    private final AffinityModel affinityModel;
+
+    private final AffinityCacheService affinityCacheService;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Semaphore permits;
+
+    private final ExecutorService executor;
+
+    private final int shortlistSize;
+
+    private final ConcurrentMap<Long, Analysis> analyses = new ConcurrentHashMap<>();
+
+    public AiAffinityService(
+        ProjectRepository projectRepository,
+        DeveloperRepository developerRepository,
+        ExperienceRepository experienceRepository,
+        MatchingEngineService matchingEngineService,
+        MatchResultService matchResultService,
+        AffinityModel affinityModel,
+        AffinityCacheService affinityCacheService,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.projectRepository = projectRepository;
+        this.developerRepository = developerRepository;
+        this.experienceRepository = experienceRepository;
+        this.matchingEngineService = matchingEngineService;
+        this.matchResultService = matchResultService;
+        this.affinityModel = affinityModel;
+        this.affinityCacheService = affinityCacheService;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        ApplicationProperties.Ai ai = applicationProperties.getAi();
+        this.permits = new Semaphore(Math.max(1, ai.getMaxConcurrency()));
+        this.executor = createExecutor(ai);
+        this.shortlistSize = ai.getShortlistSize();
+    }
+
+    /**
+     * Score the best developers for a project: technical matches are stored and returned right away, AI
+     * affinities are stored in the background.
+     *
+     * @param projectId the id of the project.
+     * @param k the maximum number of developers to score.
+     * @return the best developers by technical match, or empty if the project does not exist.
+     */
+    public Optional<List<MatchCandidateDTO>> analyzeTopMatches(Long projectId, int k) {
+        LOG.debug("Request to analyze the top {} matches of Project : {}", k, projectId);
+        return analyzeShortlist(projectId, () -> matchingEngineService.findTopMatches(projectId, k), NO_LISTENER).map(
+            Analysis::getCandidates
+        );
+    }
+
+    /**
+     * Score the best developers for a project, reporting each technical match then each AI affinity to a listener as
+     * soon as it is stored.
+     *
+     * @param projectId the id of the project.
+     * @param k the maximum number of developers to score.
+     * @param listener the listener of the analysis.
+     * @return a future completed once every developer has been analyzed, or empty if the project does not exist.
+     */
+    public Optional<CompletableFuture<Void>> analyzeTopMatches(Long projectId, int k, AnalysisListener listener) {
+        LOG.debug("Request to analyze the top {} matches of Project : {} with a listener", k, projectId);
+        return analyzeShortlist(projectId, () -> matchingEngineService.findTopMatches(projectId, k), listener).map(Analysis::getCompletion);
+    }
+
+    /**
+     * Score the developers whose profile is semantically the closest to a project description: their technical
+     * matches are stored and returned right away, AI affinities are stored in the background.
+     * <p>
+     * Only this shortlist is sent to the model, instead of every developer sharing a technology with the project.
+     *
+     * @param projectId the id of the project.
+     * @param k the maximum number of developers to score.
+     * @return the shortlisted developers by decreasing similarity, or empty if the project does not exist.
+     */
+    public Optional<List<MatchCandidateDTO>> analyzeSemanticMatches(Long projectId, int k) {
+        LOG.debug("Request to analyze {} semantic matches of Project : {}", k, projectId);
+        return analyzeShortlist(projectId, () -> matchingEngineService.findSemanticMatches(projectId, k), NO_LISTENER).map(
+            Analysis::getCandidates
+        );
+    }
+
+    /**
+     * Score the developers whose profile is semantically the closest to a project description, reporting each
+     * technical match then each AI affinity to a listener as soon as it is stored.
+     *
+     * @param projectId the id of the project.
+     * @param k the maximum number of developers to score.
+     * @param listener the listener of the analysis.
+     * @return a future completed once every developer has been analyzed, or empty if the project does not exist.
+     */
+    public Optional<CompletableFuture<Void>> analyzeSemanticMatches(Long projectId, int k, AnalysisListener listener) {
+        LOG.debug("Request to analyze {} semantic matches of Project : {} with a listener", k, projectId);
+        return analyzeShortlist(projectId, () -> matchingEngineService.findSemanticMatches(projectId, k), listener).map(
+            Analysis::getCompletion
+        );
+    }
+
+    /**
+     * Follow the analysis in progress of a project, if any, reporting the events already sent then the next ones to a
+     * listener.
+     *
+     * @param projectId the id of the project.
+     * @param listener the listener of the analysis.
+     * @return a future completed once every developer has been analyzed, or empty if no analysis of the project is in
+     * progress.
+     */
+    public Optional<CompletableFuture<Void>> followAnalysis(Long projectId, AnalysisListener listener) {
+        LOG.debug("Request to follow the analysis of Project : {}", projectId);
+        Analysis analysis = analyses.get(projectId);
+        if (analysis == null) {
+            return Optional.empty();
+        }
+        analysis.attach(listener);
+        return analysis.awaitShortlist().map(candidates -> analysis.getCompletion());
+    }
+
+    /**
+     * @return the default number of developers shortlisted by {@link #analyzeSemanticMatches(Long, int)}.
+     */
+    public int getShortlistSize() {
+        return shortlistSize;
+    }
+
+    /**
+     * Start the analysis of a shortlist of candidates, unless one is in progress for the project, in which case the
+     * listener follows it.
+     */
+    private Optional<Analysis> analyzeShortlist(
+        Long projectId,
+        Supplier<Optional<List<MatchCandidateDTO>>> shortlist,
+        AnalysisListener listener
+    ) {
+        Analysis analysis = new Analysis();
+        Analysis running = analyses.putIfAbsent(projectId, analysis);
+        if (running != null) {
+            LOG.debug("Following the analysis in progress of Project : {}", projectId);
+            running.attach(listener);
+            return running.awaitShortlist().map(candidates -> running);
+        }
+        analysis.attach(listener);
+        Optional<List<MatchCandidateDTO>> candidates;
+        CompletableFuture<Void> completion;
+        try {
+            candidates = shortlist.get();
+            completion = candidates
+                .map(list -> analyzeCandidates(projectId, list, analysis))
+                .orElseGet(() -> CompletableFuture.completedFuture(null));
+        } catch (RuntimeException e) {
+            analyses.remove(projectId, analysis);
+            analysis.shortlist.completeExceptionally(e);
+            analysis.completion.completeExceptionally(e);
+            throw e;
+        }
+        analysis.shortlist.complete(candidates);
+        completion.whenComplete((result, failure) -> {
+            analyses.remove(projectId, analysis);
+            if (failure == null) {
+                analysis.completion.complete(null);
+            } else {
+                analysis.completion.completeExceptionally(failure);
+            }
+        });
+        return candidates.map(list -> analysis);
+    }
+
+    private CompletableFuture<Void> analyzeCandidates(Long projectId, List<MatchCandidateDTO> candidates, AnalysisListener listener) {
+        if (candidates.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long[] developerIds = candidates.stream().mapToLong(MatchCandidateDTO::getDeveloperId).toArray();
+        BigDecimal[] technicalMatches = candidates.stream().map(MatchCandidateDTO::getTechnicalMatch).toArray(BigDecimal[]::new);
+        matchResultService.upsertTechnicalMatches(projectId, developerIds, technicalMatches, LocalDateTime.now().toString());
+        candidates.forEach(listener::onTechnicalMatch);
+        return analyze(projectId, candidates.stream().map(MatchCandidateDTO::getDeveloperId).toList(), listener);
+    }
+
+    /**
+     * Score the AI affinity of developers with a project, and store it into their existing match results.
+     *
+     * @param projectId the id of the project.
+     * @param developerIds the ids of the developers.
+     * @return a future completed once every developer has been analyzed.
+     */
+    public CompletableFuture<Void> analyze(Long projectId, Collection<Long> developerIds) {
+        return analyze(projectId, developerIds, NO_LISTENER);
+    }
+
+    private CompletableFuture<Void> analyze(Long projectId, Collection<Long> developerIds, AnalysisListener listener) {
+        List<AffinityRequest> requests = readOnlyTransactionTemplate.execute(status -> loadRequests(projectId, developerIds));
+        return CompletableFuture.allOf(
+            requests
+                .stream()
+                .map(request -> CompletableFuture.runAsync(() -> analyze(request, listener), executor))
+                .toArray(CompletableFuture[]::new)
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void analyze(AffinityRequest request, AnalysisListener listener) {
+        try {
+            AffinityScore score = affinityCacheService.get(request).orElse(null);
+            if (score == null) {
+                score = callModel(request);
+                if (score == null) {
+                    return;
+                }
+                affinityCacheService.put(request, score);
+            }
+            if (!matchResultService.updateAiAnalysis(request.getProjectId(), request.getDeveloperId(), score)) {
+                LOG.debug("No match result to store the AI analysis of {}", request);
+                return;
+            }
+            MatchAffinityDTO affinity = new MatchAffinityDTO();
+            affinity.setProjectId(request.getProjectId());
+            affinity.setDeveloperId(request.getDeveloperId());
+            affinity.setAiTechnicalAffinity(score.getTechnicalAffinity());
+            affinity.setAiMotivationalAffinity(score.getMotivationalAffinity());
+            affinity.setAiExperienceRelevance(score.getExperienceRelevance());
+            affinity.setAiComment(score.getComment());
+            listener.onAffinity(affinity);
+        } catch (RuntimeException e) {
+            // Nobody observes the future of a single request, so its failure is logged here
+            LOG.warn("Storing the AI analysis failed for {}: {}", request, e.getMessage());
+        }
+    }
+
+    private AffinityScore callModel(AffinityRequest request) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        try {
+            return affinityModel.analyze(request);
+        } catch (RuntimeException e) {
+            LOG.warn("AI analysis failed for {}: {}", request, e.getMessage());
+            return null;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private List<AffinityRequest> loadRequests(Long projectId, Collection<Long> developerIds) {
+        Project project = projectRepository.findOneWithEagerRelationships(projectId).orElse(null);
+        if (project == null || developerIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> experiences = new HashMap<>();
+        for (Experience experience : experienceRepository.findAllByDeveloperIdIn(developerIds)) {
+            experiences.computeIfAbsent(experience.getDeveloper().getId(), id -> new ArrayList<>()).add(experience.getDescription());
+        }
+        List<String> requiredTechnologies = project.getRequiredTechnologies().stream().map(Technology::getName).toList();
+        List<AffinityRequest> requests = new ArrayList<>();
+        for (Developer developer : developerRepository.fetchBagRelationships(developerRepository.findAllById(developerIds))) {
+            AffinityRequest request = new AffinityRequest();
+            request.setProjectId(projectId);
+            request.setProjectName(project.getName());
+            request.setProjectDescription(project.getDescription());
+            request.setRequiredTechnologies(requiredTechnologies);
+            request.setDeveloperId(developer.getId());
+            request.setDeveloperName(developer.getName());
+            request.setExperienceLevel(developer.getExperienceLevel());
+            request.setBio(developer.getBio());
+            request.setMotivation(developer.getMotivation());
+            request.setSkills(developer.getSkills().stream().map(Technology::getName).toList());
+            request.setExperiences(experiences.getOrDefault(developer.getId(), List.of()));
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    private static ExecutorService createExecutor(ApplicationProperties.Ai ai) {
+        if (ai.isVirtualThreads()) {
+            try {
+                // Java 21+ only, looked up reflectively as the application is compiled for Java 17
+                ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                LOG.debug("Running AI analyses on virtual threads");
+                return executor;
+            } catch (ReflectiveOperationException e) {
+                LOG.debug("Virtual threads are not supported, running AI analyses on platform threads");
+            }
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ai-affinity-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(Math.max(1, ai.getMaxConcurrency()), threadFactory);
+    }
+
+    /**
+     * Listener of the progress of an analysis, called on the threads storing the results.
+     */
+    public interface AnalysisListener {
+        /**
+         * Called for each candidate once its technical match is stored, before any AI analysis starts.
+         *
+         * @param candidate the candidate.
+         */
+        default void onTechnicalMatch(MatchCandidateDTO candidate) {}
+
+        /**
+         * Called for each candidate once its AI affinity is stored. Candidates whose analysis failed are not reported.
+         *
+         * @param affinity the AI affinity of the candidate.
+         */
+        default void onAffinity(MatchAffinityDTO affinity) {}
+    }
+
+    /**
+     * An analysis in progress, forwarding its events to the listeners following it.
+     * <p>
+     * Events are recorded, so that a listener attaching late first receives the ones it missed. Listeners are called
+     * outside of the monitor of the analysis, which only guards the recorded events and the listeners, so that a slow
+     * listener, such as the stream of a stalled client, never blocks the threads reporting to the other ones; a
+     * listener attaching late may receive new events while the missed ones are replayed.
+     */
+    private static final class Analysis implements AnalysisListener {
+
+        private final CompletableFuture<Optional<List<MatchCandidateDTO>>> shortlist = new CompletableFuture<>();
+
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private final List<MatchCandidateDTO> technicalMatches = new ArrayList<>();
+
+        private final List<MatchAffinityDTO> affinities = new ArrayList<>();
+
+        private final List<AnalysisListener> listeners = new ArrayList<>();
+
+        private void attach(AnalysisListener listener) {
+            List<MatchCandidateDTO> missedTechnicalMatches;
+            List<MatchAffinityDTO> missedAffinities;
+            synchronized (this) {
+                missedTechnicalMatches = List.copyOf(technicalMatches);
+                missedAffinities = List.copyOf(affinities);
+                listeners.add(listener);
+            }
+            missedTechnicalMatches.forEach(candidate -> deliver(listener, follower -> follower.onTechnicalMatch(candidate)));
+            missedAffinities.forEach(affinity -> deliver(listener, follower -> follower.onAffinity(affinity)));
+        }
+
+        private Optional<List<MatchCandidateDTO>> awaitShortlist() {
+            return shortlist.join();
+        }
+
+        private List<MatchCandidateDTO> getCandidates() {
+            return awaitShortlist().orElseThrow();
+        }
+
+        private CompletableFuture<Void> getCompletion() {
+            return completion;
+        }
+
+        @Override
+        public void onTechnicalMatch(MatchCandidateDTO candidate) {
+            List<AnalysisListener> followers;
+            synchronized (this) {
+                technicalMatches.add(candidate);
+                followers = List.copyOf(listeners);
+            }
+            followers.forEach(listener -> deliver(listener, follower -> follower.onTechnicalMatch(candidate)));
+        }
+
+        @Override
+        public void onAffinity(MatchAffinityDTO affinity) {
+            List<AnalysisListener> followers;
+            synchronized (this) {
+                affinities.add(affinity);
+                followers = List.copyOf(listeners);
+            }
+            followers.forEach(listener -> deliver(listener, follower -> follower.onAffinity(affinity)));
+        }
+
+        private static void deliver(AnalysisListener listener, Consumer<AnalysisListener> event) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                // A failing listener must not deprive the others of the event
+                LOG.warn("Listener of an analysis failed: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.devmatch.service;
+
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.domain.AuditHistory;
+import com.devmatch.repository.AuditHistoryRepository;
+import com.devmatch.service.audit.AuditSegment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service moving the {@link AuditHistory} records older than {@code application.audit.retention-days} from the
+ * database to an archive of {@link AuditSegment} files, and reading them back.
+ * <p>
+ * Each archival writes the aged records to new segments of at most {@code application.audit.segment-max-records}
+ * records, syncs them to disk, then deletes the archived records from the database, so that a record is never lost.
+ * Segments are never modified; should the application stop between the write of a segment and the delete of its
+ * records, the delete is replayed for the newest segment when the application starts. After each scheduled
+ * archival, the consecutive segments holding together at most {@code application.audit.segment-max-records} records,
+ * and at most {@link AuditSegment#MAX_SIZE} bytes, are compacted into one, so that the daily archivals do not pile up
+ * small segments that every lookup reads.
+ * <p>
+ * The segments are opened when the application starts and kept mapped in memory; their list is replaced as a whole
+ * when a segment is added, so that readers never lock. The segments replaced by a compaction are released, and a read
+ * that meets one of them is retried on the new list.
+ */
+@Service
+public class AuditArchiveService {
+
+    public static final String METER_PREFIX = "audit.archive.";
+
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditArchiveService.class);
+
+    private static final int BLOCK_SIZE = 256;
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final AuditHistoryRepository auditHistoryRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Path directory;
+
+    private final Duration retention;
+
+    private final int segmentMaxRecords;
+
+    private final Counter archivedCounter;
+
+    private volatile List<AuditSegment> segments = List.of();
+
+    public AuditArchiveService(
+        AuditHistoryRepository auditHistoryRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        this.auditHistoryRepository = auditHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        ApplicationProperties.Audit audit = applicationProperties.getAudit();
+        this.directory = Path.of(audit.getArchiveDirectory());
+        this.retention = Duration.ofDays(audit.getRetentionDays());
+        this.segmentMaxRecords = Math.max(1, audit.getSegmentMaxRecords());
+        this.archivedCounter = Counter.builder(METER_PREFIX + "records")
+            .baseUnit("records")
+            .description("Number of audit history records moved to the archive")
+            .register(registry);
+        Gauge.builder(METER_PREFIX + "segments", this, service -> service.segments.size())
+            .baseUnit("segments")
+            .description("Number of archive segments")
+            .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+        recover();
+    }
+
+    /**
+     * Open all the segments of the archive directory, removing the files of interrupted writes.
+     */
+    public synchronized void reload() {
+        List<AuditSegment> loaded = new ArrayList<>();
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.sorted().toList()) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(SEGMENT_SUFFIX)) {
+                        loaded.add(AuditSegment.open(file));
+                    } else if (name.endsWith(SEGMENT_SUFFIX + ".tmp")) {
+                        Files.delete(file);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open the audit archive " + directory, e);
+            }
+        }
+        List<AuditSegment> previous = segments;
+        segments = List.copyOf(loaded);
+        previous.forEach(AuditSegment::release);
+        LOG.debug("Opened {} audit archive segments", loaded.size());
+    }
+
+    @Scheduled(cron = "${application.audit.archive-cron:0 30 3 * * ?}")
+    public void scheduledArchive() {
+        int archived = archive(Instant.now().minus(retention));
+        int compacted = compact();
+        LOG.info("Archived {} audit history records, compacted {} segments", archived, compacted);
+    }
+
+    /**
+     * Move the records modified before a date to new segments.
+     *
+     * @param cutoff the date before which records are archived.
+     * @return the number of archived records.
+     */
+    public synchronized int archive(Instant cutoff) {
+        LOG.debug("Request to archive the AuditHistories older than {}", cutoff);
+        int archived = 0;
+        List<AuditHistory> records;
+        do {
+            records = new ArrayList<>(
+                readOnlyTransactionTemplate.execute(status -> auditHistoryRepository.findOlderThan(cutoff, Limit.of(segmentMaxRecords)))
+            );
+            if (records.isEmpty()) {
+                break;
+            }
+            records.sort(AuditSegment.ORDER);
+            AuditSegment segment;
+            try {
+                Files.createDirectories(directory);
+                segment = AuditSegment.write(nextSegmentPath(), records, BLOCK_SIZE, cutoff);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write an audit archive segment", e);
+            }
+            List<AuditSegment> added = new ArrayList<>(segments);
+            added.add(segment);
+            segments = List.copyOf(added);
+            deleteArchived(records.stream().map(AuditHistory::getId).toList(), cutoff);
+            archivedCounter.increment(records.size());
+            archived += records.size();
+        } while (records.size() == segmentMaxRecords);
+        return archived;
+    }
+
+    /**
+     * Merge the runs of consecutive segments holding together at most {@code application.audit.segment-max-records}
+     * records into single segments.
+     * <p>
+     * A merged segment is written and swapped in before the files of the segments it replaces are deleted, so that a
+     * record is never lost; should the application stop in between, its records are read from both, once.
+     *
+     * @return the number of segments merged into others.
+     */
+    public synchronized int compact() {
+        List<AuditSegment> current = segments;
+        List<AuditSegment> compacted = new ArrayList<>();
+        List<AuditSegment> obsolete = new ArrayList<>();
+        int from = 0;
+        while (from < current.size()) {
+            int to = from + 1;
+            long records = current.get(from).getRecordCount();
+            long size = current.get(from).getSize();
+            while (
+                to < current.size() &&
+                records + current.get(to).getRecordCount() <= segmentMaxRecords &&
+                size + current.get(to).getSize() <= AuditSegment.MAX_SIZE
+            ) {
+                records += current.get(to).getRecordCount();
+                size += current.get(to++).getSize();
+            }
+            List<AuditSegment> run = current.subList(from, to);
+            if (run.size() == 1) {
+                compacted.add(run.get(0));
+            } else {
+                compacted.add(merge(run));
+                obsolete.addAll(run);
+            }
+            from = to;
+        }
+        if (obsolete.isEmpty()) {
+            return 0;
+        }
+        // Keep the order of the files, as the merged segments were written last
+        compacted.sort(Comparator.comparing(AuditSegment::getPath));
+        segments = List.copyOf(compacted);
+        for (AuditSegment segment : obsolete) {
+            segment.release();
+            try {
+                Files.deleteIfExists(segment.getPath());
+            } catch (IOException e) {
+                LOG.warn("Could not delete the compacted audit archive segment {}: {}", segment.getPath(), e.getMessage());
+            }
+        }
+        LOG.debug("Compacted {} audit archive segments into {}", current.size(), compacted.size());
+        return current.size() - compacted.size();
+    }
+
+    /**
+     * Get the archived history of an entity, newest first, after a position of a previous page.
+     *
+     * @param entityType the type of the audited entity.
+     * @param entityId the id of the audited entity.
+     * @param afterFechaModificacion the modification date of the last record read, {@code null} for the first page.
+     * @param afterId the id of the last record read, {@code null} for the first page.
+     * @param limit the maximum number of records to get.
+     * @return the records.
+     */
+    public List<AuditHistory> findHistory(String entityType, Long entityId, Instant afterFechaModificacion, Long afterId, int limit) {
+        return read(current -> {
+            List<AuditHistory> history = new ArrayList<>();
+            for (AuditSegment segment : current) {
+                history.addAll(segment.findHistory(entityType, entityId, afterFechaModificacion, afterId, limit));
+            }
+            return AuditSegment.mergeHistory(history, limit);
+        });
+    }
+
+    /**
+     * Get an archived record by id.
+     *
+     * @param id the id of the record.
+     * @return the record, if archived.
+     */
+    public Optional<AuditHistory> findOne(Long id) {
+        return read(current -> {
+            for (int i = current.size() - 1; i >= 0; i--) {
+                Optional<AuditHistory> record = current.get(i).findById(id);
+                if (record.isPresent()) {
+                    return record;
+                }
+            }
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * @return the newest modification date of the archived records, {@code null} if the archive is empty.
+     */
+    public Instant getNewestArchived() {
+        Instant newest = null;
+        for (AuditSegment segment : segments) {
+            if (segment.getRecordCount() > 0 && (newest == null || segment.getNewest().isAfter(newest))) {
+                newest = segment.getNewest();
+            }
+        }
+        return newest;
+    }
+
+    /**
+     * @return the segments of the archive, in the order they were written.
+     */
+    public List<AuditSegment> getSegments() {
+        return segments;
+    }
+
+    private <T> T read(Function<List<AuditSegment>, T> reader) {
+        while (true) {
+            List<AuditSegment> current = segments;
+            try {
+                return reader.apply(current);
+            } catch (IllegalStateException e) {
+                if (current.stream().noneMatch(AuditSegment::isReleased)) {
+                    throw e;
+                }
+                // A compaction replaced some of the segments while they were read: read the new ones
+                LOG.debug("Reading the audit archive again, as it was compacted: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void recover() {
+        List<AuditSegment> current = segments;
+        if (!current.isEmpty()) {
+            AuditSegment newest = current.get(current.size() - 1);
+            deleteArchived(newest.getIds(), newest.getCutoff());
+        }
+    }
+
+    private void deleteArchived(List<Long> ids, Instant cutoff) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+                auditHistoryRepository.deleteArchived(ids.subList(from, Math.min(ids.size(), from + DELETE_CHUNK_SIZE)), cutoff);
+            }
+        });
+    }
+
+    private AuditSegment merge(List<AuditSegment> run) {
+        List<AuditHistory> records = new ArrayList<>();
+        Instant cutoff = Instant.MIN;
+        for (AuditSegment segment : run) {
+            records.addAll(segment.getRecords());
+            cutoff = segment.getCutoff().isAfter(cutoff) ? segment.getCutoff() : cutoff;
+        }
+        records.sort(AuditSegment.ORDER);
+        List<AuditHistory> distinct = new ArrayList<>(records.size());
+        for (AuditHistory record : records) {
+            if (distinct.isEmpty() || !distinct.get(distinct.size() - 1).getId().equals(record.getId())) {
+                distinct.add(record);
+            }
+        }
+        try {
+            return AuditSegment.write(nextSegmentPath(), distinct, BLOCK_SIZE, cutoff);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write a compacted audit archive segment", e);
+        }
+    }
+
+    private Path nextSegmentPath() {
+        long now = System.currentTimeMillis();
+        Path path;
+        int sequence = 0;
+        do {
+            path = directory.resolve(String.format("audit-%013d-%04d%s", now, sequence++, SEGMENT_SUFFIX));
+        } while (Files.exists(path));
+        return path;
+    }
+}
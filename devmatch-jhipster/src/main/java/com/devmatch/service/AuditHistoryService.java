@@ -2,18 +2,28 @@ package com.devmatch.service;
 
 import com.devmatch.domain.AuditHistory;
 import com.devmatch.repository.AuditHistoryRepository;
+import com.devmatch.service.audit.AuditSegment;
 import com.devmatch.service.dto.AuditHistoryDTO;
 import com.devmatch.service.mapper.AuditHistoryMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service Implementation for managing {@link com.devmatch.domain.AuditHistory}.
+ * <p>
+ * The history of an entity and the lookup by id cover both the database and the archive of the aged records kept by
+ * {@link AuditArchiveService}; the archive is only read when it may hold records of the requested page. The unfiltered
+ * listings ({@link #findAll(Pageable)} and {@link #findSlice(Pageable)}) only cover the database.
  */
 @Service
 @Transactional
@@ -25,9 +35,16 @@ public class AuditHistoryService {
 
     private final AuditHistoryMapper auditHistoryMapper;
 
-    public AuditHistoryService(AuditHistoryRepository auditHistoryRepository, AuditHistoryMapper auditHistoryMapper) {
+    private final AuditArchiveService auditArchiveService;
+
+    public AuditHistoryService(
+        AuditHistoryRepository auditHistoryRepository,
+        AuditHistoryMapper auditHistoryMapper,
+        AuditArchiveService auditArchiveService
+    ) {
         this.auditHistoryRepository = auditHistoryRepository;
         this.auditHistoryMapper = auditHistoryMapper;
+        this.auditArchiveService = auditArchiveService;
     }
 
     /**
@@ -78,6 +95,8 @@ public class AuditHistoryService {
 
     /**
      * Get all the auditHistories.
+     * <p>
+     * Only the auditHistories of the database are listed, not the archived ones.
      *
      * @param pageable the pagination information.
      * @return the list of entities.
@@ -88,6 +107,51 @@ public class AuditHistoryService {
         return auditHistoryRepository.findAll(pageable).map(auditHistoryMapper::toDto);
     }
 
+    /**
+     * Get a slice of the auditHistories, without counting them.
+     * <p>
+     * Only the auditHistories of the database are listed, not the archived ones.
+     *
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<AuditHistoryDTO> findSlice(Pageable pageable) {
+        LOG.debug("Request to get a slice of AuditHistories");
+        return auditHistoryRepository.findSliceBy(pageable).map(auditHistoryMapper::toDto);
+    }
+
+    /**
+     * Get the history of an entity, newest first, after a position of a previous page.
+     * <p>
+     * The position is the modification date and id of the last auditHistory of the previous page, so that pages are
+     * read by seek, without offset nor count.
+     *
+     * @param entityType the type of the audited entity.
+     * @param entityId the id of the audited entity.
+     * @param afterFechaModificacion the modification date of the last auditHistory read, {@code null} for the first page.
+     * @param afterId the id of the last auditHistory read, {@code null} for the first page.
+     * @param limit the maximum number of auditHistories to get.
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public List<AuditHistoryDTO> findHistory(String entityType, Long entityId, Instant afterFechaModificacion, Long afterId, int limit) {
+        LOG.debug("Request to get the AuditHistories of {} {} after {},{}", entityType, entityId, afterFechaModificacion, afterId);
+        List<AuditHistory> auditHistories = afterFechaModificacion == null
+            ? auditHistoryRepository.findLatestByEntity(entityType, entityId, Limit.of(limit))
+            : auditHistoryRepository.findLatestByEntityBefore(entityType, entityId, afterFechaModificacion, afterId, Limit.of(limit));
+        Instant newestArchived = auditArchiveService.getNewestArchived();
+        if (
+            newestArchived != null &&
+            (auditHistories.size() < limit || !newestArchived.isBefore(auditHistories.get(auditHistories.size() - 1).getFechaModificacion()))
+        ) {
+            List<AuditHistory> merged = new ArrayList<>(auditHistories);
+            merged.addAll(auditArchiveService.findHistory(entityType, entityId, afterFechaModificacion, afterId, limit));
+            auditHistories = AuditSegment.mergeHistory(merged, limit);
+        }
+        return auditHistoryMapper.toDto(auditHistories);
+    }
+
     /**
      * Get one auditHistory by id.
      *
@@ -97,7 +161,7 @@ public class AuditHistoryService {
     @Transactional(readOnly = true)
     public Optional<AuditHistoryDTO> findOne(Long id) {
         LOG.debug("Request to get AuditHistory : {}", id);
-        return auditHistoryRepository.findById(id).map(auditHistoryMapper::toDto);
+        return auditHistoryRepository.findById(id).or(() -> auditArchiveService.findOne(id)).map(auditHistoryMapper::toDto);
     }
 
     /**
@@ -0,0 +1,172 @@
+package com.devmatch.service;
+
+import static com.devmatch.service.TransactionUtils.afterCommit;
+
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.domain.AuditHistory;
+import com.devmatch.service.audit.AuditRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service writing the field-level audit trail of the entities in the background.
+ * <p>
+ * {@link AuditHistory} records are added to an {@link AuditRingBuffer} once the transaction changing the audited
+ * entity commits, so that auditing adds no insert to the request path and rolled back changes are not audited. A
+ * dedicated thread drains the buffer every {@code application.audit.flush-interval-millis}, writing up to
+ * {@value #MAX_ENTRIES_PER_TRANSACTION} records per transaction in JDBC batches of {@code hibernate.jdbc.batch_size}.
+ * The buffer is drained a last time when the application shuts down gracefully.
+ * <p>
+ * Records offered to a full buffer are dropped and counted, as are records whose transaction fails.
+ */
+@Service
+public class AuditTrailService {
+
+    public static final String METER_PREFIX = "audit.trail.";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditTrailService.class);
+
+    private static final int MAX_ENTRIES_PER_TRANSACTION = 1000;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final AuditRingBuffer<AuditHistory> buffer;
+
+    private final ScheduledExecutorService writer;
+
+    private final Counter writtenCounter;
+
+    private final Counter droppedCounter;
+
+    public AuditTrailService(
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}") int batchSize
+    ) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        ApplicationProperties.Audit audit = applicationProperties.getAudit();
+        this.buffer = new AuditRingBuffer<>(audit.getBufferCapacity());
+        this.writtenCounter = Counter.builder(METER_PREFIX + "entries")
+            .tag("outcome", "written")
+            .baseUnit("entries")
+            .description("Number of audit trail entries written")
+            .register(registry);
+        this.droppedCounter = Counter.builder(METER_PREFIX + "entries")
+            .tag("outcome", "dropped")
+            .baseUnit("entries")
+            .description("Number of audit trail entries dropped, the buffer being full or their write failing")
+            .register(registry);
+        Gauge.builder(METER_PREFIX + "pending", buffer, AuditRingBuffer::size)
+            .baseUnit("entries")
+            .description("Number of audit trail entries waiting to be written")
+            .register(registry);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("audit-trail-");
+        threadFactory.setDaemon(true);
+        this.writer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = Math.max(1, audit.getFlushIntervalMillis());
+        writer.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Add audit trail entries to the buffer once the current transaction commits.
+     *
+     * @param entries the entries to write.
+     */
+    public void record(Collection<AuditHistory> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<AuditHistory> pending = List.copyOf(entries);
+        afterCommit(() -> {
+            for (AuditHistory entry : pending) {
+                if (!buffer.offer(entry)) {
+                    droppedCounter.increment();
+                    LOG.warn("Audit trail buffer is full, dropping the change of {} {} {}", entry.getEntityType(), entry.getEntityId(), entry.getFieldName());
+                }
+            }
+        });
+    }
+
+    /**
+     * @return the number of entries waiting to be written.
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Write all the entries of the buffer.
+     *
+     * @return the number of written entries.
+     */
+    public synchronized int flush() {
+        int written = 0;
+        List<AuditHistory> entries = new ArrayList<>();
+        while (buffer.drain(MAX_ENTRIES_PER_TRANSACTION, entries::add) > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(entries));
+                writtenCounter.increment(entries.size());
+                written += entries.size();
+            } catch (RuntimeException e) {
+                droppedCounter.increment(entries.size());
+                LOG.error("Could not write {} audit trail entries: {}", entries.size(), e.getMessage());
+            }
+            entries.clear();
+        }
+        return written;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            LOG.warn("Audit trail writer did not stop in time");
+        }
+        int written = flush();
+        LOG.debug("Wrote {} audit trail entries on shutdown", written);
+    }
+
+    private void write(List<AuditHistory> entries) {
+        for (int i = 0; i < entries.size(); i++) {
+            entityManager.persist(entries.get(i));
+            if ((i + 1) % batchSize == 0 || i == entries.size() - 1) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOG.error("Audit trail writer failed", e);
+        }
+    }
+}
@@ -0,0 +1,471 @@
+package com.devmatch.service;
+
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Experience;
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.TechnologyRepository;
+import com.devmatch.security.SecurityUtils;
+import com.devmatch.service.dto.DeveloperImportResultDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service importing {@link Developer}s in bulk from a CSV upload.
+ * <p>
+ * The upload has the columns of {@code liquibase/fake-data/developer.csv}, separated by {@code ;}, plus an optional
+ * {@code skills} column listing technology names separated by {@code ,} and an optional {@code experiences} column
+ * listing experience descriptions separated by {@code |}. Other columns, such as {@code id} and the audit columns,
+ * are ignored: ids come from the sequence, and the audit columns are set to the current user and time.
+ * <p>
+ * The upload is parsed as it is read. Technology names are resolved through a map loaded once per import, and rows
+ * failing validation are reported with their line without stopping the import. Valid rows are written one
+ * transaction per {@value #BATCHES_PER_TRANSACTION} JDBC batches of {@code hibernate.jdbc.batch_size} rows, the
+ * persistence context being flushed and cleared after each batch. Emails already used are checked beforehand, so
+ * that a duplicate does not roll back its whole transaction; should a transaction fail anyway, its rows are written
+ * again by JDBC batch, then one by one, so that only the rows which cannot be written are rejected.
+ * <p>
+ * Skills are indexed as rows are written; the full-text and semantic indexes are rebuilt once in the background at
+ * the end of the import, and imported developers are scored against the open projects by the next matching batch.
+ * Imported and rejected rows, and the throughput of the current or last import, are published as Micrometer meters.
+ */
+@Service
+public class DeveloperImportService {
+
+    public static final String METER_PREFIX = "developer.import.";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeveloperImportService.class);
+
+    private static final char SEPARATOR = ';';
+
+    private static final String SKILLS_SEPARATOR = ",";
+
+    private static final String EXPERIENCES_SEPARATOR = "\\|";
+
+    private static final int BATCHES_PER_TRANSACTION = 40;
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final DeveloperRepository developerRepository;
+
+    private final TechnologyRepository technologyRepository;
+
+    private final SkillIndexService skillIndexService;
+
+    private final DeveloperSearchService developerSearchService;
+
+    private final SemanticIndexService semanticIndexService;
+
+    private final EntityManager entityManager;
+
+    private final Validator validator;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final Counter importedCounter;
+
+    private final Counter rejectedCounter;
+
+    private final Timer durationTimer;
+
+    private volatile double rowsPerSecond;
+
+    public DeveloperImportService(
+        DeveloperRepository developerRepository,
+        TechnologyRepository technologyRepository,
+        SkillIndexService skillIndexService,
+        DeveloperSearchService developerSearchService,
+        SemanticIndexService semanticIndexService,
+        EntityManager entityManager,
+        Validator validator,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry registry,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}") int batchSize
+    ) {
+        this.developerRepository = developerRepository;
+        this.technologyRepository = technologyRepository;
+        this.skillIndexService = skillIndexService;
+        this.developerSearchService = developerSearchService;
+        this.semanticIndexService = semanticIndexService;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.importedCounter = Counter.builder(METER_PREFIX + "rows")
+            .tag("outcome", "imported")
+            .baseUnit("rows")
+            .description("Number of developer rows imported")
+            .register(registry);
+        this.rejectedCounter = Counter.builder(METER_PREFIX + "rows")
+            .tag("outcome", "rejected")
+            .baseUnit("rows")
+            .description("Number of developer rows rejected by the import")
+            .register(registry);
+        this.durationTimer = Timer.builder(METER_PREFIX + "duration").description("Duration of the developer imports").register(registry);
+        Gauge.builder(METER_PREFIX + "throughput", this, service -> service.rowsPerSecond)
+            .baseUnit("rows/s")
+            .description("Rows read per second by the current or last developer import")
+            .register(registry);
+    }
+
+    /**
+     * Import the developers of a CSV upload.
+     *
+     * @param in the CSV upload, encoded in UTF-8.
+     * @return the numbers of imported and rejected rows, and the reasons of the first rejections.
+     * @throws IOException if the upload cannot be read.
+     * @throws IllegalArgumentException if the header has no {@code name} column.
+     */
+    public DeveloperImportResultDTO importCsv(InputStream in) throws IOException {
+        Timer.Sample sample = Timer.start();
+        try {
+            return doImport(new CsvRecordReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))));
+        } finally {
+            sample.stop(durationTimer);
+        }
+    }
+
+    private DeveloperImportResultDTO doImport(CsvRecordReader reader) throws IOException {
+        DeveloperImportResultDTO result = new DeveloperImportResultDTO();
+        String[] header = reader.next();
+        if (header == null) {
+            return result;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            columns.put(header[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("name")) {
+            throw new IllegalArgumentException("The header has no name column");
+        }
+        Map<String, Long> technologyIds = new HashMap<>();
+        for (TechnologyRepository.TechnologyName technology : technologyRepository.findAllNames()) {
+            technologyIds.put(technology.getName().trim().toLowerCase(Locale.ROOT), technology.getId());
+        }
+        String login = SecurityUtils.getCurrentUserLogin().orElse(null);
+        Instant importedAt = Instant.now();
+        Set<String> emails = new HashSet<>();
+        List<PendingRow> chunk = new ArrayList<>();
+        int chunkSize = batchSize * BATCHES_PER_TRANSACTION;
+        long rows = 0;
+        long start = System.nanoTime();
+        rowsPerSecond = 0;
+        LOG.info("Starting developer import");
+        for (String[] record = reader.next(); record != null; record = reader.next()) {
+            if (record.length == 1 && record[0].isBlank()) {
+                continue;
+            }
+            rows++;
+            PendingRow row = parse(reader.getRecordLine(), record, header.length, columns, technologyIds, result);
+            if (row == null) {
+                continue;
+            }
+            row.developer.usuarioCreacion(login).fechaCreacion(importedAt);
+            String email = row.developer.getEmail();
+            if (email != null && !emails.add(email)) {
+                reject(result, row.line, "Email " + email + " is used by a previous row");
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                write(chunk, result);
+                chunk.clear();
+                rowsPerSecond = rows * 1_000_000_000d / Math.max(1, System.nanoTime() - start);
+            }
+        }
+        write(chunk, result);
+        rowsPerSecond = rows * 1_000_000_000d / Math.max(1, System.nanoTime() - start);
+        result.setRowsPerSecond(rowsPerSecond);
+        if (result.getImported() > 0) {
+            developerSearchService.scheduleRebuild();
+            semanticIndexService.scheduleRebuild();
+        }
+        LOG.info(
+            "Finished developer import: {} imported, {} rejected, {} rows/s",
+            result.getImported(),
+            result.getRejected(),
+            Math.round(rowsPerSecond)
+        );
+        return result;
+    }
+
+    private PendingRow parse(
+        long line,
+        String[] record,
+        int columnCount,
+        Map<String, Integer> columns,
+        Map<String, Long> technologyIds,
+        DeveloperImportResultDTO result
+    ) {
+        if (record.length != columnCount) {
+            reject(result, line, "Expected " + columnCount + " columns, found " + record.length);
+            return null;
+        }
+        Developer developer = new Developer()
+            .name(value(record, columns, "name"))
+            .email(value(record, columns, "email"))
+            .experienceLevel(value(record, columns, "experience_level"))
+            .bio(value(record, columns, "bio"))
+            .location(value(record, columns, "location"))
+            .githubProfile(value(record, columns, "github_profile"))
+            .linkedin(value(record, columns, "linkedin"))
+            .motivation(value(record, columns, "motivation"));
+        Set<ConstraintViolation<Developer>> violations = validator.validate(developer);
+        if (!violations.isEmpty()) {
+            reject(
+                result,
+                line,
+                violations
+                    .stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "))
+            );
+            return null;
+        }
+        Set<Long> skills = new LinkedHashSet<>();
+        String skillNames = value(record, columns, "skills");
+        if (skillNames != null) {
+            for (String skillName : skillNames.split(SKILLS_SEPARATOR)) {
+                if (skillName.isBlank()) {
+                    continue;
+                }
+                Long technologyId = technologyIds.get(skillName.trim().toLowerCase(Locale.ROOT));
+                if (technologyId == null) {
+                    reject(result, line, "Unknown technology " + skillName.trim());
+                    return null;
+                }
+                skills.add(technologyId);
+            }
+        }
+        List<String> experiences = new ArrayList<>();
+        String descriptions = value(record, columns, "experiences");
+        if (descriptions != null) {
+            for (String description : descriptions.split(EXPERIENCES_SEPARATOR)) {
+                if (!description.isBlank()) {
+                    experiences.add(description.trim());
+                }
+            }
+        }
+        return new PendingRow(line, developer, skills, experiences);
+    }
+
+    /**
+     * Write rows in a single transaction, in JDBC batches.
+     * <p>
+     * If the transaction fails, its rows are written again in a transaction per JDBC batch, and the rows of a failing
+     * batch in a transaction per row; a row failing on its own is rejected.
+     */
+    private void write(List<PendingRow> chunk, DeveloperImportResultDTO result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<DeveloperImportResultDTO.RowError> duplicates = new ArrayList<>();
+        try {
+            int written = transactionTemplate.execute(status -> {
+                duplicates.clear();
+                int count = 0;
+                for (int from = 0; from < chunk.size(); from += batchSize) {
+                    List<PendingRow> batch = chunk.subList(from, Math.min(from + batchSize, chunk.size()));
+                    Set<String> usedEmails = new HashSet<>(
+                        developerRepository.findEmailsByEmailIn(
+                            batch.stream().map(row -> row.developer.getEmail()).filter(email -> email != null).toList()
+                        )
+                    );
+                    for (PendingRow row : batch) {
+                        if (usedEmails.contains(row.developer.getEmail())) {
+                            duplicates.add(new DeveloperImportResultDTO.RowError(row.line, "Email " + row.developer.getEmail() + " is already used"));
+                            continue;
+                        }
+                        for (Long technologyId : row.technologyIds) {
+                            row.developer.addSkills(entityManager.getReference(Technology.class, technologyId));
+                        }
+                        entityManager.persist(row.developer);
+                        for (String description : row.experiences) {
+                            entityManager.persist(new Experience().description(description).developer(row.developer));
+                        }
+                        skillIndexService.index(row.developer);
+                        count++;
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+                return count;
+            });
+            result.setImported(result.getImported() + written);
+            importedCounter.increment(written);
+            duplicates.forEach(error -> reject(result, error.getLine(), error.getMessage()));
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                LOG.debug("Could not write the developer row of line {}: {}", chunk.get(0).line, e.getMessage());
+                reject(result, chunk.get(0).line, "Could not write the row: " + e.getMessage());
+                return;
+            }
+            int retrySize = chunk.size() > batchSize ? batchSize : 1;
+            LOG.warn("Could not write {} developer rows, writing them again by {}: {}", chunk.size(), retrySize, e.getMessage());
+            for (int from = 0; from < chunk.size(); from += retrySize) {
+                List<PendingRow> retried = chunk.subList(from, Math.min(from + retrySize, chunk.size()));
+                retried.forEach(PendingRow::reset);
+                write(retried, result);
+            }
+        }
+    }
+
+    private void reject(DeveloperImportResultDTO result, long line, String message) {
+        result.setRejected(result.getRejected() + 1);
+        rejectedCounter.increment();
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new DeveloperImportResultDTO.RowError(line, message));
+        }
+    }
+
+    private static String value(String[] record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = record[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * A parsed row, waiting to be written.
+     */
+    private static final class PendingRow {
+
+        private final long line;
+
+        private final Developer developer;
+
+        private final Set<Long> technologyIds;
+
+        private final List<String> experiences;
+
+        private PendingRow(long line, Developer developer, Set<Long> technologyIds, List<String> experiences) {
+            this.line = line;
+            this.developer = developer;
+            this.technologyIds = technologyIds;
+            this.experiences = experiences;
+        }
+
+        /**
+         * Undo what a rolled back write did to the developer, so that it can be persisted again.
+         */
+        private void reset() {
+            developer.setId(null);
+            developer.setVersion(0);
+            developer.getSkills().clear();
+        }
+    }
+
+    /**
+     * Reader splitting a character stream in CSV records, one at a time.
+     * <p>
+     * Fields may be quoted with {@code "}, in which case they may contain separators, line breaks and quotes
+     * doubled as {@code ""}.
+     */
+    private static final class CsvRecordReader {
+
+        private final Reader reader;
+
+        private long line = 1;
+
+        private long recordLine;
+
+        private boolean started;
+
+        private CsvRecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * @return the fields of the next record, {@code null} at the end of the stream.
+         */
+        private String[] next() throws IOException {
+            int c = reader.read();
+            if (!started) {
+                started = true;
+                if (c == '\uFEFF') {
+                    c = reader.read();
+                }
+            }
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                        field.append('"');
+                    } else if (c == -1) {
+                        fields.add(field.toString());
+                        return fields.toArray(String[]::new);
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == SEPARATOR) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    return fields.toArray(String[]::new);
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        /**
+         * @return the line where the last record read starts.
+         */
+        private long getRecordLine() {
+            return recordLine;
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.devmatch.service;
+
+import static com.devmatch.service.TransactionUtils.afterCommit;
+
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Experience;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.ExperienceRepository;
+import com.devmatch.service.dto.DeveloperSearchHitDTO;
+import com.devmatch.service.event.DeveloperChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service maintaining an embedded Lucene full-text index of the {@link Developer} profiles.
+ * <p>
+ * Each developer is a document with its name, location, bio, motivation and experience descriptions, analyzed
+ * case and accent insensitively. The in-memory index is loaded from the database on first use, then kept up to date
+ * by the {@link DeveloperChangedEvent}s published by {@link DeveloperService} and {@link ExperienceService}. Bulk
+ * changes, such as imports, rebuild it in the background.
+ * <p>
+ * Queries use the Lucene classic syntax, all terms being required by default; queries which do not parse are
+ * searched as plain text.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DeveloperSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeveloperSearchService.class);
+
+    static final String ID = "id";
+
+    static final String NAME = "name";
+
+    static final String EXPERIENCE_LEVEL = "experienceLevel";
+
+    static final String LOCATION = "location";
+
+    static final String BIO = "bio";
+
+    static final String MOTIVATION = "motivation";
+
+    static final String EXPERIENCES = "experiences";
+
+    private static final String[] SEARCHED_FIELDS = { NAME, LOCATION, BIO, MOTIVATION, EXPERIENCES };
+
+    private static final Map<String, Float> BOOSTS = Map.of(NAME, 2f, LOCATION, 1.5f);
+
+    private static final int[] MAX_PASSAGES = { 1, 1, 2, 2, 3 };
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    /**
+     * Tokenized, stored, and indexed with offsets so that highlighting needs no re-analysis.
+     */
+    private static final FieldType TEXT_TYPE = new FieldType();
+
+    static {
+        TEXT_TYPE.setTokenized(true);
+        TEXT_TYPE.setStored(true);
+        TEXT_TYPE.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        TEXT_TYPE.freeze();
+    }
+
+    private final DeveloperRepository developerRepository;
+
+    private final ExperienceRepository experienceRepository;
+
+    private final Analyzer analyzer = new FoldingAnalyzer();
+
+    private final Directory directory = new ByteBuffersDirectory();
+
+    private final IndexWriter writer;
+
+    private final SearcherManager searcherManager;
+
+    private final Executor taskExecutor;
+
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private volatile boolean loaded;
+
+    public DeveloperSearchService(
+        DeveloperRepository developerRepository,
+        ExperienceRepository experienceRepository,
+        @Qualifier("taskExecutor") Executor taskExecutor
+    ) throws IOException {
+        this.developerRepository = developerRepository;
+        this.experienceRepository = experienceRepository;
+        this.taskExecutor = taskExecutor;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * Search the developers matching a query, by decreasing relevance.
+     *
+     * @param query the query, in the Lucene classic syntax.
+     * @param pageable the pagination information; sort orders are ignored.
+     * @return the matching developers, with their highlighted fragments by field.
+     */
+    public Page<DeveloperSearchHitDTO> search(String query, Pageable pageable) {
+        LOG.debug("Request to search Developers for query {}", query);
+        ensureLoaded();
+        Query parsed = parse(query);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int total = searcher.count(parsed);
+                int offset = (int) Math.min(pageable.getOffset(), total);
+                int end = Math.min(offset + pageable.getPageSize(), total);
+                if (offset >= end) {
+                    return new PageImpl<>(List.of(), pageable, total);
+                }
+                TopDocs top = searcher.search(parsed, end);
+                ScoreDoc[] page = Arrays.copyOfRange(top.scoreDocs, offset, Math.min(end, top.scoreDocs.length));
+                Map<String, String[]> highlights = UnifiedHighlighter.builder(searcher, analyzer)
+                    .withFormatter(new DefaultPassageFormatter("<em>", "</em>", "... ", true))
+                    .build()
+                    .highlightFields(SEARCHED_FIELDS, parsed, new TopDocs(top.totalHits, page), MAX_PASSAGES);
+                StoredFields storedFields = searcher.storedFields();
+                List<DeveloperSearchHitDTO> hits = new ArrayList<>(page.length);
+                for (int i = 0; i < page.length; i++) {
+                    hits.add(toHit(storedFields.document(page[i].doc), page[i].score, highlights, i));
+                }
+                return new PageImpl<>(hits, pageable, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reload the whole index from the database.
+     */
+    public synchronized void rebuild() {
+        load();
+        loaded = true;
+    }
+
+    /**
+     * Reload the whole index from the database in the background, unless a reload is already waiting to start.
+     */
+    public void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            LOG.debug("Scheduling a rebuild of the developer full-text index");
+            taskExecutor.execute(() -> {
+                rebuildScheduled.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * Index the profile of a changed developer again.
+     *
+     * @param event the change event.
+     */
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        Long developerId = event.getDeveloperId();
+        Developer developer = developerRepository.findById(developerId).orElse(null);
+        if (developer == null) {
+            delete(developerId);
+            return;
+        }
+        List<String> experiences = experienceRepository
+            .findAllByDeveloperIdIn(List.of(developerId))
+            .stream()
+            .map(Experience::getDescription)
+            .toList();
+        try {
+            writer.updateDocument(
+                new Term(ID, developerId.toString()),
+                document(
+                    developerId,
+                    developer.getName(),
+                    developer.getExperienceLevel(),
+                    developer.getLocation(),
+                    developer.getBio(),
+                    developer.getMotivation(),
+                    experiences
+                )
+            );
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Remove a developer from the index once the current transaction commits.
+     *
+     * @param developerId the id of the deleted developer.
+     */
+    public void remove(Long developerId) {
+        afterCommit(() -> delete(developerId));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    load();
+                    loaded = true;
+                }
+            }
+        }
+    }
+
+    private void load() {
+        LOG.debug("Loading developer full-text index");
+        Map<Long, List<String>> experiences = new HashMap<>();
+        for (ExperienceRepository.ExperienceDescription experience : experienceRepository.findAllDescriptions()) {
+            experiences.computeIfAbsent(experience.getDeveloperId(), id -> new ArrayList<>()).add(experience.getDescription());
+        }
+        try {
+            writer.deleteAll();
+            Page<DeveloperRepository.DeveloperRow> page;
+            Pageable pageable = PageRequest.of(0, LOAD_PAGE_SIZE, Sort.by("id"));
+            do {
+                page = developerRepository.findAllRows(pageable);
+                for (DeveloperRepository.DeveloperRow row : page) {
+                    writer.addDocument(
+                        document(
+                            row.getId(),
+                            row.getName(),
+                            row.getExperienceLevel(),
+                            row.getLocation(),
+                            row.getBio(),
+                            row.getMotivation(),
+                            experiences.getOrDefault(row.getId(), List.of())
+                        )
+                    );
+                }
+                pageable = page.nextPageable();
+            } while (page.hasNext());
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LOG.debug("Indexed {} developers for full-text search", writer.getDocStats().numDocs);
+    }
+
+    private void delete(Long developerId) {
+        try {
+            writer.deleteDocuments(new Term(ID, developerId.toString()));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Query parse(String query) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCHED_FIELDS, analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        Query parsed;
+        try {
+            parsed = parser.parse(query);
+        } catch (ParseException e) {
+            try {
+                parsed = parser.parse(QueryParser.escape(query));
+            } catch (ParseException escaped) {
+                parsed = null;
+            }
+        }
+        return parsed == null ? new MatchNoDocsQuery() : parsed;
+    }
+
+    private static Document document(
+        Long developerId,
+        String name,
+        String experienceLevel,
+        String location,
+        String bio,
+        String motivation,
+        List<String> experiences
+    ) {
+        Document document = new Document();
+        document.add(new StringField(ID, developerId.toString(), Field.Store.YES));
+        if (experienceLevel != null) {
+            document.add(new StoredField(EXPERIENCE_LEVEL, experienceLevel));
+        }
+        addText(document, NAME, name);
+        addText(document, LOCATION, location);
+        addText(document, BIO, bio);
+        addText(document, MOTIVATION, motivation);
+        experiences.forEach(experience -> addText(document, EXPERIENCES, experience));
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new Field(field, value, TEXT_TYPE));
+        }
+    }
+
+    private static DeveloperSearchHitDTO toHit(Document document, float score, Map<String, String[]> highlights, int position) {
+        DeveloperSearchHitDTO hit = new DeveloperSearchHitDTO();
+        hit.setDeveloperId(Long.valueOf(document.get(ID)));
+        hit.setName(document.get(NAME));
+        hit.setExperienceLevel(document.get(EXPERIENCE_LEVEL));
+        hit.setLocation(document.get(LOCATION));
+        hit.setScore(score);
+        for (String field : SEARCHED_FIELDS) {
+            String fragment = highlights.get(field)[position];
+            if (fragment != null) {
+                hit.getHighlights().put(field, List.of(fragment.split("\\.\\.\\. ")));
+            }
+        }
+        return hit;
+    }
+
+    /**
+     * Standard tokenization, lower-cased and folded to ASCII so that "Programación" matches "programacion".
+     */
+    private static final class FoldingAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            StandardTokenizer tokenizer = new StandardTokenizer();
+            return new TokenStreamComponents(tokenizer, new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer)));
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
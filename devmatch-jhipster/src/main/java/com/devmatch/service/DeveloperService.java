@@ -2,13 +2,22 @@ package com.devmatch.service;
 
 import com.devmatch.domain.Developer;
 import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.EntityVersion;
 import com.devmatch.service.dto.DeveloperDTO;
+import com.devmatch.service.dto.TechnologyDTO;
+import com.devmatch.service.event.DeveloperChangedEvent;
 import com.devmatch.service.mapper.DeveloperMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +34,28 @@ public class DeveloperService {
 
     private final DeveloperMapper developerMapper;
 
-    public DeveloperService(DeveloperRepository developerRepository, DeveloperMapper developerMapper) {
+    private final SkillIndexService skillIndexService;
+
+    private final SemanticIndexService semanticIndexService;
+
+    private final DeveloperSearchService developerSearchService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public DeveloperService(
+        DeveloperRepository developerRepository,
+        DeveloperMapper developerMapper,
+        SkillIndexService skillIndexService,
+        SemanticIndexService semanticIndexService,
+        DeveloperSearchService developerSearchService,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.developerRepository = developerRepository;
         this.developerMapper = developerMapper;
+        this.skillIndexService = skillIndexService;
+        this.semanticIndexService = semanticIndexService;
+        this.developerSearchService = developerSearchService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -40,6 +68,8 @@ public class DeveloperService {
         LOG.debug("Request to save Developer : {}", developerDTO);
         Developer developer = developerMapper.toEntity(developerDTO);
         developer = developerRepository.save(developer);
+        skillIndexService.index(developer);
+        applicationEventPublisher.publishEvent(new DeveloperChangedEvent(developer.getId()));
         return developerMapper.toDto(developer);
     }
 
@@ -52,12 +82,16 @@ public class DeveloperService {
     public DeveloperDTO update(DeveloperDTO developerDTO) {
         LOG.debug("Request to update Developer : {}", developerDTO);
         Developer developer = developerMapper.toEntity(developerDTO);
-        developer = developerRepository.save(developer);
+        developer = developerRepository.saveAndFlush(developer);
+        skillIndexService.index(developer);
+        applicationEventPublisher.publishEvent(new DeveloperChangedEvent(developer.getId()));
         return developerMapper.toDto(developer);
     }
 
     /**
      * Partially update a developer.
+     * <p>
+     * When the DTO has a version, the update is rejected unless it is the version of the stored developer.
      *
      * @param developerDTO the entity to update partially.
      * @return the persisted entity.
@@ -68,33 +102,82 @@ public class DeveloperService {
         return developerRepository
             .findById(developerDTO.getId())
             .map(existingDeveloper -> {
+                if (developerDTO.getVersion() != null && developerDTO.getVersion() != existingDeveloper.getVersion()) {
+                    throw new ObjectOptimisticLockingFailureException(Developer.class, existingDeveloper.getId());
+                }
                 developerMapper.partialUpdate(existingDeveloper, developerDTO);
 
                 return existingDeveloper;
             })
-            .map(developerRepository::save)
+            .map(developerRepository::saveAndFlush)
+            .map(developer -> {
+                skillIndexService.index(developer);
+                applicationEventPublisher.publishEvent(new DeveloperChangedEvent(developer.getId()));
+                return developer;
+            })
             .map(developerMapper::toDto);
     }
 
     /**
-     * Get all the developers.
+     * Get a slice of the developers, without counting them.
      *
      * @param pageable the pagination information.
      * @return the list of entities.
      */
     @Transactional(readOnly = true)
-    public Page<DeveloperDTO> findAll(Pageable pageable) {
-        LOG.debug("Request to get all Developers");
-        return developerRepository.findAll(pageable).map(developerMapper::toDto);
+    public Slice<DeveloperDTO> findSlice(Pageable pageable) {
+        LOG.debug("Request to get a slice of Developers");
+        return developerRepository.findSliceBy(pageable).map(developerMapper::toDto);
     }
 
     /**
-     * Get all the developers with eager load of many-to-many relationships.
+     * Get a slice of the developers with eager load of many-to-many relationships, without counting them.
      *
+     * @param pageable the pagination information.
      * @return the list of entities.
      */
-    public Page<DeveloperDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return developerRepository.findAllWithEagerRelationships(pageable).map(developerMapper::toDto);
+    @Transactional(readOnly = true)
+    public Slice<DeveloperDTO> findSliceWithEagerRelationships(Pageable pageable) {
+        LOG.debug("Request to get a slice of Developers with their skills");
+        Slice<DeveloperDTO> slice = developerRepository.findRowSlice(pageable).map(developerMapper::rowToDto);
+        addSkillIds(slice.getContent());
+        return slice;
+    }
+
+    /**
+     * Get the version of one developer by id, without loading it.
+     *
+     * @param id the id of the entity.
+     * @return the version of the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(Long id) {
+        LOG.debug("Request to get the version of Developer : {}", id);
+        return developerRepository.findVersionById(id);
+    }
+
+    /**
+     * Get the ids and versions of a page of developers, in the order of {@link #findSlice(Pageable)}.
+     *
+     * @param pageable the pagination information.
+     * @return the ids and versions.
+     */
+    @Transactional(readOnly = true)
+    public Page<EntityVersion> findVersions(Pageable pageable) {
+        LOG.debug("Request to get the versions of a page of Developers");
+        return developerRepository.findVersions(pageable);
+    }
+
+    /**
+     * Get the ids and versions of a slice of developers, without counting them.
+     *
+     * @param pageable the pagination information.
+     * @return the ids and versions.
+     */
+    @Transactional(readOnly = true)
+    public Slice<EntityVersion> findVersionSlice(Pageable pageable) {
+        LOG.debug("Request to get the versions of a slice of Developers");
+        return developerRepository.findVersionSlice(pageable);
     }
 
     /**
@@ -117,5 +200,21 @@ public class DeveloperService {
     public void delete(Long id) {
         LOG.debug("Request to delete Developer : {}", id);
         developerRepository.deleteById(id);
+        skillIndexService.remove(id);
+        semanticIndexService.remove(id);
+        developerSearchService.remove(id);
+    }
+
+    private void addSkillIds(List<DeveloperDTO> developers) {
+        if (developers.isEmpty()) {
+            return;
+        }
+        Map<Long, DeveloperDTO> byId = new HashMap<>();
+        developers.forEach(developer -> byId.put(developer.getId(), developer));
+        for (DeveloperRepository.SkillId skillId : developerRepository.findSkillIdsByDeveloperIdIn(byId.keySet())) {
+            TechnologyDTO skill = new TechnologyDTO();
+            skill.setId(skillId.getTechnologyId());
+            byId.get(skillId.getDeveloperId()).getSkills().add(skill);
+        }
     }
 }
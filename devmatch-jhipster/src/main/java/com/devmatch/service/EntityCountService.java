@@ -0,0 +1,95 @@
+package com.devmatch.service;
+
+import com.devmatch.config.ApplicationProperties;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service keeping the approximate number of rows of the entities listed by the REST API.
+ * <p>
+ * Lists read in {@code slice} mode never count their rows; the totals shown as "about N results" come from this
+ * cache instead. A total is read when it is first asked for, then again once it is older than
+ * {@code application.pagination.approximate-count-refresh-millis}, so that entities nobody lists are never counted.
+ * <p>
+ * On PostgreSQL, the total is the row estimate kept by the planner statistics ({@code pg_class.reltuples}), which
+ * costs no table scan; other databases, and tables never analyzed, are counted.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EntityCountService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EntityCountService.class);
+
+    private final EntityManager entityManager;
+
+    private final long timeToLiveMillis;
+
+    private final Map<Class<?>, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public EntityCountService(EntityManager entityManager, ApplicationProperties applicationProperties) {
+        this.entityManager = entityManager;
+        this.timeToLiveMillis = applicationProperties.getPagination().getApproximateCountRefreshMillis();
+    }
+
+    /**
+     * Get the approximate number of rows of an entity, reading it again if the cached one is too old.
+     *
+     * @param entityClass the class of the entity.
+     * @return the number of rows when it was last read.
+     */
+    public OptionalLong getApproximateCount(Class<?> entityClass) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(entityClass);
+        if (cached == null || cached.isExpired(now, timeToLiveMillis)) {
+            // Concurrent readers of the same entity wait for a single count
+            cached = counts.compute(entityClass, (key, current) ->
+                current == null || current.isExpired(now, timeToLiveMillis) ? new CachedCount(count(key), now) : current
+            );
+        }
+        return OptionalLong.of(cached.count());
+    }
+
+    /**
+     * Forget every cached count, so that the next reads count the rows again.
+     */
+    public void refresh() {
+        counts.clear();
+    }
+
+    private long count(Class<?> entityClass) {
+        SessionFactoryImplementor factory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        if (factory.getJdbcServices().getDialect() instanceof PostgreSQLDialect) {
+            String table = ((AbstractEntityPersister) factory.getMappingMetamodel().getEntityDescriptor(entityClass)).getTableName();
+            List<?> estimate = entityManager
+                .createNativeQuery("select cast(reltuples as bigint) from pg_class where oid = to_regclass(:table)")
+                .setParameter("table", table)
+                .getResultList();
+            // reltuples is -1, or 0 before PostgreSQL 14, until the table is first vacuumed or analyzed
+            if (!estimate.isEmpty() && ((Number) estimate.get(0)).longValue() > 0) {
+                LOG.debug("Estimated {} rows of {}", estimate.get(0), table);
+                return ((Number) estimate.get(0)).longValue();
+            }
+        }
+        Long count = entityManager
+            .createQuery("select count(entity) from " + entityClass.getSimpleName() + " entity", Long.class)
+            .getSingleResult();
+        LOG.debug("Counted {} rows of {}", count, entityClass.getSimpleName());
+        return count;
+    }
+
+    private record CachedCount(long count, long readAt) {
+        private boolean isExpired(long now, long timeToLiveMillis) {
+            return now - readAt >= timeToLiveMillis;
+        }
+    }
+}
@@ -3,12 +3,15 @@ package com.devmatch.service;
 import com.devmatch.domain.Experience;
 import com.devmatch.repository.ExperienceRepository;
 import com.devmatch.service.dto.ExperienceDTO;
+import com.devmatch.service.event.DeveloperChangedEvent;
 import com.devmatch.service.mapper.ExperienceMapper;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +28,16 @@ public class ExperienceService {
 
     private final ExperienceMapper experienceMapper;
 
-    public ExperienceService(ExperienceRepository experienceRepository, ExperienceMapper experienceMapper) {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ExperienceService(
+        ExperienceRepository experienceRepository,
+        ExperienceMapper experienceMapper,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.experienceRepository = experienceRepository;
         this.experienceMapper = experienceMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -40,6 +50,7 @@ public class ExperienceService {
         LOG.debug("Request to save Experience : {}", experienceDTO);
         Experience experience = experienceMapper.toEntity(experienceDTO);
         experience = experienceRepository.save(experience);
+        developerChanged(experience);
         return experienceMapper.toDto(experience);
     }
 
@@ -53,6 +64,7 @@ public class ExperienceService {
         LOG.debug("Request to update Experience : {}", experienceDTO);
         Experience experience = experienceMapper.toEntity(experienceDTO);
         experience = experienceRepository.save(experience);
+        developerChanged(experience);
         return experienceMapper.toDto(experience);
     }
 
@@ -73,6 +85,10 @@ public class ExperienceService {
                 return existingExperience;
             })
             .map(experienceRepository::save)
+            .map(experience -> {
+                developerChanged(experience);
+                return experience;
+            })
             .map(experienceMapper::toDto);
     }
 
@@ -88,6 +104,18 @@ public class ExperienceService {
         return experienceRepository.findAll(pageable).map(experienceMapper::toDto);
     }
 
+    /**
+     * Get a slice of the experiences, without counting them.
+     *
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ExperienceDTO> findSlice(Pageable pageable) {
+        LOG.debug("Request to get a slice of Experiences");
+        return experienceRepository.findSliceBy(pageable).map(experienceMapper::toDto);
+    }
+
     /**
      * Get one experience by id.
      *
@@ -107,6 +135,13 @@ public class ExperienceService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Experience : {}", id);
+        experienceRepository.findById(id).ifPresent(this::developerChanged);
         experienceRepository.deleteById(id);
     }
+
+    private void developerChanged(Experience experience) {
+        if (experience.getDeveloper() != null && experience.getDeveloper().getId() != null) {
+            applicationEventPublisher.publishEvent(new DeveloperChangedEvent(experience.getDeveloper().getId()));
+        }
+    }
 }
@@ -0,0 +1,198 @@
+package com.devmatch.service;
+
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Project;
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.ProjectRepository;
+import com.devmatch.repository.TechnologyRepository;
+import com.devmatch.service.event.DeveloperChangedEvent;
+import com.devmatch.service.event.ProjectChangedEvent;
+import com.devmatch.service.event.TechnologyChangedEvent;
+import com.devmatch.service.matching.SkillIndex;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service keeping the match results of open projects up to date as developers and projects change.
+ * <p>
+ * Instead of recomputing every (project, developer) pair like {@link MatchingBatchService}, only the pairs of the
+ * changed entity are scored again: a developer change costs one score per open project, and a project change one
+ * score per candidate developer. Events are handled in the background, once the transaction publishing them commits.
+ * <p>
+ * The required technologies of the open projects are loaded once, on the first developer change, and then kept in
+ * memory from the project and technology change events. They are encoded as bitsets of the current {@link SkillIndex},
+ * so scoring a developer reads no project from the database.
+ */
+@Service
+public class IncrementalMatchingService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalMatchingService.class);
+
+    private final DeveloperRepository developerRepository;
+
+    private final ProjectRepository projectRepository;
+
+    private final TechnologyRepository technologyRepository;
+
+    private final SkillIndexService skillIndexService;
+
+    private final MatchResultService matchResultService;
+
+    private final MatchingBatchService matchingBatchService;
+
+    // The required technology ids of the open projects, null until loaded; guarded by this
+    private Map<Long, List<Long>> openProjects;
+
+    // The required technologies of the open projects, encoded against encodedIndex; guarded by this
+    private final Map<Long, long[]> queries = new HashMap<>();
+
+    private SkillIndex encodedIndex;
+
+    public IncrementalMatchingService(
+        DeveloperRepository developerRepository,
+        ProjectRepository projectRepository,
+        TechnologyRepository technologyRepository,
+        SkillIndexService skillIndexService,
+        MatchResultService matchResultService,
+        MatchingBatchService matchingBatchService
+    ) {
+        this.developerRepository = developerRepository;
+        this.projectRepository = projectRepository;
+        this.technologyRepository = technologyRepository;
+        this.skillIndexService = skillIndexService;
+        this.matchResultService = matchResultService;
+        this.matchingBatchService = matchingBatchService;
+    }
+
+    /**
+     * Score a changed developer against every open project.
+     *
+     * @param event the change event.
+     */
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        LOG.debug("Rescoring matches after {}", event);
+        Developer developer = developerRepository.findOneWithEagerRelationships(event.getDeveloperId()).orElse(null);
+        if (developer == null) {
+            return;
+        }
+        List<Long> skillIds = developer.getSkills().stream().map(Technology::getId).toList();
+        Map<Long, BigDecimal> technicalMatches = score(skillIds);
+        matchResultService.upsertTechnicalMatchesOfDeveloper(developer.getId(), technicalMatches, LocalDateTime.now().toString());
+    }
+
+    /**
+     * Score a changed open project against the whole roster, and track its required technologies. A deleted or closed
+     * project is no longer scored; the results of a deleted project are deleted along with it.
+     *
+     * @param event the change event.
+     */
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        LOG.debug("Rescoring matches after {}", event);
+        Project project = projectRepository.findOneWithEagerRelationships(event.getProjectId()).orElse(null);
+        if (project == null || !MatchingBatchService.OPEN_STATUS.equalsIgnoreCase(project.getStatus())) {
+            updateOpenProject(event.getProjectId(), null);
+            return;
+        }
+        List<Long> technologyIds = project.getRequiredTechnologies().stream().map(Technology::getId).toList();
+        updateOpenProject(project.getId(), technologyIds);
+        matchingBatchService.recomputeProject(project.getId(), technologyIds);
+    }
+
+    /**
+     * Drop a deleted technology from the required technologies of the open projects.
+     *
+     * @param event the change event.
+     */
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTechnologyChanged(TechnologyChangedEvent event) {
+        if (!technologyRepository.existsById(event.getTechnologyId())) {
+            removeTechnology(event.getTechnologyId());
+        }
+    }
+
+    /**
+     * Drop the required technologies of the open projects, to load them again on the next developer change. Needed when
+     * projects were written without going through {@link ProjectService}, which publishes their change events.
+     */
+    public synchronized void reload() {
+        openProjects = null;
+        queries.clear();
+    }
+
+    private synchronized Map<Long, BigDecimal> score(List<Long> skillIds) {
+        if (openProjects == null) {
+            openProjects = loadOpenProjects();
+        }
+        SkillIndex index = skillIndexService.getIndex();
+        if (index != encodedIndex) {
+            // Ordinals are only stable within an index, a rebuilt one encodes the queries again
+            queries.clear();
+            encodedIndex = index;
+        }
+        long[] skills = index.encode(skillIds);
+        Map<Long, BigDecimal> technicalMatches = new HashMap<>();
+        openProjects.forEach((projectId, technologyIds) -> {
+            long[] query = queries.computeIfAbsent(projectId, id -> index.encode(technologyIds));
+            technicalMatches.put(projectId, MatchingEngineService.technicalMatch(SkillIndex.overlap(skills, query), technologyIds.size()));
+        });
+        return technicalMatches;
+    }
+
+    private Map<Long, List<Long>> loadOpenProjects() {
+        LOG.debug("Loading the required technologies of the open projects");
+        Map<Long, List<Long>> requiredTechnologies = new HashMap<>();
+        for (ProjectRepository.RequiredTechnology row : projectRepository.findRequiredTechnologiesByStatus(MatchingBatchService.OPEN_STATUS)) {
+            List<Long> technologyIds = requiredTechnologies.computeIfAbsent(row.getProjectId(), id -> new ArrayList<>());
+            if (row.getTechnologyId() != null) {
+                technologyIds.add(row.getTechnologyId());
+            }
+        }
+        return requiredTechnologies;
+    }
+
+    private synchronized void updateOpenProject(Long projectId, List<Long> technologyIds) {
+        if (openProjects == null) {
+            // Not loaded yet, the change is read along with the others
+            return;
+        }
+        queries.remove(projectId);
+        if (technologyIds == null) {
+            openProjects.remove(projectId);
+        } else {
+            openProjects.put(projectId, technologyIds);
+        }
+    }
+
+    private synchronized void removeTechnology(Long technologyId) {
+        if (openProjects == null) {
+            return;
+        }
+        openProjects.replaceAll((projectId, technologyIds) -> {
+            if (!technologyIds.contains(technologyId)) {
+                return technologyIds;
+            }
+            queries.remove(projectId);
+            return technologyIds.stream().filter(id -> !id.equals(technologyId)).toList();
+        });
+    }
+}
@@ -0,0 +1,283 @@
+package com.devmatch.service;
+
+import static com.devmatch.service.TransactionUtils.afterCommit;
+
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.TechnologyRepository;
+import com.devmatch.service.dto.KeywordExtractionDTO;
+import com.devmatch.service.dto.ProjectDTO;
+import com.devmatch.service.dto.TechnologyDTO;
+import com.devmatch.service.matching.AhoCorasickAutomaton;
+import com.devmatch.service.matching.ExperienceLevels;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service extracting the {@link Technology} names, experience level and project type keywords of a project
+ * description.
+ * <p>
+ * The technology names of the catalogue and the level and type keywords are compiled into a single
+ * {@link AhoCorasickAutomaton}, so that a description is scanned once whatever the size of the catalogue. The
+ * automaton is built on first use, and built again after {@link TechnologyService} changes the catalogue.
+ * <p>
+ * Technology names must match whole words, and a name nested in a longer one ("Java" in "Java EE") is only
+ * reported on its own. Level and type keywords may start a longer word ("deploy" in "deployment"), except the short
+ * ones such as "ai" or "ios". As in the legacy application, advanced keywords win over beginner ones, the level
+ * defaulting to intermediate, and project types are tried in the order of {@link #TYPE_KEYWORDS}, defaulting to web.
+ */
+@Service
+@Transactional(readOnly = true)
+public class KeywordExtractionService {
+
+    public static final String TYPE_WEB = "Web";
+
+    public static final String TYPE_MOBILE = "Mobile";
+
+    public static final String TYPE_API = "API";
+
+    public static final String TYPE_DATA_SCIENCE = "Data Science";
+
+    public static final String TYPE_DEVOPS = "DevOps";
+
+    public static final String TYPE_DESKTOP = "Desktop";
+
+    private static final Logger LOG = LoggerFactory.getLogger(KeywordExtractionService.class);
+
+    private static final Map<String, List<String>> LEVEL_KEYWORDS = new LinkedHashMap<>();
+
+    private static final Map<String, List<String>> TYPE_KEYWORDS = new LinkedHashMap<>();
+
+    static {
+        LEVEL_KEYWORDS.put(
+            ExperienceLevels.ADVANCED,
+            List.of("avanzado", "complejo", "arquitectura", "microservicios", "scalable", "enterprise")
+        );
+        LEVEL_KEYWORDS.put(ExperienceLevels.BEGINNER, List.of("simple", "básico", "principiante", "fácil", "inicio"));
+        TYPE_KEYWORDS.put(TYPE_MOBILE, List.of("móvil", "mobile", "app movil", "android", "ios"));
+        TYPE_KEYWORDS.put(TYPE_API, List.of("api", "rest", "service", "backend"));
+        TYPE_KEYWORDS.put(TYPE_DATA_SCIENCE, List.of("data", "análisis", "machine learning", "ai"));
+        TYPE_KEYWORDS.put(TYPE_DEVOPS, List.of("devops", "deploy", "infraestructura", "ci/cd"));
+        TYPE_KEYWORDS.put(TYPE_DESKTOP, List.of("desktop", "escritorio", "aplicación de escritorio"));
+    }
+
+    /**
+     * Keywords shorter than this must match whole words.
+     */
+    private static final int MIN_PREFIX_KEYWORD_LENGTH = 4;
+
+    private static final int TECHNOLOGY = 0;
+
+    private static final int LEVEL = 1;
+
+    private static final int TYPE = 2;
+
+    private final TechnologyRepository technologyRepository;
+
+    private volatile Dictionary dictionary;
+
+    public KeywordExtractionService(TechnologyRepository technologyRepository) {
+        this.technologyRepository = technologyRepository;
+    }
+
+    /**
+     * Extract the technologies, experience level and project type of a text.
+     *
+     * @param text the text, such as a project description.
+     * @return the technologies in order of appearance, with the experience level and project type.
+     */
+    public KeywordExtractionDTO extract(String text) {
+        Dictionary current = getDictionary();
+        Hits hits = new Hits(current.keywords, text);
+        current.automaton.scan(text, hits);
+
+        KeywordExtractionDTO extraction = new KeywordExtractionDTO();
+        hits.technologies.sort(Comparator.<int[]>comparingInt(hit -> hit[0]).thenComparingInt(hit -> hit[0] - hit[1]));
+        int lastStart = -1;
+        int lastEnd = -1;
+        for (int[] hit : hits.technologies) {
+            if (hit[1] > lastEnd || (hit[0] == lastStart && hit[1] == lastEnd)) {
+                Keyword keyword = current.keywords[hit[2]];
+                TechnologyDTO technology = new TechnologyDTO();
+                technology.setId(keyword.technologyId);
+                technology.setName(keyword.value);
+                extraction.getTechnologies().add(technology);
+                lastStart = hit[0];
+                lastEnd = hit[1];
+            }
+        }
+        extraction.setExperienceLevel(hits.level == null ? ExperienceLevels.INTERMEDIATE : hits.level.value);
+        extraction.setProjectType(hits.type == null ? TYPE_WEB : hits.type.value);
+        return extraction;
+    }
+
+    /**
+     * Add the technologies named in the name and description of a project to its required technologies.
+     *
+     * @param projectDTO the project.
+     */
+    public void tagRequiredTechnologies(ProjectDTO projectDTO) {
+        String text = nullToEmpty(projectDTO.getName()) + '\n' + nullToEmpty(projectDTO.getDescription());
+        for (TechnologyDTO technology : extract(text).getTechnologies()) {
+            if (projectDTO.getRequiredTechnologies().add(technology)) {
+                LOG.debug("Tagging Project {} with Technology {}", projectDTO.getName(), technology.getName());
+            }
+        }
+    }
+
+    /**
+     * Build the automaton again from the database.
+     */
+    public synchronized void rebuild() {
+        dictionary = load();
+    }
+
+    /**
+     * Build the automaton again on next use, once the current transaction commits.
+     */
+    public void invalidate() {
+        afterCommit(() -> dictionary = null);
+    }
+
+    private Dictionary getDictionary() {
+        Dictionary current = dictionary;
+        if (current == null) {
+            synchronized (this) {
+                current = dictionary;
+                if (current == null) {
+                    current = load();
+                    dictionary = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Dictionary load() {
+        List<String> patterns = new ArrayList<>();
+        List<Keyword> keywords = new ArrayList<>();
+        for (TechnologyRepository.TechnologyName technology : technologyRepository.findAllNames()) {
+            String name = technology.getName() == null ? "" : technology.getName().trim();
+            if (!name.isEmpty()) {
+                patterns.add(name);
+                keywords.add(new Keyword(name, TECHNOLOGY, 0, technology.getId(), technology.getName()));
+            }
+        }
+        int priority = 0;
+        for (Map.Entry<String, List<String>> level : LEVEL_KEYWORDS.entrySet()) {
+            for (String keyword : level.getValue()) {
+                patterns.add(keyword);
+                keywords.add(new Keyword(keyword, LEVEL, priority, null, level.getKey()));
+            }
+            priority++;
+        }
+        priority = 0;
+        for (Map.Entry<String, List<String>> type : TYPE_KEYWORDS.entrySet()) {
+            for (String keyword : type.getValue()) {
+                patterns.add(keyword);
+                keywords.add(new Keyword(keyword, TYPE, priority, null, type.getKey()));
+            }
+            priority++;
+        }
+        LOG.debug("Compiling {} keywords", patterns.size());
+        return new Dictionary(patterns, keywords);
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static String nullToEmpty(String text) {
+        return text == null ? "" : text;
+    }
+
+    /**
+     * A compiled keyword: a technology, or a keyword hinting at an experience level or project type.
+     */
+    private static final class Keyword {
+
+        private final int kind;
+
+        private final int priority;
+
+        private final Long technologyId;
+
+        private final String value;
+
+        private final boolean wordStart;
+
+        private final boolean wordEnd;
+
+        private Keyword(String pattern, int kind, int priority, Long technologyId, String value) {
+            this.kind = kind;
+            this.priority = priority;
+            this.technologyId = technologyId;
+            this.value = value;
+            this.wordStart = isWordCharacter(pattern.charAt(0));
+            boolean wholeWord = kind == TECHNOLOGY || pattern.length() < MIN_PREFIX_KEYWORD_LENGTH;
+            this.wordEnd = wholeWord && isWordCharacter(pattern.charAt(pattern.length() - 1));
+        }
+    }
+
+    /**
+     * The automaton of the keywords, indexed by pattern.
+     */
+    private static final class Dictionary {
+
+        private final AhoCorasickAutomaton automaton;
+
+        private final Keyword[] keywords;
+
+        private Dictionary(List<String> patterns, List<Keyword> keywords) {
+            this.automaton = new AhoCorasickAutomaton(patterns);
+            this.keywords = keywords.toArray(new Keyword[0]);
+        }
+    }
+
+    /**
+     * Collects the occurrences found in a text, keeping only those on word boundaries.
+     */
+    private static final class Hits implements AhoCorasickAutomaton.MatchConsumer {
+
+        private final Keyword[] keywords;
+
+        private final String text;
+
+        private final List<int[]> technologies = new ArrayList<>();
+
+        private Keyword level;
+
+        private Keyword type;
+
+        private Hits(Keyword[] keywords, String text) {
+            this.keywords = keywords;
+            this.text = text;
+        }
+
+        @Override
+        public void accept(int pattern, int start, int end) {
+            Keyword keyword = keywords[pattern];
+            if (keyword.wordStart && start > 0 && isWordCharacter(text.charAt(start - 1))) {
+                return;
+            }
+            if (keyword.wordEnd && end < text.length() && isWordCharacter(text.charAt(end))) {
+                return;
+            }
+            switch (keyword.kind) {
+                case TECHNOLOGY -> technologies.add(new int[] { start, end, pattern });
+                case LEVEL -> level = best(level, keyword);
+                default -> type = best(type, keyword);
+            }
+        }
+
+        private static Keyword best(Keyword current, Keyword candidate) {
+            return current == null || candidate.priority < current.priority ? candidate : current;
+        }
+    }
+}
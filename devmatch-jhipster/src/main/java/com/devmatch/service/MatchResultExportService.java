@@ -0,0 +1,165 @@
+package com.devmatch.service;
+
+import com.devmatch.domain.MatchResult;
+import com.devmatch.repository.MatchResultRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service exporting every {@link MatchResult} as NDJSON or CSV.
+ * <p>
+ * Rows are read as projections from a database cursor fetching {@link MatchResultRepository#EXPORT_FETCH_SIZE} rows
+ * at a time, and written as soon as they are read, so that memory use does not depend on the number of rows. The
+ * output is flushed after the first row, then every {@link #FLUSH_INTERVAL} rows, so that clients start receiving
+ * data while the query is still running.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MatchResultExportService {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    public static final String FORMAT_CSV = "csv";
+
+    private static final Logger LOG = LoggerFactory.getLogger(MatchResultExportService.class);
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final String[] CSV_HEADER = {
+        "id",
+        "projectId",
+        "developerId",
+        "technicalMatch",
+        "aiTechnicalAffinity",
+        "aiMotivationalAffinity",
+        "aiExperienceRelevance",
+        "aiComment",
+        "createdAt",
+    };
+
+    private final MatchResultRepository matchResultRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public MatchResultExportService(MatchResultRepository matchResultRepository, ObjectMapper objectMapper) {
+        this.matchResultRepository = matchResultRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write every match result as a JSON object per line.
+     *
+     * @param out the output stream, left open.
+     * @return the number of exported match results.
+     * @throws IOException if the output cannot be written.
+     */
+    public long exportNdjson(OutputStream out) throws IOException {
+        LOG.debug("Request to export MatchResults as NDJSON");
+        long count = 0;
+        try (
+            Stream<MatchResultRepository.ExportRow> rows = matchResultRepository.streamAllForExport();
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+        ) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            for (Iterator<MatchResultRepository.ExportRow> iterator = rows.iterator(); iterator.hasNext();) {
+                MatchResultRepository.ExportRow row = iterator.next();
+                generator.writeStartObject();
+                generator.writeNumberField("id", row.getId());
+                generator.writeNumberField("projectId", row.getProjectId());
+                generator.writeNumberField("developerId", row.getDeveloperId());
+                generator.writeNumberField("technicalMatch", row.getTechnicalMatch());
+                writeNumberField(generator, "aiTechnicalAffinity", row.getAiTechnicalAffinity());
+                writeNumberField(generator, "aiMotivationalAffinity", row.getAiMotivationalAffinity());
+                writeNumberField(generator, "aiExperienceRelevance", row.getAiExperienceRelevance());
+                generator.writeStringField("aiComment", row.getAiComment());
+                generator.writeStringField("createdAt", row.getCreatedAt());
+                generator.writeEndObject();
+                if (++count % FLUSH_INTERVAL == 1) {
+                    generator.flush();
+                }
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        LOG.debug("Exported {} MatchResults as NDJSON", count);
+        return count;
+    }
+
+    /**
+     * Write every match result as a CSV line, after a header line.
+     *
+     * @param out the output stream, left open.
+     * @return the number of exported match results.
+     * @throws IOException if the output cannot be written.
+     */
+    public long exportCsv(OutputStream out) throws IOException {
+        LOG.debug("Request to export MatchResults as CSV");
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<MatchResultRepository.ExportRow> rows = matchResultRepository.streamAllForExport()) {
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write('\n');
+            for (Iterator<MatchResultRepository.ExportRow> iterator = rows.iterator(); iterator.hasNext();) {
+                MatchResultRepository.ExportRow row = iterator.next();
+                writer.write(row.getId().toString());
+                writeCsvField(writer, row.getProjectId());
+                writeCsvField(writer, row.getDeveloperId());
+                writeCsvField(writer, row.getTechnicalMatch());
+                writeCsvField(writer, row.getAiTechnicalAffinity());
+                writeCsvField(writer, row.getAiMotivationalAffinity());
+                writeCsvField(writer, row.getAiExperienceRelevance());
+                writeCsvField(writer, row.getAiComment());
+                writeCsvField(writer, row.getCreatedAt());
+                writer.write('\n');
+                if (++count % FLUSH_INTERVAL == 1) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        LOG.debug("Exported {} MatchResults as CSV", count);
+        return count;
+    }
+
+    private static void writeNumberField(JsonGenerator generator, String name, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    /**
+     * Write a separator then a value, quoted if it contains a separator, a quote or a line break.
+     */
+    private static void writeCsvField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+        } else {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
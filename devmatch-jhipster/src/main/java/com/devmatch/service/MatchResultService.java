@@ -1,14 +1,29 @@
 package com.devmatch.service;
 
+import com.devmatch.domain.Developer;
 import com.devmatch.domain.MatchResult;
+import com.devmatch.domain.Project;
 import com.devmatch.repository.MatchResultRepository;
+import com.devmatch.service.ai.AffinityScore;
 import com.devmatch.service.dto.MatchResultDTO;
 import com.devmatch.service.mapper.MatchResultMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +40,24 @@ public class MatchResultService {
 
     private final MatchResultMapper matchResultMapper;
 
-    public MatchResultService(MatchResultRepository matchResultRepository, MatchResultMapper matchResultMapper) {
+    private final EntityManager entityManager;
+
+    private final MatchStatisticsService matchStatisticsService;
+
+    private final int batchSize;
+
+    public MatchResultService(
+        MatchResultRepository matchResultRepository,
+        MatchResultMapper matchResultMapper,
+        EntityManager entityManager,
+        MatchStatisticsService matchStatisticsService,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}") int batchSize
+    ) {
         this.matchResultRepository = matchResultRepository;
         this.matchResultMapper = matchResultMapper;
+        this.entityManager = entityManager;
+        this.matchStatisticsService = matchStatisticsService;
+        this.batchSize = batchSize;
     }
 
     /**
@@ -40,6 +70,7 @@ public class MatchResultService {
         LOG.debug("Request to save MatchResult : {}", matchResultDTO);
         MatchResult matchResult = matchResultMapper.toEntity(matchResultDTO);
         matchResult = matchResultRepository.save(matchResult);
+        matchStatisticsService.recordChange(null, MatchStatisticsService.Sample.of(matchResult));
         return matchResultMapper.toDto(matchResult);
     }
 
@@ -51,8 +82,13 @@ public class MatchResultService {
      */
     public MatchResultDTO update(MatchResultDTO matchResultDTO) {
         LOG.debug("Request to update MatchResult : {}", matchResultDTO);
+        MatchStatisticsService.Sample previous = matchResultRepository
+            .findById(matchResultDTO.getId())
+            .map(MatchStatisticsService.Sample::of)
+            .orElse(null);
         MatchResult matchResult = matchResultMapper.toEntity(matchResultDTO);
         matchResult = matchResultRepository.save(matchResult);
+        matchStatisticsService.recordChange(previous, MatchStatisticsService.Sample.of(matchResult));
         return matchResultMapper.toDto(matchResult);
     }
 
@@ -68,14 +104,237 @@ public class MatchResultService {
         return matchResultRepository
             .findById(matchResultDTO.getId())
             .map(existingMatchResult -> {
+                MatchStatisticsService.Sample previous = MatchStatisticsService.Sample.of(existingMatchResult);
                 matchResultMapper.partialUpdate(existingMatchResult, matchResultDTO);
-
-                return existingMatchResult;
+                MatchResult matchResult = matchResultRepository.save(existingMatchResult);
+                matchStatisticsService.recordChange(previous, MatchStatisticsService.Sample.of(matchResult));
+                return matchResult;
             })
-            .map(matchResultRepository::save)
             .map(matchResultMapper::toDto);
     }
 
+    /**
+     * Replace the technical matches of a project.
+     * <p>
+     * The given results are upserted as with {@link #upsertTechnicalMatches(Long, long[], BigDecimal[], String)}, then
+     * results of the project whose developer is not part of the given ones are reset to a zero technical match.
+     *
+     * @param projectId the id of the project.
+     * @param developerIds the ids of the scored developers.
+     * @param technicalMatches the technical match of each developer, in the same order.
+     * @param createdAt the timestamp of the results.
+     * @return the number of written results.
+     */
+    public int replaceTechnicalMatches(Long projectId, long[] developerIds, BigDecimal[] technicalMatches, String createdAt) {
+        LOG.debug("Request to replace the {} technical matches of Project : {}", developerIds.length, projectId);
+        StatisticsChanges changes = new StatisticsChanges();
+        int written = writeTechnicalMatches(projectId, developerIds, technicalMatches, createdAt, changes);
+        List<MatchResultRepository.MatchScores> stale = matchResultRepository.findStaleScores(projectId, createdAt);
+        for (int from = 0; from < stale.size(); from += batchSize) {
+            List<Long> developerIdsToReset = new ArrayList<>();
+            for (MatchResultRepository.MatchScores scores : stale.subList(from, Math.min(from + batchSize, stale.size()))) {
+                developerIdsToReset.add(scores.getDeveloperId());
+                changes.update(scores, BigDecimal.ZERO);
+            }
+            written += matchResultRepository.updateTechnicalMatch(projectId, developerIdsToReset, BigDecimal.ZERO, createdAt);
+        }
+        changes.record();
+        return written;
+    }
+
+    /**
+     * Upsert the technical matches of developers against a project.
+     * <p>
+     * Developers are written in chunks of {@code hibernate.jdbc.batch_size}: existing results are read and locked,
+     * then updated with one statement per distinct score, and missing ones are inserted with a single statement.
+     * The pairs inserted by a concurrent writer in the meantime are updated instead.
+     *
+     * @param projectId the id of the project.
+     * @param developerIds the ids of the scored developers.
+     * @param technicalMatches the technical match of each developer, in the same order.
+     * @param createdAt the timestamp of the results.
+     * @return the number of written results.
+     */
+    public int upsertTechnicalMatches(Long projectId, long[] developerIds, BigDecimal[] technicalMatches, String createdAt) {
+        LOG.debug("Request to upsert {} technical matches of Project : {}", developerIds.length, projectId);
+        StatisticsChanges changes = new StatisticsChanges();
+        int written = writeTechnicalMatches(projectId, developerIds, technicalMatches, createdAt, changes);
+        changes.record();
+        return written;
+    }
+
+    private int writeTechnicalMatches(
+        Long projectId,
+        long[] developerIds,
+        BigDecimal[] technicalMatches,
+        String createdAt,
+        StatisticsChanges changes
+    ) {
+        for (int from = 0; from < developerIds.length; from += batchSize) {
+            int to = Math.min(from + batchSize, developerIds.length);
+            List<Long> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(developerIds[i]);
+            }
+            Map<Long, MatchResultRepository.MatchScores> existing = new HashMap<>();
+            for (MatchResultRepository.MatchScores scores : matchResultRepository.findScoresByProjectIdAndDeveloperIdIn(projectId, chunk)) {
+                existing.put(scores.getDeveloperId(), scores);
+            }
+            Map<BigDecimal, List<Long>> updates = new LinkedHashMap<>();
+            List<Pair> inserts = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                Long developerId = developerIds[i];
+                MatchResultRepository.MatchScores scores = existing.get(developerId);
+                if (scores != null) {
+                    updates.computeIfAbsent(technicalMatches[i], technicalMatch -> new ArrayList<>()).add(developerId);
+                    changes.update(scores, technicalMatches[i]);
+                } else {
+                    inserts.add(new Pair(projectId, developerId, technicalMatches[i]));
+                }
+            }
+            if (insertTechnicalMatches(inserts, createdAt) < inserts.size()) {
+                // Another writer inserted some of the pairs since they were read: overwrite them like existing ones
+                for (Pair pair : inserts) {
+                    updates.computeIfAbsent(pair.technicalMatch(), technicalMatch -> new ArrayList<>()).add(pair.developerId());
+                }
+                changes.conflict(projectId);
+            } else {
+                inserts.forEach(changes::insert);
+            }
+            for (Map.Entry<BigDecimal, List<Long>> update : updates.entrySet()) {
+                matchResultRepository.updateTechnicalMatch(projectId, update.getValue(), update.getKey(), createdAt);
+            }
+        }
+        // The statements bypass the persistence context, whose results of the project are stale now
+        entityManager.clear();
+        return developerIds.length;
+    }
+
+    /**
+     * Upsert the technical matches of a developer against projects.
+     * <p>
+     * Pairs with a zero technical match are only updated: like {@link #replaceTechnicalMatches(Long, long[], BigDecimal[], String)},
+     * no result is created for a developer sharing no technology with a project.
+     *
+     * @param developerId the id of the developer.
+     * @param technicalMatches the technical match of the developer by project id.
+     * @param createdAt the timestamp of the results.
+     * @return the number of written results.
+     */
+    public int upsertTechnicalMatchesOfDeveloper(Long developerId, Map<Long, BigDecimal> technicalMatches, String createdAt) {
+        LOG.debug("Request to upsert {} technical matches of Developer : {}", technicalMatches.size(), developerId);
+        Map<Long, MatchResultRepository.MatchScores> existing = new HashMap<>();
+        for (MatchResultRepository.MatchScores scores : matchResultRepository.findScoresByDeveloperId(developerId)) {
+            existing.put(scores.getProjectId(), scores);
+        }
+        StatisticsChanges changes = new StatisticsChanges();
+        Map<BigDecimal, List<Long>> updates = new LinkedHashMap<>();
+        List<Pair> inserts = new ArrayList<>();
+        for (Map.Entry<Long, BigDecimal> technicalMatch : technicalMatches.entrySet()) {
+            MatchResultRepository.MatchScores scores = existing.get(technicalMatch.getKey());
+            if (scores != null) {
+                updates.computeIfAbsent(technicalMatch.getValue(), value -> new ArrayList<>()).add(technicalMatch.getKey());
+                changes.update(scores, technicalMatch.getValue());
+            } else if (technicalMatch.getValue().signum() > 0) {
+                inserts.add(new Pair(technicalMatch.getKey(), developerId, technicalMatch.getValue()));
+            }
+        }
+        int written = 0;
+        Map<BigDecimal, List<Long>> overwrites = new LinkedHashMap<>();
+        for (int from = 0; from < inserts.size(); from += batchSize) {
+            List<Pair> chunk = inserts.subList(from, Math.min(from + batchSize, inserts.size()));
+            if (insertTechnicalMatches(chunk, createdAt) < chunk.size()) {
+                // Another writer inserted some of the pairs since they were read: overwrite them like existing ones
+                for (Pair pair : chunk) {
+                    overwrites.computeIfAbsent(pair.technicalMatch(), value -> new ArrayList<>()).add(pair.projectId());
+                    changes.conflict(pair.projectId());
+                }
+            } else {
+                chunk.forEach(changes::insert);
+            }
+            // Every pair of the chunk is written, either inserted here or overwritten
+            written += chunk.size();
+        }
+        for (Map.Entry<BigDecimal, List<Long>> update : updates.entrySet()) {
+            written += matchResultRepository.updateTechnicalMatchOfDeveloper(developerId, update.getValue(), update.getKey(), createdAt);
+        }
+        for (Map.Entry<BigDecimal, List<Long>> overwrite : overwrites.entrySet()) {
+            // Also rewrites the pairs inserted here with the same values, which are already counted
+            matchResultRepository.updateTechnicalMatchOfDeveloper(developerId, overwrite.getValue(), overwrite.getKey(), createdAt);
+        }
+        changes.record();
+        return written;
+    }
+
+    /**
+     * Insert the results of (project, developer) pairs in a single statement, skipping the pairs which already have one.
+     * <p>
+     * The pair is unique in the table, so that concurrent writers, like the nightly batch and the incremental
+     * matching, never duplicate a result: the insert of a pair written by another transaction since it was read is
+     * ignored, once that transaction commits. Ids are drawn from the sequence like for any persisted result. H2 has no
+     * {@code on conflict} clause, so there the insert of such a pair fails instead.
+     *
+     * @param pairs the pairs to insert, with their technical match.
+     * @param createdAt the timestamp of the results.
+     * @return the number of inserted results.
+     */
+    private int insertTechnicalMatches(List<Pair> pairs, String createdAt) {
+        if (pairs.isEmpty()) {
+            return 0;
+        }
+        StringBuilder hql = new StringBuilder("insert into MatchResult (technicalMatch, createdAt, project, developer) values ");
+        for (int i = 0; i < pairs.size(); i++) {
+            hql.append(i == 0 ? "" : ", ").append("(:technicalMatch").append(i).append(", :createdAt");
+            hql.append(", :project").append(i).append(", :developer").append(i).append(')');
+        }
+        hql.append(" on conflict (project, developer) do nothing");
+        Query insert = entityManager.createQuery(hql.toString()).setParameter("createdAt", createdAt);
+        for (int i = 0; i < pairs.size(); i++) {
+            Pair pair = pairs.get(i);
+            insert.setParameter("technicalMatch" + i, pair.technicalMatch());
+            insert.setParameter("project" + i, entityManager.getReference(Project.class, pair.projectId()));
+            insert.setParameter("developer" + i, entityManager.getReference(Developer.class, pair.developerId()));
+        }
+        return insert.executeUpdate();
+    }
+
+    /**
+     * Store the AI analysis of a (project, developer) pair into its match result.
+     *
+     * @param projectId the id of the project.
+     * @param developerId the id of the developer.
+     * @param score the affinity scored by the model.
+     * @return {@code false} if the pair has no match result.
+     */
+    public boolean updateAiAnalysis(Long projectId, Long developerId, AffinityScore score) {
+        LOG.debug("Request to update the AI analysis of Project : {} and Developer : {}", projectId, developerId);
+        MatchResultRepository.MatchScores previous = matchResultRepository
+            .findScoresByProjectIdAndDeveloperId(projectId, developerId)
+            .orElse(null);
+        if (previous == null) {
+            return false;
+        }
+        matchResultRepository.updateAiAnalysis(
+            projectId,
+            developerId,
+            score.getTechnicalAffinity(),
+            score.getMotivationalAffinity(),
+            score.getExperienceRelevance(),
+            score.getComment()
+        );
+        matchStatisticsService.recordChange(
+            MatchStatisticsService.Sample.of(previous),
+            MatchStatisticsService.Sample.of(
+                projectId,
+                previous.getTechnicalMatch(),
+                score.getTechnicalAffinity(),
+                score.getMotivationalAffinity(),
+                score.getExperienceRelevance()
+            )
+        );
+        return true;
+    }
+
     /**
      * Get all the matchResults.
      *
@@ -88,6 +347,18 @@ public class MatchResultService {
         return matchResultRepository.findAll(pageable).map(matchResultMapper::toDto);
     }
 
+    /**
+     * Get a slice of the matchResults, without counting them.
+     *
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<MatchResultDTO> findSlice(Pageable pageable) {
+        LOG.debug("Request to get a slice of MatchResults");
+        return matchResultRepository.findSliceBy(pageable).map(matchResultMapper::toDto);
+    }
+
     /**
      * Get one matchResult by id.
      *
@@ -107,6 +378,71 @@ public class MatchResultService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete MatchResult : {}", id);
-        matchResultRepository.deleteById(id);
+        matchResultRepository
+            .findById(id)
+            .ifPresent(matchResult -> {
+                matchResultRepository.delete(matchResult);
+                matchStatisticsService.recordChange(MatchStatisticsService.Sample.of(matchResult), null);
+            });
+    }
+
+    /**
+     * Delete the match results of a project, before the project itself is deleted.
+     *
+     * @param projectId the id of the project.
+     * @return the number of deleted match results.
+     */
+    public int deleteByProject(Long projectId) {
+        LOG.debug("Request to delete the MatchResults of Project : {}", projectId);
+        int deleted = matchResultRepository.deleteByProjectId(projectId);
+        if (deleted > 0) {
+            matchStatisticsService.reloadProjects(List.of(projectId));
+        }
+        return deleted;
+    }
+
+    private record Pair(Long projectId, Long developerId, BigDecimal technicalMatch) {}
+
+    /**
+     * The changes of the statistics made by a bulk write, recorded once it is done. The changes of a project are not
+     * known when another writer inserted some of its pairs concurrently: its statistics are reloaded instead.
+     */
+    private final class StatisticsChanges {
+
+        private final List<MatchStatisticsService.Sample> previous = new ArrayList<>();
+
+        private final List<MatchStatisticsService.Sample> current = new ArrayList<>();
+
+        private final Set<Long> conflicts = new HashSet<>();
+
+        private void insert(Pair pair) {
+            current.add(MatchStatisticsService.Sample.of(pair.projectId(), pair.technicalMatch(), null, null, null));
+        }
+
+        private void update(MatchResultRepository.MatchScores scores, BigDecimal technicalMatch) {
+            previous.add(MatchStatisticsService.Sample.of(scores));
+            current.add(
+                MatchStatisticsService.Sample.of(
+                    scores.getProjectId(),
+                    technicalMatch,
+                    scores.getAiTechnicalAffinity(),
+                    scores.getAiMotivationalAffinity(),
+                    scores.getAiExperienceRelevance()
+                )
+            );
+        }
+
+        private void conflict(Long projectId) {
+            conflicts.add(projectId);
+        }
+
+        private void record() {
+            if (!conflicts.isEmpty()) {
+                previous.removeIf(sample -> conflicts.contains(sample.getProjectId()));
+                current.removeIf(sample -> conflicts.contains(sample.getProjectId()));
+                matchStatisticsService.reloadProjects(conflicts);
+            }
+            matchStatisticsService.recordChanges(previous, current);
+        }
     }
 }
@@ -0,0 +1,322 @@
+package com.devmatch.service;
+
+import static com.devmatch.service.TransactionUtils.afterCommit;
+
+import com.devmatch.domain.MatchResult;
+import com.devmatch.repository.MatchResultRepository;
+import com.devmatch.service.dto.MatchStatisticsDTO;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service maintaining the counts and score sums of the {@link MatchResult}s, per project and for all projects, so
+ * that their statistics are read in constant time whatever the size of the table.
+ * <p>
+ * The aggregates are loaded from the database when the application starts. The results written by
+ * {@link MatchResultService}, one by one or in bulk, are then applied as increments computed from their scores before
+ * and after the change. Increments are applied once the surrounding transaction commits, so that rolled back changes
+ * never reach the statistics.
+ * <p>
+ * Writers apply increments and reload aggregates under the lock of the service, while readers sum the
+ * {@link LongAdder} counters without locking; technical matches have two decimals and are summed exactly in
+ * hundredths.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MatchStatisticsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MatchStatisticsService.class);
+
+    private static final int AI_TECHNICAL_AFFINITY = 0;
+
+    private static final int AI_MOTIVATIONAL_AFFINITY = 1;
+
+    private static final int AI_EXPERIENCE_RELEVANCE = 2;
+
+    private static final int SCALE = 2;
+
+    private final MatchResultRepository matchResultRepository;
+
+    private final Aggregates global = new Aggregates();
+
+    private final ConcurrentMap<Long, Aggregates> byProject = new ConcurrentHashMap<>();
+
+    public MatchStatisticsService(MatchResultRepository matchResultRepository) {
+        this.matchResultRepository = matchResultRepository;
+    }
+
+    /**
+     * Get the statistics of the match results of all projects.
+     *
+     * @return the statistics.
+     */
+    public MatchStatisticsDTO getStatistics() {
+        return global.toDto(null);
+    }
+
+    /**
+     * Get the statistics of the match results of a project.
+     *
+     * @param projectId the id of the project.
+     * @return the statistics, empty if the project has no match result.
+     */
+    public MatchStatisticsDTO getStatistics(Long projectId) {
+        Aggregates aggregates = byProject.get(projectId);
+        return aggregates == null ? new Aggregates().toDto(projectId) : aggregates.toDto(projectId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reload all the aggregates from the database.
+     */
+    public synchronized void rebuild() {
+        LOG.debug("Loading match result statistics");
+        byProject.clear();
+        global.reset();
+        for (MatchResultRepository.ProjectStatistics statistics : matchResultRepository.findStatisticsByProject()) {
+            Aggregates aggregates = Aggregates.of(statistics);
+            byProject.put(statistics.getProjectId(), aggregates);
+            global.add(aggregates, 1);
+        }
+        LOG.debug("Loaded statistics of {} match results", global.matches.sum());
+    }
+
+    /**
+     * Apply the change of a single match result once the current transaction commits.
+     *
+     * @param previous the result before the change, {@code null} if it is created.
+     * @param current the result after the change, {@code null} if it is deleted.
+     */
+    public void recordChange(Sample previous, Sample current) {
+        recordChanges(previous == null ? List.of() : List.of(previous), current == null ? List.of() : List.of(current));
+    }
+
+    /**
+     * Apply the changes of match results once the current transaction commits.
+     *
+     * @param previous the results before the changes, without the created ones.
+     * @param current the results after the changes, without the deleted ones.
+     */
+    public void recordChanges(Collection<Sample> previous, Collection<Sample> current) {
+        if (!previous.isEmpty() || !current.isEmpty()) {
+            afterCommit(() -> apply(previous, current));
+        }
+    }
+
+    /**
+     * Reload the aggregates of projects from the database once the current transaction commits, when the changes of
+     * their match results are not known.
+     *
+     * @param projectIds the ids of the projects.
+     */
+    public void reloadProjects(Collection<Long> projectIds) {
+        if (!projectIds.isEmpty()) {
+            List<Long> ids = List.copyOf(projectIds);
+            afterCommit(() -> reload(ids));
+        }
+    }
+
+    private synchronized void apply(Collection<Sample> previous, Collection<Sample> current) {
+        for (Sample sample : previous) {
+            apply(sample, -1);
+        }
+        for (Sample sample : current) {
+            apply(sample, 1);
+        }
+    }
+
+    private void apply(Sample sample, int sign) {
+        byProject.computeIfAbsent(sample.projectId, id -> new Aggregates()).add(sample, sign);
+        global.add(sample, sign);
+    }
+
+    private synchronized void reload(Collection<Long> projectIds) {
+        for (Long projectId : projectIds) {
+            Aggregates previous = byProject.remove(projectId);
+            if (previous != null) {
+                global.add(previous, -1);
+            }
+        }
+        for (MatchResultRepository.ProjectStatistics statistics : matchResultRepository.findStatisticsByProjectIdIn(projectIds)) {
+            Aggregates aggregates = Aggregates.of(statistics);
+            byProject.put(statistics.getProjectId(), aggregates);
+            global.add(aggregates, 1);
+        }
+    }
+
+    private static BigDecimal average(long sum, long count, int sumScale) {
+        return count == 0 ? null : BigDecimal.valueOf(sum, sumScale).divide(BigDecimal.valueOf(count), SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static long toLong(Long value) {
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * The scores of a single match result, as counted by the statistics.
+     */
+    public static final class Sample {
+
+        private final Long projectId;
+
+        private final long technicalMatchHundredths;
+
+        private final Integer[] aiScores;
+
+        private Sample(Long projectId, long technicalMatchHundredths, Integer... aiScores) {
+            this.projectId = projectId;
+            this.technicalMatchHundredths = technicalMatchHundredths;
+            this.aiScores = aiScores;
+        }
+
+        /**
+         * @return the id of the project of the match result.
+         */
+        public Long getProjectId() {
+            return projectId;
+        }
+
+        /**
+         * @param matchResult the match result, with its project.
+         * @return the scores of the match result.
+         */
+        public static Sample of(MatchResult matchResult) {
+            return of(
+                matchResult.getProject().getId(),
+                matchResult.getTechnicalMatch(),
+                matchResult.getAiTechnicalAffinity(),
+                matchResult.getAiMotivationalAffinity(),
+                matchResult.getAiExperienceRelevance()
+            );
+        }
+
+        /**
+         * @param scores the scores of a match result.
+         * @return the scores of the match result.
+         */
+        public static Sample of(MatchResultRepository.MatchScores scores) {
+            return of(
+                scores.getProjectId(),
+                scores.getTechnicalMatch(),
+                scores.getAiTechnicalAffinity(),
+                scores.getAiMotivationalAffinity(),
+                scores.getAiExperienceRelevance()
+            );
+        }
+
+        /**
+         * @param projectId the id of the project of the match result.
+         * @param technicalMatch the technical match.
+         * @param aiTechnicalAffinity the AI technical affinity, {@code null} if not analyzed.
+         * @param aiMotivationalAffinity the AI motivational affinity, {@code null} if not analyzed.
+         * @param aiExperienceRelevance the AI experience relevance, {@code null} if not analyzed.
+         * @return the scores of the match result.
+         */
+        public static Sample of(
+            Long projectId,
+            BigDecimal technicalMatch,
+            Integer aiTechnicalAffinity,
+            Integer aiMotivationalAffinity,
+            Integer aiExperienceRelevance
+        ) {
+            return new Sample(
+                projectId,
+                technicalMatch == null ? 0 : technicalMatch.movePointRight(SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact(),
+                aiTechnicalAffinity,
+                aiMotivationalAffinity,
+                aiExperienceRelevance
+            );
+        }
+    }
+
+    /**
+     * Counters of a set of match results.
+     */
+    private static final class Aggregates {
+
+        private final LongAdder matches = new LongAdder();
+
+        private final LongAdder technicalMatchHundredths = new LongAdder();
+
+        private final LongAdder[] aiCounts = { new LongAdder(), new LongAdder(), new LongAdder() };
+
+        private final LongAdder[] aiSums = { new LongAdder(), new LongAdder(), new LongAdder() };
+
+        private static Aggregates of(MatchResultRepository.ProjectStatistics statistics) {
+            Aggregates aggregates = new Aggregates();
+            aggregates.matches.add(toLong(statistics.getMatches()));
+            BigDecimal technicalMatchSum = statistics.getTechnicalMatchSum();
+            if (technicalMatchSum != null) {
+                aggregates.technicalMatchHundredths.add(technicalMatchSum.movePointRight(SCALE).setScale(0, RoundingMode.HALF_UP).longValue());
+            }
+            aggregates.aiCounts[AI_TECHNICAL_AFFINITY].add(toLong(statistics.getAiTechnicalAffinityCount()));
+            aggregates.aiSums[AI_TECHNICAL_AFFINITY].add(toLong(statistics.getAiTechnicalAffinitySum()));
+            aggregates.aiCounts[AI_MOTIVATIONAL_AFFINITY].add(toLong(statistics.getAiMotivationalAffinityCount()));
+            aggregates.aiSums[AI_MOTIVATIONAL_AFFINITY].add(toLong(statistics.getAiMotivationalAffinitySum()));
+            aggregates.aiCounts[AI_EXPERIENCE_RELEVANCE].add(toLong(statistics.getAiExperienceRelevanceCount()));
+            aggregates.aiSums[AI_EXPERIENCE_RELEVANCE].add(toLong(statistics.getAiExperienceRelevanceSum()));
+            return aggregates;
+        }
+
+        private void add(Sample sample, int sign) {
+            matches.add(sign);
+            technicalMatchHundredths.add(sign * sample.technicalMatchHundredths);
+            for (int i = 0; i < aiSums.length; i++) {
+                if (sample.aiScores[i] != null) {
+                    aiCounts[i].add(sign);
+                    aiSums[i].add((long) sign * sample.aiScores[i]);
+                }
+            }
+        }
+
+        private void add(Aggregates other, int sign) {
+            matches.add(sign * other.matches.sum());
+            technicalMatchHundredths.add(sign * other.technicalMatchHundredths.sum());
+            for (int i = 0; i < aiSums.length; i++) {
+                aiCounts[i].add(sign * other.aiCounts[i].sum());
+                aiSums[i].add(sign * other.aiSums[i].sum());
+            }
+        }
+
+        private void reset() {
+            matches.reset();
+            technicalMatchHundredths.reset();
+            for (int i = 0; i < aiSums.length; i++) {
+                aiCounts[i].reset();
+                aiSums[i].reset();
+            }
+        }
+
+        private MatchStatisticsDTO toDto(Long projectId) {
+            long count = matches.sum();
+            MatchStatisticsDTO statistics = new MatchStatisticsDTO();
+            statistics.setProjectId(projectId);
+            statistics.setTotalMatches(count);
+            statistics.setAnalyzedMatches(aiCounts[AI_TECHNICAL_AFFINITY].sum());
+            statistics.setAverageTechnicalMatch(average(technicalMatchHundredths.sum(), count, SCALE));
+            statistics.setAverageAiTechnicalAffinity(average(aiSums[AI_TECHNICAL_AFFINITY].sum(), aiCounts[AI_TECHNICAL_AFFINITY].sum(), 0));
+            statistics.setAverageAiMotivationalAffinity(
+                average(aiSums[AI_MOTIVATIONAL_AFFINITY].sum(), aiCounts[AI_MOTIVATIONAL_AFFINITY].sum(), 0)
+            );
+            statistics.setAverageAiExperienceRelevance(
+                average(aiSums[AI_EXPERIENCE_RELEVANCE].sum(), aiCounts[AI_EXPERIENCE_RELEVANCE].sum(), 0)
+            );
+            return statistics;
+        }
+    }
+}
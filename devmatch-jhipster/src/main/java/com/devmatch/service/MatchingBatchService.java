@@ -0,0 +1,289 @@
+package com.devmatch.service;
+
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.domain.Project;
+import com.devmatch.repository.ProjectRepository;
+import com.devmatch.service.matching.ScoredDevelopers;
+import com.devmatch.service.matching.SkillIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service recomputing the technical match of every open {@link Project} against the whole developer roster.
+ * <p>
+ * The job runs every night, and can be triggered by an administrator. For each project, the candidates of the
+ * {@link SkillIndex} are split in ranges scored in parallel by a dedicated {@link ForkJoinPool}, then the results
+ * are upserted by {@link MatchResultService} in JDBC batches, one transaction per project. A project which fails is
+ * logged and skipped; open projects requiring no technology have their results reset.
+ * <p>
+ * Progress and throughput of the job are published as Micrometer meters.
+ */
+@Service
+public class MatchingBatchService {
+
+    public static final String OPEN_STATUS = "Open";
+
+    public static final String METER_PREFIX = "matching.batch.";
+
+    private static final Logger LOG = LoggerFactory.getLogger(MatchingBatchService.class);
+
+    /**
+     * Number of 64-developer words of the candidates bitset scored by a single fork/join task.
+     */
+    private static final int WORDS_PER_TASK = 64;
+
+    private final ProjectRepository projectRepository;
+
+    private final SkillIndexService skillIndexService;
+
+    private final MatchResultService matchResultService;
+
+    private final Executor taskExecutor;
+
+    private final ForkJoinPool pool;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicInteger projectsTotal = new AtomicInteger();
+
+    private final AtomicInteger projectsDone = new AtomicInteger();
+
+    private volatile double pairsPerSecond;
+
+    private final Counter projectsCounter;
+
+    private final Counter pairsCounter;
+
+    private final Counter resultsCounter;
+
+    private final Timer durationTimer;
+
+    public MatchingBatchService(
+        ProjectRepository projectRepository,
+        SkillIndexService skillIndexService,
+        MatchResultService matchResultService,
+        @Qualifier("taskExecutor") Executor taskExecutor,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        this.projectRepository = projectRepository;
+        this.skillIndexService = skillIndexService;
+        this.matchResultService = matchResultService;
+        this.taskExecutor = taskExecutor;
+        int parallelism = applicationProperties.getMatching().getBatchParallelism();
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.projectsCounter = Counter.builder(METER_PREFIX + "projects")
+            .baseUnit("projects")
+            .description("Number of projects scored by the matching batch")
+            .register(registry);
+        this.pairsCounter = Counter.builder(METER_PREFIX + "pairs")
+            .baseUnit("pairs")
+            .description("Number of (project, developer) pairs scored by the matching batch")
+            .register(registry);
+        this.resultsCounter = Counter.builder(METER_PREFIX + "results")
+            .baseUnit("rows")
+            .description("Number of match results written by the matching batch")
+            .register(registry);
+        this.durationTimer = Timer.builder(METER_PREFIX + "duration").description("Duration of the matching batch runs").register(registry);
+        Gauge.builder(METER_PREFIX + "progress", this, MatchingBatchService::getProgress)
+            .description("Ratio of the open projects scored by the current matching batch run")
+            .register(registry);
+        Gauge.builder(METER_PREFIX + "throughput", this, service -> service.pairsPerSecond)
+            .baseUnit("pairs/s")
+            .description("Pairs scored per second by the current or last matching batch run")
+            .register(registry);
+    }
+
+    /**
+     * Recompute the matches of the open projects every night.
+     * <p>
+     * This is scheduled to get fired at the time set by {@code application.matching.batch-cron}.
+     */
+    @Scheduled(cron = "${application.matching.batch-cron:0 0 2 * * ?}")
+    public void scheduledRecompute() {
+        if (!recomputeOpenProjects()) {
+            LOG.warn("Skipping scheduled matching batch, a run is already in progress");
+        }
+    }
+
+    /**
+     * Start recomputing the matches of the open projects in the background.
+     *
+     * @return {@code false} if a run is already in progress.
+     */
+    public boolean startRecompute() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            taskExecutor.execute(this::run);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if a run is in progress.
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * @return the ratio of the open projects scored by the current run, {@code 1} when idle.
+     */
+    public double getProgress() {
+        int total = projectsTotal.get();
+        return total == 0 ? 1d : (double) projectsDone.get() / total;
+    }
+
+    /**
+     * Recompute the technical match of every open project against the whole roster.
+     *
+     * @return {@code false} if a run is already in progress.
+     */
+    public boolean recomputeOpenProjects() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        run();
+        return true;
+    }
+
+    private void run() {
+        try {
+            durationTimer.record(this::recompute);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void recompute() {
+        Map<Long, List<Long>> requiredTechnologies = new LinkedHashMap<>();
+        for (ProjectRepository.RequiredTechnology row : projectRepository.findRequiredTechnologiesByStatus(OPEN_STATUS)) {
+            List<Long> technologyIds = requiredTechnologies.computeIfAbsent(row.getProjectId(), id -> new ArrayList<>());
+            if (row.getTechnologyId() != null) {
+                technologyIds.add(row.getTechnologyId());
+            }
+        }
+        LOG.info("Starting matching batch for {} open projects", requiredTechnologies.size());
+        projectsDone.set(0);
+        projectsTotal.set(requiredTechnologies.size());
+        pairsPerSecond = 0;
+        long start = System.nanoTime();
+        long pairs = 0;
+        for (Map.Entry<Long, List<Long>> project : requiredTechnologies.entrySet()) {
+            try {
+                pairs += recomputeProject(project.getKey(), project.getValue());
+            } catch (RuntimeException e) {
+                LOG.warn("Could not score the matches of Project : {}: {}", project.getKey(), e.getMessage());
+            }
+            projectsCounter.increment();
+            projectsDone.incrementAndGet();
+            pairsPerSecond = pairs * 1_000_000_000d / Math.max(1, System.nanoTime() - start);
+        }
+        LOG.info(
+            "Finished matching batch: {} projects, {} pairs scored, {} pairs/s",
+            requiredTechnologies.size(),
+            pairs,
+            Math.round(pairsPerSecond)
+        );
+    }
+
+    /**
+     * Recompute the technical match of a project against the whole roster, and replace its match results.
+     *
+     * @param projectId the id of the project.
+     * @param technologyIds the ids of the technologies required by the project.
+     * @return the number of scored developers.
+     */
+    public int recomputeProject(Long projectId, Collection<Long> technologyIds) {
+        SkillIndex index = skillIndexService.getIndex();
+        int required = technologyIds.size();
+        long[] query = index.encode(technologyIds);
+        long[] candidates = index.candidates(query);
+        ScoredDevelopers scored = pool.invoke(new ScoreTask(index, query, candidates, 0, candidates.length));
+        long[] developerIds = new long[scored.size()];
+        BigDecimal[] technicalMatches = new BigDecimal[scored.size()];
+        BigDecimal[] byOverlap = new BigDecimal[required + 1];
+        for (int i = 0; i < developerIds.length; i++) {
+            int overlap = scored.overlapAt(i);
+            if (byOverlap[overlap] == null) {
+                byOverlap[overlap] = MatchingEngineService.technicalMatch(overlap, required);
+            }
+            developerIds[i] = scored.idAt(i);
+            technicalMatches[i] = byOverlap[overlap];
+        }
+        int written = matchResultService.replaceTechnicalMatches(projectId, developerIds, technicalMatches, LocalDateTime.now().toString());
+        pairsCounter.increment(developerIds.length);
+        resultsCounter.increment(written);
+        return developerIds.length;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Fork/join task scoring a range of words of a candidates bitset.
+     */
+    private static class ScoreTask extends RecursiveTask<ScoredDevelopers> {
+
+        private final transient SkillIndex index;
+
+        private final long[] query;
+
+        private final long[] candidates;
+
+        private final int fromWord;
+
+        private final int toWord;
+
+        ScoreTask(SkillIndex index, long[] query, long[] candidates, int fromWord, int toWord) {
+            this.index = index;
+            this.query = query;
+            this.candidates = candidates;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected ScoredDevelopers compute() {
+            if (toWord - fromWord <= WORDS_PER_TASK) {
+                ScoredDevelopers scored = new ScoredDevelopers();
+                index.forEachOverlap(query, candidates, fromWord, toWord, (developerId, overlap, experienceRank) ->
+                    scored.add(developerId, overlap)
+                );
+                return scored;
+            }
+            int middle = (fromWord + toWord) >>> 1;
+            ScoreTask left = new ScoreTask(index, query, candidates, fromWord, middle);
+            left.fork();
+            ScoredDevelopers right = new ScoreTask(index, query, candidates, middle, toWord).compute();
+            return left.join().addAll(right);
+        }
+    }
+}
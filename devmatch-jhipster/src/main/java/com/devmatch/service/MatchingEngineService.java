@@ -0,0 +1,224 @@
+package com.devmatch.service;
+
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Project;
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.ProjectRepository;
+import com.devmatch.service.dto.MatchCandidateDTO;
+import com.devmatch.service.matching.IdfSkillMatrix;
+import com.devmatch.service.matching.ScoringKernel;
+import com.devmatch.service.matching.SkillIndex;
+import com.devmatch.service.matching.TopKHeap;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service computing the technical match between a {@link Project} and the developer roster.
+ * <p>
+ * The technical match is the share of the project's required technologies that a developer
+ * has among their skills, expressed as a percentage. Developers sharing no technology with
+ * the project are not candidates: only the union of the {@link SkillIndex} posting lists of the
+ * required technologies is scored, on the developers' skill bitsets, and entities are only loaded
+ * for the returned candidates.
+ * <p>
+ * Developers can also be ranked by weighted match, where each required technology weighs its inverse frequency
+ * across the roster, see {@link IdfSkillMatrix}, or shortlisted by semantic similarity of their profiles with the
+ * project description, see {@link SemanticIndexService}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MatchingEngineService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MatchingEngineService.class);
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final ProjectRepository projectRepository;
+
+    private final DeveloperRepository developerRepository;
+
+    private final SkillIndexService skillIndexService;
+
+    private final SemanticIndexService semanticIndexService;
+
+    private final ScoringKernel scoringKernel = ScoringKernel.create();
+
+    public MatchingEngineService(
+        ProjectRepository projectRepository,
+        DeveloperRepository developerRepository,
+        SkillIndexService skillIndexService,
+        SemanticIndexService semanticIndexService
+    ) {
+        this.projectRepository = projectRepository;
+        this.developerRepository = developerRepository;
+        this.skillIndexService = skillIndexService;
+        this.semanticIndexService = semanticIndexService;
+        LOG.info("Scoring weighted matches with {}", scoringKernel);
+    }
+
+    /**
+     * Get the best {@code k} developers for a project, ordered by decreasing technical match.
+     * <p>
+     * Ties are broken by decreasing experience level, then by developer id. Only the best
+     * {@code k} candidates are kept while scoring, in a {@link TopKHeap}.
+     *
+     * @param projectId the id of the project.
+     * @param k the maximum number of candidates to return.
+     * @return the ranked candidates, or empty if the project does not exist.
+     */
+    public Optional<List<MatchCandidateDTO>> findTopMatches(Long projectId, int k) {
+        LOG.debug("Request to get top {} matches for Project : {}", k, projectId);
+        return projectRepository.findOneWithEagerRelationships(projectId).map(project -> rank(project, k));
+    }
+
+    /**
+     * Get the best {@code k} developers for a project, ordered by decreasing weighted match.
+     * <p>
+     * Ties are broken by decreasing experience level, then by developer id.
+     *
+     * @param projectId the id of the project.
+     * @param k the maximum number of candidates to return.
+     * @return the ranked candidates, or empty if the project does not exist.
+     */
+    public Optional<List<MatchCandidateDTO>> findTopWeightedMatches(Long projectId, int k) {
+        LOG.debug("Request to get top {} weighted matches for Project : {}", k, projectId);
+        return projectRepository.findOneWithEagerRelationships(projectId).map(project -> rankWeighted(project, k));
+    }
+
+    /**
+     * Get the {@code k} developers whose profile is semantically the closest to a project description, ordered by
+     * decreasing similarity.
+     *
+     * @param projectId the id of the project.
+     * @param k the maximum number of candidates to return.
+     * @return the ranked candidates, or empty if the project does not exist.
+     */
+    public Optional<List<MatchCandidateDTO>> findSemanticMatches(Long projectId, int k) {
+        LOG.debug("Request to get {} semantic matches for Project : {}", k, projectId);
+        return projectRepository.findOneWithEagerRelationships(projectId).map(project -> rankSemantic(project, k));
+    }
+
+    private List<MatchCandidateDTO> rank(Project project, int k) {
+        Set<Long> required = project.getRequiredTechnologies().stream().map(Technology::getId).collect(Collectors.toSet());
+        if (required.isEmpty() || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        SkillIndex skillIndex = skillIndexService.getIndex();
+        TopKHeap best = new TopKHeap(k);
+        skillIndex.forEachOverlap(skillIndex.encode(required), (developerId, overlap, experienceRank) ->
+            best.offer(overlap, experienceRank, developerId)
+        );
+        best.sortDescending();
+
+        Map<Long, Developer> developers = loadDevelopers(best);
+        List<MatchCandidateDTO> result = new ArrayList<>(best.size());
+        for (int i = 0; i < best.size(); i++) {
+            Developer developer = developers.get(best.idAt(i));
+            if (developer != null) {
+                result.add(toCandidate(developer, (int) best.scoreAt(i), required.size()));
+            }
+        }
+        return result;
+    }
+
+    private List<MatchCandidateDTO> rankWeighted(Project project, int k) {
+        Set<Long> required = project.getRequiredTechnologies().stream().map(Technology::getId).collect(Collectors.toSet());
+        if (required.isEmpty() || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        TopKHeap best = new TopKHeap(k);
+        skillIndexService
+            .getIdfSkillMatrix()
+            .score(required, scoringKernel, (developerId, weightedMatch, experienceRank) -> best.offer(weightedMatch, experienceRank, developerId));
+        best.sortDescending();
+
+        SkillIndex skillIndex = skillIndexService.getIndex();
+        long[] query = skillIndex.encode(required);
+        Map<Long, Developer> developers = loadDevelopers(best);
+        List<MatchCandidateDTO> result = new ArrayList<>(best.size());
+        for (int i = 0; i < best.size(); i++) {
+            Developer developer = developers.get(best.idAt(i));
+            if (developer != null) {
+                MatchCandidateDTO candidate = toCandidate(developer, skillIndex.overlap(developer.getId(), query), required.size());
+                candidate.setWeightedMatch(BigDecimal.valueOf(best.scoreAt(i)).setScale(2, RoundingMode.HALF_UP));
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    private List<MatchCandidateDTO> rankSemantic(Project project, int k) {
+        Map<Long, Float> similarities = semanticIndexService.findSimilarDevelopers(project.getDescription(), k);
+        if (similarities.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> required = project.getRequiredTechnologies().stream().map(Technology::getId).collect(Collectors.toSet());
+        SkillIndex skillIndex = skillIndexService.getIndex();
+        long[] query = skillIndex.encode(required);
+        Map<Long, Developer> developers = loadDevelopers(similarities.keySet());
+        List<MatchCandidateDTO> result = new ArrayList<>(similarities.size());
+        similarities.forEach((developerId, similarity) -> {
+            Developer developer = developers.get(developerId);
+            if (developer != null) {
+                MatchCandidateDTO candidate = toCandidate(developer, skillIndex.overlap(developerId, query), required.size());
+                candidate.setSemanticSimilarity(BigDecimal.valueOf(similarity).setScale(4, RoundingMode.HALF_UP));
+                result.add(candidate);
+            }
+        });
+        return result;
+    }
+
+    private Map<Long, Developer> loadDevelopers(TopKHeap best) {
+        List<Long> developerIds = new ArrayList<>(best.size());
+        for (int i = 0; i < best.size(); i++) {
+            developerIds.add(best.idAt(i));
+        }
+        return loadDevelopers(developerIds);
+    }
+
+    private Map<Long, Developer> loadDevelopers(Collection<Long> developerIds) {
+        return developerRepository.findAllById(developerIds).stream().collect(Collectors.toMap(Developer::getId, Function.identity()));
+    }
+
+    private MatchCandidateDTO toCandidate(Developer developer, int matched, int required) {
+        MatchCandidateDTO candidate = new MatchCandidateDTO();
+        candidate.setDeveloperId(developer.getId());
+        candidate.setDeveloperName(developer.getName());
+        candidate.setExperienceLevel(developer.getExperienceLevel());
+        candidate.setMatchedTechnologies(matched);
+        candidate.setRequiredTechnologies(required);
+        candidate.setTechnicalMatch(technicalMatch(matched, required));
+        return candidate;
+    }
+
+    /**
+     * Compute the technical match percentage, with the same precision as {@code MatchResult.technicalMatch}.
+     *
+     * @param matched the number of required technologies the developer has.
+     * @param required the number of technologies the project requires.
+     * @return the technical match, between 0 and 100.
+     */
+    static BigDecimal technicalMatch(int matched, int required) {
+        if (required == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return BigDecimal.valueOf(matched).multiply(ONE_HUNDRED).divide(BigDecimal.valueOf(required), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -1,14 +1,19 @@
 package com.devmatch.service;
 
 import com.devmatch.domain.Project;
+import com.devmatch.repository.EntityVersion;
 import com.devmatch.repository.ProjectRepository;
 import com.devmatch.service.dto.ProjectDTO;
+import com.devmatch.service.event.ProjectChangedEvent;
 import com.devmatch.service.mapper.ProjectMapper;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +30,20 @@ public class ProjectService {
 
     private final ProjectMapper projectMapper;
 
-    public ProjectService(ProjectRepository projectRepository, ProjectMapper projectMapper) {
+    private final MatchResultService matchResultService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ProjectService(
+        ProjectRepository projectRepository,
+        ProjectMapper projectMapper,
+        MatchResultService matchResultService,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.projectRepository = projectRepository;
         this.projectMapper = projectMapper;
+        this.matchResultService = matchResultService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -40,6 +56,7 @@ public class ProjectService {
         LOG.debug("Request to save Project : {}", projectDTO);
         Project project = projectMapper.toEntity(projectDTO);
         project = projectRepository.save(project);
+        applicationEventPublisher.publishEvent(new ProjectChangedEvent(project.getId()));
         return projectMapper.toDto(project);
     }
 
@@ -52,12 +69,15 @@ public class ProjectService {
     public ProjectDTO update(ProjectDTO projectDTO) {
         LOG.debug("Request to update Project : {}", projectDTO);
         Project project = projectMapper.toEntity(projectDTO);
-        project = projectRepository.save(project);
+        project = projectRepository.saveAndFlush(project);
+        applicationEventPublisher.publishEvent(new ProjectChangedEvent(project.getId()));
         return projectMapper.toDto(project);
     }
 
     /**
      * Partially update a project.
+     * <p>
+     * When the DTO has a version, the update is rejected unless it is the version of the stored project.
      *
      * @param projectDTO the entity to update partially.
      * @return the persisted entity.
@@ -68,33 +88,79 @@ public class ProjectService {
         return projectRepository
             .findById(projectDTO.getId())
             .map(existingProject -> {
+                if (projectDTO.getVersion() != null && projectDTO.getVersion() != existingProject.getVersion()) {
+                    throw new ObjectOptimisticLockingFailureException(Project.class, existingProject.getId());
+                }
                 projectMapper.partialUpdate(existingProject, projectDTO);
 
                 return existingProject;
             })
-            .map(projectRepository::save)
+            .map(projectRepository::saveAndFlush)
+            .map(project -> {
+                applicationEventPublisher.publishEvent(new ProjectChangedEvent(project.getId()));
+                return project;
+            })
             .map(projectMapper::toDto);
     }
 
     /**
-     * Get all the projects.
+     * Get a slice of the projects, without counting them.
      *
      * @param pageable the pagination information.
      * @return the list of entities.
      */
     @Transactional(readOnly = true)
-    public Page<ProjectDTO> findAll(Pageable pageable) {
-        LOG.debug("Request to get all Projects");
-        return projectRepository.findAll(pageable).map(projectMapper::toDto);
+    public Slice<ProjectDTO> findSlice(Pageable pageable) {
+        LOG.debug("Request to get a slice of Projects");
+        return projectRepository.findSliceBy(pageable).map(projectMapper::toDto);
     }
 
     /**
-     * Get all the projects with eager load of many-to-many relationships.
+     * Get a slice of the projects with eager load of many-to-many relationships, without counting them.
      *
+     * @param pageable the pagination information.
      * @return the list of entities.
      */
-    public Page<ProjectDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return projectRepository.findAllWithEagerRelationships(pageable).map(projectMapper::toDto);
+    @Transactional(readOnly = true)
+    public Slice<ProjectDTO> findSliceWithEagerRelationships(Pageable pageable) {
+        LOG.debug("Request to get a slice of Projects with their required technologies");
+        return projectRepository.findSliceWithEagerRelationships(pageable).map(projectMapper::toDto);
+    }
+
+    /**
+     * Get the version of one project by id, without loading it.
+     *
+     * @param id the id of the entity.
+     * @return the version of the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(Long id) {
+        LOG.debug("Request to get the version of Project : {}", id);
+        return projectRepository.findVersionById(id);
+    }
+
+    /**
+     * Get the ids and versions of a page of projects, in the order of {@link #findSlice(Pageable)}.
+     *
+     * @param pageable the pagination information.
+     * @return the ids and versions.
+     */
+    @Transactional(readOnly = true)
+    public Page<EntityVersion> findVersions(Pageable pageable) {
+        LOG.debug("Request to get the versions of a page of Projects");
+        return projectRepository.findVersions(pageable);
+    }
+
+    /**
+     * Get the ids and versions of a slice of projects, without counting them.
+     *
+     * @param pageable the pagination information.
+     * @return the ids and versions.
+     */
+    @Transactional(readOnly = true)
+    public Slice<EntityVersion> findVersionSlice(Pageable pageable) {
+        LOG.debug("Request to get the versions of a slice of Projects");
+        return projectRepository.findVersionSlice(pageable);
     }
 
     /**
@@ -116,6 +182,8 @@ public class ProjectService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Project : {}", id);
+        matchResultService.deleteByProject(id);
         projectRepository.deleteById(id);
+        applicationEventPublisher.publishEvent(new ProjectChangedEvent(id));
     }
 }
@@ -0,0 +1,267 @@
+package com.devmatch.service;
+
+import static com.devmatch.service.TransactionUtils.afterCommit;
+
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Experience;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.ExperienceRepository;
+import com.devmatch.service.ai.EmbeddingProvider;
+import com.devmatch.service.event.DeveloperChangedEvent;
+import com.devmatch.service.matching.HnswIndex;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service maintaining the in-memory {@link HnswIndex} of the {@link Developer} profile embeddings.
+ * <p>
+ * A profile is the bio, the motivation and the experience descriptions of a developer, embedded by the
+ * {@link EmbeddingProvider}. The index is loaded from the database on first use, then kept up to date by the
+ * {@link DeveloperChangedEvent}s, and rebuilt in the background once it holds more replaced profiles than live ones.
+ * <p>
+ * A rebuild embeds every profile into a new index while the current one keeps serving searches, then swaps it in;
+ * the changes made while rebuilding are recorded and replayed onto the new index before the swap.
+ * <p>
+ * It shortlists the developers semantically closest to a project description, before they are sent to the
+ * expensive AI affinity step.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SemanticIndexService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SemanticIndexService.class);
+
+    private static final long SEED = 42L;
+
+    private final DeveloperRepository developerRepository;
+
+    private final ExperienceRepository experienceRepository;
+
+    private final EmbeddingProvider embeddingProvider;
+
+    private final ApplicationProperties.Ai ai;
+
+    private final Executor taskExecutor;
+
+    private final Object changeLock = new Object();
+
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private volatile HnswIndex index;
+
+    private List<Consumer<HnswIndex>> pendingChanges;
+
+    public SemanticIndexService(
+        DeveloperRepository developerRepository,
+        ExperienceRepository experienceRepository,
+        EmbeddingProvider embeddingProvider,
+        ApplicationProperties applicationProperties,
+        @Qualifier("taskExecutor") Executor taskExecutor
+    ) {
+        this.developerRepository = developerRepository;
+        this.experienceRepository = experienceRepository;
+        this.embeddingProvider = embeddingProvider;
+        this.ai = applicationProperties.getAi();
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Get the developers whose profile is the most similar to a text.
+     *
+     * @param text the text, such as a project description.
+     * @param k the maximum number of developers.
+     * @return the cosine similarity of the developers with the text, by developer id, most similar first.
+     */
+    public Map<Long, Float> findSimilarDevelopers(String text, int k) {
+        Map<Long, Float> similarities = new LinkedHashMap<>();
+        float[] query = embeddingProvider.embed(text);
+        if (isZero(query)) {
+            return similarities;
+        }
+        getIndex().search(query, k, Math.max(ai.getHnswEfSearch(), k), similarities::put);
+        return similarities;
+    }
+
+    /**
+     * Get the index, loading it from the database if needed.
+     *
+     * @return the index.
+     */
+    public HnswIndex getIndex() {
+        HnswIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = load();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Reload the whole index from the database, and swap it in.
+     */
+    public synchronized void rebuild() {
+        load();
+    }
+
+    /**
+     * Reload the whole index from the database in the background, unless a reload is already waiting to start.
+     */
+    public void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            LOG.debug("Scheduling a rebuild of the developer profile embeddings index");
+            taskExecutor.execute(() -> {
+                rebuildScheduled.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * Embed the profile of a changed developer again.
+     *
+     * @param event the change event.
+     */
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (!isIndexing()) {
+            return;
+        }
+        Long developerId = event.getDeveloperId();
+        Developer developer = developerRepository.findById(developerId).orElse(null);
+        if (developer == null) {
+            apply(index -> index.remove(developerId));
+            return;
+        }
+        List<String> experiences = experienceRepository
+            .findAllByDeveloperIdIn(List.of(developerId))
+            .stream()
+            .map(Experience::getDescription)
+            .toList();
+        float[] embedding = embed(profile(developer.getBio(), developer.getMotivation(), experiences));
+        apply(index -> put(index, developerId, embedding));
+    }
+
+    /**
+     * Remove a developer from the index once the current transaction commits.
+     *
+     * @param developerId the id of the deleted developer.
+     */
+    public void remove(Long developerId) {
+        afterCommit(() -> apply(index -> index.remove(developerId)));
+    }
+
+    private boolean isIndexing() {
+        synchronized (changeLock) {
+            return index != null || pendingChanges != null;
+        }
+    }
+
+    /**
+     * Apply a change to the current index, and record it for the index being loaded, if any.
+     */
+    private void apply(Consumer<HnswIndex> change) {
+        HnswIndex current;
+        synchronized (changeLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            current = index;
+            if (current != null) {
+                change.accept(current);
+            }
+        }
+        if (current != null && current.deletedCount() > Math.max(current.size(), ai.getShortlistSize())) {
+            scheduleRebuild();
+        }
+    }
+
+    private HnswIndex load() {
+        LOG.debug("Loading developer profile embeddings");
+        synchronized (changeLock) {
+            pendingChanges = new ArrayList<>();
+        }
+        HnswIndex loaded = new HnswIndex(embeddingProvider.dimension(), ai.getHnswM(), ai.getHnswEfConstruction(), SEED);
+        try {
+            Map<Long, List<String>> experiences = new HashMap<>();
+            for (ExperienceRepository.ExperienceDescription experience : experienceRepository.findAllDescriptions()) {
+                experiences.computeIfAbsent(experience.getDeveloperId(), id -> new ArrayList<>()).add(experience.getDescription());
+            }
+            for (DeveloperRepository.ProfileText profile : developerRepository.findAllProfileTexts()) {
+                List<String> descriptions = experiences.getOrDefault(profile.getDeveloperId(), List.of());
+                put(loaded, profile.getDeveloperId(), embed(profile(profile.getBio(), profile.getMotivation(), descriptions)));
+            }
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+        synchronized (changeLock) {
+            pendingChanges.forEach(change -> change.accept(loaded));
+            LOG.debug(
+                "Indexed profile embeddings of {} developers, replaying {} changes made while loading",
+                loaded.size(),
+                pendingChanges.size()
+            );
+            pendingChanges = null;
+            index = loaded;
+        }
+        return loaded;
+    }
+
+    private float[] embed(String profile) {
+        float[] embedding = embeddingProvider.embed(profile);
+        return isZero(embedding) ? null : embedding;
+    }
+
+    private static void put(HnswIndex index, Long developerId, float[] embedding) {
+        if (embedding == null) {
+            index.remove(developerId);
+        } else {
+            index.put(developerId, embedding);
+        }
+    }
+
+    private static String profile(String bio, String motivation, List<String> experiences) {
+        StringBuilder profile = new StringBuilder();
+        for (String text : List.of(nullToEmpty(bio), nullToEmpty(motivation))) {
+            profile.append(text).append('\n');
+        }
+        experiences.forEach(experience -> profile.append(nullToEmpty(experience)).append('\n'));
+        return profile.toString();
+    }
+
+    private static String nullToEmpty(String text) {
+        return text == null ? "" : text;
+    }
+
+    private static boolean isZero(float[] vector) {
+        for (float value : vector) {
+            if (value != 0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,190 @@
+package com.devmatch.service;
+
+import static com.devmatch.service.TransactionUtils.afterCommit;
+
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.service.matching.ExperienceLevels;
+import com.devmatch.service.matching.IdfSkillMatrix;
+import com.devmatch.service.matching.SkillIndex;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service maintaining the in-memory {@link SkillIndex} of {@link Developer} skills.
+ * <p>
+ * The index is loaded from the database when the application starts, then kept up to date by
+ * {@link DeveloperService} and {@link TechnologyService}. Updates are applied once the
+ * surrounding transaction commits, so that rolled back changes never reach the index.
+ * <p>
+ * A load fills a new index while the current one keeps serving, then swaps it in; the changes committed while
+ * loading are recorded and replayed onto the new index before the swap, so that none is lost. Readers holding the
+ * previous index, such as running matching batches, keep a consistent view of it.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SkillIndexService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SkillIndexService.class);
+
+    private final DeveloperRepository developerRepository;
+
+    private final Object changeLock = new Object();
+
+    private final Object matrixLock = new Object();
+
+    private volatile SkillIndex skillIndex;
+
+    private List<Consumer<SkillIndex>> pendingChanges;
+
+    private volatile IndexedMatrix idfSkillMatrix;
+
+    public SkillIndexService(DeveloperRepository developerRepository) {
+        this.developerRepository = developerRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        getIndex();
+    }
+
+    /**
+     * Get the skill index, loading it from the database if needed.
+     *
+     * @return the skill index.
+     */
+    public SkillIndex getIndex() {
+        SkillIndex index = skillIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = skillIndex;
+                if (index == null) {
+                    index = load();
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Get the IDF-weighted skill matrix of the index, rebuilding it if the index changed since it was built.
+     * <p>
+     * The matrix is built once per version of the index: concurrent callers wait for the one being built.
+     *
+     * @return the skill matrix.
+     */
+    public IdfSkillMatrix getIdfSkillMatrix() {
+        SkillIndex index = getIndex();
+        IndexedMatrix matrix = idfSkillMatrix;
+        if (matrix == null || !matrix.isCurrent(index)) {
+            synchronized (matrixLock) {
+                matrix = idfSkillMatrix;
+                if (matrix == null || !matrix.isCurrent(index)) {
+                    matrix = new IndexedMatrix(index, index.idfSkillMatrix());
+                    idfSkillMatrix = matrix;
+                }
+            }
+        }
+        return matrix.matrix();
+    }
+
+    /**
+     * Reload the whole index from the database, and swap it in.
+     */
+    public synchronized void rebuild() {
+        load();
+    }
+
+    /**
+     * Index the skills of a developer once the current transaction commits.
+     *
+     * @param developer the saved developer.
+     */
+    public void index(Developer developer) {
+        Long developerId = developer.getId();
+        int experienceRank = ExperienceLevels.rank(developer.getExperienceLevel());
+        List<Long> technologyIds = developer.getSkills().stream().map(Technology::getId).toList();
+        afterCommit(() -> apply(index -> index.put(developerId, experienceRank, technologyIds)));
+    }
+
+    /**
+     * Remove a developer from the index once the current transaction commits.
+     *
+     * @param developerId the id of the deleted developer.
+     */
+    public void remove(Long developerId) {
+        afterCommit(() -> apply(index -> index.remove(developerId)));
+    }
+
+    /**
+     * Remove a technology from the index once the current transaction commits.
+     *
+     * @param technologyId the id of the deleted technology.
+     */
+    public void removeTechnology(Long technologyId) {
+        afterCommit(() -> apply(index -> index.removeTechnology(technologyId)));
+    }
+
+    /**
+     * Apply a committed change to the current index, and record it for the index being loaded, if any.
+     */
+    private void apply(Consumer<SkillIndex> change) {
+        synchronized (changeLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            SkillIndex index = skillIndex;
+            if (index != null) {
+                change.accept(index);
+            }
+        }
+    }
+
+    private SkillIndex load() {
+        LOG.debug("Loading developer skill index");
+        synchronized (changeLock) {
+            pendingChanges = new ArrayList<>();
+        }
+        SkillIndex loaded = new SkillIndex();
+        try {
+            Map<Long, Collection<Long>> skillsByDeveloper = new HashMap<>();
+            Map<Long, Integer> experienceRanks = new HashMap<>();
+            for (DeveloperRepository.SkillLink link : developerRepository.findAllSkillLinks()) {
+                skillsByDeveloper.computeIfAbsent(link.getDeveloperId(), id -> new ArrayList<>()).add(link.getTechnologyId());
+                experienceRanks.computeIfAbsent(link.getDeveloperId(), id -> ExperienceLevels.rank(link.getExperienceLevel()));
+            }
+            skillsByDeveloper.forEach((developerId, technologyIds) ->
+                loaded.put(developerId, experienceRanks.get(developerId), technologyIds)
+            );
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+        synchronized (changeLock) {
+            pendingChanges.forEach(change -> change.accept(loaded));
+            LOG.debug("Indexed skills of {} developers, replaying {} changes made while loading", loaded.size(), pendingChanges.size());
+            pendingChanges = null;
+            skillIndex = loaded;
+        }
+        return loaded;
+    }
+
+    private record IndexedMatrix(SkillIndex index, IdfSkillMatrix matrix) {
+        private boolean isCurrent(SkillIndex current) {
+            return index == current && matrix.version() == current.version();
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.devmatch.service;
 
 import com.devmatch.domain.Technology;
+import com.devmatch.repository.EntityVersion;
 import com.devmatch.repository.TechnologyRepository;
 import com.devmatch.service.dto.TechnologyDTO;
+import com.devmatch.service.event.TechnologyChangedEvent;
 import com.devmatch.service.mapper.TechnologyMapper;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +30,24 @@ public class TechnologyService {
 
     private final TechnologyMapper technologyMapper;
 
-    public TechnologyService(TechnologyRepository technologyRepository, TechnologyMapper technologyMapper) {
+    private final SkillIndexService skillIndexService;
+
+    private final KeywordExtractionService keywordExtractionService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public TechnologyService(
+        TechnologyRepository technologyRepository,
+        TechnologyMapper technologyMapper,
+        SkillIndexService skillIndexService,
+        KeywordExtractionService keywordExtractionService,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.technologyRepository = technologyRepository;
         this.technologyMapper = technologyMapper;
+        this.skillIndexService = skillIndexService;
+        this.keywordExtractionService = keywordExtractionService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -40,6 +60,8 @@ public class TechnologyService {
         LOG.debug("Request to save Technology : {}", technologyDTO);
         Technology technology = technologyMapper.toEntity(technologyDTO);
         technology = technologyRepository.save(technology);
+        keywordExtractionService.invalidate();
+        applicationEventPublisher.publishEvent(new TechnologyChangedEvent(technology.getId()));
         return technologyMapper.toDto(technology);
     }
 
@@ -52,12 +74,16 @@ public class TechnologyService {
     public TechnologyDTO update(TechnologyDTO technologyDTO) {
         LOG.debug("Request to update Technology : {}", technologyDTO);
         Technology technology = technologyMapper.toEntity(technologyDTO);
-        technology = technologyRepository.save(technology);
+        technology = technologyRepository.saveAndFlush(technology);
+        keywordExtractionService.invalidate();
+        applicationEventPublisher.publishEvent(new TechnologyChangedEvent(technology.getId()));
         return technologyMapper.toDto(technology);
     }
 
     /**
      * Partially update a technology.
+     * <p>
+     * When the DTO has a version, the update is rejected unless it is the version of the stored technology.
      *
      * @param technologyDTO the entity to update partially.
      * @return the persisted entity.
@@ -68,24 +94,67 @@ public class TechnologyService {
         return technologyRepository
             .findById(technologyDTO.getId())
             .map(existingTechnology -> {
+                if (technologyDTO.getVersion() != null && technologyDTO.getVersion() != existingTechnology.getVersion()) {
+                    throw new ObjectOptimisticLockingFailureException(Technology.class, existingTechnology.getId());
+                }
                 technologyMapper.partialUpdate(existingTechnology, technologyDTO);
 
                 return existingTechnology;
             })
-            .map(technologyRepository::save)
-            .map(technologyMapper::toDto);
+            .map(technologyRepository::saveAndFlush)
+            .map(technology -> {
+                keywordExtractionService.invalidate();
+                applicationEventPublisher.publishEvent(new TechnologyChangedEvent(technology.getId()));
+                return technologyMapper.toDto(technology);
+            });
     }
 
     /**
-     * Get all the technologies.
+     * Get a slice of the technologies, without counting them.
      *
      * @param pageable the pagination information.
      * @return the list of entities.
      */
     @Transactional(readOnly = true)
-    public Page<TechnologyDTO> findAll(Pageable pageable) {
-        LOG.debug("Request to get all Technologies");
-        return technologyRepository.findAll(pageable).map(technologyMapper::toDto);
+    public Slice<TechnologyDTO> findSlice(Pageable pageable) {
+        LOG.debug("Request to get a slice of Technologies");
+        return technologyRepository.findSliceBy(pageable).map(technologyMapper::toDto);
+    }
+
+    /**
+     * Get the version of one technology by id, without loading it.
+     *
+     * @param id the id of the entity.
+     * @return the version of the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(Long id) {
+        LOG.debug("Request to get the version of Technology : {}", id);
+        return technologyRepository.findVersionById(id);
+    }
+
+    /**
+     * Get the ids and versions of a page of technologies, in the order of {@link #findSlice(Pageable)}.
+     *
+     * @param pageable the pagination information.
+     * @return the ids and versions.
+     */
+    @Transactional(readOnly = true)
+    public Page<EntityVersion> findVersions(Pageable pageable) {
+        LOG.debug("Request to get the versions of a page of Technologies");
+        return technologyRepository.findVersions(pageable);
+    }
+
+    /**
+     * Get the ids and versions of a slice of technologies, without counting them.
+     *
+     * @param pageable the pagination information.
+     * @return the ids and versions.
+     */
+    @Transactional(readOnly = true)
+    public Slice<EntityVersion> findVersionSlice(Pageable pageable) {
+        LOG.debug("Request to get the versions of a slice of Technologies");
+        return technologyRepository.findVersionSlice(pageable);
     }
 
     /**
@@ -108,5 +177,8 @@ public class TechnologyService {
     public void delete(Long id) {
         LOG.debug("Request to delete Technology : {}", id);
         technologyRepository.deleteById(id);
+        skillIndexService.removeTechnology(id);
+        keywordExtractionService.invalidate();
+        applicationEventPublisher.publishEvent(new TechnologyChangedEvent(id));
     }
 }
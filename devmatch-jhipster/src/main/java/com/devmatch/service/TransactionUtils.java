@@ -0,0 +1,34 @@
+package com.devmatch.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class for the services keeping in-memory state in sync with the database.
+ */
+final class TransactionUtils {
+
+    private TransactionUtils() {}
+
+    /**
+     * Run an action once the current transaction commits, so that rolled back changes never reach in-memory state.
+     * <p>
+     * The action is dropped if the transaction rolls back, and run right away if no transaction is active.
+     *
+     * @param action the action.
+     */
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+            );
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.devmatch.service.ai;
+
+/**
+ * Model scoring the affinity of a developer with a project, such as a large language model.
+ * <p>
+ * Implementations may block for a long time; they are called concurrently, at most
+ * {@code application.ai.max-concurrency} calls at once.
+ */
+public interface AffinityModel {
+    /**
+     * Score the affinity of a developer with a project.
+     *
+     * @param request the project and developer to analyze.
+     * @return the affinity scores, from {@code 0} to {@code 100}.
+     */
+    AffinityScore analyze(AffinityRequest request);
+}
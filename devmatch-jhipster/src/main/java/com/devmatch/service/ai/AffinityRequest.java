@@ -0,0 +1,129 @@
+package com.devmatch.service.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The project and developer profiles sent to an {@link AffinityModel}.
+ */
+public class AffinityRequest {
+
+    private Long projectId;
+
+    private String projectName;
+
+    private String projectDescription;
+
+    private List<String> requiredTechnologies = new ArrayList<>();
+
+    private Long developerId;
+
+    private String developerName;
+
+    private String experienceLevel;
+
+    private String bio;
+
+    private String motivation;
+
+    private List<String> skills = new ArrayList<>();
+
+    private List<String> experiences = new ArrayList<>();
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public void setProjectName(String projectName) {
+        this.projectName = projectName;
+    }
+
+    public String getProjectDescription() {
+        return projectDescription;
+    }
+
+    public void setProjectDescription(String projectDescription) {
+        this.projectDescription = projectDescription;
+    }
+
+    public List<String> getRequiredTechnologies() {
+        return requiredTechnologies;
+    }
+
+    public void setRequiredTechnologies(List<String> requiredTechnologies) {
+        this.requiredTechnologies = requiredTechnologies;
+    }
+
+    public Long getDeveloperId() {
+        return developerId;
+    }
+
+    public void setDeveloperId(Long developerId) {
+        this.developerId = developerId;
+    }
+
+    public String getDeveloperName() {
+        return developerName;
+    }
+
+    public void setDeveloperName(String developerName) {
+        this.developerName = developerName;
+    }
+
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public void setExperienceLevel(String experienceLevel) {
+        this.experienceLevel = experienceLevel;
+    }
+
+    public String getBio() {
+        return bio;
+    }
+
+    public void setBio(String bio) {
+        this.bio = bio;
+    }
+
+    public String getMotivation() {
+        return motivation;
+    }
+
+    public void setMotivation(String motivation) {
+        this.motivation = motivation;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public List<String> getExperiences() {
+        return experiences;
+    }
+
+    public void setExperiences(List<String> experiences) {
+        this.experiences = experiences;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AffinityRequest{" +
+            "projectId=" + getProjectId() +
+            ", developerId=" + getDeveloperId() +
+            "}";
+    }
+}
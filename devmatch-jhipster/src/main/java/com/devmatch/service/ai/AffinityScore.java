@@ -0,0 +1,67 @@
+package com.devmatch.service.ai;
+
+/**
+ * The affinity of a developer with a project, as scored by an {@link AffinityModel}.
+ */
+public class AffinityScore {
+
+    private Integer technicalAffinity;
+
+    private Integer motivationalAffinity;
+
+    private Integer experienceRelevance;
+
+    private String comment;
+
+    public AffinityScore() {}
+
+    public AffinityScore(Integer technicalAffinity, Integer motivationalAffinity, Integer experienceRelevance, String comment) {
+        this.technicalAffinity = technicalAffinity;
+        this.motivationalAffinity = motivationalAffinity;
+        this.experienceRelevance = experienceRelevance;
+        this.comment = comment;
+    }
+
+    public Integer getTechnicalAffinity() {
+        return technicalAffinity;
+    }
+
+    public void setTechnicalAffinity(Integer technicalAffinity) {
+        this.technicalAffinity = technicalAffinity;
+    }
+
+    public Integer getMotivationalAffinity() {
+        return motivationalAffinity;
+    }
+
+    public void setMotivationalAffinity(Integer motivationalAffinity) {
+        this.motivationalAffinity = motivationalAffinity;
+    }
+
+    public Integer getExperienceRelevance() {
+        return experienceRelevance;
+    }
+
+    public void setExperienceRelevance(Integer experienceRelevance) {
+        this.experienceRelevance = experienceRelevance;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AffinityScore{" +
+            "technicalAffinity=" + getTechnicalAffinity() +
+            ", motivationalAffinity=" + getMotivationalAffinity() +
+            ", experienceRelevance=" + getExperienceRelevance() +
+            ", comment='" + getComment() + "'" +
+            "}";
+    }
+}
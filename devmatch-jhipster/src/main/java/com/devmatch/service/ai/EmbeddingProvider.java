@@ -0,0 +1,21 @@
+package com.devmatch.service.ai;
+
+/**
+ * Provider of text embeddings, dense vectors whose cosine similarity reflects the semantic similarity of texts.
+ * <p>
+ * Implementations must be thread-safe, and always return vectors of {@link #dimension()} elements.
+ */
+public interface EmbeddingProvider {
+    /**
+     * @return the dimension of the embeddings.
+     */
+    int dimension();
+
+    /**
+     * Compute the embedding of a text.
+     *
+     * @param text the text, possibly {@code null} or blank.
+     * @return the embedding, of unit length, or only zeros if the text has no content.
+     */
+    float[] embed(String text);
+}
@@ -0,0 +1,107 @@
+package com.devmatch.service.ai;
+
+import com.devmatch.config.ApplicationProperties;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local {@link EmbeddingProvider}, hashing the words, word bigrams and character trigrams of a text into a
+ * fixed number of buckets.
+ * <p>
+ * Each feature adds its weight to the bucket given by its hash, with a sign given by another bit of the hash so
+ * that collisions cancel out on average. Texts are lower-cased and stripped of their accents first, so that
+ * "Programación" and "programacion" are the same word. It needs no network nor model, and is deterministic: it is
+ * the default provider. Set {@code application.ai.embedding-provider} to select another one.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.ai", name = "embedding-provider", havingValue = "hashed-ngram", matchIfMissing = true)
+public class HashedNgramEmbeddingProvider implements EmbeddingProvider {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private static final float WORD_WEIGHT = 1f;
+
+    private static final float BIGRAM_WEIGHT = 0.5f;
+
+    private static final float TRIGRAM_WEIGHT = 0.25f;
+
+    private final int dimension;
+
+    public HashedNgramEmbeddingProvider(ApplicationProperties applicationProperties) {
+        int dimension = applicationProperties.getAi().getEmbeddingDimension();
+        if (dimension < 1) {
+            throw new IllegalArgumentException("dimension must be positive");
+        }
+        this.dimension = dimension;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimension];
+        if (text == null || text.isBlank()) {
+            return vector;
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+        String previous = null;
+        for (String word : SEPARATORS.split(normalized)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            add(vector, word, WORD_WEIGHT);
+            if (previous != null) {
+                add(vector, previous + ' ' + word, BIGRAM_WEIGHT);
+            }
+            String padded = '<' + word + '>';
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                add(vector, padded.substring(i, i + 3), TRIGRAM_WEIGHT);
+            }
+            previous = word;
+        }
+        normalize(vector);
+        return vector;
+    }
+
+    private void add(float[] vector, String feature, float weight) {
+        long hash = hash(feature);
+        int bucket = (int) Long.remainderUnsigned(hash, dimension);
+        vector[bucket] += (hash >>> 63) == 0 ? weight : -weight;
+    }
+
+    private static void normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] *= scale;
+            }
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the characters of a feature, with a final avalanche so that every bit depends on every character.
+     */
+    private static long hash(String feature) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < feature.length(); i++) {
+            hash ^= feature.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
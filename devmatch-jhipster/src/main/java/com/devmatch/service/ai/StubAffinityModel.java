@@ -0,0 +1,54 @@
+package com.devmatch.service.ai;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local {@link AffinityModel}, scoring profiles with simple keyword overlaps.
+ * <p>
+ * It needs no network nor model runtime, and is deterministic: it is the default model, used in development
+ * and tests. Set {@code application.ai.model} to select another one.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.ai", name = "model", havingValue = "stub", matchIfMissing = true)
+public class StubAffinityModel implements AffinityModel {
+
+    private static final int MIN_KEYWORD_LENGTH = 4;
+
+    @Override
+    public AffinityScore analyze(AffinityRequest request) {
+        Set<String> keywords = keywords(request.getProjectDescription());
+        return new AffinityScore(
+            percentage(lowerCase(request.getSkills()), lowerCase(request.getRequiredTechnologies())),
+            percentage(keywords(request.getMotivation()), keywords),
+            percentage(keywords(String.join(" ", request.getExperiences())), keywords),
+            "Local analysis based on keyword overlap"
+        );
+    }
+
+    private static int percentage(Set<String> found, Set<String> expected) {
+        if (expected.isEmpty()) {
+            return 0;
+        }
+        long matches = expected.stream().filter(found::contains).count();
+        return (int) (matches * 100 / expected.size());
+    }
+
+    private static Set<String> lowerCase(Collection<String> values) {
+        return values.stream().map(value -> value.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+    }
+
+    private static Set<String> keywords(String text) {
+        if (text == null) {
+            return Set.of();
+        }
+        return lowerCase(
+            Arrays.stream(text.split("[^\\p{L}\\p{N}+#]+")).filter(word -> word.length() >= MIN_KEYWORD_LENGTH).toList()
+        );
+    }
+}
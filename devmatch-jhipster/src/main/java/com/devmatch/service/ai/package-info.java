@@ -0,0 +1,4 @@
+/**
+ * Pluggable models scoring the affinity of a developer with a project, and embedding the texts of their profiles.
+ */
+package com.devmatch.service.ai;
@@ -0,0 +1,134 @@
+package com.devmatch.service.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer.
+ * <p>
+ * Slots are indexed by a sequence number masked with the power-of-two capacity, and each slot carries the sequence
+ * number it expects next, so that producers claim slots with a single compare-and-set and never block: an offer to a
+ * full buffer fails in constant time. Memory is {@code O(capacity)} whatever the number of offered elements.
+ * <p>
+ * {@link #offer(Object)} is thread-safe. {@link #poll()} and {@link #drain(int, ElementConsumer)} may be called by
+ * several threads, one at a time.
+ *
+ * @param <E> the type of the elements.
+ */
+public class AuditRingBuffer<E> {
+
+    private final int mask;
+
+    private final AtomicReferenceArray<E> elements;
+
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private volatile long head;
+
+    /**
+     * @param capacity the minimum number of elements held, rounded up to a power of two.
+     */
+    public AuditRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element to the buffer.
+     *
+     * @param element the element, not {@code null}.
+     * @return {@code false} if the buffer is full.
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("element must not be null");
+        }
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(slot, element);
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest element of the buffer.
+     *
+     * @return the element, {@code null} if the buffer is empty.
+     */
+    public synchronized E poll() {
+        int slot = (int) head & mask;
+        if (sequences.get(slot) != head + 1) {
+            return null;
+        }
+        E element = elements.get(slot);
+        elements.set(slot, null);
+        sequences.set(slot, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    /**
+     * Remove the oldest elements of the buffer, in order.
+     *
+     * @param max the maximum number of elements to remove.
+     * @param consumer the consumer of the removed elements.
+     * @return the number of removed elements.
+     */
+    public synchronized int drain(int max, ElementConsumer<? super E> consumer) {
+        int count = 0;
+        E element;
+        while (count < max && (element = poll()) != null) {
+            consumer.accept(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return the approximate number of elements in the buffer.
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, mask + 1L));
+    }
+
+    /**
+     * @return the maximum number of elements in the buffer.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Consumer of the drained elements.
+     *
+     * @param <E> the type of the elements.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<E> {
+        void accept(E element);
+    }
+}
@@ -0,0 +1,606 @@
+package com.devmatch.service.audit;
+
+import com.devmatch.domain.AuditHistory;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Immutable file of archived {@link AuditHistory} records, read through memory-mapped I/O.
+ * <p>
+ * Records are sorted by entity, then newest first, as the history of an entity is read, and stored in blocks of
+ * a fixed number of records, each block being compressed on its own. A sparse index holding the first and last
+ * record keys of each block is written at the end of the file and loaded in memory when the segment is opened, so
+ * that the history of an entity is found with a binary search over the blocks then by inflating the few blocks
+ * holding it; blocks, and whole segments, whose key range cannot hold the entity are never inflated.
+ * <p>
+ * As records are not sorted by id, an id index of the block of each record, sorted by id, is written after the blocks.
+ * It is searched in the mapped file, so that a lookup by id inflates a single block.
+ * <p>
+ * File layout: header ({@code magic}, {@code version}), compressed blocks, id index ({@code id}, {@code block}),
+ * footer (record count, id range, archival cutoff, newest modification date, id index offset, block index), trailer
+ * (footer offset, {@code magic}).
+ * <p>
+ * A segment is mapped as a single buffer, indexed by {@code int}: a segment may not exceed {@link #MAX_SIZE} bytes,
+ * which {@link #write} enforces and {@link #open} checks.
+ * <p>
+ * This class is thread-safe: the mapped file is never modified, and every read uses its own view of it. Once
+ * {@link #release released}, the reads started before go on with the buffer they hold, and later reads fail.
+ */
+public class AuditSegment {
+
+    /**
+     * Order of the records in a segment: by entity type and id, then newest first.
+     */
+    public static final Comparator<AuditHistory> ORDER = (left, right) -> Key.of(left).compareTo(Key.of(right));
+
+    /**
+     * Order of the history of an entity: newest first, then by decreasing id.
+     */
+    public static final Comparator<AuditHistory> NEWEST_FIRST = Comparator.comparing(
+        AuditHistory::getFechaModificacion,
+        Comparator.reverseOrder()
+    ).thenComparing(AuditHistory::getId, Comparator.reverseOrder());
+
+    /**
+     * Maximum size of a segment file, in bytes.
+     */
+    public static final long MAX_SIZE = Integer.MAX_VALUE;
+
+    private static final int MAGIC = 0x44415347;
+
+    private static final int VERSION = 2;
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private static final int ID_INDEX_ENTRY_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final Path path;
+
+    private final long size;
+
+    private volatile ByteBuffer mapped;
+
+    private final long recordCount;
+
+    private final long minId;
+
+    private final long maxId;
+
+    private final Instant cutoff;
+
+    private final Instant newest;
+
+    private final long idIndexOffset;
+
+    private final Key[] firstKeys;
+
+    private final Key[] lastKeys;
+
+    private final long[] offsets;
+
+    private final int[] compressedLengths;
+
+    private final int[] lengths;
+
+    private AuditSegment(Path path, ByteBuffer mapped) {
+        this.path = path;
+        this.mapped = mapped;
+        this.size = mapped.capacity();
+        ByteBuffer view = mapped.duplicate();
+        if (view.capacity() < HEADER_SIZE + TRAILER_SIZE || view.getInt(0) != MAGIC || view.getInt(view.capacity() - Integer.BYTES) != MAGIC) {
+            throw new IllegalArgumentException(path + " is not an audit segment");
+        }
+        if (view.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException(path + " has an unsupported version " + view.getInt(Integer.BYTES));
+        }
+        view.position(Math.toIntExact(view.getLong(view.capacity() - TRAILER_SIZE)));
+        this.recordCount = view.getLong();
+        this.minId = view.getLong();
+        this.maxId = view.getLong();
+        this.cutoff = readInstant(view);
+        this.newest = readInstant(view);
+        this.idIndexOffset = view.getLong();
+        int blocks = view.getInt();
+        this.firstKeys = new Key[blocks];
+        this.lastKeys = new Key[blocks];
+        this.offsets = new long[blocks];
+        this.compressedLengths = new int[blocks];
+        this.lengths = new int[blocks];
+        for (int i = 0; i < blocks; i++) {
+            firstKeys[i] = readKey(view);
+            lastKeys[i] = readKey(view);
+            offsets[i] = view.getLong();
+            compressedLengths[i] = view.getInt();
+            lengths[i] = view.getInt();
+        }
+    }
+
+    /**
+     * Open a segment.
+     *
+     * @param path the segment file.
+     * @return the segment, its index loaded and its file mapped.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a segment, or is larger than {@link #MAX_SIZE}.
+     */
+    public static AuditSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > MAX_SIZE) {
+                throw new IllegalArgumentException(path + " is larger than the " + MAX_SIZE + " bytes of a segment");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new AuditSegment(path, mapped);
+        }
+    }
+
+    /**
+     * Write records to a new segment, then open it.
+     * <p>
+     * The segment is written to a temporary file, synced, then moved to its path, so that a segment file is always
+     * complete.
+     *
+     * @param path the segment file, which must not exist.
+     * @param records the records, sorted by {@link #ORDER}.
+     * @param blockSize the number of records per compressed block.
+     * @param cutoff the date before which records were archived.
+     * @return the segment.
+     * @throws IOException if the file cannot be written.
+     * @throws IllegalArgumentException if the records are not sorted, or do not fit in {@link #MAX_SIZE} bytes.
+     */
+    public static AuditSegment write(Path path, List<AuditHistory> records, int blockSize, Instant cutoff) throws IOException {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be positive");
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        List<Key> keys = new ArrayList<>();
+        List<Key> lastKeys = new ArrayList<>();
+        List<long[]> blockPositions = new ArrayList<>();
+        List<long[]> blocksById = new ArrayList<>(records.size());
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        Instant newest = Instant.MIN;
+        try (
+            FileChannel file = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            );
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(file)))
+        ) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            long position = HEADER_SIZE;
+            ByteArrayOutputStream block = new ByteArrayOutputStream();
+            DataOutputStream blockOut = new DataOutputStream(block);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                Key previous = null;
+                for (int i = 0; i < records.size(); i++) {
+                    AuditHistory record = records.get(i);
+                    Key key = Key.of(record);
+                    if (previous != null && previous.compareTo(key) > 0) {
+                        throw new IllegalArgumentException("records are not sorted");
+                    }
+                    previous = key;
+                    if (i % blockSize == 0) {
+                        keys.add(key);
+                    }
+                    blocksById.add(new long[] { record.getId(), keys.size() - 1 });
+                    writeRecord(blockOut, record);
+                    minId = Math.min(minId, record.getId());
+                    maxId = Math.max(maxId, record.getId());
+                    newest = record.getFechaModificacion().isAfter(newest) ? record.getFechaModificacion() : newest;
+                    if ((i + 1) % blockSize == 0 || i == records.size() - 1) {
+                        byte[] compressed = compress(deflater, block.toByteArray());
+                        checkSize(path, position + compressed.length);
+                        out.write(compressed);
+                        blockPositions.add(new long[] { position, compressed.length, block.size() });
+                        lastKeys.add(key);
+                        position += compressed.length;
+                        block.reset();
+                    }
+                }
+            } finally {
+                deflater.end();
+            }
+            long idIndexPosition = position;
+            blocksById.sort(Comparator.comparingLong(entry -> entry[0]));
+            for (long[] entry : blocksById) {
+                out.writeLong(entry[0]);
+                out.writeInt((int) entry[1]);
+                position += ID_INDEX_ENTRY_SIZE;
+            }
+            checkSize(path, position);
+            out.writeLong(records.size());
+            out.writeLong(records.isEmpty() ? 0 : minId);
+            out.writeLong(records.isEmpty() ? 0 : maxId);
+            writeInstant(out, cutoff);
+            writeInstant(out, records.isEmpty() ? cutoff : newest);
+            out.writeLong(idIndexPosition);
+            out.writeInt(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                writeKey(out, keys.get(i));
+                writeKey(out, lastKeys.get(i));
+                out.writeLong(blockPositions.get(i)[0]);
+                out.writeInt((int) blockPositions.get(i)[1]);
+                out.writeInt((int) blockPositions.get(i)[2]);
+            }
+            out.writeLong(position);
+            out.writeInt(MAGIC);
+            out.flush();
+            checkSize(path, file.size());
+            file.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        return open(path);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return the size of the segment file, in bytes.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public long getMinId() {
+        return minId;
+    }
+
+    public long getMaxId() {
+        return maxId;
+    }
+
+    /**
+     * @return the date before which records were archived in this segment.
+     */
+    public Instant getCutoff() {
+        return cutoff;
+    }
+
+    /**
+     * @return the newest modification date of the records of this segment.
+     */
+    public Instant getNewest() {
+        return newest;
+    }
+
+    /**
+     * Get the history of an entity, newest first, after a position of a previous page.
+     *
+     * @param entityType the type of the audited entity.
+     * @param entityId the id of the audited entity.
+     * @param afterFechaModificacion the modification date of the last record read, {@code null} for the first page.
+     * @param afterId the id of the last record read, {@code null} for the first page.
+     * @param limit the maximum number of records to get.
+     * @return the records.
+     */
+    public List<AuditHistory> findHistory(String entityType, Long entityId, Instant afterFechaModificacion, Long afterId, int limit) {
+        Key target = afterFechaModificacion == null
+            ? new Key(entityType, entityId, Instant.MAX, Long.MAX_VALUE)
+            : new Key(entityType, entityId, afterFechaModificacion, afterId);
+        List<AuditHistory> history = new ArrayList<>();
+        if (firstKeys.length == 0 || lastKeys[lastKeys.length - 1].compareTo(target) <= 0) {
+            return history;
+        }
+        for (int block = Math.max(0, lastBlockStartingAtOrBefore(target)); block < firstKeys.length; block++) {
+            if (firstKeys[block].compareEntity(target) > 0) {
+                break;
+            }
+            if (lastKeys[block].compareTo(target) <= 0) {
+                // Every record of the block is of a previous entity, or was on a previous page
+                continue;
+            }
+            for (AuditHistory record : readBlock(block)) {
+                Key key = Key.of(record);
+                int entity = key.compareEntity(target);
+                if (entity > 0) {
+                    return history;
+                }
+                if (entity == 0 && key.compareTo(target) > 0) {
+                    history.add(record);
+                    if (history.size() == limit) {
+                        return history;
+                    }
+                }
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Get a record by id.
+     *
+     * @param id the id of the record.
+     * @return the record, if archived in this segment.
+     */
+    public Optional<AuditHistory> findById(long id) {
+        if (recordCount == 0 || id < minId || id > maxId) {
+            return Optional.empty();
+        }
+        ByteBuffer index = buffer();
+        long low = 0;
+        long high = recordCount - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            int entry = Math.toIntExact(idIndexOffset + middle * ID_INDEX_ENTRY_SIZE);
+            long middleId = index.getLong(entry);
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return readBlock(index.getInt(entry + Long.BYTES))
+                    .stream()
+                    .filter(record -> record.getId() == id)
+                    .findFirst();
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the ids of all the records of this segment, in increasing order.
+     */
+    public List<Long> getIds() {
+        ByteBuffer index = buffer();
+        List<Long> ids = new ArrayList<>((int) recordCount);
+        for (long i = 0; i < recordCount; i++) {
+            ids.add(index.getLong(Math.toIntExact(idIndexOffset + i * ID_INDEX_ENTRY_SIZE)));
+        }
+        return ids;
+    }
+
+    /**
+     * @return all the records of this segment, sorted by {@link #ORDER}.
+     */
+    public List<AuditHistory> getRecords() {
+        List<AuditHistory> records = new ArrayList<>((int) recordCount);
+        for (int block = 0; block < firstKeys.length; block++) {
+            records.addAll(readBlock(block));
+        }
+        return records;
+    }
+
+    /**
+     * Drop the mapped file, so that it is unmapped once the reads in progress are done.
+     * <p>
+     * The segment is no longer readable; its file may then be deleted.
+     */
+    public void release() {
+        mapped = null;
+    }
+
+    /**
+     * @return {@code true} if this segment was released.
+     */
+    public boolean isReleased() {
+        return mapped == null;
+    }
+
+    /**
+     * Merge histories read from several places, such as the database and the segments.
+     * <p>
+     * While a record is being archived, it is both in the database and in a segment, and it may be archived twice
+     * should an archival fail before deleting it: records of the same id are only kept once.
+     *
+     * @param records the records.
+     * @param limit the maximum number of records to keep.
+     * @return the distinct records, sorted by {@link #NEWEST_FIRST}.
+     */
+    public static List<AuditHistory> mergeHistory(List<AuditHistory> records, int limit) {
+        List<AuditHistory> sorted = new ArrayList<>(records);
+        sorted.sort(NEWEST_FIRST);
+        List<AuditHistory> history = new ArrayList<>(Math.min(limit, sorted.size()));
+        for (AuditHistory record : sorted) {
+            if (history.size() == limit) {
+                break;
+            }
+            // Records of the same id share their modification date, so they are next to each other
+            if (history.isEmpty() || !history.get(history.size() - 1).getId().equals(record.getId())) {
+                history.add(record);
+            }
+        }
+        return history;
+    }
+
+    private ByteBuffer buffer() {
+        ByteBuffer buffer = mapped;
+        if (buffer == null) {
+            throw new IllegalStateException(path + " was released");
+        }
+        return buffer.duplicate();
+    }
+
+    private static void checkSize(Path path, long size) {
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException(path + " would be larger than the " + MAX_SIZE + " bytes of a segment");
+        }
+    }
+
+    private int lastBlockStartingAtOrBefore(Key target) {
+        int low = 0;
+        int high = firstKeys.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (firstKeys[middle].compareTo(target) <= 0) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+
+    private List<AuditHistory> readBlock(int block) {
+        ByteBuffer compressed = buffer();
+        compressed.position(Math.toIntExact(offsets[block])).limit(Math.toIntExact(offsets[block] + compressedLengths[block]));
+        byte[] bytes = new byte[lengths[block]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = 0;
+            while (read < bytes.length && !inflater.finished()) {
+                read += inflater.inflate(bytes, read, bytes.length - read);
+            }
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException(new IOException("Corrupted block " + block + " of " + path, e));
+        } finally {
+            inflater.end();
+        }
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        List<AuditHistory> records = new ArrayList<>();
+        while (in.hasRemaining()) {
+            records.add(
+                new AuditHistory()
+                    .id(in.getLong())
+                    .entityType(readString(in))
+                    .entityId(in.getLong())
+                    .fieldName(readString(in))
+                    .oldValue(readString(in))
+                    .newValue(readString(in))
+                    .usuario(readString(in))
+                    .fechaModificacion(readInstant(in))
+            );
+        }
+        return records;
+    }
+
+    private static byte[] compress(Deflater deflater, byte[] bytes) {
+        deflater.reset();
+        deflater.setInput(bytes);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, bytes.length / 2));
+        byte[] chunk = new byte[8192];
+        while (!deflater.finished()) {
+            compressed.write(chunk, 0, deflater.deflate(chunk));
+        }
+        return compressed.toByteArray();
+    }
+
+    private static void writeRecord(DataOutputStream out, AuditHistory record) throws IOException {
+        out.writeLong(record.getId());
+        writeString(out, record.getEntityType());
+        out.writeLong(record.getEntityId());
+        writeString(out, record.getFieldName());
+        writeString(out, record.getOldValue());
+        writeString(out, record.getNewValue());
+        writeString(out, record.getUsuario());
+        writeInstant(out, record.getFechaModificacion());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static void writeKey(DataOutputStream out, Key key) throws IOException {
+        writeString(out, key.entityType);
+        out.writeLong(key.entityId);
+        writeInstant(out, key.fechaModificacion);
+        out.writeLong(key.id);
+    }
+
+    private static Key readKey(ByteBuffer in) {
+        return new Key(readString(in), in.getLong(), readInstant(in), in.getLong());
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeLong(value.getEpochSecond());
+        out.writeInt(value.getNano());
+    }
+
+    private static Instant readInstant(ByteBuffer in) {
+        return Instant.ofEpochSecond(in.getLong(), in.getInt());
+    }
+
+    /**
+     * Position of a record in a segment.
+     */
+    private static final class Key implements Comparable<Key> {
+
+        private final String entityType;
+
+        private final long entityId;
+
+        private final Instant fechaModificacion;
+
+        private final long id;
+
+        private Key(String entityType, long entityId, Instant fechaModificacion, long id) {
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.fechaModificacion = fechaModificacion;
+            this.id = id;
+        }
+
+        private static Key of(AuditHistory record) {
+            return new Key(record.getEntityType(), record.getEntityId(), record.getFechaModificacion(), record.getId());
+        }
+
+        private int compareEntity(Key other) {
+            int type = entityType.compareTo(other.entityType);
+            return type != 0 ? type : Long.compare(entityId, other.entityId);
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int entity = compareEntity(other);
+            if (entity != 0) {
+                return entity;
+            }
+            int date = other.fechaModificacion.compareTo(fechaModificacion);
+            return date != 0 ? date : Long.compare(other.id, id);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.devmatch.service.audit;
+
+import com.devmatch.config.Constants;
+import com.devmatch.domain.AuditHistory;
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Project;
+import com.devmatch.security.SecurityUtils;
+import com.devmatch.service.AuditTrailService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate listener recording the changed fields of the updated {@link Developer}s and {@link Project}s.
+ * <p>
+ * Each changed field gives an {@link AuditHistory} entry, with the column name as field name and {@code null} for
+ * empty values, as recorded by the Python application. Relationships and audit columns are not recorded. Entries
+ * are handed to {@link AuditTrailService}, which writes them in the background.
+ */
+@Component
+public class FieldAuditListener implements PostUpdateEventListener {
+
+    private static final Set<String> EXCLUDED_PROPERTIES = Set.of(
+        "id",
+        "usuarioCreacion",
+        "usuarioModificacion",
+        "fechaCreacion",
+        "fechaModificacion"
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final AuditTrailService auditTrailService;
+
+    public FieldAuditListener(EntityManagerFactory entityManagerFactory, AuditTrailService auditTrailService) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.auditTrailService = auditTrailService;
+    }
+
+    @PostConstruct
+    public void register() {
+        entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .requireService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_UPDATE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entity = event.getEntity();
+        Object[] oldState = event.getOldState();
+        if (!(entity instanceof Developer || entity instanceof Project) || oldState == null) {
+            return;
+        }
+        Object[] state = event.getState();
+        String[] names = event.getPersister().getPropertyNames();
+        Type[] types = event.getPersister().getPropertyTypes();
+        int[] dirty = event.getDirtyProperties();
+        int count = dirty == null ? names.length : dirty.length;
+        String usuario = SecurityUtils.getCurrentUserLogin().orElse(Constants.SYSTEM);
+        Instant now = Instant.now();
+        List<AuditHistory> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int property = dirty == null ? i : dirty[i];
+            if (types[property].isCollectionType() || types[property].isEntityType() || EXCLUDED_PROPERTIES.contains(names[property])) {
+                continue;
+            }
+            String oldValue = toText(oldState[property]);
+            String newValue = toText(state[property]);
+            if (!Objects.equals(oldValue, newValue)) {
+                entries.add(
+                    new AuditHistory()
+                        .entityType(entity.getClass().getSimpleName())
+                        .entityId((Long) event.getId())
+                        .fieldName(toColumnName(names[property]))
+                        .oldValue(oldValue)
+                        .newValue(newValue)
+                        .usuario(usuario)
+                        .fechaModificacion(now)
+                );
+            }
+        }
+        auditTrailService.record(entries);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static String toText(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        return text.isEmpty() ? null : text;
+    }
+
+    /**
+     * @return the snake case name of a camel case property, such as {@code experience_level} for {@code experienceLevel}.
+     */
+    static String toColumnName(String property) {
+        StringBuilder column = new StringBuilder(property.length() + 4);
+        for (int i = 0; i < property.length(); i++) {
+            char c = property.charAt(i);
+            if (Character.isUpperCase(c)) {
+                column.append('_').append(Character.toLowerCase(c));
+            } else {
+                column.append(c);
+            }
+        }
+        return column.toString();
+    }
+}
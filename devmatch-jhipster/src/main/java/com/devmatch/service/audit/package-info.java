@@ -0,0 +1,5 @@
+/**
+ * Field-level audit trail of the entities, recorded in memory and written in the background,
+ * and archive of the aged audit history in compressed segment files.
+ */
+package com.devmatch.service.audit;
@@ -51,6 +51,8 @@ public class DeveloperDTO implements Serializable {
 
     private Instant fechaModificacion;
 
+    private Long version;
+
     private Set<TechnologyDTO> skills = new HashSet<>();
 
     public Long getId() {
@@ -157,6 +159,14 @@ public class DeveloperDTO implements Serializable {
         this.fechaModificacion = fechaModificacion;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Set<TechnologyDTO> getSkills() {
         return skills;
     }
@@ -203,6 +213,7 @@ public class DeveloperDTO implements Serializable {
             ", usuarioModificacion='" + getUsuarioModificacion() + "'" +
             ", fechaCreacion='" + getFechaCreacion() + "'" +
             ", fechaModificacion='" + getFechaModificacion() + "'" +
+            ", version=" + getVersion() +
             ", skills=" + getSkills() +
             "}";
     }
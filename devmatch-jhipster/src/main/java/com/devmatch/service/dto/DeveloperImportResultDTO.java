@@ -0,0 +1,107 @@
+package com.devmatch.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import of {@link com.devmatch.domain.Developer}s.
+ * <p>
+ * Only the first rejected rows are detailed in {@code errors}; {@code rejected} counts all of them.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class DeveloperImportResultDTO implements Serializable {
+
+    private long imported;
+
+    private long rejected;
+
+    private double rowsPerSecond;
+
+    private List<RowError> errors = new ArrayList<>();
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "DeveloperImportResultDTO{" +
+            "imported=" + getImported() +
+            ", rejected=" + getRejected() +
+            ", rowsPerSecond=" + getRowsPerSecond() +
+            ", errors=" + getErrors().size() +
+            "}";
+    }
+
+    /**
+     * The reason why a row was not imported.
+     */
+    public static class RowError implements Serializable {
+
+        private long line;
+
+        private String message;
+
+        public RowError() {}
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public void setLine(long line) {
+            this.line = line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "RowError{" +
+                "line=" + getLine() +
+                ", message='" + getMessage() + "'" +
+                "}";
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.devmatch.service.dto;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link com.devmatch.domain.Developer} matching a full-text search, with its highlighted fragments.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class DeveloperSearchHitDTO implements Serializable {
+
+    private Long developerId;
+
+    private String name;
+
+    private String experienceLevel;
+
+    private String location;
+
+    private float score;
+
+    private Map<String, List<String>> highlights = new LinkedHashMap<>();
+
+    public Long getDeveloperId() {
+        return developerId;
+    }
+
+    public void setDeveloperId(Long developerId) {
+        this.developerId = developerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public void setExperienceLevel(String experienceLevel) {
+        this.experienceLevel = experienceLevel;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+
+    public Map<String, List<String>> getHighlights() {
+        return highlights;
+    }
+
+    public void setHighlights(Map<String, List<String>> highlights) {
+        this.highlights = highlights;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DeveloperSearchHitDTO)) {
+            return false;
+        }
+
+        DeveloperSearchHitDTO developerSearchHitDTO = (DeveloperSearchHitDTO) o;
+        if (this.developerId == null) {
+            return false;
+        }
+        return Objects.equals(this.developerId, developerSearchHitDTO.developerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.developerId);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "DeveloperSearchHitDTO{" +
+            "developerId=" + getDeveloperId() +
+            ", name='" + getName() + "'" +
+            ", experienceLevel='" + getExperienceLevel() + "'" +
+            ", location='" + getLocation() + "'" +
+            ", score=" + getScore() +
+            "}";
+    }
+}
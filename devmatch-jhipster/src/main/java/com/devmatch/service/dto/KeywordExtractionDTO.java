@@ -0,0 +1,52 @@
+package com.devmatch.service.dto;
+
+import java.io.Serializable;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The technologies, experience level and project type found in a project description.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class KeywordExtractionDTO implements Serializable {
+
+    private Set<TechnologyDTO> technologies = new LinkedHashSet<>();
+
+    private String experienceLevel;
+
+    private String projectType;
+
+    public Set<TechnologyDTO> getTechnologies() {
+        return technologies;
+    }
+
+    public void setTechnologies(Set<TechnologyDTO> technologies) {
+        this.technologies = technologies;
+    }
+
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public void setExperienceLevel(String experienceLevel) {
+        this.experienceLevel = experienceLevel;
+    }
+
+    public String getProjectType() {
+        return projectType;
+    }
+
+    public void setProjectType(String projectType) {
+        this.projectType = projectType;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "KeywordExtractionDTO{" +
+            "technologies=" + getTechnologies() +
+            ", experienceLevel='" + getExperienceLevel() + "'" +
+            ", projectType='" + getProjectType() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,106 @@
+package com.devmatch.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The AI affinity of a developer with a {@link com.devmatch.domain.Project}, as stored into their
+ * {@link com.devmatch.domain.MatchResult}.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MatchAffinityDTO implements Serializable {
+
+    private Long projectId;
+
+    private Long developerId;
+
+    private Integer aiTechnicalAffinity;
+
+    private Integer aiMotivationalAffinity;
+
+    private Integer aiExperienceRelevance;
+
+    private String aiComment;
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getDeveloperId() {
+        return developerId;
+    }
+
+    public void setDeveloperId(Long developerId) {
+        this.developerId = developerId;
+    }
+
+    public Integer getAiTechnicalAffinity() {
+        return aiTechnicalAffinity;
+    }
+
+    public void setAiTechnicalAffinity(Integer aiTechnicalAffinity) {
+        this.aiTechnicalAffinity = aiTechnicalAffinity;
+    }
+
+    public Integer getAiMotivationalAffinity() {
+        return aiMotivationalAffinity;
+    }
+
+    public void setAiMotivationalAffinity(Integer aiMotivationalAffinity) {
+        this.aiMotivationalAffinity = aiMotivationalAffinity;
+    }
+
+    public Integer getAiExperienceRelevance() {
+        return aiExperienceRelevance;
+    }
+
+    public void setAiExperienceRelevance(Integer aiExperienceRelevance) {
+        this.aiExperienceRelevance = aiExperienceRelevance;
+    }
+
+    public String getAiComment() {
+        return aiComment;
+    }
+
+    public void setAiComment(String aiComment) {
+        this.aiComment = aiComment;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MatchAffinityDTO)) {
+            return false;
+        }
+
+        MatchAffinityDTO matchAffinityDTO = (MatchAffinityDTO) o;
+        if (this.projectId == null || this.developerId == null) {
+            return false;
+        }
+        return Objects.equals(this.projectId, matchAffinityDTO.projectId) && Objects.equals(this.developerId, matchAffinityDTO.developerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.projectId, this.developerId);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MatchAffinityDTO{" +
+            "projectId=" + getProjectId() +
+            ", developerId=" + getDeveloperId() +
+            ", aiTechnicalAffinity=" + getAiTechnicalAffinity() +
+            ", aiMotivationalAffinity=" + getAiMotivationalAffinity() +
+            ", aiExperienceRelevance=" + getAiExperienceRelevance() +
+            ", aiComment='" + getAiComment() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,72 @@
+package com.devmatch.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * Summary of an analysis of the candidates of a {@link com.devmatch.domain.Project}, sent when it ends.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MatchAnalysisSummaryDTO implements Serializable {
+
+    private Long projectId;
+
+    private int candidates;
+
+    private int analyzed;
+
+    private boolean completed;
+
+    private long durationMillis;
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public int getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(int candidates) {
+        this.candidates = candidates;
+    }
+
+    public int getAnalyzed() {
+        return analyzed;
+    }
+
+    public void setAnalyzed(int analyzed) {
+        this.analyzed = analyzed;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MatchAnalysisSummaryDTO{" +
+            "projectId=" + getProjectId() +
+            ", candidates=" + getCandidates() +
+            ", analyzed=" + getAnalyzed() +
+            ", completed=" + isCompleted() +
+            ", durationMillis=" + getDurationMillis() +
+            "}";
+    }
+}
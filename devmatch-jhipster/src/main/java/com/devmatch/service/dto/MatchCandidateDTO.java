@@ -0,0 +1,128 @@
+package com.devmatch.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * A ranked developer candidate for a {@link com.devmatch.domain.Project}, as computed by the matching engine.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MatchCandidateDTO implements Serializable {
+
+    private Long developerId;
+
+    private String developerName;
+
+    private String experienceLevel;
+
+    private BigDecimal technicalMatch;
+
+    private BigDecimal weightedMatch;
+
+    private BigDecimal semanticSimilarity;
+
+    private int matchedTechnologies;
+
+    private int requiredTechnologies;
+
+    public Long getDeveloperId() {
+        return developerId;
+    }
+
+    public void setDeveloperId(Long developerId) {
+        this.developerId = developerId;
+    }
+
+    public String getDeveloperName() {
+        return developerName;
+    }
+
+    public void setDeveloperName(String developerName) {
+        this.developerName = developerName;
+    }
+
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public void setExperienceLevel(String experienceLevel) {
+        this.experienceLevel = experienceLevel;
+    }
+
+    public BigDecimal getTechnicalMatch() {
+        return technicalMatch;
+    }
+
+    public void setTechnicalMatch(BigDecimal technicalMatch) {
+        this.technicalMatch = technicalMatch;
+    }
+
+    public BigDecimal getWeightedMatch() {
+        return weightedMatch;
+    }
+
+    public void setWeightedMatch(BigDecimal weightedMatch) {
+        this.weightedMatch = weightedMatch;
+    }
+
+    public BigDecimal getSemanticSimilarity() {
+        return semanticSimilarity;
+    }
+
+    public void setSemanticSimilarity(BigDecimal semanticSimilarity) {
+        this.semanticSimilarity = semanticSimilarity;
+    }
+
+    public int getMatchedTechnologies() {
+        return matchedTechnologies;
+    }
+
+    public void setMatchedTechnologies(int matchedTechnologies) {
+        this.matchedTechnologies = matchedTechnologies;
+    }
+
+    public int getRequiredTechnologies() {
+        return requiredTechnologies;
+    }
+
+    public void setRequiredTechnologies(int requiredTechnologies) {
+        this.requiredTechnologies = requiredTechnologies;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MatchCandidateDTO)) {
+            return false;
+        }
+
+        MatchCandidateDTO matchCandidateDTO = (MatchCandidateDTO) o;
+        if (this.developerId == null) {
+            return false;
+        }
+        return Objects.equals(this.developerId, matchCandidateDTO.developerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.developerId);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MatchCandidateDTO{" +
+            "developerId=" + getDeveloperId() +
+            ", developerName='" + getDeveloperName() + "'" +
+            ", experienceLevel='" + getExperienceLevel() + "'" +
+            ", technicalMatch=" + getTechnicalMatch() +
+            ", weightedMatch=" + getWeightedMatch() +
+            ", semanticSimilarity=" + getSemanticSimilarity() +
+            ", matchedTechnologies=" + getMatchedTechnologies() +
+            ", requiredTechnologies=" + getRequiredTechnologies() +
+            "}";
+    }
+}
@@ -0,0 +1,97 @@
+package com.devmatch.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Counts and average scores of the {@link com.devmatch.domain.MatchResult}s, of a project or of all projects.
+ * <p>
+ * Averages are {@code null} when no match result has the score.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MatchStatisticsDTO implements Serializable {
+
+    private Long projectId;
+
+    private long totalMatches;
+
+    private long analyzedMatches;
+
+    private BigDecimal averageTechnicalMatch;
+
+    private BigDecimal averageAiTechnicalAffinity;
+
+    private BigDecimal averageAiMotivationalAffinity;
+
+    private BigDecimal averageAiExperienceRelevance;
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public long getTotalMatches() {
+        return totalMatches;
+    }
+
+    public void setTotalMatches(long totalMatches) {
+        this.totalMatches = totalMatches;
+    }
+
+    public long getAnalyzedMatches() {
+        return analyzedMatches;
+    }
+
+    public void setAnalyzedMatches(long analyzedMatches) {
+        this.analyzedMatches = analyzedMatches;
+    }
+
+    public BigDecimal getAverageTechnicalMatch() {
+        return averageTechnicalMatch;
+    }
+
+    public void setAverageTechnicalMatch(BigDecimal averageTechnicalMatch) {
+        this.averageTechnicalMatch = averageTechnicalMatch;
+    }
+
+    public BigDecimal getAverageAiTechnicalAffinity() {
+        return averageAiTechnicalAffinity;
+    }
+
+    public void setAverageAiTechnicalAffinity(BigDecimal averageAiTechnicalAffinity) {
+        this.averageAiTechnicalAffinity = averageAiTechnicalAffinity;
+    }
+
+    public BigDecimal getAverageAiMotivationalAffinity() {
+        return averageAiMotivationalAffinity;
+    }
+
+    public void setAverageAiMotivationalAffinity(BigDecimal averageAiMotivationalAffinity) {
+        this.averageAiMotivationalAffinity = averageAiMotivationalAffinity;
+    }
+
+    public BigDecimal getAverageAiExperienceRelevance() {
+        return averageAiExperienceRelevance;
+    }
+
+    public void setAverageAiExperienceRelevance(BigDecimal averageAiExperienceRelevance) {
+        this.averageAiExperienceRelevance = averageAiExperienceRelevance;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MatchStatisticsDTO{" +
+            "projectId=" + getProjectId() +
+            ", totalMatches=" + getTotalMatches() +
+            ", analyzedMatches=" + getAnalyzedMatches() +
+            ", averageTechnicalMatch=" + getAverageTechnicalMatch() +
+            ", averageAiTechnicalAffinity=" + getAverageAiTechnicalAffinity() +
+            ", averageAiMotivationalAffinity=" + getAverageAiMotivationalAffinity() +
+            ", averageAiExperienceRelevance=" + getAverageAiExperienceRelevance() +
+            "}";
+    }
+}
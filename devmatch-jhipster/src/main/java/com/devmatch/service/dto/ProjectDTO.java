@@ -44,6 +44,8 @@ public class ProjectDTO implements Serializable {
 
     private Instant fechaModificacion;
 
+    private Long version;
+
     private Set<TechnologyDTO> requiredTechnologies = new HashSet<>();
 
     public Long getId() {
@@ -126,6 +128,14 @@ public class ProjectDTO implements Serializable {
         this.fechaModificacion = fechaModificacion;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Set<TechnologyDTO> getRequiredTechnologies() {
         return requiredTechnologies;
     }
@@ -169,6 +179,7 @@ public class ProjectDTO implements Serializable {
             ", usuarioModificacion='" + getUsuarioModificacion() + "'" +
             ", fechaCreacion='" + getFechaCreacion() + "'" +
             ", fechaModificacion='" + getFechaModificacion() + "'" +
+            ", version=" + getVersion() +
             ", requiredTechnologies=" + getRequiredTechnologies() +
             "}";
     }
@@ -21,6 +21,8 @@ public class TechnologyDTO implements Serializable {
     @Size(max = 50)
     private String category;
 
+    private Long version;
+
     private Set<DeveloperDTO> developers = new HashSet<>();
 
     private Set<ProjectDTO> projects = new HashSet<>();
@@ -49,6 +51,14 @@ public class TechnologyDTO implements Serializable {
         this.category = category;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Set<DeveloperDTO> getDevelopers() {
         return developers;
     }
@@ -93,6 +103,7 @@ public class TechnologyDTO implements Serializable {
             "id=" + getId() +
             ", name='" + getName() + "'" +
             ", category='" + getCategory() + "'" +
+            ", version=" + getVersion() +
             ", developers=" + getDevelopers() +
             ", projects=" + getProjects() +
             "}";
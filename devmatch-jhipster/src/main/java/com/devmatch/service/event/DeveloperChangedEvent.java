@@ -0,0 +1,25 @@
+package com.devmatch.service.event;
+
+/**
+ * Event published when a {@link com.devmatch.domain.Developer} is created or updated, or when one of its experiences changes.
+ */
+public class DeveloperChangedEvent {
+
+    private final Long developerId;
+
+    public DeveloperChangedEvent(Long developerId) {
+        this.developerId = developerId;
+    }
+
+    public Long getDeveloperId() {
+        return developerId;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "DeveloperChangedEvent{" +
+            "developerId=" + getDeveloperId() +
+            "}";
+    }
+}
@@ -0,0 +1,25 @@
+package com.devmatch.service.event;
+
+/**
+ * Event published when a {@link com.devmatch.domain.Project} is created, updated or deleted.
+ */
+public class ProjectChangedEvent {
+
+    private final Long projectId;
+
+    public ProjectChangedEvent(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ProjectChangedEvent{" +
+            "projectId=" + getProjectId() +
+            "}";
+    }
+}
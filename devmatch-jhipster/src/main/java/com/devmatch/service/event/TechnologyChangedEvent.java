@@ -0,0 +1,25 @@
+package com.devmatch.service.event;
+
+/**
+ * Event published when a {@link com.devmatch.domain.Technology} is created, updated or deleted.
+ */
+public class TechnologyChangedEvent {
+
+    private final Long technologyId;
+
+    public TechnologyChangedEvent(Long technologyId) {
+        this.technologyId = technologyId;
+    }
+
+    public Long getTechnologyId() {
+        return technologyId;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TechnologyChangedEvent{" +
+            "technologyId=" + getTechnologyId() +
+            "}";
+    }
+}
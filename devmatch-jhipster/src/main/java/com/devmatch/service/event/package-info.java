@@ -0,0 +1,4 @@
+/**
+ * Domain events published by the services once their transaction commits.
+ */
+package com.devmatch.service.event;
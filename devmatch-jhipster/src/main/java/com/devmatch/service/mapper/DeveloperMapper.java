@@ -2,6 +2,7 @@ package com.devmatch.service.mapper;
 
 import com.devmatch.domain.Developer;
 import com.devmatch.domain.Technology;
+import com.devmatch.repository.DeveloperRepository;
 import com.devmatch.service.dto.DeveloperDTO;
 import com.devmatch.service.dto.TechnologyDTO;
 import java.util.Set;
@@ -16,6 +17,9 @@ public interface DeveloperMapper extends EntityMapper<DeveloperDTO, Developer> {
     @Mapping(target = "skills", source = "skills", qualifiedByName = "technologyIdSet")
     DeveloperDTO toDto(Developer s);
 
+    @Mapping(target = "skills", ignore = true)
+    DeveloperDTO rowToDto(DeveloperRepository.DeveloperRow row);
+
     @Mapping(target = "removeSkills", ignore = true)
     Developer toEntity(DeveloperDTO developerDTO);
 
@@ -0,0 +1,176 @@
+package com.devmatch.service.matching;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton finding every occurrence of a set of patterns in a text, in a single pass.
+ * <p>
+ * The patterns are compiled into a trie whose nodes are linked to the node of their longest proper suffix, so that
+ * scanning a text never backtracks: it costs {@code O(n + z)} for a text of {@code n} characters with {@code z}
+ * occurrences, whatever the number of patterns. Matching is case and accent insensitive, characters being folded
+ * one by one so that occurrence offsets are those of the original text.
+ * <p>
+ * The trie is stored in primitive arrays, the edges of a node being sorted by character. Instances are immutable
+ * and thread-safe.
+ */
+public class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+
+    private static final char[] FOLDED = new char[0x250];
+
+    static {
+        for (char c = 0; c < FOLDED.length; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            FOLDED[c] = Character.toLowerCase(decomposed.charAt(0));
+        }
+    }
+
+    private final int[] patternLengths;
+
+    private final int[] edgeOffsets;
+
+    private final char[] edgeChars;
+
+    private final int[] edgeTargets;
+
+    private final int[] failures;
+
+    private final int[] outputLinks;
+
+    private final int[][] outputs;
+
+    /**
+     * Callback receiving the occurrences of the patterns.
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+        /**
+         * @param pattern the index of the pattern.
+         * @param start the offset of the first character of the occurrence in the text.
+         * @param end the offset following the last character of the occurrence in the text.
+         */
+        void accept(int pattern, int start, int end);
+    }
+
+    /**
+     * @param patterns the patterns, reported by their index; they must not be empty.
+     */
+    public AhoCorasickAutomaton(List<String> patterns) {
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> patternsByNode = new ArrayList<>();
+        children.add(new TreeMap<>());
+        patternsByNode.add(new ArrayList<>());
+        this.patternLengths = new int[patterns.size()];
+        for (int pattern = 0; pattern < patterns.size(); pattern++) {
+            String text = patterns.get(pattern);
+            if (text.isEmpty()) {
+                throw new IllegalArgumentException("Patterns must not be empty");
+            }
+            int node = ROOT;
+            for (int i = 0; i < text.length(); i++) {
+                Integer next = children.get(node).get(fold(text.charAt(i)));
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(fold(text.charAt(i)), next);
+                    children.add(new TreeMap<>());
+                    patternsByNode.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            patternsByNode.get(node).add(pattern);
+            patternLengths[pattern] = text.length();
+        }
+
+        int nodeCount = children.size();
+        this.edgeOffsets = new int[nodeCount + 1];
+        this.edgeChars = new char[nodeCount - 1];
+        this.edgeTargets = new int[nodeCount - 1];
+        this.outputs = new int[nodeCount][];
+        int edge = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            edgeOffsets[node] = edge;
+            for (Map.Entry<Character, Integer> child : children.get(node).entrySet()) {
+                edgeChars[edge] = child.getKey();
+                edgeTargets[edge++] = child.getValue();
+            }
+            outputs[node] = patternsByNode.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+        edgeOffsets[nodeCount] = edge;
+
+        this.failures = new int[nodeCount];
+        this.outputLinks = new int[nodeCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int i = edgeOffsets[ROOT]; i < edgeOffsets[ROOT + 1]; i++) {
+            queue.add(edgeTargets[i]);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = edgeOffsets[node]; i < edgeOffsets[node + 1]; i++) {
+                int child = edgeTargets[i];
+                int failure = transition(failures[node], edgeChars[i]);
+                failures[child] = failure;
+                outputLinks[child] = outputs[failure].length > 0 ? failure : outputLinks[failure];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Visit every occurrence of the patterns in a text, by increasing end offset.
+     *
+     * @param text the text.
+     * @param consumer the callback receiving each occurrence.
+     */
+    public void scan(CharSequence text, MatchConsumer consumer) {
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = transition(node, fold(text.charAt(i)));
+            for (int output = node; output != ROOT; output = outputLinks[output]) {
+                for (int pattern : outputs[output]) {
+                    consumer.accept(pattern, i + 1 - patternLengths[pattern], i + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of patterns.
+     */
+    public int size() {
+        return patternLengths.length;
+    }
+
+    /**
+     * Fold a character to lower case without diacritics, so that {@code 'Á'} matches {@code 'a'}.
+     *
+     * @param c the character.
+     * @return the folded character.
+     */
+    public static char fold(char c) {
+        return c < FOLDED.length ? FOLDED[c] : Character.toLowerCase(c);
+    }
+
+    /**
+     * Follow the edge of a node, falling back to its suffix nodes, down to the root.
+     */
+    private int transition(int node, char c) {
+        while (true) {
+            int edge = Arrays.binarySearch(edgeChars, edgeOffsets[node], edgeOffsets[node + 1], c);
+            if (edge >= 0) {
+                return edgeTargets[edge];
+            }
+            if (node == ROOT) {
+                return ROOT;
+            }
+            node = failures[node];
+        }
+    }
+}
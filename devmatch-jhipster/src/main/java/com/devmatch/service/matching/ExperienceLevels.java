@@ -0,0 +1,35 @@
+package com.devmatch.service.matching;
+
+import java.util.Locale;
+
+/**
+ * Ordering of the experience levels used by developers and projects.
+ */
+public final class ExperienceLevels {
+
+    public static final String BEGINNER = "Beginner";
+
+    public static final String INTERMEDIATE = "Intermediate";
+
+    public static final String ADVANCED = "Advanced";
+
+    private ExperienceLevels() {}
+
+    /**
+     * Rank an experience level, the most experienced being the highest.
+     *
+     * @param experienceLevel the experience level, case insensitive.
+     * @return the rank of the level, or {@code 0} if it is unknown.
+     */
+    public static int rank(String experienceLevel) {
+        if (experienceLevel == null) {
+            return 0;
+        }
+        return switch (experienceLevel.trim().toLowerCase(Locale.ROOT)) {
+            case "beginner" -> 1;
+            case "intermediate" -> 2;
+            case "advanced" -> 3;
+            default -> 0;
+        };
+    }
+}
@@ -0,0 +1,376 @@
+package com.devmatch.service.matching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory Hierarchical Navigable Small World graph, for approximate nearest neighbour search over unit vectors
+ * by cosine similarity.
+ * <p>
+ * Each vector is a node of the bottom layer, and of a random number of upper layers whose size decreases
+ * exponentially. Nodes are linked to at most {@code m} close nodes per layer ({@code 2 * m} on the bottom layer),
+ * selected with the neighbour diversity heuristic of Malkov and Yashunin. A search greedily descends the upper
+ * layers, then explores the bottom layer keeping the {@code ef} best nodes found.
+ * <p>
+ * Replaced and removed vectors are only marked as deleted: they still route searches but are never returned.
+ * {@link #deletedCount()} tells when rebuilding the index is worth it.
+ * <p>
+ * This class is thread-safe: readers share a read lock, writers take the write lock.
+ */
+public class HnswIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final int MAX_LEVEL = 16;
+
+    private static final Comparator<Candidate> BY_SIMILARITY = Comparator.comparingDouble(candidate -> candidate.similarity);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final int dimension;
+
+    private final int m;
+
+    private final int bottomM;
+
+    private final int efConstruction;
+
+    private final double levelMultiplier;
+
+    private final SplittableRandom random;
+
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+
+    private final BitSet deleted = new BitSet();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    private float[][] vectors = new float[INITIAL_CAPACITY][];
+
+    private int[][][] links = new int[INITIAL_CAPACITY][][];
+
+    private int[][] linkCounts = new int[INITIAL_CAPACITY][];
+
+    private int nodeCount;
+
+    private int entryPoint = -1;
+
+    private int topLevel = -1;
+
+    /**
+     * Callback receiving the nearest neighbours of a query.
+     */
+    @FunctionalInterface
+    public interface NeighborConsumer {
+        void accept(long id, float similarity);
+    }
+
+    /**
+     * @param dimension the dimension of the vectors.
+     * @param m the maximum number of links of a node on the upper layers.
+     * @param efConstruction the number of candidates explored when linking a new node.
+     * @param seed the seed of the random layer assignment, for reproducible graphs.
+     */
+    public HnswIndex(int dimension, int m, int efConstruction, long seed) {
+        if (dimension < 1 || m < 2 || efConstruction < 1) {
+            throw new IllegalArgumentException("dimension, m and efConstruction must be positive, m at least 2");
+        }
+        this.dimension = dimension;
+        this.m = m;
+        this.bottomM = 2 * m;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Add or replace the vector of an id.
+     *
+     * @param id the id.
+     * @param vector the vector, of unit length.
+     */
+    public void put(long id, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("Expected a vector of dimension " + dimension + ", got " + vector.length);
+        }
+        lock.writeLock().lock();
+        try {
+            Integer previous = nodeById.remove(id);
+            if (previous != null) {
+                deleted.set(previous);
+            }
+            int level = Math.min(MAX_LEVEL, (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier));
+            int node = allocateNode(id, vector.clone(), level);
+            insert(node, level);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the vector of an id.
+     *
+     * @param id the id.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeById.remove(id);
+            if (node != null) {
+                deleted.set(node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Visit the approximate {@code k} nearest neighbours of a query, most similar first.
+     *
+     * @param query the query vector, of unit length.
+     * @param k the maximum number of neighbours.
+     * @param ef the number of candidates explored on the bottom layer, higher is slower but more accurate.
+     * @param consumer the callback receiving each neighbour id and its cosine similarity with the query.
+     */
+    public void search(float[] query, int k, int ef, NeighborConsumer consumer) {
+        if (query.length != dimension) {
+            throw new IllegalArgumentException("Expected a vector of dimension " + dimension + ", got " + query.length);
+        }
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k < 1) {
+                return;
+            }
+            int current = entryPoint;
+            for (int level = topLevel; level > 0; level--) {
+                current = greedyClosest(query, current, level);
+            }
+            int found = 0;
+            for (Candidate candidate : searchLayer(query, current, Math.max(ef, k), 0)) {
+                if (!deleted.get(candidate.node)) {
+                    consumer.accept(ids[candidate.node], candidate.similarity);
+                    if (++found == k) {
+                        return;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of indexed ids.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of replaced or removed vectors still held by the graph.
+     */
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return deleted.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compute the dot product of two vectors, their cosine similarity if they have unit length.
+     *
+     * @param a the first vector.
+     * @param b the second vector.
+     * @return the dot product.
+     */
+    public static float similarity(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private void insert(int node, int level) {
+        if (entryPoint < 0) {
+            entryPoint = node;
+            topLevel = level;
+            return;
+        }
+        float[] vector = vectors[node];
+        int current = entryPoint;
+        for (int layer = topLevel; layer > level; layer--) {
+            current = greedyClosest(vector, current, layer);
+        }
+        for (int layer = Math.min(level, topLevel); layer >= 0; layer--) {
+            List<Candidate> candidates = searchLayer(vector, current, efConstruction, layer);
+            int maxLinks = layer == 0 ? bottomM : m;
+            List<Candidate> neighbors = selectNeighbors(candidates, m);
+            for (Candidate neighbor : neighbors) {
+                links[node][layer][linkCounts[node][layer]++] = neighbor.node;
+                link(neighbor.node, node, layer, maxLinks);
+            }
+            current = candidates.get(0).node;
+        }
+        if (level > topLevel) {
+            entryPoint = node;
+            topLevel = level;
+        }
+    }
+
+    private void link(int from, int to, int layer, int maxLinks) {
+        int count = linkCounts[from][layer];
+        if (count < maxLinks) {
+            links[from][layer][count] = to;
+            linkCounts[from][layer] = count + 1;
+            return;
+        }
+        float[] vector = vectors[from];
+        List<Candidate> candidates = new ArrayList<>(count + 1);
+        candidates.add(new Candidate(to, similarity(vector, vectors[to])));
+        for (int i = 0; i < count; i++) {
+            int neighbor = links[from][layer][i];
+            candidates.add(new Candidate(neighbor, similarity(vector, vectors[neighbor])));
+        }
+        candidates.sort(BY_SIMILARITY.reversed());
+        List<Candidate> selected = selectNeighbors(candidates, maxLinks);
+        for (int i = 0; i < selected.size(); i++) {
+            links[from][layer][i] = selected.get(i).node;
+        }
+        linkCounts[from][layer] = selected.size();
+    }
+
+    /**
+     * Select up to {@code max} diverse neighbours among candidates sorted by decreasing similarity: a candidate is
+     * skipped if it is closer to an already selected neighbour than to the base node, unless too few are selected.
+     */
+    private List<Candidate> selectNeighbors(List<Candidate> candidates, int max) {
+        List<Candidate> selected = new ArrayList<>(max);
+        List<Candidate> skipped = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() == max) {
+                break;
+            }
+            boolean diverse = true;
+            for (Candidate neighbor : selected) {
+                if (similarity(vectors[candidate.node], vectors[neighbor.node]) > candidate.similarity) {
+                    diverse = false;
+                    break;
+                }
+            }
+            (diverse ? selected : skipped).add(candidate);
+        }
+        for (int i = 0; i < skipped.size() && selected.size() < max; i++) {
+            selected.add(skipped.get(i));
+        }
+        return selected;
+    }
+
+    private int greedyClosest(float[] query, int start, int layer) {
+        int current = start;
+        float best = similarity(query, vectors[current]);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] neighbors = links[current][layer];
+            for (int i = 0, count = linkCounts[current][layer]; i < count; i++) {
+                float similarity = similarity(query, vectors[neighbors[i]]);
+                if (similarity > best) {
+                    best = similarity;
+                    current = neighbors[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Explore a layer from an entry node, keeping the {@code ef} most similar nodes found.
+     *
+     * @return the nodes found, most similar first.
+     */
+    private List<Candidate> searchLayer(float[] query, int entry, int ef, int layer) {
+        BitSet visited = new BitSet(nodeCount);
+        visited.set(entry);
+        Candidate first = new Candidate(entry, similarity(query, vectors[entry]));
+        PriorityQueue<Candidate> toExplore = new PriorityQueue<>(BY_SIMILARITY.reversed());
+        PriorityQueue<Candidate> best = new PriorityQueue<>(BY_SIMILARITY);
+        toExplore.add(first);
+        best.add(first);
+        while (!toExplore.isEmpty()) {
+            Candidate candidate = toExplore.poll();
+            if (best.size() >= ef && candidate.similarity < best.peek().similarity) {
+                break;
+            }
+            int[] neighbors = links[candidate.node][layer];
+            for (int i = 0, count = linkCounts[candidate.node][layer]; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float similarity = similarity(query, vectors[neighbor]);
+                if (best.size() < ef || similarity > best.peek().similarity) {
+                    Candidate next = new Candidate(neighbor, similarity);
+                    toExplore.add(next);
+                    best.add(next);
+                    if (best.size() > ef) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+        List<Candidate> result = new ArrayList<>(best);
+        result.sort(BY_SIMILARITY.reversed());
+        return result;
+    }
+
+    private int allocateNode(long id, float[] vector, int level) {
+        if (nodeCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            vectors = Arrays.copyOf(vectors, capacity);
+            links = Arrays.copyOf(links, capacity);
+            linkCounts = Arrays.copyOf(linkCounts, capacity);
+        }
+        int node = nodeCount++;
+        ids[node] = id;
+        vectors[node] = vector;
+        links[node] = new int[level + 1][];
+        for (int layer = 0; layer <= level; layer++) {
+            links[node][layer] = new int[layer == 0 ? bottomM : m];
+        }
+        linkCounts[node] = new int[level + 1];
+        nodeById.put(id, node);
+        return node;
+    }
+
+    private static final class Candidate {
+
+        private final int node;
+
+        private final float similarity;
+
+        private Candidate(int node, float similarity) {
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+}
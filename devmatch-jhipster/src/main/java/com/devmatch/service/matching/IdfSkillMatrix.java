@@ -0,0 +1,167 @@
+package com.devmatch.service.matching;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the developer skills as a sparse column-major matrix, with inverse document frequency weights.
+ * <p>
+ * Each technology column is the sorted posting list of the {@link SkillIndex} slots of the developers having that
+ * skill. A query only materializes its own columns, as dense {@code float} columns over the union of their postings
+ * holding {@code 1} for the developers having the skill, so that its cost depends on its candidates rather than on
+ * the whole roster. The weight of a technology is its smoothed inverse frequency across the developers'
+ * skills, {@code ln((1 + n) / (1 + df)) + 1}: a technology few developers have weighs more than a common one.
+ * <p>
+ * The weighted match of a developer is the weight of the required technologies they have, over the weight of all
+ * the required technologies, as a percentage. It is computed for every developer at once by a {@link ScoringKernel}.
+ * <p>
+ * Matrices are built by {@link SkillIndex#idfSkillMatrix()}.
+ */
+public class IdfSkillMatrix {
+
+    private final long version;
+
+    private final Map<Long, Integer> ordinalByTechnology;
+
+    private final long[] developerIds;
+
+    private final byte[] experienceRanks;
+
+    private final int[][] postings;
+
+    private final float[] weights;
+
+    private final float unknownWeight;
+
+    /**
+     * Callback receiving the developers having at least one technology of a query.
+     */
+    @FunctionalInterface
+    public interface ScoreConsumer {
+        void accept(long developerId, float weightedMatch, int experienceRank);
+    }
+
+    IdfSkillMatrix(
+        long version,
+        Map<Long, Integer> ordinalByTechnology,
+        long[] developerIds,
+        byte[] experienceRanks,
+        int[][] postings,
+        int developerCount
+    ) {
+        this.version = version;
+        this.ordinalByTechnology = ordinalByTechnology;
+        this.developerIds = developerIds;
+        this.experienceRanks = experienceRanks;
+        this.postings = postings;
+        this.weights = new float[postings.length];
+        for (int ordinal = 0; ordinal < postings.length; ordinal++) {
+            weights[ordinal] = weight(developerCount, postings[ordinal] == null ? 0 : postings[ordinal].length);
+        }
+        this.unknownWeight = weight(developerCount, 0);
+    }
+
+    /**
+     * @return the {@link SkillIndex#version()} this matrix was built from.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Get the weight of a technology.
+     *
+     * @param technologyId the id of the technology.
+     * @return its inverse frequency weight, the highest one if no developer has it.
+     */
+    public float weight(long technologyId) {
+        Integer ordinal = ordinalByTechnology.get(technologyId);
+        return ordinal == null || postings[ordinal] == null ? unknownWeight : weights[ordinal];
+    }
+
+    /**
+     * Score every developer having at least one technology of a query.
+     *
+     * @param technologyIds the ids of the required technologies.
+     * @param kernel the kernel computing the weighted sums.
+     * @param consumer the callback receiving each developer id, its weighted match between 0 and 100, and its experience rank.
+     */
+    public void score(Collection<Long> technologyIds, ScoringKernel kernel, ScoreConsumer consumer) {
+        List<Integer> queryOrdinals = new ArrayList<>();
+        float total = 0f;
+        for (Long technologyId : new LinkedHashSet<>(technologyIds)) {
+            Integer ordinal = ordinalByTechnology.get(technologyId);
+            if (ordinal == null || postings[ordinal] == null) {
+                total += unknownWeight;
+            } else {
+                total += weights[ordinal];
+                queryOrdinals.add(ordinal);
+            }
+        }
+        if (queryOrdinals.isEmpty()) {
+            return;
+        }
+        int[] candidates = candidates(queryOrdinals);
+        float[][] queryColumns = new float[queryOrdinals.size()][];
+        float[] queryWeights = new float[queryColumns.length];
+        for (int i = 0; i < queryColumns.length; i++) {
+            int ordinal = queryOrdinals.get(i);
+            queryColumns[i] = column(postings[ordinal], candidates);
+            queryWeights[i] = weights[ordinal];
+        }
+        float[] scores = new float[candidates.length];
+        kernel.score(queryColumns, queryWeights, candidates.length, scores);
+        float scale = 100f / total;
+        for (int row = 0; row < candidates.length; row++) {
+            int slot = candidates[row];
+            consumer.accept(developerIds[slot], scores[row] * scale, experienceRanks[slot]);
+        }
+    }
+
+    /**
+     * @return the sorted union of the postings of the ordinals.
+     */
+    private int[] candidates(List<Integer> ordinals) {
+        long[] union = new long[(developerIds.length + 63) >>> 6];
+        int count = 0;
+        for (int ordinal : ordinals) {
+            for (int slot : postings[ordinal]) {
+                long bit = 1L << slot;
+                if ((union[slot >>> 6] & bit) == 0) {
+                    union[slot >>> 6] |= bit;
+                    count++;
+                }
+            }
+        }
+        int[] candidates = new int[count];
+        int row = 0;
+        for (int word = 0; word < union.length; word++) {
+            for (long pending = union[word]; pending != 0; pending &= pending - 1) {
+                candidates[row++] = (word << 6) + Long.numberOfTrailingZeros(pending);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * @return the dense column of a posting over the candidates, both sorted.
+     */
+    private static float[] column(int[] posting, int[] candidates) {
+        float[] column = new float[candidates.length];
+        int row = 0;
+        for (int slot : posting) {
+            while (candidates[row] != slot) {
+                row++;
+            }
+            column[row] = 1f;
+        }
+        return column;
+    }
+
+    private static float weight(int developerCount, int frequency) {
+        return (float) (Math.log((1d + developerCount) / (1d + frequency)) + 1d);
+    }
+}
@@ -0,0 +1,23 @@
+package com.devmatch.service.matching;
+
+/**
+ * Portable {@link ScoringKernel}, one row at a time.
+ */
+public class ScalarScoringKernel implements ScoringKernel {
+
+    @Override
+    public void score(float[][] columns, float[] weights, int rows, float[] scores) {
+        for (int row = 0; row < rows; row++) {
+            float sum = 0f;
+            for (int column = 0; column < columns.length; column++) {
+                sum += columns[column][row] * weights[column];
+            }
+            scores[row] = sum;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ScalarScoringKernel";
+    }
+}
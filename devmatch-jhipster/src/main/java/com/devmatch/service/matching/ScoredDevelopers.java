@@ -0,0 +1,57 @@
+package com.devmatch.service.matching;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of (developer id, overlap) pairs, backed by primitive arrays.
+ * <p>
+ * Used to collect the overlaps computed by a fork/join task and to concatenate them with the ones
+ * of its sibling tasks, without boxing a single pair.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class ScoredDevelopers {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    private int[] overlaps = new int[INITIAL_CAPACITY];
+
+    private int size;
+
+    public void add(long developerId, int overlap) {
+        ensureCapacity(size + 1);
+        ids[size] = developerId;
+        overlaps[size] = overlap;
+        size++;
+    }
+
+    public ScoredDevelopers addAll(ScoredDevelopers other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.ids, 0, ids, size, other.size);
+        System.arraycopy(other.overlaps, 0, overlaps, size, other.size);
+        size += other.size;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long idAt(int position) {
+        return ids[position];
+    }
+
+    public int overlapAt(int position) {
+        return overlaps[position];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int newCapacity = Math.max(capacity, ids.length << 1);
+            ids = Arrays.copyOf(ids, newCapacity);
+            overlaps = Arrays.copyOf(overlaps, newCapacity);
+        }
+    }
+}
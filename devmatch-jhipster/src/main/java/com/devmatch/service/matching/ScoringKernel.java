@@ -0,0 +1,42 @@
+package com.devmatch.service.matching;
+
+/**
+ * Kernel computing weighted sums of dense {@code float} columns, i.e. the dot products of every row of a
+ * column-major matrix with a weight vector.
+ * <p>
+ * {@link #create()} returns a SIMD implementation based on the {@code jdk.incubator.vector} module when it was
+ * built, with the {@code vector} Maven profile, and the JVM was started with {@code --add-modules jdk.incubator.vector};
+ * it returns a scalar implementation otherwise. Both implementations add the columns in the same order, so they return
+ * the same sums.
+ */
+public interface ScoringKernel {
+    /**
+     * Compute {@code scores[i] = sum(weights[j] * columns[j][i])} for every row {@code i < rows}.
+     *
+     * @param columns the columns, each of at least {@code rows} elements.
+     * @param weights the weight of each column.
+     * @param rows the number of rows to compute.
+     * @param scores the array receiving the sums, of at least {@code rows} elements.
+     */
+    void score(float[][] columns, float[] weights, int rows, float[] scores);
+
+    /**
+     * Get the fastest kernel supported by the running JVM.
+     *
+     * @return the SIMD kernel if it was built and the {@code jdk.incubator.vector} module is available, the scalar
+     * kernel otherwise.
+     */
+    static ScoringKernel create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Loaded reflectively, as it is only built by the vector profile and links the Vector API
+                return (ScoringKernel) Class.forName("com.devmatch.service.matching.VectorScoringKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return new ScalarScoringKernel();
+            }
+        }
+        return new ScalarScoringKernel();
+    }
+}
@@ -0,0 +1,444 @@
+package com.devmatch.service.matching;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of developer skills.
+ * <p>
+ * Each technology id is assigned a dense ordinal, and each developer's skills are stored as a
+ * {@code long[]} bitset over those ordinals, so the overlap between a developer and a project is
+ * the popcount of the AND-ed words. Developers are stored in slots which are never reused; the
+ * index is rebuilt from scratch to reclaim them.
+ * <p>
+ * Each technology ordinal also has a posting list: the sorted {@code int[]} of the slots of the
+ * developers having that skill. A query only scores the union of the postings of its
+ * technologies, so developers sharing nothing with it are never visited.
+ * <p>
+ * This class is thread-safe: readers share a read lock, writers take the write lock.
+ */
+public class SkillIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinalByTechnology = new HashMap<>();
+
+    private final Map<Long, Integer> slotByDeveloper = new HashMap<>();
+
+    private long[] developerIds = new long[INITIAL_CAPACITY];
+
+    private long[][] skills = new long[INITIAL_CAPACITY][];
+
+    private byte[] experienceRanks = new byte[INITIAL_CAPACITY];
+
+    private int slotCount;
+
+    private int[][] postings = new int[INITIAL_CAPACITY][];
+
+    private int[] postingSizes = new int[INITIAL_CAPACITY];
+
+    private long version;
+
+    /**
+     * Callback receiving the developers sharing at least one technology with a query.
+     */
+    @FunctionalInterface
+    public interface OverlapConsumer {
+        void accept(long developerId, int overlap, int experienceRank);
+    }
+
+    /**
+     * Encode a set of technology ids as a bitset, assigning ordinals to unknown technologies.
+     *
+     * @param technologyIds the technology ids.
+     * @return the bitset.
+     */
+    public long[] encode(Collection<Long> technologyIds) {
+        lock.readLock().lock();
+        try {
+            if (ordinalByTechnology.keySet().containsAll(technologyIds)) {
+                return encodeLocked(technologyIds);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            return encodeLocked(technologyIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace the skills of a developer.
+     *
+     * @param developerId the id of the developer.
+     * @param experienceRank the rank of the developer's experience level, see {@link ExperienceLevels#rank(String)}.
+     * @param technologyIds the ids of the developer's skills.
+     */
+    public void put(long developerId, int experienceRank, Collection<Long> technologyIds) {
+        lock.writeLock().lock();
+        try {
+            long[] bits = encodeLocked(technologyIds);
+            Integer slot = slotByDeveloper.get(developerId);
+            if (slot == null) {
+                slot = allocateSlot(developerId);
+            }
+            long[] previous = skills[slot] == null ? EMPTY : skills[slot];
+            updatePostings(slot, previous, bits);
+            skills[slot] = bits;
+            experienceRanks[slot] = (byte) experienceRank;
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a developer from the index.
+     *
+     * @param developerId the id of the developer.
+     */
+    public void remove(long developerId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByDeveloper.remove(developerId);
+            if (slot != null) {
+                updatePostings(slot, skills[slot], EMPTY);
+                skills[slot] = null;
+                version++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a technology from every developer's skills. Its ordinal stays reserved.
+     *
+     * @param technologyId the id of the technology.
+     */
+    public void removeTechnology(long technologyId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalByTechnology.get(technologyId);
+            if (ordinal == null || ordinal >= postings.length || postings[ordinal] == null) {
+                return;
+            }
+            int[] posting = postings[ordinal];
+            long mask = ~(1L << ordinal);
+            for (int i = 0, size = postingSizes[ordinal]; i < size; i++) {
+                skills[posting[i]][ordinal >>> 6] &= mask;
+            }
+            postings[ordinal] = null;
+            postingSizes[ordinal] = 0;
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Visit every developer sharing at least one technology with the query.
+     * <p>
+     * Candidates are the union of the posting lists of the query's technologies; only they are scored.
+     *
+     * @param query the query bitset, as returned by {@link #encode(Collection)}.
+     * @param consumer the callback receiving each developer id, its overlap with the query and its experience rank.
+     */
+    public void forEachOverlap(long[] query, OverlapConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            long[] candidates = candidatesLocked(query);
+            forEachOverlapLocked(query, candidates, 0, candidates.length, consumer);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the candidates of a query: the union of the posting lists of its technologies, as a bitset over developer slots.
+     * <p>
+     * Together with {@link #forEachOverlap(long[], long[], int, int, OverlapConsumer)}, this allows scoring
+     * disjoint ranges of candidates from several threads.
+     *
+     * @param query the query bitset, as returned by {@link #encode(Collection)}.
+     * @return the candidates bitset.
+     */
+    public long[] candidates(long[] query) {
+        lock.readLock().lock();
+        try {
+            return candidatesLocked(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visit the candidates of a query within a range of words of its candidates bitset.
+     * <p>
+     * Slots removed since the candidates were computed are skipped.
+     *
+     * @param query the query bitset, as returned by {@link #encode(Collection)}.
+     * @param candidates the candidates bitset, as returned by {@link #candidates(long[])}.
+     * @param fromWord the first word of the range, inclusive.
+     * @param toWord the last word of the range, exclusive.
+     * @param consumer the callback receiving each developer id, its overlap with the query and its experience rank.
+     */
+    public void forEachOverlap(long[] query, long[] candidates, int fromWord, int toWord, OverlapConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            forEachOverlapLocked(query, candidates, fromWord, toWord, consumer);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count the developers sharing at least one technology with the query.
+     *
+     * @param query the query bitset, as returned by {@link #encode(Collection)}.
+     * @return the number of candidates for the query.
+     */
+    public int countCandidates(long[] query) {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (long word : candidatesLocked(query)) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get a copy of the posting list of a technology.
+     *
+     * @param technologyId the id of the technology.
+     * @return the sorted slots of the developers having that skill.
+     */
+    public int[] postings(long technologyId) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinalByTechnology.get(technologyId);
+            if (ordinal == null || ordinal >= postings.length || postings[ordinal] == null) {
+                return new int[0];
+            }
+            return Arrays.copyOf(postings[ordinal], postingSizes[ordinal]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count the technologies of a query that a developer has.
+     *
+     * @param developerId the id of the developer.
+     * @param query the query bitset, as returned by {@link #encode(Collection)}.
+     * @return the overlap between the developer's skills and the query, {@code 0} if the developer is not indexed.
+     */
+    public int overlap(long developerId, long[] query) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotByDeveloper.get(developerId);
+            return slot == null ? 0 : overlap(query, skills[slot]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Build the {@link IdfSkillMatrix} of the indexed developers, from a copy of the posting lists.
+     *
+     * @return the matrix, tagged with the current {@link #version()}.
+     */
+    public IdfSkillMatrix idfSkillMatrix() {
+        lock.readLock().lock();
+        try {
+            int[][] matrixPostings = new int[ordinalByTechnology.size()][];
+            for (int ordinal = 0; ordinal < Math.min(matrixPostings.length, postings.length); ordinal++) {
+                if (postings[ordinal] != null && postingSizes[ordinal] > 0) {
+                    matrixPostings[ordinal] = Arrays.copyOf(postings[ordinal], postingSizes[ordinal]);
+                }
+            }
+            return new IdfSkillMatrix(
+                version,
+                new HashMap<>(ordinalByTechnology),
+                Arrays.copyOf(developerIds, slotCount),
+                Arrays.copyOf(experienceRanks, slotCount),
+                matrixPostings,
+                slotByDeveloper.size()
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return a counter incremented by every change of the indexed skills.
+     */
+    public long version() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of indexed developers.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByDeveloper.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count the bits set in both bitsets.
+     *
+     * @param a the first bitset.
+     * @param b the second bitset.
+     * @return the number of common bits.
+     */
+    public static int overlap(long[] a, long[] b) {
+        int words = Math.min(a.length, b.length);
+        int count = 0;
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    private long[] encodeLocked(Collection<Long> technologyIds) {
+        if (technologyIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] bits = EMPTY;
+        for (Long technologyId : technologyIds) {
+            Integer ordinal = ordinalByTechnology.get(technologyId);
+            if (ordinal == null) {
+                ordinal = ordinalByTechnology.size();
+                ordinalByTechnology.put(technologyId, ordinal);
+            }
+            int word = ordinal >>> 6;
+            if (word >= bits.length) {
+                bits = Arrays.copyOf(bits, word + 1);
+            }
+            bits[word] |= 1L << ordinal;
+        }
+        return bits;
+    }
+
+    private void forEachOverlapLocked(long[] query, long[] candidates, int fromWord, int toWord, OverlapConsumer consumer) {
+        for (int word = fromWord; word < toWord; word++) {
+            long pending = candidates[word];
+            while (pending != 0) {
+                int slot = (word << 6) + Long.numberOfTrailingZeros(pending);
+                pending &= pending - 1;
+                long[] bits = skills[slot];
+                if (bits != null) {
+                    consumer.accept(developerIds[slot], overlap(query, bits), experienceRanks[slot]);
+                }
+            }
+        }
+    }
+
+    private long[] candidatesLocked(long[] query) {
+        long[] candidates = new long[(slotCount + 63) >>> 6];
+        for (int word = 0; word < query.length; word++) {
+            long pending = query[word];
+            while (pending != 0) {
+                int ordinal = (word << 6) + Long.numberOfTrailingZeros(pending);
+                pending &= pending - 1;
+                if (ordinal < postings.length && postings[ordinal] != null) {
+                    int[] posting = postings[ordinal];
+                    for (int i = 0, size = postingSizes[ordinal]; i < size; i++) {
+                        candidates[posting[i] >>> 6] |= 1L << posting[i];
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void updatePostings(int slot, long[] previous, long[] current) {
+        int words = Math.max(previous.length, current.length);
+        for (int word = 0; word < words; word++) {
+            long before = word < previous.length ? previous[word] : 0L;
+            long after = word < current.length ? current[word] : 0L;
+            long removed = before & ~after;
+            while (removed != 0) {
+                removePosting((word << 6) + Long.numberOfTrailingZeros(removed), slot);
+                removed &= removed - 1;
+            }
+            long added = after & ~before;
+            while (added != 0) {
+                addPosting((word << 6) + Long.numberOfTrailingZeros(added), slot);
+                added &= added - 1;
+            }
+        }
+    }
+
+    private void addPosting(int ordinal, int slot) {
+        if (ordinal >= postings.length) {
+            int capacity = Math.max(postings.length * 2, ordinal + 1);
+            postings = Arrays.copyOf(postings, capacity);
+            postingSizes = Arrays.copyOf(postingSizes, capacity);
+        }
+        int[] posting = postings[ordinal];
+        int size = postingSizes[ordinal];
+        if (posting == null) {
+            posting = new int[4];
+        } else if (size == posting.length) {
+            posting = Arrays.copyOf(posting, size * 2);
+        }
+        int position = Arrays.binarySearch(posting, 0, size, slot);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        System.arraycopy(posting, position, posting, position + 1, size - position);
+        posting[position] = slot;
+        postings[ordinal] = posting;
+        postingSizes[ordinal] = size + 1;
+    }
+
+    private void removePosting(int ordinal, int slot) {
+        int[] posting = postings[ordinal];
+        int size = postingSizes[ordinal];
+        int position = Arrays.binarySearch(posting, 0, size, slot);
+        if (position >= 0) {
+            System.arraycopy(posting, position + 1, posting, position, size - position - 1);
+            postingSizes[ordinal] = size - 1;
+        }
+    }
+
+    private int allocateSlot(long developerId) {
+        if (slotCount == developerIds.length) {
+            int capacity = developerIds.length * 2;
+            developerIds = Arrays.copyOf(developerIds, capacity);
+            skills = Arrays.copyOf(skills, capacity);
+            experienceRanks = Arrays.copyOf(experienceRanks, capacity);
+        }
+        int slot = slotCount++;
+        developerIds[slot] = developerId;
+        slotByDeveloper.put(developerId, slot);
+        return slot;
+    }
+}
@@ -0,0 +1,139 @@
+package com.devmatch.service.matching;
+
+/**
+ * Bounded min-heap keeping the best {@code k} scored developers, backed by primitive arrays.
+ * <p>
+ * Candidates are ordered by decreasing score, then by decreasing experience rank, then by increasing
+ * developer id. The root of the heap is the worst kept candidate, so a new candidate is either
+ * rejected in constant time or replaces the root in {@code O(log k)}. Memory is {@code O(k)}
+ * whatever the number of offered candidates.
+ * <p>
+ * Once {@link #sortDescending()} has been called, candidates can be read by position, best first,
+ * and the heap must not be offered new candidates.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class TopKHeap {
+
+    private final int capacity;
+
+    private final float[] scores;
+
+    private final int[] ranks;
+
+    private final long[] ids;
+
+    private int size;
+
+    public TopKHeap(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.scores = new float[capacity];
+        this.ranks = new int[capacity];
+        this.ids = new long[capacity];
+    }
+
+    /**
+     * Offer a candidate to the heap.
+     *
+     * @param score the score of the candidate.
+     * @param rank the tie-breaking rank of the candidate, higher is better.
+     * @param id the id of the candidate, lower is better on ties.
+     * @return {@code true} if the candidate is kept.
+     */
+    public boolean offer(float score, int rank, long id) {
+        if (size < capacity) {
+            set(size, score, rank, id);
+            siftUp(size++);
+            return true;
+        }
+        if (!isBetter(score, rank, id, 0)) {
+            return false;
+        }
+        set(0, score, rank, id);
+        siftDown(0, size);
+        return true;
+    }
+
+    /**
+     * Sort the kept candidates in place, best first.
+     */
+    public void sortDescending() {
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public float scoreAt(int position) {
+        return scores[position];
+    }
+
+    public int rankAt(int position) {
+        return ranks[position];
+    }
+
+    public long idAt(int position) {
+        return ids[position];
+    }
+
+    private boolean isBetter(float score, int rank, long id, int position) {
+        if (score != scores[position]) {
+            return score > scores[position];
+        }
+        if (rank != ranks[position]) {
+            return rank > ranks[position];
+        }
+        return id < ids[position];
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isBetter(scores[parent], ranks[parent], ids[parent], position)) {
+                return;
+            }
+            swap(parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position, int end) {
+        while (true) {
+            int worst = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < end && isBetter(scores[worst], ranks[worst], ids[worst], left)) {
+                worst = left;
+            }
+            if (right < end && isBetter(scores[worst], ranks[worst], ids[worst], right)) {
+                worst = right;
+            }
+            if (worst == position) {
+                return;
+            }
+            swap(position, worst);
+            position = worst;
+        }
+    }
+
+    private void set(int position, float score, int rank, long id) {
+        scores[position] = score;
+        ranks[position] = rank;
+        ids[position] = id;
+    }
+
+    private void swap(int a, int b) {
+        float score = scores[a];
+        int rank = ranks[a];
+        long id = ids[a];
+        set(a, scores[b], ranks[b], ids[b]);
+        set(b, score, rank, id);
+    }
+}
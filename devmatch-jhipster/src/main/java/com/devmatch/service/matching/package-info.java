@@ -0,0 +1,4 @@
+/**
+ * In-memory data structures backing the matching engine.
+ */
+package com.devmatch.service.matching;
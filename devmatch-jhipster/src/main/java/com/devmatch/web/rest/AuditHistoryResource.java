@@ -1,13 +1,18 @@
 package com.devmatch.web.rest;
 
+import com.devmatch.domain.AuditHistory;
 import com.devmatch.repository.AuditHistoryRepository;
 import com.devmatch.service.AuditHistoryService;
+import com.devmatch.service.EntityCountService;
 import com.devmatch.service.dto.AuditHistoryDTO;
 import com.devmatch.web.rest.errors.BadRequestAlertException;
+import com.devmatch.web.rest.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,6 +21,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -35,6 +41,8 @@ public class AuditHistoryResource {
 
     private static final String ENTITY_NAME = "auditHistory";
 
+    private static final int MAX_HISTORY_SIZE = 1000;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -42,9 +50,16 @@ public class AuditHistoryResource {
 
     private final AuditHistoryRepository auditHistoryRepository;
 
-    public AuditHistoryResource(AuditHistoryService auditHistoryService, AuditHistoryRepository auditHistoryRepository) {
+    private final EntityCountService entityCountService;
+
+    public AuditHistoryResource(
+        AuditHistoryService auditHistoryService,
+        AuditHistoryRepository auditHistoryRepository,
+        EntityCountService entityCountService
+    ) {
         this.auditHistoryService = auditHistoryService;
         this.auditHistoryRepository = auditHistoryRepository;
+        this.entityCountService = entityCountService;
     }
 
     /**
@@ -140,16 +155,78 @@ public class AuditHistoryResource {
      * {@code GET  /audit-histories} : get all the auditHistories.
      *
      * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of auditHistories in body.
+     * @param mode {@code page} to get the total count in {@code X-Total-Count}, or {@code slice} to skip the count query.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of auditHistories in body,
+     * or with status {@code 400 (Bad Request)} if the mode is not valid.
      */
     @GetMapping("")
-    public ResponseEntity<List<AuditHistoryDTO>> getAllAuditHistories(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<AuditHistoryDTO>> getAllAuditHistories(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "mode", required = false) String mode
+    ) {
         LOG.debug("REST request to get a page of AuditHistories");
+        if (SlicePaginationUtil.isSliceMode(mode, ENTITY_NAME)) {
+            Slice<AuditHistoryDTO> slice = auditHistoryService.findSlice(pageable);
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                entityCountService.getApproximateCount(AuditHistory.class)
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
         Page<AuditHistoryDTO> page = auditHistoryService.findAll(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /audit-histories?entityType=:entityType&entityId=:entityId} : get a page of the history of an entity, newest first.
+     * <p>
+     * Pages are read by seek: the {@code Link} header of a full page points to the next one, with the modification
+     * date and id of its last auditHistory as {@code after} parameter. No total count is computed.
+     *
+     * @param entityType the type of the audited entity.
+     * @param entityId the id of the audited entity.
+     * @param after the {@code fechaModificacion,id} of the last auditHistory of the previous page, if any.
+     * @param size the maximum number of auditHistories of the page.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of auditHistories in body,
+     * or with status {@code 400 (Bad Request)} if {@code after} or {@code size} is not valid.
+     */
+    @GetMapping(value = "", params = { "entityType", "entityId" })
+    public ResponseEntity<List<AuditHistoryDTO>> getAuditHistoriesOfEntity(
+        @RequestParam("entityType") String entityType,
+        @RequestParam("entityId") Long entityId,
+        @RequestParam(name = "after", required = false) String after,
+        @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        LOG.debug("REST request to get the AuditHistories of {} {} after {}", entityType, entityId, after);
+        if (size < 1) {
+            throw new BadRequestAlertException("size must be positive", ENTITY_NAME, "invalidsize");
+        }
+        int limit = Math.min(size, MAX_HISTORY_SIZE);
+        Instant afterFechaModificacion = null;
+        Long afterId = null;
+        if (after != null) {
+            int separator = after.lastIndexOf(',');
+            try {
+                afterFechaModificacion = Instant.parse(after.substring(0, Math.max(separator, 0)));
+                afterId = Long.valueOf(after.substring(separator + 1));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new BadRequestAlertException("after must be fechaModificacion,id", ENTITY_NAME, "invalidcursor");
+            }
+        }
+        List<AuditHistoryDTO> auditHistories = auditHistoryService.findHistory(entityType, entityId, afterFechaModificacion, afterId, limit);
+        HttpHeaders headers = new HttpHeaders();
+        if (auditHistories.size() == limit) {
+            AuditHistoryDTO last = auditHistories.get(limit - 1);
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", last.getFechaModificacion() + "," + last.getId())
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return ResponseEntity.ok().headers(headers).body(auditHistories);
+    }
+
     /**
      * {@code GET  /audit-histories/:id} : get the "id" auditHistory.
      *
@@ -1,11 +1,21 @@
 package com.devmatch.web.rest;
 
+import com.devmatch.domain.Developer;
+import com.devmatch.repository.EntityVersion;
 import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.security.AuthoritiesConstants;
+import com.devmatch.service.DeveloperImportService;
 import com.devmatch.service.DeveloperService;
+import com.devmatch.service.EntityCountService;
 import com.devmatch.service.dto.DeveloperDTO;
+import com.devmatch.service.dto.DeveloperImportResultDTO;
 import com.devmatch.web.rest.errors.BadRequestAlertException;
+import com.devmatch.web.rest.util.EntityTagUtil;
+import com.devmatch.web.rest.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -15,10 +25,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -42,9 +57,20 @@ public class DeveloperResource {
 
     private final DeveloperRepository developerRepository;
 
-    public DeveloperResource(DeveloperService developerService, DeveloperRepository developerRepository) {
+    private final DeveloperImportService developerImportService;
+
+    private final EntityCountService entityCountService;
+
+    public DeveloperResource(
+        DeveloperService developerService,
+        DeveloperRepository developerRepository,
+        DeveloperImportService developerImportService,
+        EntityCountService entityCountService
+    ) {
         this.developerService = developerService;
         this.developerRepository = developerRepository;
+        this.developerImportService = developerImportService;
+        this.entityCountService = entityCountService;
     }
 
     /**
@@ -66,20 +92,45 @@ public class DeveloperResource {
             .body(developerDTO);
     }
 
+    /**
+     * {@code POST  /developers/import} : Import developers in bulk from a CSV upload.
+     * <p>
+     * Rows failing validation are reported in the response body, the other rows are imported.
+     *
+     * @param csv the CSV upload, with the columns of {@code developer.csv} separated by {@code ;}, plus optional
+     * {@code skills} and {@code experiences} columns.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the numbers of imported and rejected rows,
+     * or with status {@code 400 (Bad Request)} if the header has no {@code name} column.
+     * @throws IOException if the upload cannot be read.
+     */
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.TEXT_PLAIN_VALUE })
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<DeveloperImportResultDTO> importDevelopers(InputStream csv) throws IOException {
+        LOG.debug("REST request to import Developers");
+        try {
+            return ResponseEntity.ok(developerImportService.importCsv(csv));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "invalidheader");
+        }
+    }
+
     /**
      * {@code PUT  /developers/:id} : Updates an existing developer.
      *
      * @param id the id of the developerDTO to save.
      * @param developerDTO the developerDTO to update.
+     * @param ifMatch the entity tag the update is based on, if any.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated developerDTO,
      * or with status {@code 400 (Bad Request)} if the developerDTO is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the developerDTO was modified since the {@code ifMatch} tag was read,
      * or with status {@code 500 (Internal Server Error)} if the developerDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/{id}")
     public ResponseEntity<DeveloperDTO> updateDeveloper(
         @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody DeveloperDTO developerDTO
+        @Valid @RequestBody DeveloperDTO developerDTO,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         LOG.debug("REST request to update Developer : {}, {}", id, developerDTO);
         if (developerDTO.getId() == null) {
@@ -89,13 +140,18 @@ public class DeveloperResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!developerRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Long version = developerRepository
+            .findVersionById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        EntityTagUtil.checkIfMatch(ifMatch, version, ENTITY_NAME);
+        if (ifMatch != null || developerDTO.getVersion() == null) {
+            developerDTO.setVersion(version);
         }
 
         developerDTO = developerService.update(developerDTO);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, developerDTO.getId().toString()))
+            .eTag(EntityTagUtil.of(developerDTO.getVersion()))
             .body(developerDTO);
     }
 
@@ -104,8 +160,10 @@ public class DeveloperResource {
      *
      * @param id the id of the developerDTO to save.
      * @param developerDTO the developerDTO to update.
+     * @param ifMatch the entity tag the update is based on, if any.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated developerDTO,
      * or with status {@code 400 (Bad Request)} if the developerDTO is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the developerDTO was modified since the {@code ifMatch} tag was read,
      * or with status {@code 404 (Not Found)} if the developerDTO is not found,
      * or with status {@code 500 (Internal Server Error)} if the developerDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -113,7 +171,8 @@ public class DeveloperResource {
     @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<DeveloperDTO> partialUpdateDeveloper(
         @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody DeveloperDTO developerDTO
+        @NotNull @RequestBody DeveloperDTO developerDTO,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         LOG.debug("REST request to partial update Developer partially : {}, {}", id, developerDTO);
         if (developerDTO.getId() == null) {
@@ -123,16 +182,19 @@ public class DeveloperResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!developerRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Long version = developerRepository
+            .findVersionById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        EntityTagUtil.checkIfMatch(ifMatch, version, ENTITY_NAME);
+        if (ifMatch != null) {
+            developerDTO.setVersion(version);
         }
 
         Optional<DeveloperDTO> result = developerService.partialUpdate(developerDTO);
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, developerDTO.getId().toString())
-        );
+        HttpHeaders headers = HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, developerDTO.getId().toString());
+        result.ifPresent(updated -> headers.setETag(EntityTagUtil.of(updated.getVersion())));
+        return ResponseUtil.wrapOrNotFound(result, headers);
     }
 
     /**
@@ -140,35 +202,69 @@ public class DeveloperResource {
      *
      * @param pageable the pagination information.
      * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of developers in body.
+     * @param mode {@code page} to get the total count in {@code X-Total-Count}, or {@code slice} to skip the count query.
+     * @param request the current request, for its {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of developers in body,
+     * or with status {@code 304 (Not Modified)} if none of them was modified since the {@code If-None-Match} tag was read,
+     * or with status {@code 400 (Bad Request)} if the mode is not valid.
      */
     @GetMapping("")
     public ResponseEntity<List<DeveloperDTO>> getAllDevelopers(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
-        @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload
+        @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload,
+        @RequestParam(name = "mode", required = false) String mode,
+        WebRequest request
     ) {
         LOG.debug("REST request to get a page of Developers");
-        Page<DeveloperDTO> page;
-        if (eagerload) {
-            page = developerService.findAllWithEagerRelationships(pageable);
-        } else {
-            page = developerService.findAll(pageable);
+        pageable = EntityTagUtil.withStableOrder(pageable);
+        if (SlicePaginationUtil.isSliceMode(mode, ENTITY_NAME)) {
+            String eTag = EntityTagUtil.of(developerService.findVersionSlice(pageable));
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            Slice<DeveloperDTO> slice = findSlice(pageable, eagerload);
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                entityCountService.getApproximateCount(Developer.class)
+            );
+            return ResponseEntity.ok().headers(headers).eTag(eTag).cacheControl(EntityTagUtil.CACHE_CONTROL).body(slice.getContent());
+        }
+        Page<EntityVersion> versions = developerService.findVersions(pageable);
+        String eTag = EntityTagUtil.of(versions);
+        if (request.checkNotModified(eTag)) {
+            return null;
         }
+        Page<DeveloperDTO> page = new PageImpl<>(findSlice(pageable, eagerload).getContent(), pageable, versions.getTotalElements());
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+        return ResponseEntity.ok().headers(headers).eTag(eTag).cacheControl(EntityTagUtil.CACHE_CONTROL).body(page.getContent());
+    }
+
+    private Slice<DeveloperDTO> findSlice(Pageable pageable, boolean eagerload) {
+        return eagerload ? developerService.findSliceWithEagerRelationships(pageable) : developerService.findSlice(pageable);
     }
 
     /**
      * {@code GET  /developers/:id} : get the "id" developer.
      *
      * @param id the id of the developerDTO to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the developerDTO, or with status {@code 404 (Not Found)}.
+     * @param request the current request, for its {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the developerDTO,
+     * or with status {@code 304 (Not Modified)} if the developerDTO was not modified since the {@code If-None-Match} tag was read,
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<DeveloperDTO> getDeveloper(@PathVariable("id") Long id) {
+    public ResponseEntity<DeveloperDTO> getDeveloper(@PathVariable("id") Long id, WebRequest request) {
         LOG.debug("REST request to get Developer : {}", id);
+        Optional<Long> version = developerService.findVersion(id);
+        if (version.isPresent() && request.checkNotModified(EntityTagUtil.of(version.orElseThrow()))) {
+            return null;
+        }
         Optional<DeveloperDTO> developerDTO = developerService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(developerDTO);
+        HttpHeaders headers = new HttpHeaders();
+        developerDTO.ifPresent(found -> headers.setETag(EntityTagUtil.of(found.getVersion())));
+        headers.setCacheControl(EntityTagUtil.CACHE_CONTROL);
+        return ResponseUtil.wrapOrNotFound(developerDTO, headers);
     }
 
     /**
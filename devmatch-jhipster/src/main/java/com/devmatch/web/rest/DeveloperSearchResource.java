@@ -0,0 +1,59 @@
+package com.devmatch.web.rest;
+
+import com.devmatch.service.DeveloperSearchService;
+import com.devmatch.service.dto.DeveloperSearchHitDTO;
+import com.devmatch.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
+
+/**
+ * REST controller for the full-text search of {@link com.devmatch.domain.Developer}.
+ */
+@RestController
+@RequestMapping("/api/_search")
+public class DeveloperSearchResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeveloperSearchResource.class);
+
+    private static final String ENTITY_NAME = "developer";
+
+    private final DeveloperSearchService developerSearchService;
+
+    public DeveloperSearchResource(DeveloperSearchService developerSearchService) {
+        this.developerSearchService = developerSearchService;
+    }
+
+    /**
+     * {@code GET  /_search/developers?q=:query} : search the developers by name, location, bio, motivation and
+     * experience descriptions.
+     *
+     * @param query the query, in the Lucene classic syntax.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the matching developers in body, most relevant first,
+     * or with status {@code 400 (Bad Request)} if the query is blank.
+     */
+    @GetMapping("/developers")
+    public ResponseEntity<List<DeveloperSearchHitDTO>> searchDevelopers(
+        @RequestParam("q") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Developers for query {}", query);
+        if (query.isBlank()) {
+            throw new BadRequestAlertException("The search query cannot be blank", ENTITY_NAME, "emptyquery");
+        }
+        Page<DeveloperSearchHitDTO> page = developerSearchService.search(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+}
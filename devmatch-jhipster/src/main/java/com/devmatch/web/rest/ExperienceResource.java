@@ -1,9 +1,12 @@
 package com.devmatch.web.rest;
 
+import com.devmatch.domain.Experience;
 import com.devmatch.repository.ExperienceRepository;
+import com.devmatch.service.EntityCountService;
 import com.devmatch.service.ExperienceService;
 import com.devmatch.service.dto.ExperienceDTO;
 import com.devmatch.web.rest.errors.BadRequestAlertException;
+import com.devmatch.web.rest.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -16,6 +19,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -42,9 +46,16 @@ public class ExperienceResource {
 
     private final ExperienceRepository experienceRepository;
 
-    public ExperienceResource(ExperienceService experienceService, ExperienceRepository experienceRepository) {
+    private final EntityCountService entityCountService;
+
+    public ExperienceResource(
+        ExperienceService experienceService,
+        ExperienceRepository experienceRepository,
+        EntityCountService entityCountService
+    ) {
         this.experienceService = experienceService;
         this.experienceRepository = experienceRepository;
+        this.entityCountService = entityCountService;
     }
 
     /**
@@ -139,11 +150,25 @@ public class ExperienceResource {
      * {@code GET  /experiences} : get all the experiences.
      *
      * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of experiences in body.
+     * @param mode {@code page} to get the total count in {@code X-Total-Count}, or {@code slice} to skip the count query.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of experiences in body,
+     * or with status {@code 400 (Bad Request)} if the mode is not valid.
      */
     @GetMapping("")
-    public ResponseEntity<List<ExperienceDTO>> getAllExperiences(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<ExperienceDTO>> getAllExperiences(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "mode", required = false) String mode
+    ) {
         LOG.debug("REST request to get a page of Experiences");
+        if (SlicePaginationUtil.isSliceMode(mode, ENTITY_NAME)) {
+            Slice<ExperienceDTO> slice = experienceService.findSlice(pageable);
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                entityCountService.getApproximateCount(Experience.class)
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
         Page<ExperienceDTO> page = experienceService.findAll(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
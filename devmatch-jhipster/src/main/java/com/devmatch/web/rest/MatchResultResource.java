@@ -1,13 +1,20 @@
 package com.devmatch.web.rest;
 
+import com.devmatch.domain.MatchResult;
 import com.devmatch.repository.MatchResultRepository;
+import com.devmatch.service.EntityCountService;
+import com.devmatch.service.MatchResultExportService;
 import com.devmatch.service.MatchResultService;
+import com.devmatch.service.MatchStatisticsService;
 import com.devmatch.service.dto.MatchResultDTO;
+import com.devmatch.service.dto.MatchStatisticsDTO;
 import com.devmatch.web.rest.errors.BadRequestAlertException;
+import com.devmatch.web.rest.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,9 +23,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -35,6 +46,8 @@ public class MatchResultResource {
 
     private static final String ENTITY_NAME = "matchResult";
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -42,9 +55,24 @@ public class MatchResultResource {
 
     private final MatchResultRepository matchResultRepository;
 
-    public MatchResultResource(MatchResultService matchResultService, MatchResultRepository matchResultRepository) {
+    private final MatchStatisticsService matchStatisticsService;
+
+    private final MatchResultExportService matchResultExportService;
+
+    private final EntityCountService entityCountService;
+
+    public MatchResultResource(
+        MatchResultService matchResultService,
+        MatchResultRepository matchResultRepository,
+        MatchStatisticsService matchStatisticsService,
+        MatchResultExportService matchResultExportService,
+        EntityCountService entityCountService
+    ) {
         this.matchResultService = matchResultService;
         this.matchResultRepository = matchResultRepository;
+        this.matchStatisticsService = matchStatisticsService;
+        this.matchResultExportService = matchResultExportService;
+        this.entityCountService = entityCountService;
     }
 
     /**
@@ -139,16 +167,71 @@ public class MatchResultResource {
      * {@code GET  /match-results} : get all the matchResults.
      *
      * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of matchResults in body.
+     * @param mode {@code page} to get the total count in {@code X-Total-Count}, or {@code slice} to skip the count query.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of matchResults in body,
+     * or with status {@code 400 (Bad Request)} if the mode is not valid.
      */
     @GetMapping("")
-    public ResponseEntity<List<MatchResultDTO>> getAllMatchResults(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<MatchResultDTO>> getAllMatchResults(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "mode", required = false) String mode
+    ) {
         LOG.debug("REST request to get a page of MatchResults");
+        if (SlicePaginationUtil.isSliceMode(mode, ENTITY_NAME)) {
+            Slice<MatchResultDTO> slice = matchResultService.findSlice(pageable);
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                entityCountService.getApproximateCount(MatchResult.class)
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
         Page<MatchResultDTO> page = matchResultService.findAll(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /match-results/stats} : get the counts and average scores of the matchResults.
+     *
+     * @param projectId the id of the project to restrict the statistics to, all projects if absent.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the statistics in body.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<MatchStatisticsDTO> getMatchStatistics(@RequestParam(name = "projectId", required = false) Long projectId) {
+        LOG.debug("REST request to get MatchResult statistics of Project : {}", projectId);
+        return ResponseEntity.ok(
+            projectId == null ? matchStatisticsService.getStatistics() : matchStatisticsService.getStatistics(projectId)
+        );
+    }
+
+    /**
+     * {@code GET  /match-results/export} : stream all the matchResults.
+     *
+     * @param format {@code ndjson} for a JSON object per line, {@code csv} for comma-separated values with a header line.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the matchResults streamed in body,
+     * or with status {@code 400 (Bad Request)} if the format is unknown.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMatchResults(
+        @RequestParam(name = "format", required = false, defaultValue = MatchResultExportService.FORMAT_NDJSON) String format
+    ) {
+        LOG.debug("REST request to export MatchResults as {}", format);
+        boolean csv = MatchResultExportService.FORMAT_CSV.equals(format);
+        if (!csv && !MatchResultExportService.FORMAT_NDJSON.equals(format)) {
+            throw new BadRequestAlertException(
+                "format must be " + MatchResultExportService.FORMAT_NDJSON + " or " + MatchResultExportService.FORMAT_CSV,
+                ENTITY_NAME,
+                "invalidformat"
+            );
+        }
+        StreamingResponseBody body = csv ? matchResultExportService::exportCsv : matchResultExportService::exportNdjson;
+        return ResponseEntity.ok()
+            .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("match-results." + format).build().toString())
+            .body(body);
+    }
+
     /**
      * {@code GET  /match-results/:id} : get the "id" matchResult.
      *
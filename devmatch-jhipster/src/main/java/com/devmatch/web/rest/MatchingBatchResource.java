@@ -0,0 +1,43 @@
+package com.devmatch.web.rest;
+
+import com.devmatch.security.AuthoritiesConstants;
+import com.devmatch.service.MatchingBatchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for triggering the matching batch.
+ */
+@RestController
+@RequestMapping("/api/admin/matching")
+public class MatchingBatchResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MatchingBatchResource.class);
+
+    private final MatchingBatchService matchingBatchService;
+
+    public MatchingBatchResource(MatchingBatchService matchingBatchService) {
+        this.matchingBatchService = matchingBatchService;
+    }
+
+    /**
+     * {@code POST  /admin/matching/recompute} : Recompute the matches of every open project in the background.
+     *
+     * @return the {@link ResponseEntity} with status {@code 202 (Accepted)}, or with status {@code 409 (Conflict)} if a run is already in progress.
+     */
+    @PostMapping("/recompute")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Void> recompute() {
+        LOG.debug("REST request to recompute the matches of the open projects");
+        if (!matchingBatchService.startRecompute()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -1,9 +1,21 @@
 package com.devmatch.web.rest;
 
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.domain.Project;
+import com.devmatch.repository.EntityVersion;
 import com.devmatch.repository.ProjectRepository;
+import com.devmatch.service.AiAffinityService;
+import com.devmatch.service.EntityCountService;
+import com.devmatch.service.KeywordExtractionService;
+import com.devmatch.service.MatchingEngineService;
 import com.devmatch.service.ProjectService;
+import com.devmatch.service.dto.KeywordExtractionDTO;
+import com.devmatch.service.dto.MatchCandidateDTO;
 import com.devmatch.service.dto.ProjectDTO;
 import com.devmatch.web.rest.errors.BadRequestAlertException;
+import com.devmatch.web.rest.util.EntityTagUtil;
+import com.devmatch.web.rest.util.MatchProgressEmitter;
+import com.devmatch.web.rest.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -11,14 +23,21 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -35,6 +54,18 @@ public class ProjectResource {
 
     private static final String ENTITY_NAME = "project";
 
+    private static final int MAX_TOP_MATCHES = 1000;
+
+    private static final int DEFAULT_TOP_MATCHES = 20;
+
+    private static final String WEIGHTING_NONE = "none";
+
+    private static final String WEIGHTING_IDF = "idf";
+
+    private static final String SHORTLIST_TECHNICAL = "technical";
+
+    private static final String SHORTLIST_SEMANTIC = "semantic";
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -42,13 +73,38 @@ public class ProjectResource {
 
     private final ProjectRepository projectRepository;
 
-    public ProjectResource(ProjectService projectService, ProjectRepository projectRepository) {
+    private final MatchingEngineService matchingEngineService;
+
+    private final AiAffinityService aiAffinityService;
+
+    private final KeywordExtractionService keywordExtractionService;
+
+    private final EntityCountService entityCountService;
+
+    private final long streamTimeoutMillis;
+
+    public ProjectResource(
+        ProjectService projectService,
+        ProjectRepository projectRepository,
+        MatchingEngineService matchingEngineService,
+        AiAffinityService aiAffinityService,
+        KeywordExtractionService keywordExtractionService,
+        EntityCountService entityCountService,
+        ApplicationProperties applicationProperties
+    ) {
         this.projectService = projectService;
         this.projectRepository = projectRepository;
+        this.matchingEngineService = matchingEngineService;
+        this.aiAffinityService = aiAffinityService;
+        this.keywordExtractionService = keywordExtractionService;
+        this.entityCountService = entityCountService;
+        this.streamTimeoutMillis = TimeUnit.SECONDS.toMillis(applicationProperties.getAi().getStreamTimeoutSeconds());
     }
 
     /**
      * {@code POST  /projects} : Create a new project.
+     * <p>
+     * The technologies named in the name and description of the project are added to its required technologies.
      *
      * @param projectDTO the projectDTO to create.
      * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new projectDTO, or with status {@code 400 (Bad Request)} if the project has already an ID.
@@ -60,6 +116,7 @@ public class ProjectResource {
         if (projectDTO.getId() != null) {
             throw new BadRequestAlertException("A new project cannot already have an ID", ENTITY_NAME, "idexists");
         }
+        keywordExtractionService.tagRequiredTechnologies(projectDTO);
         projectDTO = projectService.save(projectDTO);
         return ResponseEntity.created(new URI("/api/projects/" + projectDTO.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, projectDTO.getId().toString()))
@@ -71,15 +128,18 @@ public class ProjectResource {
      *
      * @param id the id of the projectDTO to save.
      * @param projectDTO the projectDTO to update.
+     * @param ifMatch the entity tag the update is based on, if any.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated projectDTO,
      * or with status {@code 400 (Bad Request)} if the projectDTO is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the projectDTO was modified since the {@code ifMatch} tag was read,
      * or with status {@code 500 (Internal Server Error)} if the projectDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/{id}")
     public ResponseEntity<ProjectDTO> updateProject(
         @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody ProjectDTO projectDTO
+        @Valid @RequestBody ProjectDTO projectDTO,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         LOG.debug("REST request to update Project : {}, {}", id, projectDTO);
         if (projectDTO.getId() == null) {
@@ -89,13 +149,18 @@ public class ProjectResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!projectRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Long version = projectRepository
+            .findVersionById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        EntityTagUtil.checkIfMatch(ifMatch, version, ENTITY_NAME);
+        if (ifMatch != null || projectDTO.getVersion() == null) {
+            projectDTO.setVersion(version);
         }
 
         projectDTO = projectService.update(projectDTO);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, projectDTO.getId().toString()))
+            .eTag(EntityTagUtil.of(projectDTO.getVersion()))
             .body(projectDTO);
     }
 
@@ -104,8 +169,10 @@ public class ProjectResource {
      *
      * @param id the id of the projectDTO to save.
      * @param projectDTO the projectDTO to update.
+     * @param ifMatch the entity tag the update is based on, if any.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated projectDTO,
      * or with status {@code 400 (Bad Request)} if the projectDTO is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the projectDTO was modified since the {@code ifMatch} tag was read,
      * or with status {@code 404 (Not Found)} if the projectDTO is not found,
      * or with status {@code 500 (Internal Server Error)} if the projectDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -113,7 +180,8 @@ public class ProjectResource {
     @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<ProjectDTO> partialUpdateProject(
         @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody ProjectDTO projectDTO
+        @NotNull @RequestBody ProjectDTO projectDTO,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         LOG.debug("REST request to partial update Project partially : {}, {}", id, projectDTO);
         if (projectDTO.getId() == null) {
@@ -123,16 +191,19 @@ public class ProjectResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!projectRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Long version = projectRepository
+            .findVersionById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        EntityTagUtil.checkIfMatch(ifMatch, version, ENTITY_NAME);
+        if (ifMatch != null) {
+            projectDTO.setVersion(version);
         }
 
         Optional<ProjectDTO> result = projectService.partialUpdate(projectDTO);
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, projectDTO.getId().toString())
-        );
+        HttpHeaders headers = HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, projectDTO.getId().toString());
+        result.ifPresent(updated -> headers.setETag(EntityTagUtil.of(updated.getVersion())));
+        return ResponseUtil.wrapOrNotFound(result, headers);
     }
 
     /**
@@ -140,35 +211,207 @@ public class ProjectResource {
      *
      * @param pageable the pagination information.
      * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of projects in body.
+     * @param mode {@code page} to get the total count in {@code X-Total-Count}, or {@code slice} to skip the count query.
+     * @param request the current request, for its {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of projects in body,
+     * or with status {@code 304 (Not Modified)} if none of them was modified since the {@code If-None-Match} tag was read,
+     * or with status {@code 400 (Bad Request)} if the mode is not valid.
      */
     @GetMapping("")
     public ResponseEntity<List<ProjectDTO>> getAllProjects(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
-        @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload
+        @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload,
+        @RequestParam(name = "mode", required = false) String mode,
+        WebRequest request
     ) {
         LOG.debug("REST request to get a page of Projects");
-        Page<ProjectDTO> page;
-        if (eagerload) {
-            page = projectService.findAllWithEagerRelationships(pageable);
-        } else {
-            page = projectService.findAll(pageable);
+        pageable = EntityTagUtil.withStableOrder(pageable);
+        if (SlicePaginationUtil.isSliceMode(mode, ENTITY_NAME)) {
+            String eTag = EntityTagUtil.of(projectService.findVersionSlice(pageable));
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            Slice<ProjectDTO> slice = findSlice(pageable, eagerload);
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                entityCountService.getApproximateCount(Project.class)
+            );
+            return ResponseEntity.ok().headers(headers).eTag(eTag).cacheControl(EntityTagUtil.CACHE_CONTROL).body(slice.getContent());
+        }
+        Page<EntityVersion> versions = projectService.findVersions(pageable);
+        String eTag = EntityTagUtil.of(versions);
+        if (request.checkNotModified(eTag)) {
+            return null;
         }
+        Page<ProjectDTO> page = new PageImpl<>(findSlice(pageable, eagerload).getContent(), pageable, versions.getTotalElements());
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+        return ResponseEntity.ok().headers(headers).eTag(eTag).cacheControl(EntityTagUtil.CACHE_CONTROL).body(page.getContent());
+    }
+
+    private Slice<ProjectDTO> findSlice(Pageable pageable, boolean eagerload) {
+        return eagerload ? projectService.findSliceWithEagerRelationships(pageable) : projectService.findSlice(pageable);
     }
 
     /**
      * {@code GET  /projects/:id} : get the "id" project.
      *
      * @param id the id of the projectDTO to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the projectDTO, or with status {@code 404 (Not Found)}.
+     * @param request the current request, for its {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the projectDTO,
+     * or with status {@code 304 (Not Modified)} if the projectDTO was not modified since the {@code If-None-Match} tag was read,
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectDTO> getProject(@PathVariable("id") Long id) {
+    public ResponseEntity<ProjectDTO> getProject(@PathVariable("id") Long id, WebRequest request) {
         LOG.debug("REST request to get Project : {}", id);
+        Optional<Long> version = projectService.findVersion(id);
+        if (version.isPresent() && request.checkNotModified(EntityTagUtil.of(version.orElseThrow()))) {
+            return null;
+        }
         Optional<ProjectDTO> projectDTO = projectService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(projectDTO);
+        HttpHeaders headers = new HttpHeaders();
+        projectDTO.ifPresent(found -> headers.setETag(EntityTagUtil.of(found.getVersion())));
+        headers.setCacheControl(EntityTagUtil.CACHE_CONTROL);
+        return ResponseUtil.wrapOrNotFound(projectDTO, headers);
+    }
+
+    /**
+     * {@code GET  /projects/:id/matches/top} : get the best developer candidates for the "id" project.
+     *
+     * @param id the id of the project.
+     * @param k the maximum number of candidates to return.
+     * @param weighting {@code none} to rank by technical match, {@code idf} to rank by weighted match, where rare technologies weigh more.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the ranked candidates,
+     * or with status {@code 400 (Bad Request)} if {@code k} or {@code weighting} is invalid, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}/matches/top")
+    public ResponseEntity<List<MatchCandidateDTO>> getTopMatches(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "k", required = false, defaultValue = "20") int k,
+        @RequestParam(name = "weighting", required = false, defaultValue = WEIGHTING_NONE) String weighting
+    ) {
+        LOG.debug("REST request to get top {} matches for Project : {}", k, id);
+        if (k < 1 || k > MAX_TOP_MATCHES) {
+            throw new BadRequestAlertException("k must be between 1 and " + MAX_TOP_MATCHES, ENTITY_NAME, "invalidk");
+        }
+        if (WEIGHTING_IDF.equals(weighting)) {
+            return ResponseUtil.wrapOrNotFound(matchingEngineService.findTopWeightedMatches(id, k));
+        }
+        if (!WEIGHTING_NONE.equals(weighting)) {
+            throw new BadRequestAlertException("weighting must be " + WEIGHTING_NONE + " or " + WEIGHTING_IDF, ENTITY_NAME, "invalidweighting");
+        }
+        return ResponseUtil.wrapOrNotFound(matchingEngineService.findTopMatches(id, k));
+    }
+
+    /**
+     * {@code POST  /projects/:id/matches/analyze} : store the best developer candidates for the "id" project, and start
+     * their AI analysis.
+     * <p>
+     * The AI affinity columns of the match results are filled in the background, as the model answers.
+     *
+     * @param id the id of the project.
+     * @param k the maximum number of candidates to analyze, by default 20 technical or {@code application.ai.shortlist-size} semantic candidates.
+     * @param shortlist {@code technical} to analyze the best candidates by technical match, {@code semantic} to analyze the
+     * candidates whose profile is the closest to the project description.
+     * @return the {@link ResponseEntity} with status {@code 202 (Accepted)} and with body the shortlisted candidates,
+     * or with status {@code 400 (Bad Request)} if {@code k} or {@code shortlist} is invalid, or with status {@code 404 (Not Found)}.
+     */
+    @PostMapping("/{id}/matches/analyze")
+    public ResponseEntity<List<MatchCandidateDTO>> analyzeTopMatches(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "k", required = false) Integer k,
+        @RequestParam(name = "shortlist", required = false, defaultValue = SHORTLIST_TECHNICAL) String shortlist
+    ) {
+        LOG.debug("REST request to analyze {} {} matches for Project : {}", k, shortlist, id);
+        boolean semantic = isSemanticShortlist(shortlist);
+        int size = shortlistSize(k, semantic);
+        return (semantic ? aiAffinityService.analyzeSemanticMatches(id, size) : aiAffinityService.analyzeTopMatches(id, size))
+            .map(candidates -> ResponseEntity.accepted().body(candidates))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * {@code GET  /projects/:id/matches/stream} : store the best developer candidates for the "id" project, analyze
+     * them, and stream the progress as Server-Sent Events.
+     * <p>
+     * A {@code technical} event is sent for each candidate as its technical match is stored, then an {@code affinity}
+     * event as its AI affinity is stored, and a {@code summary} event closes the stream, see {@link MatchProgressEmitter}.
+     * The request thread shortlists the candidates and stores their technical matches, or waits for the shortlist of
+     * the analysis it follows, then is released, the AI affinities being sent by the threads calling the model.
+     * <p>
+     * While an analysis of the project is in progress, the stream follows it instead of starting another one. An
+     * {@code EventSource} reconnecting, with a {@code Last-Event-ID} header, follows the analysis still in progress, or
+     * is told to stop reconnecting with a {@code 204 (No Content)} once it is over.
+     *
+     * @param id the id of the project.
+     * @param k the maximum number of candidates to analyze, by default 20 technical or {@code application.ai.shortlist-size} semantic candidates.
+     * @param shortlist {@code technical} to analyze the best candidates by technical match, {@code semantic} to analyze the
+     * candidates whose profile is the closest to the project description.
+     * @param lastEventId the id of the last event received by a reconnecting client.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the event stream,
+     * or with status {@code 204 (No Content)} if a reconnecting client has nothing left to follow,
+     * or with status {@code 400 (Bad Request)} if {@code k} or {@code shortlist} is invalid, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping(value = "/{id}/matches/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMatches(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "k", required = false) Integer k,
+        @RequestParam(name = "shortlist", required = false, defaultValue = SHORTLIST_TECHNICAL) String shortlist,
+        @RequestHeader(name = MatchProgressEmitter.LAST_EVENT_ID, required = false) String lastEventId
+    ) {
+        LOG.debug("REST request to stream the analysis of {} {} matches for Project : {}", k, shortlist, id);
+        boolean semantic = isSemanticShortlist(shortlist);
+        int size = shortlistSize(k, semantic);
+        MatchProgressEmitter emitter = new MatchProgressEmitter(id, streamTimeoutMillis);
+        if (lastEventId != null) {
+            return aiAffinityService
+                .followAnalysis(id, emitter)
+                .map(analysis -> streamAnalysis(analysis, emitter))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+        }
+        return (
+            semantic ? aiAffinityService.analyzeSemanticMatches(id, size, emitter) : aiAffinityService.analyzeTopMatches(id, size, emitter)
+        )
+            .map(analysis -> streamAnalysis(analysis, emitter))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static ResponseEntity<SseEmitter> streamAnalysis(CompletableFuture<Void> analysis, MatchProgressEmitter emitter) {
+        analysis.whenComplete((result, failure) -> emitter.finish(failure));
+        return ResponseEntity.ok().body(emitter);
+    }
+
+    private static boolean isSemanticShortlist(String shortlist) {
+        boolean semantic = SHORTLIST_SEMANTIC.equals(shortlist);
+        if (!semantic && !SHORTLIST_TECHNICAL.equals(shortlist)) {
+            throw new BadRequestAlertException(
+                "shortlist must be " + SHORTLIST_TECHNICAL + " or " + SHORTLIST_SEMANTIC,
+                ENTITY_NAME,
+                "invalidshortlist"
+            );
+        }
+        return semantic;
+    }
+
+    private int shortlistSize(Integer k, boolean semantic) {
+        int size = k != null ? k : semantic ? aiAffinityService.getShortlistSize() : DEFAULT_TOP_MATCHES;
+        if (size < 1 || size > MAX_TOP_MATCHES) {
+            throw new BadRequestAlertException("k must be between 1 and " + MAX_TOP_MATCHES, ENTITY_NAME, "invalidk");
+        }
+        return size;
+    }
+
+    /**
+     * {@code POST  /projects/keywords} : Extract the technologies, experience level and project type of a project description.
+     *
+     * @param description the project description, as plain text.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the extracted keywords.
+     */
+    @PostMapping(value = "/keywords", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<KeywordExtractionDTO> extractKeywords(@RequestBody String description) {
+        LOG.debug("REST request to extract the keywords of a Project description");
+        return ResponseEntity.ok(keywordExtractionService.extract(description));
     }
 
     /**
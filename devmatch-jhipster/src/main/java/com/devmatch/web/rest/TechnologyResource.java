@@ -1,11 +1,20 @@
 package com.devmatch.web.rest;
 
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.EntityVersion;
 import com.devmatch.repository.TechnologyRepository;
+import com.devmatch.service.EntityCountService;
 import com.devmatch.service.TechnologyService;
 import com.devmatch.service.dto.TechnologyDTO;
 import com.devmatch.web.rest.errors.BadRequestAlertException;
+import com.devmatch.web.rest.util.EntityTagUtil;
+import com.devmatch.web.rest.util.SerializedResponse;
+import com.devmatch.web.rest.util.SlicePaginationUtil;
+import com.devmatch.web.rest.util.TechnologyCatalogueCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -15,10 +24,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -42,9 +54,24 @@ public class TechnologyResource {
 
     private final TechnologyRepository technologyRepository;
 
-    public TechnologyResource(TechnologyService technologyService, TechnologyRepository technologyRepository) {
+    private final EntityCountService entityCountService;
+
+    private final TechnologyCatalogueCache technologyCatalogueCache;
+
+    private final ObjectMapper objectMapper;
+
+    public TechnologyResource(
+        TechnologyService technologyService,
+        TechnologyRepository technologyRepository,
+        EntityCountService entityCountService,
+        TechnologyCatalogueCache technologyCatalogueCache,
+        ObjectMapper objectMapper
+    ) {
         this.technologyService = technologyService;
         this.technologyRepository = technologyRepository;
+        this.entityCountService = entityCountService;
+        this.technologyCatalogueCache = technologyCatalogueCache;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -71,15 +98,18 @@ public class TechnologyResource {
      *
      * @param id the id of the technologyDTO to save.
      * @param technologyDTO the technologyDTO to update.
+     * @param ifMatch the entity tag the update is based on, if any.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated technologyDTO,
      * or with status {@code 400 (Bad Request)} if the technologyDTO is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the technologyDTO was modified since the {@code ifMatch} tag was read,
      * or with status {@code 500 (Internal Server Error)} if the technologyDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/{id}")
     public ResponseEntity<TechnologyDTO> updateTechnology(
         @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody TechnologyDTO technologyDTO
+        @Valid @RequestBody TechnologyDTO technologyDTO,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         LOG.debug("REST request to update Technology : {}, {}", id, technologyDTO);
         if (technologyDTO.getId() == null) {
@@ -89,13 +119,18 @@ public class TechnologyResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!technologyRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Long version = technologyRepository
+            .findVersionById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        EntityTagUtil.checkIfMatch(ifMatch, version, ENTITY_NAME);
+        if (ifMatch != null || technologyDTO.getVersion() == null) {
+            technologyDTO.setVersion(version);
         }
 
         technologyDTO = technologyService.update(technologyDTO);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, technologyDTO.getId().toString()))
+            .eTag(EntityTagUtil.of(technologyDTO.getVersion()))
             .body(technologyDTO);
     }
 
@@ -104,8 +139,10 @@ public class TechnologyResource {
      *
      * @param id the id of the technologyDTO to save.
      * @param technologyDTO the technologyDTO to update.
+     * @param ifMatch the entity tag the update is based on, if any.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated technologyDTO,
      * or with status {@code 400 (Bad Request)} if the technologyDTO is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the technologyDTO was modified since the {@code ifMatch} tag was read,
      * or with status {@code 404 (Not Found)} if the technologyDTO is not found,
      * or with status {@code 500 (Internal Server Error)} if the technologyDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -113,7 +150,8 @@ public class TechnologyResource {
     @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<TechnologyDTO> partialUpdateTechnology(
         @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody TechnologyDTO technologyDTO
+        @NotNull @RequestBody TechnologyDTO technologyDTO,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         LOG.debug("REST request to partial update Technology partially : {}, {}", id, technologyDTO);
         if (technologyDTO.getId() == null) {
@@ -123,43 +161,119 @@ public class TechnologyResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!technologyRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Long version = technologyRepository
+            .findVersionById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        EntityTagUtil.checkIfMatch(ifMatch, version, ENTITY_NAME);
+        if (ifMatch != null) {
+            technologyDTO.setVersion(version);
         }
 
         Optional<TechnologyDTO> result = technologyService.partialUpdate(technologyDTO);
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, technologyDTO.getId().toString())
-        );
+        HttpHeaders headers = HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, technologyDTO.getId().toString());
+        result.ifPresent(updated -> headers.setETag(EntityTagUtil.of(updated.getVersion())));
+        return ResponseUtil.wrapOrNotFound(result, headers);
     }
 
     /**
      * {@code GET  /technologies} : get all the technologies.
+     * <p>
+     * Pages are served from the {@link TechnologyCatalogueCache} as already serialized JSON, in gzip if accepted. Clients
+     * preferring CBOR or Smile in their {@code Accept} header bypass the cache and get the list in their encoding.
      *
      * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of technologies in body.
+     * @param mode {@code page} to get the total count in {@code X-Total-Count}, or {@code slice} to skip the count query.
+     * @param accept the {@code Accept} header, if any.
+     * @param acceptEncoding the {@code Accept-Encoding} header, if any.
+     * @param request the current request, for its {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of technologies in body,
+     * or with status {@code 304 (Not Modified)} if none of them was modified since the {@code If-None-Match} tag was read,
+     * or with status {@code 400 (Bad Request)} if the mode is not valid.
+     * @throws IOException if the technologies cannot be serialized.
      */
     @GetMapping("")
-    public ResponseEntity<List<TechnologyDTO>> getAllTechnologies(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<?> getAllTechnologies(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "mode", required = false) String mode,
+        @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        WebRequest request
+    ) throws IOException {
         LOG.debug("REST request to get a page of Technologies");
-        Page<TechnologyDTO> page = technologyService.findAll(pageable);
-        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+        boolean json = SerializedResponse.prefersJson(accept);
+        boolean gzip = json && SerializedResponse.acceptsGzip(acceptEncoding);
+        String key = ServletUriComponentsBuilder.fromCurrentRequest().toUriString();
+        SerializedResponse cached = json ? technologyCatalogueCache.get(key) : null;
+        if (cached != null) {
+            return request.checkNotModified(cached.getETag(gzip)) ? null : cached.toResponseEntity(gzip);
+        }
+
+        long generation = technologyCatalogueCache.getGeneration();
+        pageable = EntityTagUtil.withStableOrder(pageable);
+        List<TechnologyDTO> technologies;
+        HttpHeaders headers;
+        String eTag;
+        if (SlicePaginationUtil.isSliceMode(mode, ENTITY_NAME)) {
+            eTag = EntityTagUtil.of(technologyService.findVersionSlice(pageable));
+            if (request.checkNotModified(SerializedResponse.eTag(eTag, gzip))) {
+                return null;
+            }
+            Slice<TechnologyDTO> slice = technologyService.findSlice(pageable);
+            headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                entityCountService.getApproximateCount(Technology.class)
+            );
+            technologies = slice.getContent();
+        } else {
+            Page<EntityVersion> versions = technologyService.findVersions(pageable);
+            eTag = EntityTagUtil.of(versions);
+            if (request.checkNotModified(SerializedResponse.eTag(eTag, gzip))) {
+                return null;
+            }
+            Page<TechnologyDTO> page = new PageImpl<>(
+                technologyService.findSlice(pageable).getContent(),
+                pageable,
+                versions.getTotalElements()
+            );
+            headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+            technologies = page.getContent();
+        }
+        if (!json) {
+            return ResponseEntity.ok()
+                .headers(headers)
+                .eTag(eTag)
+                .cacheControl(EntityTagUtil.CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .body(technologies);
+        }
+        SerializedResponse response = new SerializedResponse(objectMapper.writeValueAsBytes(technologies), headers, eTag);
+        technologyCatalogueCache.put(key, generation, response);
+        return response.toResponseEntity(gzip);
     }
 
     /**
      * {@code GET  /technologies/:id} : get the "id" technology.
      *
      * @param id the id of the technologyDTO to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the technologyDTO, or with status {@code 404 (Not Found)}.
+     * @param request the current request, for its {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the technologyDTO,
+     * or with status {@code 304 (Not Modified)} if the technologyDTO was not modified since the {@code If-None-Match} tag was read,
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TechnologyDTO> getTechnology(@PathVariable("id") Long id) {
+    public ResponseEntity<TechnologyDTO> getTechnology(@PathVariable("id") Long id, WebRequest request) {
         LOG.debug("REST request to get Technology : {}", id);
+        Optional<Long> version = technologyService.findVersion(id);
+        if (version.isPresent() && request.checkNotModified(EntityTagUtil.of(version.orElseThrow()))) {
+            return null;
+        }
         Optional<TechnologyDTO> technologyDTO = technologyService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(technologyDTO);
+        HttpHeaders headers = new HttpHeaders();
+        technologyDTO.ifPresent(found -> headers.setETag(EntityTagUtil.of(found.getVersion())));
+        headers.setCacheControl(EntityTagUtil.CACHE_CONTROL);
+        return ResponseUtil.wrapOrNotFound(technologyDTO, headers);
     }
 
     /**
@@ -224,6 +224,15 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
     }
 
     private HttpHeaders buildHeaders(Throwable err) {
+        if (err instanceof PreconditionFailedAlertException preconditionFailedAlertException) {
+            return HeaderUtil.createFailureAlert(
+                applicationName,
+                true,
+                preconditionFailedAlertException.getEntityName(),
+                preconditionFailedAlertException.getErrorKey(),
+                preconditionFailedAlertException.getMessage()
+            );
+        }
         return err instanceof BadRequestAlertException badRequestAlertException
             ? HeaderUtil.createFailureAlert(
                 applicationName,
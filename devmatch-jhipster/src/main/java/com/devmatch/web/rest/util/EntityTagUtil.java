@@ -0,0 +1,103 @@
+package com.devmatch.web.rest.util;
+
+import com.devmatch.repository.EntityVersion;
+import com.devmatch.web.rest.errors.PreconditionFailedAlertException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+
+/**
+ * Utility class for the entity tags of versioned entities.
+ * <p>
+ * The tag of an entity is its {@code @Version}, and the tag of a list is a digest of the ids and versions of its rows,
+ * so that both can be computed from a narrow query, before the entities are read and serialized.
+ */
+public final class EntityTagUtil {
+
+    /**
+     * The cache control of the responses with an entity tag: browsers may keep them, but must revalidate them first.
+     */
+    public static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private static final int LIST_TAG_BYTES = 16;
+
+    private EntityTagUtil() {}
+
+    /**
+     * Get the entity tag of one entity.
+     *
+     * @param version the version of the entity.
+     * @return the strong entity tag, quoted.
+     */
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Get the entity tag of a page or a slice of entities.
+     *
+     * @param versions the ids and versions of the entities of the page or slice.
+     * @return the strong entity tag, quoted.
+     */
+    public static String of(Slice<? extends EntityVersion> versions) {
+        StringBuilder content = new StringBuilder()
+            .append(versions.getNumber())
+            .append('/')
+            .append(versions.getSize())
+            .append('/')
+            .append(versions instanceof Page<?> page ? page.getTotalElements() : versions.hasNext());
+        for (EntityVersion version : versions) {
+            content.append(';').append(version.getId()).append(':').append(version.getVersion());
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, LIST_TAG_BYTES)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Check the {@code If-Match} header of a write against the current version of the entity.
+     *
+     * @param ifMatch the {@code If-Match} header, {@code null} if absent.
+     * @param version the current version of the entity.
+     * @param entityName the name of the entity, for the error.
+     * @throws PreconditionFailedAlertException if the header is present and has neither {@code *} nor the tag of the version.
+     */
+    public static void checkIfMatch(String ifMatch, long version, String entityName) {
+        if (ifMatch == null) {
+            return;
+        }
+        String expected = of(version);
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            if ("*".equals(trimmed) || expected.equals(trimmed)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedAlertException("The entity was modified since it was read", entityName, "versionmismatch");
+    }
+
+    /**
+     * Add the id as the last sort order of a page request, so that the versions and the entities of a page are read in
+     * the same order by their two queries.
+     *
+     * @param pageable the pagination information.
+     * @return the pagination information, sorted by id last.
+     */
+    public static Pageable withStableOrder(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().getOrderFor("id") != null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
+    }
+}
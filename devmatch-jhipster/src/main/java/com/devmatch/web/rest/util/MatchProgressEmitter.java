@@ -0,0 +1,106 @@
+package com.devmatch.web.rest.util;
+
+import com.devmatch.service.AiAffinityService;
+import com.devmatch.service.dto.MatchAffinityDTO;
+import com.devmatch.service.dto.MatchAnalysisSummaryDTO;
+import com.devmatch.service.dto.MatchCandidateDTO;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events stream of the progress of an analysis of the candidates of a project.
+ * <p>
+ * A {@value #TECHNICAL_EVENT} event is sent for each candidate once its technical match is stored, then an
+ * {@value #AFFINITY_EVENT} event once its AI affinity is stored, and a final {@value #SUMMARY_EVENT} event closes the
+ * stream. Events are written by the threads storing the results, so no request thread waits for the analysis.
+ * <p>
+ * Every event has an id, so that a reconnecting {@code EventSource} sends a {@value #LAST_EVENT_ID} header and
+ * follows the analysis in progress, if any, instead of starting a new one. Clients should still close their
+ * {@code EventSource} on the summary event. Should a client go away, the analysis goes on and its events are dropped.
+ */
+public class MatchProgressEmitter extends SseEmitter implements AiAffinityService.AnalysisListener {
+
+    public static final String TECHNICAL_EVENT = "technical";
+
+    public static final String AFFINITY_EVENT = "affinity";
+
+    public static final String SUMMARY_EVENT = "summary";
+
+    public static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private static final Logger LOG = LoggerFactory.getLogger(MatchProgressEmitter.class);
+
+    private final Long projectId;
+
+    private final long start = System.nanoTime();
+
+    private final AtomicInteger candidates = new AtomicInteger();
+
+    private final AtomicInteger analyzed = new AtomicInteger();
+
+    private final AtomicInteger events = new AtomicInteger();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * @param projectId the id of the analyzed project.
+     * @param timeout the time after which the stream is closed, in milliseconds.
+     */
+    public MatchProgressEmitter(Long projectId, long timeout) {
+        super(timeout);
+        this.projectId = projectId;
+        onTimeout(() -> closed.set(true));
+        onError(e -> closed.set(true));
+        onCompletion(() -> closed.set(true));
+    }
+
+    @Override
+    public void onTechnicalMatch(MatchCandidateDTO candidate) {
+        candidates.incrementAndGet();
+        sendEvent(TECHNICAL_EVENT, candidate);
+    }
+
+    @Override
+    public void onAffinity(MatchAffinityDTO affinity) {
+        analyzed.incrementAndGet();
+        sendEvent(AFFINITY_EVENT, affinity);
+    }
+
+    /**
+     * Send the summary event and close the stream.
+     *
+     * @param failure the failure ending the analysis, {@code null} if every candidate was analyzed.
+     */
+    public void finish(Throwable failure) {
+        if (failure != null) {
+            LOG.warn("Analysis of the candidates of Project : {} failed: {}", projectId, failure.getMessage());
+        }
+        MatchAnalysisSummaryDTO summary = new MatchAnalysisSummaryDTO();
+        summary.setProjectId(projectId);
+        summary.setCandidates(candidates.get());
+        summary.setAnalyzed(analyzed.get());
+        summary.setCompleted(failure == null);
+        summary.setDurationMillis((System.nanoTime() - start) / 1_000_000);
+        sendEvent(SUMMARY_EVENT, summary);
+        if (closed.compareAndSet(false, true)) {
+            complete();
+        }
+    }
+
+    private void sendEvent(String name, Object data) {
+        if (closed.get()) {
+            return;
+        }
+        try {
+            send(event().id(String.valueOf(events.incrementAndGet())).name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            LOG.debug("Dropping the {} events of Project : {}, the client went away: {}", name, projectId, e.getMessage());
+            closed.set(true);
+        }
+    }
+}
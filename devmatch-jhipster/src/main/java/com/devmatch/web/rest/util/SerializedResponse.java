@@ -0,0 +1,160 @@
+package com.devmatch.web.rest.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * A JSON response body serialized once, along with its gzip encoding and its headers, to be written as is by every
+ * request asking for it.
+ * <p>
+ * The gzip encoding is sent with the weak form of the entity tag, as its bytes differ from the identity encoding.
+ */
+public final class SerializedResponse {
+
+    private static final String GZIP = "gzip";
+
+    private static final List<MediaType> BINARY_TYPES = List.of(
+        MediaType.APPLICATION_CBOR,
+        MediaType.valueOf("application/x-jackson-smile")
+    );
+
+    private static final Pattern ZERO_QUALITY = Pattern.compile("q\\s*=\\s*0(\\.0{0,3})?");
+
+    private final byte[] body;
+
+    private final byte[] gzipBody;
+
+    private final HttpHeaders headers;
+
+    private final String eTag;
+
+    /**
+     * @param body the JSON body.
+     * @param headers the headers to send with the body, other than the content and entity tag ones.
+     * @param eTag the strong entity tag of the body, quoted.
+     */
+    public SerializedResponse(byte[] body, HttpHeaders headers, String eTag) {
+        this.body = body;
+        this.gzipBody = gzip(body);
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        this.eTag = eTag;
+    }
+
+    /**
+     * Tell whether an {@code Accept-Encoding} header accepts gzip.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header, {@code null} if absent.
+     * @return {@code true} if gzip is listed without a zero quality.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            if (GZIP.equalsIgnoreCase(parameters[0].trim())) {
+                for (int i = 1; i < parameters.length; i++) {
+                    if (ZERO_QUALITY.matcher(parameters[i].trim()).matches()) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tell whether an {@code Accept} header prefers JSON to the binary encodings of the API.
+     * <p>
+     * A binary encoding is preferred when it has a higher quality than every type matching JSON, or the same quality
+     * as a wildcard matching JSON.
+     *
+     * @param accept the {@code Accept} header, {@code null} if absent.
+     * @return {@code true} unless CBOR or Smile is preferred.
+     */
+    public static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return true;
+        }
+        double json = -1;
+        boolean jsonWildcard = false;
+        double binary = -1;
+        for (MediaType type : types) {
+            double quality = type.getQualityValue();
+            if (BINARY_TYPES.stream().anyMatch(binaryType -> binaryType.equalsTypeAndSubtype(type))) {
+                binary = Math.max(binary, quality);
+            } else if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                boolean wildcard = type.isWildcardType() || type.isWildcardSubtype();
+                if (quality > json || (quality == json && !wildcard)) {
+                    jsonWildcard = wildcard;
+                }
+                json = Math.max(json, quality);
+            }
+        }
+        return binary < json || (binary == json && !jsonWildcard) || binary <= 0;
+    }
+
+    /**
+     * Build the response writing the serialized body.
+     *
+     * @param gzip {@code true} to send the gzip encoding.
+     * @return the response.
+     */
+    public ResponseEntity<byte[]> toResponseEntity(boolean gzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .headers(headers)
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(EntityTagUtil.CACHE_CONTROL)
+            .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).eTag(getETag(true)).contentLength(gzipBody.length).body(gzipBody);
+        }
+        return response.eTag(getETag(false)).contentLength(body.length).body(body);
+    }
+
+    /**
+     * Get the entity tag of an encoding of the body.
+     *
+     * @param gzip {@code true} for the gzip encoding.
+     * @return the entity tag, quoted.
+     */
+    public String getETag(boolean gzip) {
+        return eTag(eTag, gzip);
+    }
+
+    /**
+     * Get the entity tag of an encoding of a body.
+     *
+     * @param eTag the strong entity tag of the body, quoted.
+     * @param gzip {@code true} for the gzip encoding.
+     * @return the entity tag, weak for the gzip encoding.
+     */
+    public static String eTag(String eTag, boolean gzip) {
+        return gzip ? "W/" + eTag : eTag;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,79 @@
+package com.devmatch.web.rest.util;
+
+import com.devmatch.web.rest.errors.BadRequestAlertException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling count-free pagination.
+ * <p>
+ * Lists requested with {@code mode=slice} are read as {@link Slice}s, which do not count their rows: the {@code Link}
+ * header only tells whether a next page exists, and the total, if known, is an approximation sent as
+ * {@value #APPROXIMATE_TOTAL_COUNT_HEADER}.
+ */
+public final class SlicePaginationUtil {
+
+    public static final String MODE_PAGE = "page";
+
+    public static final String MODE_SLICE = "slice";
+
+    public static final String APPROXIMATE_TOTAL_COUNT_HEADER = "X-Approximate-Total-Count";
+
+    private static final String HEADER_LINK_FORMAT = "<{0}>; rel=\"{1}\"";
+
+    private SlicePaginationUtil() {}
+
+    /**
+     * Tell whether a list is requested in {@code slice} mode.
+     *
+     * @param mode the requested mode, {@code null} for the default {@code page} mode.
+     * @param entityName the name of the listed entity, for the error.
+     * @return {@code true} if the list is requested in {@code slice} mode.
+     * @throws BadRequestAlertException if the mode is neither {@code page} nor {@code slice}.
+     */
+    public static boolean isSliceMode(String mode, String entityName) {
+        if (MODE_SLICE.equals(mode)) {
+            return true;
+        }
+        if (mode == null || MODE_PAGE.equals(mode)) {
+            return false;
+        }
+        throw new BadRequestAlertException("mode must be " + MODE_PAGE + " or " + MODE_SLICE, entityName, "invalidmode");
+    }
+
+    /**
+     * Generate the pagination headers of a slice.
+     *
+     * @param uriBuilder the URI of the current request.
+     * @param slice the slice.
+     * @param approximateTotalCount the approximate number of elements of all the slices, if known.
+     * @param <T> the type of the elements.
+     * @return the {@code Link} and {@value #APPROXIMATE_TOTAL_COUNT_HEADER} headers.
+     */
+    public static <T> HttpHeaders generateSliceHttpHeaders(UriComponentsBuilder uriBuilder, Slice<T> slice, OptionalLong approximateTotalCount) {
+        HttpHeaders headers = new HttpHeaders();
+        approximateTotalCount.ifPresent(count -> headers.add(APPROXIMATE_TOTAL_COUNT_HEADER, Long.toString(count)));
+        int pageNumber = slice.getNumber();
+        int pageSize = slice.getSize();
+        List<String> links = new ArrayList<>();
+        if (slice.hasNext()) {
+            links.add(prepareLink(uriBuilder, pageNumber + 1, pageSize, "next"));
+        }
+        if (slice.hasPrevious()) {
+            links.add(prepareLink(uriBuilder, pageNumber - 1, pageSize, "prev"));
+        }
+        links.add(prepareLink(uriBuilder, 0, pageSize, "first"));
+        headers.add(HttpHeaders.LINK, String.join(",", links));
+        return headers;
+    }
+
+    private static String prepareLink(UriComponentsBuilder uriBuilder, int pageNumber, int pageSize, String relType) {
+        String uri = uriBuilder.replaceQueryParam("page", pageNumber).replaceQueryParam("size", pageSize).toUriString();
+        return MessageFormat.format(HEADER_LINK_FORMAT, uri.replace(",", "%2C").replace(";", "%3B"), relType);
+    }
+}
@@ -0,0 +1,88 @@
+package com.devmatch.web.rest.util;
+
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.service.event.TechnologyChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Cache of the serialized pages of the {@link com.devmatch.domain.Technology} catalogue, keyed by request URI.
+ * <p>
+ * The catalogue is read on every form load and changes rarely, so its pages are kept as {@link SerializedResponse}s
+ * until {@link com.devmatch.service.TechnologyService} commits a change, which drops them all. A page read while a
+ * change commits could hold the former catalogue: a generation number, taken before the page is read and checked
+ * once it is cached, keeps such a page out of the cache.
+ * <p>
+ * Hit and miss counts are published as the {@value #CACHE_NAME} Micrometer cache meters.
+ */
+@Component
+public class TechnologyCatalogueCache {
+
+    public static final String CACHE_NAME = "technology.catalogue";
+
+    private static final Logger LOG = LoggerFactory.getLogger(TechnologyCatalogueCache.class);
+
+    private final Cache<String, SerializedResponse> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public TechnologyCatalogueCache(ApplicationProperties applicationProperties, MeterRegistry registry) {
+        this.cache = Caffeine.newBuilder().maximumSize(applicationProperties.getCache().getCatalogueMaxEntries()).recordStats().build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @return the current generation, to be taken before reading a page to cache.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Get a cached page.
+     *
+     * @param key the request URI of the page.
+     * @return the page, {@code null} if not cached.
+     */
+    public SerializedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Cache a page, unless the catalogue changed since it was read.
+     *
+     * @param key the request URI of the page.
+     * @param readGeneration the generation taken before reading the page.
+     * @param response the page.
+     */
+    public void put(String key, long readGeneration, SerializedResponse response) {
+        if (generation.get() != readGeneration) {
+            return;
+        }
+        cache.put(key, response);
+        if (generation.get() != readGeneration) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Drop every cached page.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void onTechnologyChanged(TechnologyChangedEvent event) {
+        LOG.debug("Dropping the cached technology catalogue on {}", event);
+        invalidate();
+    }
+}
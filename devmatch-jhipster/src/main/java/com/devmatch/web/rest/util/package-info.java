@@ -0,0 +1,4 @@
+/**
+ * Rest layer utilities.
+ */
+package com.devmatch.web.rest.util;
@@ -0,0 +1,59 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.service.ai.AffinityRequest;
+import com.devmatch.service.ai.AffinityScore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AffinityCacheServiceTest {
+
+    private MeterRegistry meterRegistry;
+
+    private AffinityCacheService affinityCacheService;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        affinityCacheService = new AffinityCacheService(new ApplicationProperties(), meterRegistry);
+    }
+
+    @Test
+    void shouldServeRequestsWithTheSameContent() {
+        AffinityScore score = new AffinityScore(80, 60, 40, "comment");
+        affinityCacheService.put(request(1L, 2L, "Java", "Angular"), score);
+
+        assertThat(affinityCacheService.get(request(3L, 4L, "Angular", "Java"))).containsSame(score);
+        assertThat(affinityCacheService.get(request(1L, 2L, "Java"))).isEmpty();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", AffinityCacheService.CACHE_NAME).tag("result", "hit").functionCounter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", AffinityCacheService.CACHE_NAME).tag("result", "miss").functionCounter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldMissRequestsOfEditedProfiles() {
+        affinityCacheService.put(request(1L, 2L, "Java"), new AffinityScore());
+        AffinityRequest edited = request(1L, 2L, "Java");
+        edited.setMotivation("Healthcare");
+
+        assertThat(affinityCacheService.get(edited)).isEmpty();
+        assertThat(affinityCacheService.get(request(1L, 2L, "Java"))).isPresent();
+    }
+
+    private static AffinityRequest request(Long projectId, Long developerId, String... skills) {
+        AffinityRequest request = new AffinityRequest();
+        request.setProjectId(projectId);
+        request.setProjectDescription("Online payment platform");
+        request.setRequiredTechnologies(List.of("Java", "Angular"));
+        request.setDeveloperId(developerId);
+        request.setMotivation("Payments");
+        request.setSkills(List.of(skills));
+        return request;
+    }
+}
@@ -0,0 +1,195 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.IntegrationTest;
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Experience;
+import com.devmatch.domain.MatchResult;
+import com.devmatch.domain.Project;
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.ExperienceRepository;
+import com.devmatch.repository.MatchResultRepository;
+import com.devmatch.repository.ProjectRepository;
+import com.devmatch.repository.TechnologyRepository;
+import com.devmatch.service.dto.MatchAffinityDTO;
+import com.devmatch.service.dto.MatchCandidateDTO;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link AiAffinityService}.
+ * <p>
+ * Analyses are stored from background threads, so this test commits its data and cleans it up afterwards.
+ */
+@IntegrationTest
+class AiAffinityServiceIT {
+
+    @Autowired
+    private AiAffinityService aiAffinityService;
+
+    @Autowired
+    private SkillIndexService skillIndexService;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private MatchResultRepository matchResultRepository;
+
+    private Technology java;
+
+    private Project project;
+
+    private Developer developer;
+
+    private Experience experience;
+
+    @BeforeEach
+    void init() {
+        java = technologyRepository.saveAndFlush(new Technology().name("ai-java"));
+        project = new Project().name("payments").description("Online payment platform").experienceLevel("Intermediate").projectType("Web");
+        project.addRequiredTechnologies(java);
+        project = projectRepository.saveAndFlush(project);
+        developer = new Developer().name("developer").experienceLevel("Advanced").motivation("Payment systems");
+        developer.addSkills(java);
+        developer = developerRepository.saveAndFlush(developer);
+        experience = experienceRepository.saveAndFlush(new Experience().description("Built an online shop").developer(developer));
+        skillIndexService.rebuild();
+    }
+
+    @AfterEach
+    void cleanup() {
+        matchResultRepository.deleteAll(results());
+        experienceRepository.delete(experience);
+        developerRepository.delete(developer);
+        projectRepository.delete(project);
+        technologyRepository.delete(java);
+        skillIndexService.rebuild();
+    }
+
+    @Test
+    void shouldStoreAiAnalysisIntoExistingResults() throws Exception {
+        matchResultRepository.saveAndFlush(
+            new MatchResult().project(project).developer(developer).technicalMatch(BigDecimal.TEN).createdAt("before")
+        );
+
+        aiAffinityService.analyze(project.getId(), List.of(developer.getId())).get(10, TimeUnit.SECONDS);
+
+        MatchResult result = results().get(0);
+        assertThat(result.getTechnicalMatch()).isEqualByComparingTo(BigDecimal.TEN);
+        assertThat(result.getAiTechnicalAffinity()).isEqualTo(100);
+        assertThat(result.getAiMotivationalAffinity()).isEqualTo(33);
+        assertThat(result.getAiExperienceRelevance()).isEqualTo(33);
+        assertThat(result.getAiComment()).isNotBlank();
+    }
+
+    @Test
+    void shouldReturnTechnicalMatchesBeforeAiAnalysis() throws Exception {
+        Optional<List<MatchCandidateDTO>> candidates = aiAffinityService.analyzeTopMatches(project.getId(), 10);
+
+        assertThat(candidates).isPresent();
+        assertThat(candidates.orElseThrow()).extracting(MatchCandidateDTO::getDeveloperId).containsExactly(developer.getId());
+        assertThat(results()).singleElement().satisfies(result -> assertThat(result.getTechnicalMatch()).isEqualByComparingTo("100"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (results().get(0).getAiTechnicalAffinity() == null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(results().get(0).getAiTechnicalAffinity()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldReportTechnicalMatchesThenAiAffinities() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        AiAffinityService.AnalysisListener listener = new AiAffinityService.AnalysisListener() {
+            @Override
+            public void onTechnicalMatch(MatchCandidateDTO candidate) {
+                events.add("technical " + candidate.getDeveloperId() + " " + candidate.getTechnicalMatch());
+            }
+
+            @Override
+            public void onAffinity(MatchAffinityDTO affinity) {
+                events.add("affinity " + affinity.getDeveloperId() + " " + affinity.getAiTechnicalAffinity());
+            }
+        };
+
+        aiAffinityService.analyzeTopMatches(project.getId(), 10, listener).orElseThrow().get(10, TimeUnit.SECONDS);
+
+        assertThat(events).containsExactly("technical " + developer.getId() + " 100.00", "affinity " + developer.getId() + " 100");
+        assertThat(results().get(0).getAiTechnicalAffinity()).isEqualTo(100);
+        assertThat(aiAffinityService.analyzeTopMatches(Long.MAX_VALUE, 10, listener)).isEmpty();
+    }
+
+    @Test
+    void shouldCompleteTheAnalysisWhenAListenerFails() throws Exception {
+        AiAffinityService.AnalysisListener listener = new AiAffinityService.AnalysisListener() {
+            @Override
+            public void onAffinity(MatchAffinityDTO affinity) {
+                throw new IllegalStateException("listener failure");
+            }
+        };
+
+        aiAffinityService.analyzeTopMatches(project.getId(), 10, listener).orElseThrow().get(10, TimeUnit.SECONDS);
+
+        assertThat(results().get(0).getAiTechnicalAffinity()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldFollowTheAnalysisInProgress() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        AiAffinityService.AnalysisListener follower = new AiAffinityService.AnalysisListener() {
+            @Override
+            public void onTechnicalMatch(MatchCandidateDTO candidate) {
+                events.add("technical " + candidate.getDeveloperId());
+            }
+
+            @Override
+            public void onAffinity(MatchAffinityDTO affinity) {
+                events.add("affinity " + affinity.getDeveloperId());
+            }
+        };
+        AtomicReference<Optional<List<MatchCandidateDTO>>> followed = new AtomicReference<>();
+        AiAffinityService.AnalysisListener listener = new AiAffinityService.AnalysisListener() {
+            @Override
+            public void onAffinity(MatchAffinityDTO affinity) {
+                // A second request while the analysis is in progress follows it, and gets the events it missed
+                followed.set(aiAffinityService.analyzeSemanticMatches(project.getId(), 10));
+                aiAffinityService.followAnalysis(project.getId(), follower);
+            }
+        };
+
+        CompletableFuture<Void> analysis = aiAffinityService.analyzeTopMatches(project.getId(), 10, listener).orElseThrow();
+        analysis.get(10, TimeUnit.SECONDS);
+
+        assertThat(followed.get()).hasValueSatisfying(candidates ->
+            assertThat(candidates).extracting(MatchCandidateDTO::getDeveloperId).containsExactly(developer.getId())
+        );
+        assertThat(events).containsExactly("technical " + developer.getId(), "affinity " + developer.getId());
+        assertThat(results()).hasSize(1);
+        assertThat(aiAffinityService.followAnalysis(project.getId(), follower)).isEmpty();
+    }
+
+    private List<MatchResult> results() {
+        return matchResultRepository.findAll().stream().filter(result -> result.getProject().getId().equals(project.getId())).toList();
+    }
+}
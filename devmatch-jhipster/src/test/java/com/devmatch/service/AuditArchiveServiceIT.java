@@ -0,0 +1,157 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.IntegrationTest;
+import com.devmatch.domain.AuditHistory;
+import com.devmatch.repository.AuditHistoryRepository;
+import com.devmatch.service.audit.AuditSegment;
+import com.devmatch.service.dto.AuditHistoryDTO;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link AuditArchiveService}.
+ * <p>
+ * Archived records are deleted from the database in their own transactions, so these tests commit their records and
+ * clean them up, along with the segments they write.
+ */
+@IntegrationTest
+class AuditArchiveServiceIT {
+
+    private static final String ENTITY_TYPE = "Archived";
+
+    private static final Long ENTITY_ID = 1L;
+
+    @Autowired
+    private AuditArchiveService auditArchiveService;
+
+    @Autowired
+    private AuditHistoryService auditHistoryService;
+
+    @Autowired
+    private AuditHistoryRepository auditHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Path> existingSegments;
+
+    private Instant now;
+
+    @BeforeEach
+    void initTest() {
+        existingSegments = auditArchiveService.getSegments().stream().map(AuditSegment::getPath).toList();
+        now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        auditHistoryRepository.deleteAll(auditHistoryRepository.findLatestByEntity(ENTITY_TYPE, ENTITY_ID, Limit.unlimited()));
+        for (AuditSegment segment : auditArchiveService.getSegments()) {
+            if (!existingSegments.contains(segment.getPath())) {
+                Files.deleteIfExists(segment.getPath());
+            }
+        }
+        auditArchiveService.reload();
+    }
+
+    @Test
+    void shouldMoveAgedRecordsToTheArchive() {
+        List<AuditHistory> aged = save(now.minus(Duration.ofDays(400)), now.minus(Duration.ofDays(300)), now.minus(Duration.ofDays(200)));
+        AuditHistory recent = save(now.minus(Duration.ofDays(10))).get(0);
+
+        int archived = auditArchiveService.archive(now.minus(Duration.ofDays(180)));
+
+        assertThat(archived).isGreaterThanOrEqualTo(aged.size());
+        assertThat(auditArchiveService.getSegments()).hasSizeGreaterThan(existingSegments.size());
+        assertThat(auditHistoryRepository.findLatestByEntity(ENTITY_TYPE, ENTITY_ID, Limit.unlimited()))
+            .extracting(AuditHistory::getId)
+            .containsExactly(recent.getId());
+        assertThat(auditHistoryService.findHistory(ENTITY_TYPE, ENTITY_ID, null, null, 10))
+            .extracting(AuditHistoryDTO::getId)
+            .containsExactly(recent.getId(), aged.get(2).getId(), aged.get(1).getId(), aged.get(0).getId());
+        AuditHistoryDTO archivedRecord = auditHistoryService.findOne(aged.get(0).getId()).orElseThrow();
+        assertThat(archivedRecord.getFieldName()).isEqualTo("name");
+        assertThat(archivedRecord.getOldValue()).isEqualTo("old");
+        assertThat(archivedRecord.getFechaModificacion()).isEqualTo(aged.get(0).getFechaModificacion());
+        assertThat(auditArchiveService.getNewestArchived()).isNotNull();
+    }
+
+    @Test
+    void shouldPageTheHistoryAcrossBothTiers() {
+        List<AuditHistory> aged = save(now.minus(Duration.ofDays(300)), now.minus(Duration.ofDays(300)), now.minus(Duration.ofDays(200)));
+        List<AuditHistory> recent = save(now.minus(Duration.ofDays(2)), now.minus(Duration.ofDays(1)));
+        auditArchiveService.archive(now.minus(Duration.ofDays(180)));
+
+        List<Long> ids = new ArrayList<>();
+        List<AuditHistoryDTO> page = auditHistoryService.findHistory(ENTITY_TYPE, ENTITY_ID, null, null, 2);
+        while (!page.isEmpty()) {
+            page.forEach(auditHistory -> ids.add(auditHistory.getId()));
+            AuditHistoryDTO last = page.get(page.size() - 1);
+            page = auditHistoryService.findHistory(ENTITY_TYPE, ENTITY_ID, last.getFechaModificacion(), last.getId(), 2);
+        }
+
+        assertThat(ids).containsExactly(
+            recent.get(1).getId(),
+            recent.get(0).getId(),
+            aged.get(2).getId(),
+            aged.get(1).getId(),
+            aged.get(0).getId()
+        );
+    }
+
+    @Test
+    void shouldCompactSmallSegments() {
+        List<AuditHistory> older = save(now.minus(Duration.ofDays(400)), now.minus(Duration.ofDays(300)));
+        auditArchiveService.archive(now.minus(Duration.ofDays(250)));
+        List<AuditHistory> newer = save(now.minus(Duration.ofDays(200)));
+        auditArchiveService.archive(now.minus(Duration.ofDays(180)));
+        List<AuditSegment> segments = auditArchiveService.getSegments();
+
+        int compacted = auditArchiveService.compact();
+
+        assertThat(compacted).isPositive();
+        assertThat(auditArchiveService.getSegments()).hasSize(segments.size() - compacted);
+        assertThat(segments).filteredOn(AuditSegment::isReleased).hasSizeGreaterThan(compacted);
+        assertThat(auditArchiveService.getSegments()).allMatch(segment -> Files.exists(segment.getPath()));
+        assertThat(auditHistoryService.findHistory(ENTITY_TYPE, ENTITY_ID, null, null, 10))
+            .extracting(AuditHistoryDTO::getId)
+            .containsExactly(newer.get(0).getId(), older.get(1).getId(), older.get(0).getId());
+        assertThat(auditHistoryService.findOne(older.get(0).getId())).isPresent();
+    }
+
+    private List<AuditHistory> save(Instant... fechasModificacion) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            List<AuditHistory> saved = new ArrayList<>();
+            for (Instant fechaModificacion : fechasModificacion) {
+                saved.add(
+                    auditHistoryRepository.save(
+                        new AuditHistory()
+                            .entityType(ENTITY_TYPE)
+                            .entityId(ENTITY_ID)
+                            .fieldName("name")
+                            .oldValue("old")
+                            .newValue("new")
+                            .usuario("archive-user")
+                            .fechaModificacion(fechaModificacion)
+                    )
+                );
+            }
+            return saved;
+        });
+    }
+}
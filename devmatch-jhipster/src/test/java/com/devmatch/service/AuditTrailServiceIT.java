@@ -0,0 +1,78 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.IntegrationTest;
+import com.devmatch.domain.AuditHistory;
+import com.devmatch.domain.Developer;
+import com.devmatch.repository.AuditHistoryRepository;
+import com.devmatch.repository.DeveloperRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link AuditTrailService}.
+ * <p>
+ * Entries are only recorded when the change commits, so these tests commit their changes and clean them up.
+ */
+@IntegrationTest
+@WithMockUser("audit-user")
+class AuditTrailServiceIT {
+
+    @Autowired
+    private AuditTrailService auditTrailService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private AuditHistoryRepository auditHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long developerId;
+
+    @AfterEach
+    void cleanup() {
+        if (developerId != null) {
+            auditHistoryRepository.deleteAll(auditHistoryRepository.findLatestByEntity("Developer", developerId, Limit.unlimited()));
+            developerRepository.deleteById(developerId);
+        }
+    }
+
+    @Test
+    void shouldWriteTheChangedFieldsOfCommittedUpdates() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        developerId = transactionTemplate.execute(status ->
+            developerRepository.save(new Developer().name("Audited").location("Lima").experienceLevel("Junior")).getId()
+        );
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Developer developer = developerRepository.findById(developerId).orElseThrow();
+            developer.name("Audited Again").location(null).experienceLevel("Junior");
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            developerRepository.findById(developerId).orElseThrow().bio("Rolled back");
+            status.setRollbackOnly();
+        });
+        auditTrailService.flush();
+
+        List<AuditHistory> entries = auditHistoryRepository.findLatestByEntity("Developer", developerId, Limit.unlimited());
+        assertThat(entries).extracting(AuditHistory::getFieldName).containsExactlyInAnyOrder("name", "location");
+        AuditHistory name = entries.stream().filter(entry -> entry.getFieldName().equals("name")).findFirst().orElseThrow();
+        assertThat(name.getOldValue()).isEqualTo("Audited");
+        assertThat(name.getNewValue()).isEqualTo("Audited Again");
+        assertThat(name.getUsuario()).isEqualTo("audit-user");
+        AuditHistory location = entries.stream().filter(entry -> entry.getFieldName().equals("location")).findFirst().orElseThrow();
+        assertThat(location.getOldValue()).isEqualTo("Lima");
+        assertThat(location.getNewValue()).isNull();
+        assertThat(auditTrailService.getPendingCount()).isZero();
+    }
+}
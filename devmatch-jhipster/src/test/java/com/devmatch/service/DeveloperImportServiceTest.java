@@ -0,0 +1,77 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devmatch.domain.Developer;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.TechnologyRepository;
+import com.devmatch.service.dto.DeveloperImportResultDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class DeveloperImportServiceTest {
+
+    private EntityManager entityManager;
+
+    private DeveloperSearchService developerSearchService;
+
+    private SemanticIndexService semanticIndexService;
+
+    private DeveloperImportService developerImportService;
+
+    @BeforeEach
+    void setup() {
+        entityManager = mock(EntityManager.class);
+        developerSearchService = mock(DeveloperSearchService.class);
+        semanticIndexService = mock(SemanticIndexService.class);
+        developerImportService = new DeveloperImportService(
+            mock(DeveloperRepository.class),
+            mock(TechnologyRepository.class),
+            mock(SkillIndexService.class),
+            developerSearchService,
+            semanticIndexService,
+            entityManager,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(),
+            2
+        );
+    }
+
+    @Test
+    void shouldOnlyRejectTheRowsWhichCannotBeWritten() throws Exception {
+        doThrow(new PersistenceException("value too long"))
+            .when(entityManager)
+            .persist(argThat(entity -> entity instanceof Developer developer && "bad@devmatch.test".equals(developer.getEmail())));
+
+        DeveloperImportResultDTO result = developerImportService.importCsv(
+            csv("name;email", "Ana;ana@devmatch.test", "Luis;luis@devmatch.test", "Bad;bad@devmatch.test", "Rosa;rosa@devmatch.test", "Carla;")
+        );
+
+        assertThat(result.getImported()).isEqualTo(4);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(4);
+            assertThat(error.getMessage()).contains("value too long");
+        });
+        verify(developerSearchService).scheduleRebuild();
+        verify(semanticIndexService).scheduleRebuild();
+        verify(developerSearchService, never()).rebuild();
+    }
+
+    private static ByteArrayInputStream csv(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
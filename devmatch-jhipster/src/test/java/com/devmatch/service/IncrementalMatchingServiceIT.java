@@ -0,0 +1,174 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.IntegrationTest;
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.MatchResult;
+import com.devmatch.domain.Project;
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.MatchResultRepository;
+import com.devmatch.repository.ProjectRepository;
+import com.devmatch.repository.TechnologyRepository;
+import com.devmatch.service.dto.DeveloperDTO;
+import com.devmatch.service.dto.ProjectDTO;
+import com.devmatch.service.mapper.DeveloperMapper;
+import com.devmatch.service.mapper.ProjectMapper;
+import com.devmatch.service.mapper.TechnologyMapper;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link IncrementalMatchingService}.
+ * <p>
+ * Change events are only handled once a transaction commits, so this test commits its data and cleans it up afterwards.
+ */
+@IntegrationTest
+class IncrementalMatchingServiceIT {
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private SkillIndexService skillIndexService;
+
+    @Autowired
+    private IncrementalMatchingService incrementalMatchingService;
+
+    @Autowired
+    private MatchStatisticsService matchStatisticsService;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private MatchResultRepository matchResultRepository;
+
+    @Autowired
+    private DeveloperMapper developerMapper;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private TechnologyMapper technologyMapper;
+
+    private Technology java;
+
+    private Technology sql;
+
+    private Project project;
+
+    private Developer developer;
+
+    private Project createdProject;
+
+    @BeforeEach
+    void init() {
+        java = technologyRepository.saveAndFlush(new Technology().name("incremental-java"));
+        sql = technologyRepository.saveAndFlush(new Technology().name("incremental-sql"));
+        project = new Project()
+            .name("project")
+            .description("description")
+            .experienceLevel("Intermediate")
+            .projectType("Web")
+            .status(MatchingBatchService.OPEN_STATUS);
+        project.addRequiredTechnologies(java).addRequiredTechnologies(sql);
+        project = projectRepository.saveAndFlush(project);
+        developer = new Developer().name("developer").experienceLevel("Intermediate");
+        developer.addSkills(java);
+        developer = developerRepository.saveAndFlush(developer);
+        skillIndexService.rebuild();
+        incrementalMatchingService.reload();
+    }
+
+    @AfterEach
+    void cleanup() {
+        matchResultRepository.deleteAll(
+            matchResultRepository.findAll().stream().filter(result -> result.getDeveloper().getId().equals(developer.getId())).toList()
+        );
+        developerRepository.deleteById(developer.getId());
+        projectRepository.delete(project);
+        if (createdProject != null) {
+            projectRepository.delete(createdProject);
+        }
+        technologyRepository.delete(java);
+        technologyRepository.delete(sql);
+        skillIndexService.rebuild();
+        incrementalMatchingService.reload();
+    }
+
+    @Test
+    void shouldRescoreChangedDeveloper() {
+        DeveloperDTO developerDTO = developerMapper.toDto(developerRepository.findOneWithEagerRelationships(developer.getId()).orElseThrow());
+        developerDTO.setSkills(Set.of(technologyMapper.toDto(java), technologyMapper.toDto(sql)));
+
+        developerDTO = developerService.update(developerDTO);
+
+        assertThat(results(project)).singleElement().satisfies(result -> assertThat(result.getTechnicalMatch()).isEqualByComparingTo("100"));
+        assertThat(matchStatisticsService.getStatistics(project.getId()).getTotalMatches()).isEqualTo(1);
+        assertThat(matchStatisticsService.getStatistics(project.getId()).getAverageTechnicalMatch()).isEqualByComparingTo("100");
+
+        developerDTO.setSkills(Set.of());
+        developerService.update(developerDTO);
+
+        assertThat(results(project)).singleElement().satisfies(result -> assertThat(result.getTechnicalMatch()).isZero());
+        assertThat(matchStatisticsService.getStatistics(project.getId()).getTotalMatches()).isEqualTo(1);
+        assertThat(matchStatisticsService.getStatistics(project.getId()).getAverageTechnicalMatch()).isZero();
+    }
+
+    @Test
+    void shouldRescoreChangedProject() {
+        ProjectDTO projectDTO = projectMapper.toDto(project);
+        projectDTO.setId(null);
+        projectDTO.setRequiredTechnologies(Set.of(technologyMapper.toDto(java)));
+
+        createdProject = projectRepository.findById(projectService.save(projectDTO).getId()).orElseThrow();
+
+        assertThat(results(createdProject)).singleElement().satisfies(result -> {
+            assertThat(result.getDeveloper().getId()).isEqualTo(developer.getId());
+            assertThat(result.getTechnicalMatch()).isEqualByComparingTo(BigDecimal.valueOf(100));
+        });
+        assertThat(results(project)).isEmpty();
+    }
+
+    @Test
+    void shouldDropTheResultsOfDeletedProject() {
+        DeveloperDTO developerDTO = developerMapper.toDto(developerRepository.findOneWithEagerRelationships(developer.getId()).orElseThrow());
+        developerDTO = developerService.update(developerDTO);
+        assertThat(results(project)).singleElement().satisfies(result -> assertThat(result.getTechnicalMatch()).isEqualByComparingTo("50"));
+
+        projectService.delete(project.getId());
+
+        assertThat(results(project)).isEmpty();
+        assertThat(matchStatisticsService.getStatistics(project.getId()).getTotalMatches()).isZero();
+
+        developerService.update(developerDTO);
+
+        assertThat(results(project)).isEmpty();
+    }
+
+    private List<MatchResult> results(Project project) {
+        return matchResultRepository
+            .findAll()
+            .stream()
+            .filter(result -> result.getProject().getId().equals(project.getId()))
+            .filter(result -> result.getDeveloper().getId().equals(developer.getId()))
+            .toList();
+    }
+}
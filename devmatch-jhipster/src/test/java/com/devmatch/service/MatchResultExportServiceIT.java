@@ -0,0 +1,134 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.IntegrationTest;
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.MatchResult;
+import com.devmatch.domain.Project;
+import com.devmatch.repository.MatchResultRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link MatchResultExportService}.
+ */
+@IntegrationTest
+@Transactional
+class MatchResultExportServiceIT {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MatchResultRepository matchResultRepository;
+
+    @Autowired
+    private MatchResultExportService matchResultExportService;
+
+    @Autowired
+    private ObjectMapper om;
+
+    private MatchResult analyzed;
+
+    private MatchResult pending;
+
+    @BeforeEach
+    void init() {
+        matchResultRepository.deleteAll();
+        Project project = new Project()
+            .name("export")
+            .description("description")
+            .experienceLevel("Intermediate")
+            .projectType("Web")
+            .status("Open");
+        em.persist(project);
+        Developer developer = new Developer().name("export").experienceLevel("Intermediate");
+        em.persist(developer);
+        Developer otherDeveloper = new Developer().name("export-other").experienceLevel("Junior");
+        em.persist(otherDeveloper);
+        analyzed = new MatchResult()
+            .project(project)
+            .developer(developer)
+            .technicalMatch(new BigDecimal("87.50"))
+            .aiTechnicalAffinity(80)
+            .aiMotivationalAffinity(70)
+            .aiExperienceRelevance(60)
+            .aiComment("Sólido en \"Java\",\nfalta Angular")
+            .createdAt("2025-01-01T10:00:00Z");
+        em.persist(analyzed);
+        pending = new MatchResult()
+            .project(project)
+            .developer(otherDeveloper)
+            .technicalMatch(new BigDecimal("12.50"))
+            .createdAt("2025-01-02T10:00:00Z");
+        em.persist(pending);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void shouldExportOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(matchResultExportService.exportNdjson(out)).isEqualTo(2);
+
+        String content = out.toString(StandardCharsets.UTF_8);
+        assertThat(content).endsWith("\n");
+        List<String> lines = content.lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode first = om.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(analyzed.getId());
+        assertThat(first.get("projectId").asLong()).isEqualTo(analyzed.getProject().getId());
+        assertThat(first.get("developerId").asLong()).isEqualTo(analyzed.getDeveloper().getId());
+        assertThat(first.get("aiTechnicalAffinity").asInt()).isEqualTo(analyzed.getAiTechnicalAffinity());
+        assertThat(first.get("aiComment").asText()).isEqualTo(analyzed.getAiComment());
+        JsonNode second = om.readTree(lines.get(1));
+        assertThat(second.get("id").asLong()).isEqualTo(pending.getId());
+        assertThat(second.get("technicalMatch").decimalValue()).isEqualByComparingTo("12.50");
+        assertThat(second.get("aiTechnicalAffinity").isNull()).isTrue();
+        assertThat(second.get("aiComment").isNull()).isTrue();
+    }
+
+    @Test
+    void shouldExportQuotedCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(matchResultExportService.exportCsv(out)).isEqualTo(2);
+
+        String content = out.toString(StandardCharsets.UTF_8);
+        assertThat(Arrays.asList(content.split("\n", -1))).first().isEqualTo(
+            "id,projectId,developerId,technicalMatch,aiTechnicalAffinity,aiMotivationalAffinity,aiExperienceRelevance,aiComment,createdAt"
+        );
+        assertThat(content).contains(
+            analyzed.getId() + "," + analyzed.getProject().getId() + "," + analyzed.getDeveloper().getId() + ","
+        );
+        assertThat(content).contains(",\"Sólido en \"\"Java\"\",\nfalta Angular\"," + analyzed.getCreatedAt() + "\n");
+        assertThat(content).endsWith(
+            pending.getId() + "," + pending.getProject().getId() + "," + pending.getDeveloper().getId() + ",12.50,,,,," + pending.getCreatedAt() + "\n"
+        );
+    }
+
+    @Test
+    void shouldExportNothingWithoutMatchResults() throws Exception {
+        matchResultRepository.deleteAll();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+
+        assertThat(matchResultExportService.exportNdjson(ndjson)).isZero();
+        assertThat(matchResultExportService.exportCsv(csv)).isZero();
+
+        assertThat(ndjson.size()).isZero();
+        assertThat(csv.toString(StandardCharsets.UTF_8).lines()).hasSize(1);
+    }
+}
@@ -0,0 +1,127 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.devmatch.domain.MatchResult;
+import com.devmatch.domain.Project;
+import com.devmatch.repository.MatchResultRepository;
+import com.devmatch.service.dto.MatchStatisticsDTO;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MatchStatisticsServiceTest {
+
+    private MatchResultRepository matchResultRepository;
+
+    private MatchStatisticsService matchStatisticsService;
+
+    @BeforeEach
+    void setup() {
+        matchResultRepository = mock(MatchResultRepository.class);
+        matchStatisticsService = new MatchStatisticsService(matchResultRepository);
+    }
+
+    @Test
+    void shouldLoadStatisticsFromTheDatabase() {
+        MatchResultRepository.ProjectStatistics first = statistics(1L, 2L, "150.00", 1L, 80L);
+        MatchResultRepository.ProjectStatistics second = statistics(2L, 1L, "25.50", 0L, null);
+        when(matchResultRepository.findStatisticsByProject()).thenReturn(List.of(first, second));
+
+        matchStatisticsService.rebuild();
+
+        MatchStatisticsDTO global = matchStatisticsService.getStatistics();
+        assertThat(global.getProjectId()).isNull();
+        assertThat(global.getTotalMatches()).isEqualTo(3);
+        assertThat(global.getAnalyzedMatches()).isEqualTo(1);
+        assertThat(global.getAverageTechnicalMatch()).isEqualByComparingTo("58.50");
+        assertThat(global.getAverageAiTechnicalAffinity()).isEqualByComparingTo("80");
+
+        MatchStatisticsDTO project = matchStatisticsService.getStatistics(2L);
+        assertThat(project.getTotalMatches()).isEqualTo(1);
+        assertThat(project.getAverageTechnicalMatch()).isEqualByComparingTo("25.50");
+        assertThat(project.getAverageAiTechnicalAffinity()).isNull();
+    }
+
+    @Test
+    void shouldApplyChangesIncrementally() {
+        MatchStatisticsService.Sample created = MatchStatisticsService.Sample.of(matchResult(1L, "50.00", null));
+        MatchStatisticsService.Sample analyzed = MatchStatisticsService.Sample.of(matchResult(1L, "50.00", 70));
+        MatchStatisticsService.Sample other = MatchStatisticsService.Sample.of(matchResult(2L, "75.25", 90));
+
+        matchStatisticsService.recordChange(null, created);
+        matchStatisticsService.recordChange(null, other);
+        matchStatisticsService.recordChange(created, analyzed);
+
+        MatchStatisticsDTO project = matchStatisticsService.getStatistics(1L);
+        assertThat(project.getTotalMatches()).isEqualTo(1);
+        assertThat(project.getAnalyzedMatches()).isEqualTo(1);
+        assertThat(project.getAverageAiTechnicalAffinity()).isEqualByComparingTo("70");
+        assertThat(matchStatisticsService.getStatistics().getAverageTechnicalMatch()).isEqualByComparingTo("62.63");
+
+        matchStatisticsService.recordChange(other, null);
+
+        assertThat(matchStatisticsService.getStatistics(2L).getTotalMatches()).isZero();
+        assertThat(matchStatisticsService.getStatistics(2L).getAverageTechnicalMatch()).isNull();
+        assertThat(matchStatisticsService.getStatistics().getTotalMatches()).isEqualTo(1);
+        assertThat(matchStatisticsService.getStatistics().getAverageTechnicalMatch()).isEqualByComparingTo("50.00");
+    }
+
+    @Test
+    void shouldApplyBulkChangesAtOnce() {
+        MatchStatisticsService.Sample first = MatchStatisticsService.Sample.of(1L, new BigDecimal("40.00"), 60, null, null);
+        MatchStatisticsService.Sample second = MatchStatisticsService.Sample.of(1L, new BigDecimal("20.00"), null, null, null);
+        matchStatisticsService.recordChanges(List.of(), List.of(first, second));
+
+        matchStatisticsService.recordChanges(
+            List.of(first, second),
+            List.of(MatchStatisticsService.Sample.of(1L, BigDecimal.ZERO, 60, null, null), second)
+        );
+
+        MatchStatisticsDTO project = matchStatisticsService.getStatistics(1L);
+        assertThat(project.getTotalMatches()).isEqualTo(2);
+        assertThat(project.getAnalyzedMatches()).isEqualTo(1);
+        assertThat(project.getAverageTechnicalMatch()).isEqualByComparingTo("10.00");
+        assertThat(project.getAverageAiTechnicalAffinity()).isEqualByComparingTo("60");
+    }
+
+    @Test
+    void shouldReloadProjectsAfterBulkUpdates() {
+        matchStatisticsService.recordChange(null, MatchStatisticsService.Sample.of(matchResult(1L, "10.00", null)));
+        matchStatisticsService.recordChange(null, MatchStatisticsService.Sample.of(matchResult(2L, "20.00", null)));
+        MatchResultRepository.ProjectStatistics reloaded = statistics(1L, 4L, "200.00", 2L, 100L);
+        when(matchResultRepository.findStatisticsByProjectIdIn(List.of(1L))).thenReturn(List.of(reloaded));
+
+        matchStatisticsService.reloadProjects(List.of(1L));
+
+        assertThat(matchStatisticsService.getStatistics(1L).getTotalMatches()).isEqualTo(4);
+        assertThat(matchStatisticsService.getStatistics(1L).getAverageAiTechnicalAffinity()).isEqualByComparingTo("50");
+        assertThat(matchStatisticsService.getStatistics().getTotalMatches()).isEqualTo(5);
+        assertThat(matchStatisticsService.getStatistics().getAverageTechnicalMatch()).isEqualByComparingTo("44.00");
+    }
+
+    private static MatchResult matchResult(Long projectId, String technicalMatch, Integer aiTechnicalAffinity) {
+        Project project = new Project();
+        project.setId(projectId);
+        return new MatchResult().technicalMatch(new BigDecimal(technicalMatch)).aiTechnicalAffinity(aiTechnicalAffinity).project(project);
+    }
+
+    private static MatchResultRepository.ProjectStatistics statistics(
+        Long projectId,
+        Long matches,
+        String technicalMatchSum,
+        Long aiTechnicalAffinityCount,
+        Long aiTechnicalAffinitySum
+    ) {
+        MatchResultRepository.ProjectStatistics statistics = mock(MatchResultRepository.ProjectStatistics.class);
+        when(statistics.getProjectId()).thenReturn(projectId);
+        when(statistics.getMatches()).thenReturn(matches);
+        when(statistics.getTechnicalMatchSum()).thenReturn(new BigDecimal(technicalMatchSum));
+        when(statistics.getAiTechnicalAffinityCount()).thenReturn(aiTechnicalAffinityCount);
+        when(statistics.getAiTechnicalAffinitySum()).thenReturn(aiTechnicalAffinitySum);
+        return statistics;
+    }
+}
@@ -0,0 +1,160 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devmatch.IntegrationTest;
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.MatchResult;
+import com.devmatch.domain.Project;
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.MatchResultRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link MatchingBatchService}.
+ */
+@IntegrationTest
+@Transactional
+class MatchingBatchServiceIT {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MatchingBatchService matchingBatchService;
+
+    @Autowired
+    private SkillIndexService skillIndexService;
+
+    @Autowired
+    private MatchResultRepository matchResultRepository;
+
+    private Project openProject;
+
+    private Project closedProject;
+
+    private Developer fullMatch;
+
+    private Developer partialMatch;
+
+    private Developer noMatch;
+
+    @BeforeEach
+    void init() {
+        Technology java = technology("batch-java");
+        Technology angular = technology("batch-angular");
+        Technology cobol = technology("batch-cobol");
+
+        openProject = project("open", MatchingBatchService.OPEN_STATUS, java, angular);
+        closedProject = project("closed", "Completed", java);
+
+        fullMatch = developer("full", java, angular);
+        partialMatch = developer("partial", java, cobol);
+        noMatch = developer("none", cobol);
+        em.flush();
+        skillIndexService.rebuild();
+    }
+
+    @Test
+    void shouldScoreOpenProjects() {
+        assertThat(matchingBatchService.recomputeOpenProjects()).isTrue();
+
+        Map<Long, BigDecimal> technicalMatches = technicalMatches(openProject);
+        assertThat(technicalMatches).containsOnlyKeys(fullMatch.getId(), partialMatch.getId());
+        assertThat(technicalMatches.get(fullMatch.getId())).isEqualByComparingTo(BigDecimal.valueOf(100));
+        assertThat(technicalMatches.get(partialMatch.getId())).isEqualByComparingTo(BigDecimal.valueOf(50));
+        assertThat(technicalMatches(closedProject)).isEmpty();
+        assertThat(matchingBatchService.isRunning()).isFalse();
+        assertThat(matchingBatchService.getProgress()).isEqualTo(1d);
+    }
+
+    @Test
+    void shouldUpdateExistingResultsAndResetStaleOnes() {
+        MatchResult existing = matchResult(openProject, partialMatch, BigDecimal.ONE);
+        matchResult(openProject, noMatch, BigDecimal.TEN);
+        em.flush();
+
+        matchingBatchService.recomputeOpenProjects();
+
+        Map<Long, BigDecimal> technicalMatches = technicalMatches(openProject);
+        assertThat(technicalMatches).containsOnlyKeys(fullMatch.getId(), partialMatch.getId(), noMatch.getId());
+        assertThat(technicalMatches.get(partialMatch.getId())).isEqualByComparingTo(BigDecimal.valueOf(50));
+        assertThat(technicalMatches.get(noMatch.getId())).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(matchResultRepository.findById(existing.getId())).isPresent();
+        assertThat(results(openProject)).hasSize(3);
+    }
+
+    @Test
+    void shouldResetTheResultsOfProjectsRequiringNoTechnology() {
+        Project withoutTechnology = project("without technology", MatchingBatchService.OPEN_STATUS);
+        matchResult(withoutTechnology, fullMatch, BigDecimal.TEN);
+        em.flush();
+
+        matchingBatchService.recomputeOpenProjects();
+
+        assertThat(technicalMatches(withoutTechnology)).hasEntrySatisfying(fullMatch.getId(), technicalMatch ->
+            assertThat(technicalMatch).isEqualByComparingTo(BigDecimal.ZERO)
+        );
+        assertThat(technicalMatches(openProject)).containsOnlyKeys(fullMatch.getId(), partialMatch.getId());
+    }
+
+    @Test
+    void shouldRejectDuplicatedPairs() {
+        matchResult(openProject, fullMatch, BigDecimal.ONE);
+        matchResult(openProject, fullMatch, BigDecimal.TEN);
+
+        assertThatThrownBy(() -> em.flush()).isInstanceOf(PersistenceException.class);
+    }
+
+    private Map<Long, BigDecimal> technicalMatches(Project project) {
+        return results(project).stream().collect(Collectors.toMap(result -> result.getDeveloper().getId(), MatchResult::getTechnicalMatch));
+    }
+
+    private List<MatchResult> results(Project project) {
+        return matchResultRepository
+            .findAll()
+            .stream()
+            .filter(result -> result.getProject().getId().equals(project.getId()))
+            .toList();
+    }
+
+    private MatchResult matchResult(Project project, Developer developer, BigDecimal technicalMatch) {
+        MatchResult matchResult = new MatchResult().project(project).developer(developer).technicalMatch(technicalMatch).createdAt("before");
+        em.persist(matchResult);
+        return matchResult;
+    }
+
+    private Technology technology(String name) {
+        Technology technology = new Technology().name(name);
+        em.persist(technology);
+        return technology;
+    }
+
+    private Project project(String name, String status, Technology... requiredTechnologies) {
+        Project project = new Project().name(name).description("description").experienceLevel("Intermediate").projectType("Web").status(status);
+        for (Technology technology : requiredTechnologies) {
+            project.addRequiredTechnologies(technology);
+        }
+        em.persist(project);
+        return project;
+    }
+
+    private Developer developer(String name, Technology... skills) {
+        Developer developer = new Developer().name(name).experienceLevel("Intermediate");
+        for (Technology skill : skills) {
+            developer.addSkills(skill);
+        }
+        em.persist(developer);
+        return developer;
+    }
+}
@@ -0,0 +1,157 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.IntegrationTest;
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Project;
+import com.devmatch.domain.Technology;
+import com.devmatch.service.dto.MatchCandidateDTO;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link MatchingEngineService}.
+ */
+@IntegrationTest
+@Transactional
+class MatchingEngineServiceIT {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MatchingEngineService matchingEngineService;
+
+    @Autowired
+    private SkillIndexService skillIndexService;
+
+    @Autowired
+    private SemanticIndexService semanticIndexService;
+
+    private Project project;
+
+    private Technology java;
+
+    private Technology angular;
+
+    private Developer fullMatch;
+
+    private Developer partialMatch;
+
+    private Developer noMatch;
+
+    @BeforeEach
+    void init() {
+        java = technology("engine-java");
+        angular = technology("engine-angular");
+        Technology sql = technology("engine-sql");
+        Technology cobol = technology("engine-cobol");
+
+        project = new Project().name("project").description("description").experienceLevel("Intermediate").projectType("Web");
+        project.addRequiredTechnologies(java).addRequiredTechnologies(angular).addRequiredTechnologies(sql);
+        em.persist(project);
+
+        fullMatch = developer("full", "Advanced", java, angular, sql, cobol);
+        partialMatch = developer("partial", "Beginner", java);
+        noMatch = developer("none", "Advanced", cobol);
+        em.flush();
+        skillIndexService.rebuild();
+    }
+
+    @Test
+    void shouldRankDevelopersByTechnicalMatch() {
+        List<MatchCandidateDTO> candidates = matchingEngineService.findTopMatches(project.getId(), 10).orElseThrow();
+
+        assertThat(candidates).extracting(MatchCandidateDTO::getDeveloperId).containsExactly(fullMatch.getId(), partialMatch.getId());
+        assertThat(candidates.get(0).getTechnicalMatch()).isEqualByComparingTo(BigDecimal.valueOf(100));
+        assertThat(candidates.get(1).getTechnicalMatch()).isEqualByComparingTo(new BigDecimal("33.33"));
+        assertThat(candidates.get(1).getMatchedTechnologies()).isEqualTo(1);
+        assertThat(candidates.get(1).getRequiredTechnologies()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldLimitToK() {
+        List<MatchCandidateDTO> candidates = matchingEngineService.findTopMatches(project.getId(), 1).orElseThrow();
+
+        assertThat(candidates).extracting(MatchCandidateDTO::getDeveloperId).containsExactly(fullMatch.getId());
+    }
+
+    @Test
+    void shouldBreakTiesOnExperienceLevel() {
+        Developer advanced = developer("advanced", "Advanced", project.getRequiredTechnologies().iterator().next());
+        em.flush();
+        skillIndexService.rebuild();
+
+        List<MatchCandidateDTO> candidates = matchingEngineService.findTopMatches(project.getId(), 10).orElseThrow();
+
+        assertThat(candidates).extracting(MatchCandidateDTO::getDeveloperId).containsExactly(
+            fullMatch.getId(),
+            advanced.getId(),
+            partialMatch.getId()
+        );
+    }
+
+    @Test
+    void shouldRankRareTechnologiesHigherByWeightedMatch() {
+        Developer commonSkill = developer("common", "Advanced", java);
+        Developer rareSkill = developer("rare", "Beginner", angular);
+        em.flush();
+        skillIndexService.rebuild();
+
+        List<MatchCandidateDTO> candidates = matchingEngineService.findTopWeightedMatches(project.getId(), 10).orElseThrow();
+
+        assertThat(candidates).extracting(MatchCandidateDTO::getDeveloperId).containsExactly(
+            fullMatch.getId(),
+            rareSkill.getId(),
+            commonSkill.getId(),
+            partialMatch.getId()
+        );
+        assertThat(candidates.get(0).getWeightedMatch()).isEqualByComparingTo(BigDecimal.valueOf(100));
+        assertThat(candidates.get(1).getTechnicalMatch()).isEqualByComparingTo(new BigDecimal("33.33"));
+        assertThat(candidates.get(1).getMatchedTechnologies()).isEqualTo(1);
+        assertThat(candidates.get(1).getWeightedMatch()).isGreaterThan(candidates.get(2).getWeightedMatch());
+    }
+
+    @Test
+    void shouldShortlistDevelopersBySemanticSimilarity() {
+        project.setDescription("Mobile banking application for Android, written in Kotlin");
+        partialMatch.setBio("I build Android mobile applications in Kotlin for fintech startups");
+        fullMatch.setBio("Backend engineer maintaining COBOL batch jobs on mainframes");
+        noMatch.setMotivation("Looking for data warehouse and reporting projects");
+        em.flush();
+        semanticIndexService.rebuild();
+
+        List<MatchCandidateDTO> candidates = matchingEngineService.findSemanticMatches(project.getId(), 2).orElseThrow();
+
+        assertThat(candidates).hasSize(2);
+        assertThat(candidates.get(0).getDeveloperId()).isEqualTo(partialMatch.getId());
+        assertThat(candidates.get(0).getSemanticSimilarity()).isGreaterThan(candidates.get(1).getSemanticSimilarity());
+        assertThat(candidates.get(0).getTechnicalMatch()).isEqualByComparingTo(new BigDecimal("33.33"));
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownProject() {
+        assertThat(matchingEngineService.findTopMatches(Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    private Technology technology(String name) {
+        Technology technology = new Technology().name(name);
+        em.persist(technology);
+        return technology;
+    }
+
+    private Developer developer(String name, String experienceLevel, Technology... skills) {
+        Developer developer = new Developer().name(name).experienceLevel(experienceLevel);
+        for (Technology skill : skills) {
+            developer.addSkills(skill);
+        }
+        em.persist(developer);
+        return developer;
+    }
+}
@@ -0,0 +1,91 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.ExperienceRepository;
+import com.devmatch.service.ai.HashedNgramEmbeddingProvider;
+import com.devmatch.service.matching.HnswIndex;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SemanticIndexServiceTest {
+
+    private DeveloperRepository developerRepository;
+
+    private SemanticIndexService semanticIndexService;
+
+    @BeforeEach
+    void setup() {
+        developerRepository = mock(DeveloperRepository.class);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getAi().setShortlistSize(1);
+        semanticIndexService = new SemanticIndexService(
+            developerRepository,
+            mock(ExperienceRepository.class),
+            new HashedNgramEmbeddingProvider(applicationProperties),
+            applicationProperties,
+            Runnable::run
+        );
+    }
+
+    @Test
+    void shouldSwapTheIndexOnRebuild() {
+        when(developerRepository.findAllProfileTexts()).thenReturn(List.of(profile(1L)));
+        HnswIndex previous = semanticIndexService.getIndex();
+
+        when(developerRepository.findAllProfileTexts()).thenAnswer(invocation -> {
+            // The previous index keeps serving, and receives the changes, while the new one loads
+            semanticIndexService.remove(1L);
+            assertThat(semanticIndexService.getIndex()).isSameAs(previous);
+            return List.of(profile(1L), profile(2L));
+        });
+        semanticIndexService.rebuild();
+
+        HnswIndex rebuilt = semanticIndexService.getIndex();
+        assertThat(rebuilt).isNotSameAs(previous);
+        assertThat(rebuilt.size()).isEqualTo(1);
+        assertThat(previous.size()).isZero();
+    }
+
+    @Test
+    void shouldRebuildOnceMostProfilesAreRemoved() {
+        when(developerRepository.findAllProfileTexts()).thenReturn(List.of(profile(1L), profile(2L), profile(3L)));
+        HnswIndex previous = semanticIndexService.getIndex();
+        when(developerRepository.findAllProfileTexts()).thenReturn(List.of(profile(3L)));
+
+        semanticIndexService.remove(1L);
+
+        assertThat(semanticIndexService.getIndex()).isSameAs(previous);
+
+        semanticIndexService.remove(2L);
+
+        HnswIndex rebuilt = semanticIndexService.getIndex();
+        assertThat(rebuilt).isNotSameAs(previous);
+        assertThat(rebuilt.size()).isEqualTo(1);
+        assertThat(rebuilt.deletedCount()).isZero();
+    }
+
+    private static DeveloperRepository.ProfileText profile(Long developerId) {
+        return new DeveloperRepository.ProfileText() {
+            @Override
+            public Long getDeveloperId() {
+                return developerId;
+            }
+
+            @Override
+            public String getBio() {
+                return "Backend developer " + developerId + " building Java services";
+            }
+
+            @Override
+            public String getMotivation() {
+                return "Shipping software that matters";
+            }
+        };
+    }
+}
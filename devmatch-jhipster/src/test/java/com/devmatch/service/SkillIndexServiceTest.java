@@ -0,0 +1,101 @@
+package com.devmatch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Technology;
+import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.service.matching.IdfSkillMatrix;
+import com.devmatch.service.matching.SkillIndex;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SkillIndexServiceTest {
+
+    private DeveloperRepository developerRepository;
+
+    private SkillIndexService skillIndexService;
+
+    @BeforeEach
+    void setup() {
+        developerRepository = mock(DeveloperRepository.class);
+        skillIndexService = new SkillIndexService(developerRepository);
+    }
+
+    @Test
+    void shouldReplayChangesCommittedWhileLoading() {
+        when(developerRepository.findAllSkillLinks()).thenAnswer(invocation -> {
+            skillIndexService.index(developer(2L, 20L));
+            skillIndexService.remove(3L);
+            return List.of(link(1L, 10L), link(3L, 10L));
+        });
+
+        SkillIndex index = skillIndexService.getIndex();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.overlap(1L, index.encode(List.of(10L)))).isEqualTo(1);
+        assertThat(index.overlap(2L, index.encode(List.of(20L)))).isEqualTo(1);
+        assertThat(index.overlap(3L, index.encode(List.of(10L)))).isZero();
+    }
+
+    @Test
+    void shouldSwapTheIndexOnRebuild() {
+        when(developerRepository.findAllSkillLinks()).thenReturn(List.of(link(1L, 10L)));
+        SkillIndex previous = skillIndexService.getIndex();
+
+        when(developerRepository.findAllSkillLinks()).thenAnswer(invocation -> {
+            // The previous index keeps serving, and receives the changes, while the new one loads
+            skillIndexService.index(developer(2L, 10L));
+            assertThat(skillIndexService.getIndex()).isSameAs(previous);
+            return List.of(link(1L, 10L));
+        });
+        skillIndexService.rebuild();
+
+        SkillIndex rebuilt = skillIndexService.getIndex();
+        assertThat(rebuilt).isNotSameAs(previous);
+        assertThat(rebuilt.size()).isEqualTo(2);
+        assertThat(previous.size()).isEqualTo(2);
+        assertThat(skillIndexService.getIdfSkillMatrix().version()).isEqualTo(rebuilt.version());
+    }
+
+    @Test
+    void shouldBuildTheMatrixOncePerVersion() {
+        when(developerRepository.findAllSkillLinks()).thenReturn(List.of(link(1L, 10L)));
+        IdfSkillMatrix matrix = skillIndexService.getIdfSkillMatrix();
+
+        assertThat(skillIndexService.getIdfSkillMatrix()).isSameAs(matrix);
+
+        skillIndexService.index(developer(2L, 10L));
+
+        assertThat(skillIndexService.getIdfSkillMatrix()).isNotSameAs(matrix);
+        assertThat(skillIndexService.getIdfSkillMatrix().version()).isEqualTo(skillIndexService.getIndex().version());
+    }
+
+    private static Developer developer(Long id, Long technologyId) {
+        Developer developer = new Developer().id(id).experienceLevel("Junior");
+        developer.addSkills(new Technology().id(technologyId));
+        return developer;
+    }
+
+    private static DeveloperRepository.SkillLink link(Long developerId, Long technologyId) {
+        return new DeveloperRepository.SkillLink() {
+            @Override
+            public Long getDeveloperId() {
+                return developerId;
+            }
+
+            @Override
+            public String getExperienceLevel() {
+                return "Junior";
+            }
+
+            @Override
+            public Long getTechnologyId() {
+                return technologyId;
+            }
+        };
+    }
+}
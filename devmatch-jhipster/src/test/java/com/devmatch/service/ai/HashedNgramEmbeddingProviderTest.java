@@ -0,0 +1,40 @@
+package com.devmatch.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.devmatch.config.ApplicationProperties;
+import com.devmatch.service.matching.HnswIndex;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link HashedNgramEmbeddingProvider}.
+ */
+class HashedNgramEmbeddingProviderTest {
+
+    private final HashedNgramEmbeddingProvider provider = new HashedNgramEmbeddingProvider(new ApplicationProperties());
+
+    @Test
+    void shouldEmbedDeterministicallyWithUnitLength() {
+        float[] embedding = provider.embed("Backend developer building Spring Boot microservices");
+
+        assertThat(embedding).hasSize(256).containsExactly(provider.embed("Backend developer building Spring Boot microservices"));
+        assertThat(HnswIndex.similarity(embedding, embedding)).isCloseTo(1f, within(1e-5f));
+        assertThat(provider.embed("  ")).containsOnly(0f);
+        assertThat(provider.embed(null)).containsOnly(0f);
+    }
+
+    @Test
+    void shouldIgnoreCaseAndAccents() {
+        assertThat(provider.embed("Programación en Python")).containsExactly(provider.embed("programacion EN python"));
+    }
+
+    @Test
+    void shouldEmbedSimilarTextsCloser() {
+        float[] project = provider.embed("Mobile application for Android written in Kotlin");
+        float[] close = provider.embed("I build Android mobile applications with Kotlin and Jetpack");
+        float[] far = provider.embed("Data warehouse modelling and ETL pipelines in SQL");
+
+        assertThat(HnswIndex.similarity(project, close)).isGreaterThan(HnswIndex.similarity(project, far));
+    }
+}
@@ -0,0 +1,37 @@
+package com.devmatch.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StubAffinityModelTest {
+
+    private final StubAffinityModel model = new StubAffinityModel();
+
+    @Test
+    void shouldScoreKeywordOverlaps() {
+        AffinityRequest request = new AffinityRequest();
+        request.setProjectDescription("Payment platform for online stores");
+        request.setRequiredTechnologies(List.of("Java", "Angular"));
+        request.setSkills(List.of("java", "Python"));
+        request.setMotivation("I love building payment systems");
+        request.setExperiences(List.of("Built an online payment platform"));
+
+        AffinityScore score = model.analyze(request);
+
+        assertThat(score.getTechnicalAffinity()).isEqualTo(50);
+        assertThat(score.getMotivationalAffinity()).isEqualTo(25);
+        assertThat(score.getExperienceRelevance()).isEqualTo(75);
+        assertThat(score.getComment()).isNotBlank();
+    }
+
+    @Test
+    void shouldScoreEmptyProfilesToZero() {
+        AffinityScore score = model.analyze(new AffinityRequest());
+
+        assertThat(score.getTechnicalAffinity()).isZero();
+        assertThat(score.getMotivationalAffinity()).isZero();
+        assertThat(score.getExperienceRelevance()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package com.devmatch.service.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link AuditRingBuffer} data structure.
+ */
+class AuditRingBufferTest {
+
+    @Test
+    void shouldRoundCapacityToAPowerOfTwo() {
+        assertThat(new AuditRingBuffer<String>(1).capacity()).isEqualTo(1);
+        assertThat(new AuditRingBuffer<String>(5).capacity()).isEqualTo(8);
+        assertThat(new AuditRingBuffer<String>(64).capacity()).isEqualTo(64);
+        assertThatThrownBy(() -> new AuditRingBuffer<String>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectOffersWhenFull() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+    }
+
+    @Test
+    void shouldDrainInOrderAcrossTheEndOfTheArray() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+            if (i % 3 == 2) {
+                buffer.drain(2, drained::add);
+            }
+            if (i % 3 == 1 && i > 1) {
+                buffer.drain(1, drained::add);
+            }
+        }
+
+        assertThat(buffer.drain(Integer.MAX_VALUE, drained::add)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void shouldKeepEveryElementOfConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int first = p * perProducer;
+            executor.execute(() -> {
+                for (int i = first; i < first + perProducer; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        List<Integer> drained = new ArrayList<>(producers * perProducer);
+        while (drained.size() < producers * perProducer) {
+            buffer.drain(256, drained::add);
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        Collections.sort(drained);
+        for (int i = 0; i < drained.size(); i++) {
+            assertThat(drained.get(i)).isEqualTo(i);
+        }
+    }
+}
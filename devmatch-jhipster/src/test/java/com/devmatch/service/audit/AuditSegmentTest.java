@@ -0,0 +1,162 @@
+package com.devmatch.service.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devmatch.domain.AuditHistory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for the {@link AuditSegment} data structure.
+ */
+class AuditSegmentTest {
+
+    private static final Instant CUTOFF = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldFindTheHistoryOfAnEntityAcrossBlocks() throws IOException {
+        List<AuditHistory> records = records();
+        AuditSegment segment = AuditSegment.write(directory.resolve("history.seg"), records, 4, CUTOFF);
+
+        List<AuditHistory> history = segment.findHistory("Developer", 2L, null, null, 100);
+
+        assertThat(history).hasSize(10);
+        assertThat(history).isSortedAccordingTo(AuditSegment.NEWEST_FIRST);
+        assertThat(history).allMatch(record -> record.getEntityType().equals("Developer") && record.getEntityId() == 2L);
+        assertThat(segment.findHistory("Developer", 4L, null, null, 100)).isEmpty();
+        assertThat(segment.findHistory("Aaa", 1L, null, null, 100)).isEmpty();
+        assertThat(segment.findHistory("Zzz", 1L, null, null, 100)).isEmpty();
+        assertThat(segment.getRecordCount()).isEqualTo(records.size());
+        assertThat(segment.getCutoff()).isEqualTo(CUTOFF);
+    }
+
+    @Test
+    void shouldPageTheHistoryOfAnEntityBySeek() throws IOException {
+        AuditSegment segment = AuditSegment.write(directory.resolve("pages.seg"), records(), 3, CUTOFF);
+
+        List<AuditHistory> pages = new ArrayList<>();
+        List<AuditHistory> page = segment.findHistory("Project", 1L, null, null, 4);
+        while (!page.isEmpty()) {
+            assertThat(page.size()).isLessThanOrEqualTo(4);
+            pages.addAll(page);
+            AuditHistory last = page.get(page.size() - 1);
+            page = segment.findHistory("Project", 1L, last.getFechaModificacion(), last.getId(), 4);
+        }
+
+        assertThat(pages).extracting(AuditHistory::getId).containsExactlyElementsOf(
+            segment.findHistory("Project", 1L, null, null, 100).stream().map(AuditHistory::getId).toList()
+        );
+        assertThat(pages).hasSize(10);
+    }
+
+    @Test
+    void shouldReadRecordsBackAfterReopening() throws IOException {
+        Path path = directory.resolve("reopened.seg");
+        List<AuditHistory> records = records();
+        AuditSegment.write(path, records, 5, CUTOFF);
+
+        AuditSegment segment = AuditSegment.open(path);
+
+        AuditHistory record = segment.findById(17L).orElseThrow();
+        AuditHistory expected = records.stream().filter(r -> r.getId() == 17L).findFirst().orElseThrow();
+        assertThat(record.getEntityType()).isEqualTo(expected.getEntityType());
+        assertThat(record.getEntityId()).isEqualTo(expected.getEntityId());
+        assertThat(record.getFieldName()).isEqualTo(expected.getFieldName());
+        assertThat(record.getOldValue()).isEqualTo(expected.getOldValue());
+        assertThat(record.getNewValue()).isNull();
+        assertThat(record.getUsuario()).isEqualTo("ñandú");
+        assertThat(record.getFechaModificacion()).isEqualTo(expected.getFechaModificacion());
+        assertThat(segment.findById(1000L)).isEmpty();
+        assertThat(segment.getIds()).containsExactlyInAnyOrderElementsOf(records.stream().map(AuditHistory::getId).toList());
+        assertThat(segment.getMinId()).isEqualTo(1L);
+        assertThat(segment.getMaxId()).isEqualTo(records.size());
+        assertThat(segment.getNewest()).isEqualTo(
+            records.stream().map(AuditHistory::getFechaModificacion).max(Instant::compareTo).orElseThrow()
+        );
+    }
+
+    @Test
+    void shouldFindEveryRecordById() throws IOException {
+        List<AuditHistory> records = records();
+        AuditSegment segment = AuditSegment.write(directory.resolve("ids.seg"), records, 3, CUTOFF);
+
+        for (AuditHistory expected : records) {
+            assertThat(segment.findById(expected.getId())).hasValueSatisfying(record ->
+                assertThat(record.getOldValue()).isEqualTo(expected.getOldValue())
+            );
+        }
+        assertThat(segment.getIds()).isSorted().hasSize(records.size());
+        assertThat(segment.getRecords()).extracting(AuditHistory::getId).containsExactlyElementsOf(
+            records.stream().map(AuditHistory::getId).toList()
+        );
+
+        segment.release();
+
+        assertThatThrownBy(() -> segment.findById(1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldMergeHistoriesKeepingEachRecordOnce() {
+        List<AuditHistory> records = records().stream().filter(record -> record.getEntityType().equals("Project")).toList();
+        List<AuditHistory> duplicated = new ArrayList<>(records);
+        duplicated.addAll(records.subList(0, 5));
+
+        List<AuditHistory> history = AuditSegment.mergeHistory(duplicated, 8);
+
+        assertThat(history).hasSize(8).isSortedAccordingTo(AuditSegment.NEWEST_FIRST);
+        assertThat(history).extracting(AuditHistory::getId).doesNotHaveDuplicates();
+        assertThat(AuditSegment.mergeHistory(duplicated, 100)).hasSize(records.size());
+    }
+
+    @Test
+    void shouldRejectUnsortedRecordsAndForeignFiles() throws IOException {
+        List<AuditHistory> records = records();
+        records.sort(AuditSegment.ORDER.reversed());
+        Path unsorted = directory.resolve("unsorted.seg");
+
+        assertThatThrownBy(() -> AuditSegment.write(unsorted, records, 4, CUTOFF)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(unsorted).doesNotExist();
+        assertThat(directory.resolve("unsorted.seg.tmp")).doesNotExist();
+
+        Path foreign = Files.writeString(directory.resolve("foreign.seg"), "not a segment, only some text");
+        assertThatThrownBy(() -> AuditSegment.open(foreign)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Ten records for each of three developers and one project, sorted as in a segment.
+     */
+    private static List<AuditHistory> records() {
+        List<AuditHistory> records = new ArrayList<>();
+        long id = 0;
+        for (int i = 0; i < 10; i++) {
+            for (long developerId = 1; developerId <= 3; developerId++) {
+                records.add(record(++id, "Developer", developerId, i));
+            }
+            records.add(record(++id, "Project", 1L, i / 2));
+        }
+        records.sort(AuditSegment.ORDER);
+        return records;
+    }
+
+    private static AuditHistory record(long id, String entityType, long entityId, int day) {
+        return new AuditHistory()
+            .id(id)
+            .entityType(entityType)
+            .entityId(entityId)
+            .fieldName("name")
+            .oldValue("old " + id)
+            .newValue(null)
+            .usuario("ñandú")
+            .fechaModificacion(CUTOFF.minusSeconds(86_400L * (30 - day)));
+    }
+}
@@ -0,0 +1,192 @@
+package com.devmatch.service.dto;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * JMH benchmark of the JSON, CBOR and Smile encodings of the {@link DeveloperDTO} and {@link MatchResultDTO} lists
+ * sent to the batch integrations, serializing and deserializing a batch of synthetic DTOs.
+ * <p>
+ * The mappers are built like the ones of the message converters. Before running the benchmarks, the size of a
+ * batch in every encoding is printed, raw and gzipped. It is not run by the test suite; run it with:
+ * <pre>
+ * ./mvnw test-compile
+ * java -cp target/test-classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.devmatch.service.dto.DtoEncodingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoEncodingBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final int TECHNOLOGIES = 200;
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    @Param({ "developer", "matchResult" })
+    private String dto;
+
+    private ObjectMapper mapper;
+
+    private JavaType type;
+
+    private List<?> batch;
+
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = mapper(format);
+        Class<?> dtoClass = "developer".equals(dto) ? DeveloperDTO.class : MatchResultDTO.class;
+        type = mapper.getTypeFactory().constructCollectionType(List.class, dtoClass);
+        batch = batch(dto);
+        encoded = mapper.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public List<?> deserialize() throws IOException {
+        return mapper.readValue(encoded, type);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        for (String dto : List.of("developer", "matchResult")) {
+            List<?> batch = batch(dto);
+            for (String format : List.of("json", "cbor", "smile")) {
+                byte[] bytes = mapper(format).writeValueAsBytes(batch);
+                System.out.printf("%-12s %-6s %10d bytes %10d bytes gzipped%n", dto, format, bytes.length, gzippedLength(bytes));
+            }
+        }
+        new Runner(new OptionsBuilder().include(DtoEncodingBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static ObjectMapper mapper(String format) {
+        return switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+    }
+
+    private static List<?> batch(String dto) {
+        Random random = new Random(42);
+        List<TechnologyDTO> technologies = new ArrayList<>(TECHNOLOGIES);
+        for (int i = 0; i < TECHNOLOGIES; i++) {
+            TechnologyDTO technology = new TechnologyDTO();
+            technology.setId((long) i + 1);
+            technology.setName("Technology " + i);
+            technology.setCategory(List.of("Backend", "Frontend", "Database", "DevOps").get(i % 4));
+            technology.setVersion(0L);
+            technologies.add(technology);
+        }
+        List<Object> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            DeveloperDTO developer = developer(i, technologies, random);
+            if ("developer".equals(dto)) {
+                batch.add(developer);
+            } else {
+                batch.add(matchResult(i, developer, project(i % 50, technologies, random), random));
+            }
+        }
+        return batch;
+    }
+
+    private static DeveloperDTO developer(int i, List<TechnologyDTO> technologies, Random random) {
+        DeveloperDTO developer = new DeveloperDTO();
+        developer.setId((long) i + 1);
+        developer.setName("Developer " + i);
+        developer.setEmail("developer" + i + "@devmatch.com");
+        developer.setExperienceLevel(List.of("JUNIOR", "MID", "SENIOR").get(i % 3));
+        developer.setBio("Developer " + i + " has built and run web applications for " + (1 + random.nextInt(15)) + " years.");
+        developer.setLocation("City " + random.nextInt(100));
+        developer.setGithubProfile("https://github.com/developer" + i);
+        developer.setLinkedin("https://www.linkedin.com/in/developer" + i);
+        developer.setMotivation("Looking for a team shipping software that matters.");
+        developer.setUsuarioCreacion("batch");
+        developer.setUsuarioModificacion("batch");
+        developer.setFechaCreacion(Instant.ofEpochSecond(1_700_000_000L + random.nextInt(10_000_000)));
+        developer.setFechaModificacion(developer.getFechaCreacion().plusSeconds(random.nextInt(1_000_000)));
+        developer.setVersion((long) random.nextInt(5));
+        for (int skill = 3 + random.nextInt(10); skill > 0; skill--) {
+            developer.getSkills().add(technologies.get(random.nextInt(TECHNOLOGIES)));
+        }
+        return developer;
+    }
+
+    private static ProjectDTO project(int i, List<TechnologyDTO> technologies, Random random) {
+        ProjectDTO project = new ProjectDTO();
+        project.setId((long) i + 1);
+        project.setName("Project " + i);
+        project.setDescription("Project " + i + " needs developers to build its platform.");
+        project.setExperienceLevel("MID");
+        project.setProjectType("FULL_TIME");
+        project.setStatus("OPEN");
+        project.setUsuarioCreacion("batch");
+        project.setUsuarioModificacion("batch");
+        project.setFechaCreacion(Instant.ofEpochSecond(1_700_000_000L + random.nextInt(10_000_000)));
+        project.setFechaModificacion(project.getFechaCreacion());
+        project.setVersion(0L);
+        for (int required = 3 + random.nextInt(6); required > 0; required--) {
+            project.getRequiredTechnologies().add(technologies.get(random.nextInt(TECHNOLOGIES)));
+        }
+        return project;
+    }
+
+    private static MatchResultDTO matchResult(int i, DeveloperDTO developer, ProjectDTO project, Random random) {
+        MatchResultDTO matchResult = new MatchResultDTO();
+        matchResult.setId((long) i + 1);
+        matchResult.setTechnicalMatch(BigDecimal.valueOf(random.nextInt(10_000), 2));
+        matchResult.setAiTechnicalAffinity(random.nextInt(101));
+        matchResult.setAiMotivationalAffinity(random.nextInt(101));
+        matchResult.setAiExperienceRelevance(random.nextInt(101));
+        matchResult.setAiComment("The developer covers most of the required technologies.");
+        matchResult.setCreatedAt(Instant.ofEpochSecond(1_700_000_000L + random.nextInt(10_000_000)).toString());
+        matchResult.setProject(project);
+        matchResult.setDeveloper(developer);
+        return matchResult;
+    }
+
+    private static int gzippedLength(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        }
+        return compressed.size();
+    }
+}
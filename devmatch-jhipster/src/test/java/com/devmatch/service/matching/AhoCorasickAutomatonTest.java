@@ -0,0 +1,83 @@
+package com.devmatch.service.matching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link AhoCorasickAutomaton} data structure.
+ */
+class AhoCorasickAutomatonTest {
+
+    @Test
+    void shouldFindOverlappingOccurrences() {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(List.of("he", "she", "his", "hers"));
+
+        List<String> occurrences = new ArrayList<>();
+        automaton.scan("ushers", (pattern, start, end) -> occurrences.add(pattern + "@" + start + "-" + end));
+
+        assertThat(occurrences).containsExactly("1@1-4", "0@2-4", "3@2-6");
+    }
+
+    @Test
+    void shouldIgnoreCaseAndAccents() {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(List.of("móvil", "Node.js", "C#"));
+
+        List<Integer> patterns = new ArrayList<>();
+        automaton.scan("App MOVIL con node.JS y c#", (pattern, start, end) -> patterns.add(pattern));
+
+        assertThat(patterns).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void shouldReportDuplicatePatterns() {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(List.of("api", "API"));
+
+        List<Integer> patterns = new ArrayList<>();
+        automaton.scan("una api", (pattern, start, end) -> patterns.add(pattern));
+
+        assertThat(patterns).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void shouldRejectEmptyPatterns() {
+        assertThatThrownBy(() -> new AhoCorasickAutomaton(List.of("java", ""))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldFindTheSameOccurrencesAsANaiveScan() {
+        Random random = new Random(42);
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            patterns.add(randomText(random, 2 + random.nextInt(6)));
+        }
+        String text = randomText(random, 10_000);
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(patterns);
+
+        List<String> occurrences = new ArrayList<>();
+        automaton.scan(text, (pattern, start, end) -> occurrences.add(pattern + "@" + start));
+
+        List<String> expected = new ArrayList<>();
+        for (int pattern = 0; pattern < patterns.size(); pattern++) {
+            for (int start = text.indexOf(patterns.get(pattern)); start >= 0; start = text.indexOf(patterns.get(pattern), start + 1)) {
+                expected.add(pattern + "@" + start);
+            }
+        }
+        Collections.sort(occurrences);
+        Collections.sort(expected);
+        assertThat(occurrences).isEqualTo(expected);
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(4)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package com.devmatch.service.matching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link HnswIndex} data structure.
+ */
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    @Test
+    void shouldFindNearestNeighbours() {
+        HnswIndex index = new HnswIndex(DIMENSION, 8, 64, 42L);
+        index.put(1L, unit(1f, 0f));
+        index.put(2L, unit(1f, 1f));
+        index.put(3L, unit(0f, 1f));
+
+        List<Long> neighbours = new ArrayList<>();
+        index.search(unit(1f, 0.1f), 2, 10, (id, similarity) -> neighbours.add(id));
+
+        assertThat(neighbours).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldReachHighRecallOnRandomVectors() {
+        Random random = new Random(42);
+        int size = 3000;
+        int k = 10;
+        float[][] vectors = new float[size][];
+        HnswIndex index = new HnswIndex(DIMENSION, 16, 100, 42L);
+        for (int i = 0; i < size; i++) {
+            vectors[i] = randomUnit(random);
+            index.put(i, vectors[i]);
+        }
+
+        int found = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnit(random);
+            Set<Long> exact = IntStream.range(0, size)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> -HnswIndex.similarity(query, vectors[i])))
+                .limit(k)
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+            Set<Long> approximate = new HashSet<>();
+            index.search(query, k, 100, (id, similarity) -> approximate.add(id));
+            approximate.retainAll(exact);
+            found += approximate.size();
+        }
+
+        assertThat((double) found / (queries * k)).isGreaterThan(0.9);
+    }
+
+    @Test
+    void shouldNotReturnReplacedOrRemovedVectors() {
+        HnswIndex index = new HnswIndex(DIMENSION, 8, 64, 42L);
+        index.put(1L, unit(1f, 0f));
+        index.put(2L, unit(1f, 0.2f));
+        index.put(3L, unit(0f, 1f));
+
+        index.put(1L, unit(0f, 1f));
+        index.remove(2L);
+
+        List<Long> neighbours = new ArrayList<>();
+        index.search(unit(1f, 0f), 3, 10, (id, similarity) -> neighbours.add(id));
+
+        assertThat(neighbours).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.deletedCount()).isEqualTo(2);
+    }
+
+    private static float[] unit(float x, float y) {
+        float[] vector = new float[DIMENSION];
+        vector[0] = x;
+        vector[1] = y;
+        return normalize(vector);
+    }
+
+    private static float[] randomUnit(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return normalize(vector);
+    }
+
+    private static float[] normalize(float[] vector) {
+        float norm = (float) Math.sqrt(HnswIndex.similarity(vector, vector));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] /= norm;
+        }
+        return vector;
+    }
+}
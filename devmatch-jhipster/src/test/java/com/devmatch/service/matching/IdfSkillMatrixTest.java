@@ -0,0 +1,70 @@
+package com.devmatch.service.matching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link IdfSkillMatrix} built from a {@link SkillIndex}.
+ */
+class IdfSkillMatrixTest {
+
+    @Test
+    void shouldWeighRareTechnologiesMore() {
+        SkillIndex index = new SkillIndex();
+        index.put(1L, 0, List.of(10L, 20L));
+        index.put(2L, 0, List.of(10L));
+        index.put(3L, 0, List.of(10L));
+
+        IdfSkillMatrix matrix = index.idfSkillMatrix();
+
+        assertThat(matrix.weight(20L)).isGreaterThan(matrix.weight(10L));
+        assertThat(matrix.weight(30L)).isGreaterThan(matrix.weight(20L));
+        assertThat(matrix.weight(10L)).isCloseTo((float) (Math.log(4d / 4d) + 1d), within(1e-6f));
+    }
+
+    @Test
+    void shouldScoreWeightedMatch() {
+        SkillIndex index = new SkillIndex();
+        index.put(1L, 0, List.of(10L, 20L));
+        index.put(2L, 0, List.of(10L));
+        index.put(3L, 0, List.of(20L));
+        index.put(4L, 0, List.of(10L));
+        index.put(5L, 0, List.of(30L));
+        IdfSkillMatrix matrix = index.idfSkillMatrix();
+
+        Map<Long, Float> scores = scores(matrix, List.of(10L, 20L));
+
+        assertThat(scores).containsOnlyKeys(1L, 2L, 3L, 4L);
+        assertThat(scores.get(1L)).isCloseTo(100f, within(1e-3f));
+        assertThat(scores.get(3L)).isGreaterThan(scores.get(2L));
+        assertThat(scores.get(2L) + scores.get(3L)).isCloseTo(100f, within(1e-3f));
+    }
+
+    @Test
+    void shouldSkipRemovedDevelopersAndTrackVersion() {
+        SkillIndex index = new SkillIndex();
+        index.put(1L, 0, List.of(10L));
+        index.put(2L, 0, List.of(10L));
+        IdfSkillMatrix before = index.idfSkillMatrix();
+
+        index.remove(2L);
+        IdfSkillMatrix after = index.idfSkillMatrix();
+
+        assertThat(before.version()).isNotEqualTo(index.version());
+        assertThat(after.version()).isEqualTo(index.version());
+        assertThat(scores(after, List.of(10L))).containsOnlyKeys(1L);
+    }
+
+    private static Map<Long, Float> scores(IdfSkillMatrix matrix, List<Long> technologyIds) {
+        Map<Long, Float> scores = new HashMap<>();
+        matrix.score(technologyIds, new ScalarScoringKernel(), (developerId, weightedMatch, experienceRank) ->
+            scores.put(developerId, weightedMatch)
+        );
+        return scores;
+    }
+}
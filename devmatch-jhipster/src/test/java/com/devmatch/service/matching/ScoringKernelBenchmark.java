@@ -0,0 +1,102 @@
+package com.devmatch.service.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark of the {@link ScoringKernel} implementations, scoring a project against a synthetic roster.
+ * <p>
+ * The roster has 100k developers with 3 to 12 skills each out of a 200 technology catalogue, technology
+ * popularity following a Zipf-like distribution. It is not run by the test suite; run it with:
+ * <pre>
+ * ./mvnw -Pvector test-compile
+ * java --add-modules jdk.incubator.vector -cp target/test-classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.devmatch.service.matching.ScoringKernelBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+public class ScoringKernelBenchmark {
+
+    private static final int TECHNOLOGIES = 200;
+
+    @Param({ "100000" })
+    private int developers;
+
+    @Param({ "3", "8" })
+    private int requiredTechnologies;
+
+    private IdfSkillMatrix matrix;
+
+    private List<Long> query;
+
+    private final ScoringKernel scalar = new ScalarScoringKernel();
+
+    private ScoringKernel vector;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        SkillIndex index = new SkillIndex();
+        for (long developerId = 1; developerId <= developers; developerId++) {
+            int skills = 3 + random.nextInt(10);
+            List<Long> technologyIds = new ArrayList<>(skills);
+            for (int i = 0; i < skills; i++) {
+                technologyIds.add(popularTechnology(random));
+            }
+            index.put(developerId, random.nextInt(4), technologyIds);
+        }
+        matrix = index.idfSkillMatrix();
+        query = new ArrayList<>();
+        while (query.size() < requiredTechnologies) {
+            long technologyId = popularTechnology(random);
+            if (!query.contains(technologyId)) {
+                query.add(technologyId);
+            }
+        }
+        vector = ScoringKernel.create();
+        if (vector instanceof ScalarScoringKernel) {
+            throw new IllegalStateException("Build the benchmark with -Pvector, and run it with --add-modules jdk.incubator.vector");
+        }
+    }
+
+    @Benchmark
+    public void scalar(Blackhole blackhole) {
+        matrix.score(query, scalar, (developerId, weightedMatch, experienceRank) -> blackhole.consume(weightedMatch));
+    }
+
+    @Benchmark
+    public void vector(Blackhole blackhole) {
+        matrix.score(query, vector, (developerId, weightedMatch, experienceRank) -> blackhole.consume(weightedMatch));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ScoringKernelBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static long popularTechnology(Random random) {
+        // Inverse transform of a 1/x distribution over [1, TECHNOLOGIES]: low ids are much more frequent than high ones
+        return (long) Math.pow(TECHNOLOGIES + 1d, random.nextDouble());
+    }
+}
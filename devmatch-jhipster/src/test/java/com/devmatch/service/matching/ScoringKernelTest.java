@@ -0,0 +1,53 @@
+package com.devmatch.service.matching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link ScoringKernel} implementations.
+ */
+class ScoringKernelTest {
+
+    private static final int ROWS = 1027;
+
+    @Test
+    void shouldComputeWeightedSums() {
+        float[][] columns = { { 1f, 0f, 1f }, { 0f, 1f, 1f } };
+        float[] scores = new float[3];
+
+        new ScalarScoringKernel().score(columns, new float[] { 2f, 3f }, 3, scores);
+
+        assertThat(scores).containsExactly(2f, 3f, 5f);
+    }
+
+    @Test
+    void shouldUseVectorKernelWhenModuleIsAvailable() {
+        assumeThat(ModuleLayer.boot().findModule("jdk.incubator.vector")).isPresent();
+
+        // The kernel is only built by the vector profile, which also adds the module to the test JVM
+        assertThat(ScoringKernel.create().getClass().getSimpleName()).isEqualTo("VectorScoringKernel");
+    }
+
+    @Test
+    void shouldMatchScalarKernel() {
+        Random random = new Random(42);
+        float[][] columns = new float[5][ROWS];
+        float[] weights = new float[columns.length];
+        for (int column = 0; column < columns.length; column++) {
+            weights[column] = 1f + random.nextFloat() * 4f;
+            for (int row = 0; row < ROWS; row++) {
+                columns[column][row] = random.nextInt(4) == 0 ? 1f : 0f;
+            }
+        }
+        float[] expected = new float[ROWS];
+        float[] actual = new float[ROWS];
+
+        new ScalarScoringKernel().score(columns, weights, ROWS, expected);
+        ScoringKernel.create().score(columns, weights, ROWS, actual);
+
+        assertThat(actual).containsExactly(expected);
+    }
+}
@@ -0,0 +1,86 @@
+package com.devmatch.service.matching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link SkillIndex} data structure.
+ */
+class SkillIndexTest {
+
+    @Test
+    void shouldComputeOverlapWithQuery() {
+        SkillIndex index = new SkillIndex();
+        index.put(1L, 0, List.of(10L, 20L, 30L));
+        index.put(2L, 0, List.of(20L));
+        index.put(3L, 0, List.of(40L));
+
+        assertThat(overlaps(index, List.of(10L, 20L))).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2, 2L, 1));
+    }
+
+    @Test
+    void shouldReplaceAndRemoveDevelopers() {
+        SkillIndex index = new SkillIndex();
+        index.put(1L, 0, List.of(10L));
+        index.put(2L, 0, List.of(10L));
+
+        index.put(1L, 0, List.of(20L));
+        index.remove(2L);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(overlaps(index, List.of(10L))).isEmpty();
+        assertThat(overlaps(index, List.of(20L))).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1));
+    }
+
+    @Test
+    void shouldSpanSeveralWords() {
+        SkillIndex index = new SkillIndex();
+        List<Long> catalogue = LongStream.rangeClosed(1, 200).boxed().toList();
+        index.put(1L, 0, catalogue);
+        for (long developerId = 2; developerId < 200; developerId++) {
+            index.put(developerId, 0, List.of(developerId));
+        }
+
+        Map<Long, Integer> overlaps = overlaps(index, List.of(3L, 150L, 199L));
+
+        assertThat(overlaps).containsEntry(1L, 3).containsEntry(3L, 1).containsEntry(150L, 1).containsEntry(199L, 1).hasSize(4);
+    }
+
+    @Test
+    void shouldKeepPostingListsSorted() {
+        SkillIndex index = new SkillIndex();
+        index.put(5L, 0, List.of(10L));
+        index.put(6L, 0, List.of(20L));
+        index.put(7L, 0, List.of(10L));
+
+        index.put(6L, 0, List.of(10L, 20L));
+        assertThat(index.postings(10L)).containsExactly(0, 1, 2);
+
+        index.remove(5L);
+        assertThat(index.postings(10L)).containsExactly(1, 2);
+        assertThat(index.countCandidates(index.encode(List.of(10L)))).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRemoveTechnology() {
+        SkillIndex index = new SkillIndex();
+        index.put(1L, 0, List.of(10L, 20L));
+        index.put(2L, 0, List.of(10L));
+
+        index.removeTechnology(10L);
+
+        assertThat(index.postings(10L)).isEmpty();
+        assertThat(overlaps(index, List.of(10L, 20L))).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1));
+    }
+
+    private static Map<Long, Integer> overlaps(SkillIndex index, List<Long> technologyIds) {
+        Map<Long, Integer> result = new HashMap<>();
+        index.forEachOverlap(index.encode(technologyIds), (developerId, overlap, experienceRank) -> result.put(developerId, overlap));
+        return result;
+    }
+}
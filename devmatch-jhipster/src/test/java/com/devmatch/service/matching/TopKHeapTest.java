@@ -0,0 +1,67 @@
+package com.devmatch.service.matching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link TopKHeap} data structure.
+ */
+class TopKHeapTest {
+
+    @Test
+    void shouldKeepBestCandidatesInOrder() {
+        TopKHeap heap = new TopKHeap(3);
+        heap.offer(1f, 0, 1L);
+        heap.offer(5f, 0, 2L);
+        heap.offer(3f, 0, 3L);
+        heap.offer(4f, 0, 4L);
+        heap.offer(2f, 0, 5L);
+
+        heap.sortDescending();
+
+        assertThat(ids(heap)).containsExactly(2L, 4L, 3L);
+    }
+
+    @Test
+    void shouldBreakTiesOnRankThenId() {
+        TopKHeap heap = new TopKHeap(3);
+        heap.offer(1f, 1, 10L);
+        heap.offer(1f, 3, 30L);
+        heap.offer(1f, 3, 20L);
+        heap.offer(1f, 2, 40L);
+
+        heap.sortDescending();
+
+        assertThat(ids(heap)).containsExactly(20L, 30L, 40L);
+    }
+
+    @Test
+    void shouldMatchFullSort() {
+        Random random = new Random(42);
+        TopKHeap heap = new TopKHeap(20);
+        List<long[]> all = new ArrayList<>();
+        for (long id = 0; id < 5000; id++) {
+            int score = random.nextInt(50);
+            int rank = random.nextInt(4);
+            heap.offer(score, rank, id);
+            all.add(new long[] { score, rank, id });
+        }
+        all.sort((a, b) -> a[0] != b[0] ? Long.compare(b[0], a[0]) : a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(a[2], b[2]));
+
+        heap.sortDescending();
+
+        assertThat(ids(heap)).containsExactlyElementsOf(all.subList(0, 20).stream().map(candidate -> candidate[2]).toList());
+    }
+
+    private static List<Long> ids(TopKHeap heap) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < heap.size(); i++) {
+            ids.add(heap.idAt(i));
+        }
+        return ids;
+    }
+}
@@ -3,6 +3,8 @@ package com.devmatch.web.rest;
 import static com.devmatch.domain.AuditHistoryAsserts.*;
 import static com.devmatch.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -277,6 +280,35 @@ class AuditHistoryResourceIT {
             .andExpect(jsonPath("$.[*].fechaModificacion").value(hasItem(DEFAULT_FECHA_MODIFICACION.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAuditHistoriesOfEntityBySeek() throws Exception {
+        // Initialize the database
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        AuditHistory oldest = auditHistoryRepository.saveAndFlush(createEntity().entityType("Seek").fechaModificacion(now.minusSeconds(60)));
+        AuditHistory middle = auditHistoryRepository.saveAndFlush(createEntity().entityType("Seek").fechaModificacion(now));
+        AuditHistory newest = auditHistoryRepository.saveAndFlush(createEntity().entityType("Seek").fechaModificacion(now));
+        auditHistoryRepository.saveAndFlush(createEntity().entityType("Seek").entityId(DEFAULT_ENTITY_ID + 1).fechaModificacion(now));
+
+        // Get the first page of the history of the entity
+        String url = ENTITY_API_URL + "?entityType=Seek&entityId=" + DEFAULT_ENTITY_ID + "&size=2";
+        restAuditHistoryMockMvc
+            .perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(newest.getId().intValue(), middle.getId().intValue())))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + now + "," + middle.getId())));
+
+        // Get the next page
+        restAuditHistoryMockMvc
+            .perform(get(url + "&after={after}", now + "," + middle.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(oldest.getId().intValue())))
+            .andExpect(header().doesNotExist(HttpHeaders.LINK));
+
+        // Get a page with an invalid position
+        restAuditHistoryMockMvc.perform(get(url + "&after=yesterday")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getAuditHistory() throws Exception {
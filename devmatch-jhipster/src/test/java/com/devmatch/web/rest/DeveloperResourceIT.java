@@ -3,15 +3,23 @@ package com.devmatch.web.rest;
 import static com.devmatch.domain.DeveloperAsserts.*;
 import static com.devmatch.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.devmatch.IntegrationTest;
 import com.devmatch.domain.Developer;
+import com.devmatch.domain.Experience;
+import com.devmatch.domain.Technology;
 import com.devmatch.repository.DeveloperRepository;
+import com.devmatch.repository.ExperienceRepository;
+import com.devmatch.security.AuthoritiesConstants;
 import com.devmatch.service.DeveloperService;
+import com.devmatch.service.EntityCountService;
 import com.devmatch.service.dto.DeveloperDTO;
 import com.devmatch.service.mapper.DeveloperMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,6 +27,7 @@ import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -29,9 +38,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -84,6 +95,8 @@ class DeveloperResourceIT {
     private static final String ENTITY_API_URL = "/api/developers";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
     private static Random random = new Random();
     private static AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
 
@@ -96,9 +109,15 @@ class DeveloperResourceIT {
     @Mock
     private DeveloperRepository developerRepositoryMock;
 
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
     @Autowired
     private DeveloperMapper developerMapper;
 
+    @Autowired
+    private EntityCountService entityCountService;
+
     @Mock
     private DeveloperService developerServiceMock;
 
@@ -164,7 +183,7 @@ class DeveloperResourceIT {
     @AfterEach
     void cleanup() {
         if (insertedDeveloper != null) {
-            developerRepository.delete(insertedDeveloper);
+            developerRepository.deleteById(insertedDeveloper.getId());
             insertedDeveloper = null;
         }
     }
@@ -254,18 +273,117 @@ class DeveloperResourceIT {
             .andExpect(jsonPath("$.[*].fechaModificacion").value(hasItem(DEFAULT_FECHA_MODIFICACION.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllDevelopersAsSlice() throws Exception {
+        // Initialize the database
+        insertedDeveloper = developerRepository.saveAndFlush(developer);
+        entityCountService.refresh();
+
+        restDeveloperMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=1&mode=slice"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().exists("X-Approximate-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"first\"")))
+            .andExpect(jsonPath("$.[*].id").value(contains(developer.getId().intValue())))
+            .andExpect(jsonPath("$.[0].name").value(DEFAULT_NAME));
+    }
+
+    @Test
+    @Transactional
+    void getAllDevelopersWithSkills() throws Exception {
+        // Initialize the database
+        Technology skill = TechnologyResourceIT.createEntity();
+        em.persist(skill);
+        developer.addSkills(skill);
+        insertedDeveloper = developerRepository.saveAndFlush(developer);
+        em.clear();
+
+        // Get all the developerList with their skills
+        restDeveloperMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&eagerload=true"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[?(@.id == " + developer.getId() + ")].skills[*].id").value(hasItem(skill.getId().intValue())))
+            .andExpect(jsonPath("$.[?(@.id == " + developer.getId() + ")].name").value(hasItem(DEFAULT_NAME)));
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void importDevelopers() throws Exception {
+        // Initialize the database
+        Technology skill = new Technology().name("ImportJava");
+        em.persist(skill);
+        developerRepository.saveAndFlush(developer.email("existing.import@devmatch.test"));
+        long databaseSizeBeforeImport = getRepositoryCount();
+
+        String csv = String.join(
+            "\n",
+            "id;name;email;experience_level;skills;experiences",
+            "1;Ana Quispe;ana.import@devmatch.test;Senior;importjava;Spring Boot APIs|Angular dashboards",
+            "2;;noname.import@devmatch.test;Junior;;",
+            "3;Luis;luis.import@devmatch.test;Junior;ImportCobol;",
+            "4;\"Rosa; Mamani\";ana.import@devmatch.test;Mid;;",
+            "5;Pedro;existing.import@devmatch.test;;;",
+            "6;\"Carla",
+            "Flores\";carla.import@devmatch.test;Mid;ImportJava, importjava;",
+            ""
+        );
+
+        // Import the developers
+        restDeveloperMockMvc
+            .perform(post(ENTITY_API_URL + "/import").contentType("text/csv").content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.rejected").value(4))
+            .andExpect(jsonPath("$.errors[*].line").value(contains(3, 4, 5, 6)));
+
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeImport + 2);
+        Developer ana = developerRepository
+            .findAllWithEagerRelationships()
+            .stream()
+            .filter(imported -> "ana.import@devmatch.test".equals(imported.getEmail()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(ana.getName()).isEqualTo("Ana Quispe");
+        assertThat(ana.getSkills()).extracting(Technology::getId).containsExactly(skill.getId());
+        assertThat(experienceRepository.findAllByDeveloperIdIn(List.of(ana.getId())))
+            .extracting(Experience::getDescription)
+            .containsExactlyInAnyOrder("Spring Boot APIs", "Angular dashboards");
+        assertThat(developerRepository.findAll()).extracting(Developer::getName).contains("Carla\nFlores");
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void importDevelopersWithoutNameColumn() throws Exception {
+        restDeveloperMockMvc
+            .perform(post(ENTITY_API_URL + "/import").contentType("text/csv").content("id;email\n1;a@devmatch.test\n"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void importDevelopersRequiresAdmin() throws Exception {
+        restDeveloperMockMvc
+            .perform(post(ENTITY_API_URL + "/import").contentType("text/csv").content("name\nAna\n"))
+            .andExpect(status().isForbidden());
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllDevelopersWithEagerRelationshipsIsEnabled() throws Exception {
-        when(developerServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        when(developerServiceMock.findSliceWithEagerRelationships(any())).thenReturn(new SliceImpl(new ArrayList<>()));
 
         restDeveloperMockMvc.perform(get(ENTITY_API_URL + "?eagerload=true")).andExpect(status().isOk());
 
-        verify(developerServiceMock, times(1)).findAllWithEagerRelationships(any());
+        verify(developerServiceMock, times(1)).findSliceWithEagerRelationships(any());
     }
 
     @SuppressWarnings({ "unchecked" })
     void getAllDevelopersWithEagerRelationshipsIsNotEnabled() throws Exception {
-        when(developerServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        when(developerServiceMock.findSliceWithEagerRelationships(any())).thenReturn(new SliceImpl(new ArrayList<>()));
 
         restDeveloperMockMvc.perform(get(ENTITY_API_URL + "?eagerload=false")).andExpect(status().isOk());
         verify(developerRepositoryMock, times(1)).findAll(any(Pageable.class));
@@ -304,6 +422,174 @@ class DeveloperResourceIT {
         restDeveloperMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getDeveloperNotModified() throws Exception {
+        // Initialize the database
+        insertedDeveloper = developerRepository.saveAndFlush(developer);
+
+        String eTag = restDeveloperMockMvc
+            .perform(get(ENTITY_API_URL_ID, developer.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + developer.getVersion() + "\""))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restDeveloperMockMvc
+            .perform(get(ENTITY_API_URL_ID, developer.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @Transactional
+    void getDeveloperAsCbor() throws Exception {
+        // Initialize the database
+        insertedDeveloper = developerRepository.saveAndFlush(developer);
+
+        byte[] body = restDeveloperMockMvc
+            .perform(get(ENTITY_API_URL_ID, developer.getId()).accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().build();
+        // Dates are written as text, like in JSON, by the object mapper configured by Spring Boot
+        assertThat(cbor.readTree(body).get("fechaCreacion").textValue()).isEqualTo(DEFAULT_FECHA_CREACION.toString());
+        DeveloperDTO developerDTO = cbor.readValue(body, DeveloperDTO.class);
+        assertThat(developerDTO.getId()).isEqualTo(developer.getId());
+        assertThat(developerDTO.getName()).isEqualTo(DEFAULT_NAME);
+        assertThat(developerDTO.getFechaCreacion()).isEqualTo(DEFAULT_FECHA_CREACION);
+        assertThat(body.length).isLessThan(om.writeValueAsBytes(developerDTO).length);
+    }
+
+    @Test
+    @Transactional
+    void createDeveloperFromSmile() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        ObjectMapper smile = Jackson2ObjectMapperBuilder.smile().build();
+
+        byte[] body = restDeveloperMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .contentType(SMILE)
+                    .accept(SMILE)
+                    .content(smile.writeValueAsBytes(developerMapper.toDto(developer)))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(SMILE))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        // Validate the Developer in the database
+        assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
+        var returnedDeveloper = developerMapper.toEntity(smile.readValue(body, DeveloperDTO.class));
+        assertDeveloperUpdatableFieldsEquals(returnedDeveloper, getPersistedDeveloper(returnedDeveloper));
+
+        insertedDeveloper = returnedDeveloper;
+    }
+
+    @Test
+    @Transactional
+    void getDeveloperWithoutAcceptIsJson() throws Exception {
+        // Initialize the database
+        insertedDeveloper = developerRepository.saveAndFlush(developer);
+
+        restDeveloperMockMvc
+            .perform(get(ENTITY_API_URL_ID, developer.getId()).accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.name").value(DEFAULT_NAME));
+    }
+
+    @Test
+    @Transactional
+    void getAllDevelopersNotModified() throws Exception {
+        // Initialize the database
+        insertedDeveloper = developerRepository.saveAndFlush(developer);
+
+        for (String mode : List.of("page", "slice")) {
+            String url = ENTITY_API_URL + "?sort=id,desc&size=5&mode=" + mode;
+            String eTag = restDeveloperMockMvc
+                .perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+            restDeveloperMockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(status().isNotModified());
+
+            developerRepository.saveAndFlush(developer.name(UPDATED_NAME + mode));
+
+            restDeveloperMockMvc
+                .perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.[0].name").value(UPDATED_NAME + mode));
+        }
+    }
+
+    @Test
+    @Transactional
+    void putDeveloperWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        insertedDeveloper = developerRepository.saveAndFlush(developer);
+        String staleETag = "\"" + (developer.getVersion() + 1) + "\"";
+
+        DeveloperDTO developerDTO = developerMapper.toDto(developer);
+        developerDTO.setName(UPDATED_NAME);
+
+        restDeveloperMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, developerDTO.getId())
+                    .header(HttpHeaders.IF_MATCH, staleETag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(developerDTO))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(getPersistedDeveloper(developer).getName()).isEqualTo(DEFAULT_NAME);
+    }
+
+    @Test
+    @Transactional
+    void patchDeveloperWithIfMatch() throws Exception {
+        // Initialize the database
+        insertedDeveloper = developerRepository.saveAndFlush(developer);
+        long version = developer.getVersion();
+
+        Developer partialUpdatedDeveloper = new Developer();
+        partialUpdatedDeveloper.setId(developer.getId());
+        partialUpdatedDeveloper.name(UPDATED_NAME);
+
+        restDeveloperMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedDeveloper.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(partialUpdatedDeveloper))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+            .andExpect(jsonPath("$.version").value(version + 1));
+
+        restDeveloperMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedDeveloper.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(partialUpdatedDeveloper.name(DEFAULT_NAME)))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(getPersistedDeveloper(developer).getName()).isEqualTo(UPDATED_NAME);
+    }
+
     @Test
     @Transactional
     void putExistingDeveloper() throws Exception {
@@ -0,0 +1,126 @@
+package com.devmatch.web.rest;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.devmatch.IntegrationTest;
+import com.devmatch.domain.Developer;
+import com.devmatch.domain.Experience;
+import com.devmatch.service.DeveloperSearchService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link DeveloperSearchResource} REST controller.
+ */
+@AutoConfigureMockMvc
+@IntegrationTest
+@WithMockUser
+class DeveloperSearchResourceIT {
+
+    private static final String SEARCH_API_URL = "/api/_search/developers";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private DeveloperSearchService developerSearchService;
+
+    @Autowired
+    private MockMvc restDeveloperSearchMockMvc;
+
+    private Developer quarkus;
+
+    private Developer kubernetes;
+
+    @BeforeEach
+    void initTest() {
+        quarkus = DeveloperResourceIT.createEntity()
+            .name("Ana Quispe")
+            .email("ana.quispe@devmatch.test")
+            .location("Cusco")
+            .bio("Desarrolladora de microservicios reactivos con Quarkus")
+            .motivation("Aprender arquitectura orientada a eventos");
+        em.persist(quarkus);
+        kubernetes = DeveloperResourceIT.createEntity()
+            .name("Luis Mamani")
+            .email("luis.mamani@devmatch.test")
+            .location("Arequipa")
+            .bio("Ingeniero de plataforma")
+            .motivation("Automatizar despliegues con Quarkus");
+        em.persist(kubernetes);
+        em.persist(new Experience().description("Migración de un monolito a Kubernetes").category("Laboral").developer(kubernetes));
+        em.flush();
+        developerSearchService.rebuild();
+    }
+
+    @Test
+    @Transactional
+    void searchDevelopersByExperience() throws Exception {
+        restDeveloperSearchMockMvc
+            .perform(get(SEARCH_API_URL + "?q=kubernetes"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].developerId").value(hasItem(kubernetes.getId().intValue())))
+            .andExpect(jsonPath("$.[0].location").value("Arequipa"))
+            .andExpect(jsonPath("$.[0].highlights.experiences[0]").value("Migración de un monolito a <em>Kubernetes</em>"));
+    }
+
+    @Test
+    @Transactional
+    void searchDevelopersIgnoresCaseAndAccents() throws Exception {
+        restDeveloperSearchMockMvc
+            .perform(get(SEARCH_API_URL + "?q=MIGRACION monolito"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].developerId").value(hasItem(kubernetes.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void searchDevelopersByPage() throws Exception {
+        restDeveloperSearchMockMvc
+            .perform(get(SEARCH_API_URL + "?q=quarkus&page=1&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(jsonPath("$", hasSize(1)));
+
+        restDeveloperSearchMockMvc
+            .perform(get(SEARCH_API_URL + "?q=quarkus&page=0&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(
+                jsonPath("$.[?(@.developerId == " + quarkus.getId() + ")].highlights.bio[0]").value(
+                    hasItem("Desarrolladora de microservicios reactivos con <em>Quarkus</em>")
+                )
+            )
+            .andExpect(
+                jsonPath("$.[?(@.developerId == " + kubernetes.getId() + ")].highlights.motivation[0]").value(
+                    hasItem("Automatizar despliegues con <em>Quarkus</em>")
+                )
+            );
+    }
+
+    @Test
+    @Transactional
+    void searchDevelopersWithInvalidSyntax() throws Exception {
+        restDeveloperSearchMockMvc
+            .perform(get(SEARCH_API_URL + "?q=kubernetes)"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].developerId").value(hasItem(kubernetes.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void searchDevelopersWithBlankQuery() throws Exception {
+        restDeveloperSearchMockMvc.perform(get(SEARCH_API_URL + "?q= ")).andExpect(status().isBadRequest());
+    }
+}
@@ -179,6 +179,12 @@ class ExperienceResourceIT {
             .andExpect(jsonPath("$.[*].category").value(hasItem(DEFAULT_CATEGORY)));
     }
 
+    @Test
+    @Transactional
+    void getAllExperiencesWithUnknownMode() throws Exception {
+        restExperienceMockMvc.perform(get(ENTITY_API_URL + "?mode=all")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getExperience() throws Exception {
@@ -4,7 +4,10 @@ import static com.devmatch.domain.MatchResultAsserts.*;
 import static com.devmatch.web.rest.TestUtil.createUpdateProxyForBean;
 import static com.devmatch.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -13,6 +16,7 @@ import com.devmatch.domain.Developer;
 import com.devmatch.domain.MatchResult;
 import com.devmatch.domain.Project;
 import com.devmatch.repository.MatchResultRepository;
+import com.devmatch.service.MatchStatisticsService;
 import com.devmatch.service.dto.MatchResultDTO;
 import com.devmatch.service.mapper.MatchResultMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,9 +29,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -74,6 +80,9 @@ class MatchResultResourceIT {
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private MatchStatisticsService matchStatisticsService;
+
     @Autowired
     private MockMvc restMatchResultMockMvc;
 
@@ -284,6 +293,64 @@ class MatchResultResourceIT {
             .andExpect(jsonPath("$.createdAt").value(DEFAULT_CREATED_AT));
     }
 
+    @Test
+    @Transactional
+    void getMatchStatistics() throws Exception {
+        // Initialize the database
+        insertedMatchResult = matchResultRepository.saveAndFlush(matchResult);
+        matchStatisticsService.rebuild();
+
+        // Get the statistics of the project of the matchResult
+        restMatchResultMockMvc
+            .perform(get(ENTITY_API_URL + "/stats?projectId={projectId}", matchResult.getProject().getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.projectId").value(matchResult.getProject().getId().intValue()))
+            .andExpect(jsonPath("$.totalMatches").value(1))
+            .andExpect(jsonPath("$.analyzedMatches").value(1))
+            .andExpect(jsonPath("$.averageTechnicalMatch").value(sameNumber(DEFAULT_TECHNICAL_MATCH)))
+            .andExpect(jsonPath("$.averageAiTechnicalAffinity").value(sameNumber(new BigDecimal(DEFAULT_AI_TECHNICAL_AFFINITY))))
+            .andExpect(jsonPath("$.averageAiMotivationalAffinity").value(sameNumber(new BigDecimal(DEFAULT_AI_MOTIVATIONAL_AFFINITY))))
+            .andExpect(jsonPath("$.averageAiExperienceRelevance").value(sameNumber(new BigDecimal(DEFAULT_AI_EXPERIENCE_RELEVANCE))));
+
+        // Get the statistics of all projects
+        restMatchResultMockMvc
+            .perform(get(ENTITY_API_URL + "/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectId").doesNotExist())
+            .andExpect(jsonPath("$.totalMatches").value(greaterThanOrEqualTo(1)));
+    }
+
+    @Test
+    @Transactional
+    void exportMatchResults() throws Exception {
+        // Export as NDJSON by default
+        MvcResult ndjson = restMatchResultMockMvc.perform(get(ENTITY_API_URL + "/export")).andExpect(request().asyncStarted()).andReturn();
+        restMatchResultMockMvc
+            .perform(asyncDispatch(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("match-results.ndjson")));
+
+        // Export as CSV
+        MvcResult csv = restMatchResultMockMvc
+            .perform(get(ENTITY_API_URL + "/export?format=csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restMatchResultMockMvc
+            .perform(asyncDispatch(csv))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("match-results.csv")))
+            .andExpect(content().string(startsWith("id,projectId,developerId,technicalMatch,")));
+    }
+
+    @Test
+    @Transactional
+    void exportMatchResultsWithUnknownFormat() throws Exception {
+        restMatchResultMockMvc.perform(get(ENTITY_API_URL + "/export?format=xml")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getNonExistingMatchResult() throws Exception {
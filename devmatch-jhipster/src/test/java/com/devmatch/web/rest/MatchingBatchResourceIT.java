@@ -0,0 +1,40 @@
+package com.devmatch.web.rest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.devmatch.IntegrationTest;
+import com.devmatch.security.AuthoritiesConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link MatchingBatchResource} REST controller.
+ */
+@AutoConfigureMockMvc
+@IntegrationTest
+class MatchingBatchResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/admin/matching/recompute";
+
+    @Autowired
+    private MockMvc restMatchingBatchMockMvc;
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void recompute() throws Exception {
+        restMatchingBatchMockMvc.perform(post(ENTITY_API_URL)).andExpect(status().isAccepted());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser
+    void recomputeIsForbiddenToUsers() throws Exception {
+        restMatchingBatchMockMvc.perform(post(ENTITY_API_URL)).andExpect(status().isForbidden());
+    }
+}
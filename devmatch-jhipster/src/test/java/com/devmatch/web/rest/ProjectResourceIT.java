@@ -3,6 +3,7 @@ package com.devmatch.web.rest;
 import static com.devmatch.domain.ProjectAsserts.*;
 import static com.devmatch.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -10,10 +11,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.devmatch.IntegrationTest;
 import com.devmatch.domain.Project;
+import com.devmatch.domain.Technology;
 import com.devmatch.repository.ProjectRepository;
+import com.devmatch.service.KeywordExtractionService;
 import com.devmatch.service.ProjectService;
 import com.devmatch.service.dto.ProjectDTO;
 import com.devmatch.service.mapper.ProjectMapper;
+import com.devmatch.web.rest.util.MatchProgressEmitter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
@@ -29,11 +33,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -96,6 +102,9 @@ class ProjectResourceIT {
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private KeywordExtractionService keywordExtractionService;
+
     @Autowired
     private MockMvc restProjectMockMvc;
 
@@ -149,7 +158,7 @@ class ProjectResourceIT {
     @AfterEach
     void cleanup() {
         if (insertedProject != null) {
-            projectRepository.delete(insertedProject);
+            projectRepository.deleteById(insertedProject.getId());
             insertedProject = null;
         }
     }
@@ -196,6 +205,68 @@ class ProjectResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    void createProjectTagsRequiredTechnologies() throws Exception {
+        Technology quarkus = TechnologyResourceIT.createEntity().name("Quarkus");
+        em.persist(quarkus);
+        Technology spring = TechnologyResourceIT.createEntity().name("Spring");
+        em.persist(spring);
+        Technology springBoot = TechnologyResourceIT.createEntity().name("Spring Boot");
+        em.persist(springBoot);
+        em.flush();
+        keywordExtractionService.rebuild();
+
+        // Create the Project with technologies named in its description only
+        project.setDescription("Migrar la API de spring boot a QUARKUS");
+        ProjectDTO projectDTO = projectMapper.toDto(project);
+        var returnedProjectDTO = om.readValue(
+            restProjectMockMvc
+                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(projectDTO)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            ProjectDTO.class
+        );
+
+        assertThat(returnedProjectDTO.getRequiredTechnologies())
+            .extracting("id")
+            .containsExactlyInAnyOrder(quarkus.getId(), springBoot.getId());
+        assertThat(getPersistedProject(projectMapper.toEntity(returnedProjectDTO)).getRequiredTechnologies())
+            .extracting(Technology::getId)
+            .containsExactlyInAnyOrder(quarkus.getId(), springBoot.getId());
+    }
+
+    @Test
+    @Transactional
+    void extractKeywords() throws Exception {
+        Technology springBoot = TechnologyResourceIT.createEntity().name("Spring Boot");
+        em.persist(springBoot);
+        em.flush();
+        keywordExtractionService.rebuild();
+
+        restProjectMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/keywords")
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .content("Aplicación móvil con arquitectura de microservicios en Spring Boot, con un inicio simple")
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.technologies[*].id").value(hasItem(springBoot.getId().intValue())))
+            .andExpect(jsonPath("$.experienceLevel").value("Advanced"))
+            .andExpect(jsonPath("$.projectType").value("Mobile"));
+
+        // Short keywords must match whole words: "ai" in "email" is not a data science hint
+        restProjectMockMvc
+            .perform(post(ENTITY_API_URL + "/keywords").contentType(MediaType.TEXT_PLAIN).content("Notificaciones por email"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.technologies").isEmpty())
+            .andExpect(jsonPath("$.experienceLevel").value("Intermediate"))
+            .andExpect(jsonPath("$.projectType").value("Web"));
+    }
+
     @Test
     @Transactional
     void checkNameIsRequired() throws Exception {
@@ -270,18 +341,35 @@ class ProjectResourceIT {
             .andExpect(jsonPath("$.[*].fechaModificacion").value(hasItem(DEFAULT_FECHA_MODIFICACION.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllProjectsAsSlice() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+        Project newer = projectRepository.saveAndFlush(createEntity().name(UPDATED_NAME));
+
+        restProjectMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=1&mode=slice"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("page=1&size=1>; rel=\"next\"")))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(newer.getId().intValue()))
+            .andExpect(jsonPath("$.[0].name").value(UPDATED_NAME));
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllProjectsWithEagerRelationshipsIsEnabled() throws Exception {
-        when(projectServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        when(projectServiceMock.findSliceWithEagerRelationships(any())).thenReturn(new SliceImpl(new ArrayList<>()));
 
         restProjectMockMvc.perform(get(ENTITY_API_URL + "?eagerload=true")).andExpect(status().isOk());
 
-        verify(projectServiceMock, times(1)).findAllWithEagerRelationships(any());
+        verify(projectServiceMock, times(1)).findSliceWithEagerRelationships(any());
     }
 
     @SuppressWarnings({ "unchecked" })
     void getAllProjectsWithEagerRelationshipsIsNotEnabled() throws Exception {
-        when(projectServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        when(projectServiceMock.findSliceWithEagerRelationships(any())).thenReturn(new SliceImpl(new ArrayList<>()));
 
         restProjectMockMvc.perform(get(ENTITY_API_URL + "?eagerload=false")).andExpect(status().isOk());
         verify(projectRepositoryMock, times(1)).findAll(any(Pageable.class));
@@ -317,6 +405,198 @@ class ProjectResourceIT {
         restProjectMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getProjectNotModified() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        restProjectMockMvc
+            .perform(get(ENTITY_API_URL_ID, project.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"" + project.getVersion() + "\""))
+            .andExpect(status().isNotModified());
+
+        projectRepository.saveAndFlush(project.name(UPDATED_NAME));
+
+        restProjectMockMvc
+            .perform(get(ENTITY_API_URL_ID, project.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"" + (project.getVersion() - 1) + "\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + project.getVersion() + "\""))
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME));
+    }
+
+    @Test
+    @Transactional
+    void putProjectWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        ProjectDTO projectDTO = projectMapper.toDto(project);
+        projectDTO.setName(UPDATED_NAME);
+
+        restProjectMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, projectDTO.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (project.getVersion() + 1) + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(projectDTO))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(getPersistedProject(project).getName()).isEqualTo(DEFAULT_NAME);
+    }
+
+    @Test
+    @Transactional
+    void getTopMatches() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        // Get the top matches of a project without required technologies
+        restProjectMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/matches/top?k=5", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void getTopMatchesWithInvalidK() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        restProjectMockMvc.perform(get(ENTITY_API_URL_ID + "/matches/top?k=0", project.getId())).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getTopWeightedMatches() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        // Get the top weighted matches of a project without required technologies
+        restProjectMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/matches/top?k=5&weighting=idf", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void getTopMatchesWithInvalidWeighting() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        restProjectMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/matches/top?weighting=bm25", project.getId()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getTopMatchesOfNonExistingProject() throws Exception {
+        restProjectMockMvc.perform(get(ENTITY_API_URL_ID + "/matches/top", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void analyzeTopMatches() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        // Analyze the top matches of a project without required technologies
+        restProjectMockMvc
+            .perform(post(ENTITY_API_URL_ID + "/matches/analyze?k=5", project.getId()))
+            .andExpect(status().isAccepted())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void analyzeSemanticMatches() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        restProjectMockMvc
+            .perform(post(ENTITY_API_URL_ID + "/matches/analyze?shortlist=semantic", project.getId()))
+            .andExpect(status().isAccepted())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE));
+    }
+
+    @Test
+    @Transactional
+    void analyzeTopMatchesWithInvalidShortlist() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        restProjectMockMvc
+            .perform(post(ENTITY_API_URL_ID + "/matches/analyze?shortlist=random", project.getId()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void analyzeTopMatchesOfNonExistingProject() throws Exception {
+        restProjectMockMvc.perform(post(ENTITY_API_URL_ID + "/matches/analyze", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void streamMatches() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        // Stream the analysis of a project without required technologies
+        MvcResult result = restProjectMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/matches/stream?k=5", project.getId()).accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        result.getAsyncResult(10_000);
+
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(result.getResponse().getContentAsString())
+            .doesNotContain("event:technical")
+            .contains("event:summary")
+            .contains("\"projectId\":" + project.getId())
+            .contains("\"candidates\":0")
+            .contains("\"completed\":true");
+    }
+
+    @Test
+    @Transactional
+    void streamMatchesOnReconnectAfterTheAnalysis() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        // A reconnecting EventSource is told to stop once no analysis of the project is in progress
+        restProjectMockMvc
+            .perform(
+                get(ENTITY_API_URL_ID + "/matches/stream", project.getId())
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .header(MatchProgressEmitter.LAST_EVENT_ID, "3")
+            )
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @Transactional
+    void streamMatchesWithInvalidShortlist() throws Exception {
+        // Initialize the database
+        insertedProject = projectRepository.saveAndFlush(project);
+
+        restProjectMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/matches/stream?shortlist=random", project.getId()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void streamMatchesOfNonExistingProject() throws Exception {
+        restProjectMockMvc.perform(get(ENTITY_API_URL_ID + "/matches/stream", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void putExistingProject() throws Exception {
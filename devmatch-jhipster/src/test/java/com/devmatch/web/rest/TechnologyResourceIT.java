@@ -4,24 +4,33 @@ import static com.devmatch.domain.TechnologyAsserts.*;
 import static com.devmatch.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.devmatch.IntegrationTest;
 import com.devmatch.domain.Technology;
 import com.devmatch.repository.TechnologyRepository;
+import com.devmatch.service.TechnologyService;
 import com.devmatch.service.dto.TechnologyDTO;
 import com.devmatch.service.mapper.TechnologyMapper;
+import com.devmatch.web.rest.util.TechnologyCatalogueCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -61,6 +70,12 @@ class TechnologyResourceIT {
     @Autowired
     private MockMvc restTechnologyMockMvc;
 
+    @Autowired
+    private TechnologyService technologyService;
+
+    @Autowired
+    private TechnologyCatalogueCache technologyCatalogueCache;
+
     private Technology technology;
 
     private Technology insertedTechnology;
@@ -88,12 +103,13 @@ class TechnologyResourceIT {
     @BeforeEach
     void initTest() {
         technology = createEntity();
+        technologyCatalogueCache.invalidate();
     }
 
     @AfterEach
     void cleanup() {
         if (insertedTechnology != null) {
-            technologyRepository.delete(insertedTechnology);
+            technologyRepository.deleteById(insertedTechnology.getId());
             insertedTechnology = null;
         }
     }
@@ -173,6 +189,110 @@ class TechnologyResourceIT {
             .andExpect(jsonPath("$.[*].category").value(hasItem(DEFAULT_CATEGORY)));
     }
 
+    @Test
+    @Transactional
+    void getAllTechnologiesFromCache() throws Exception {
+        // Initialize the database
+        insertedTechnology = technologyRepository.saveAndFlush(technology);
+
+        byte[] body = restTechnologyMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(technology.getId().intValue())))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        // Changes made without the service are not seen until the cache is dropped
+        technologyRepository.saveAndFlush(technology.name(UPDATED_NAME));
+
+        restTechnologyMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(content().bytes(body));
+
+        technologyCatalogueCache.invalidate();
+
+        restTechnologyMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].name").value(hasItem(UPDATED_NAME)));
+    }
+
+    @Test
+    @Transactional
+    void getAllTechnologiesGzipped() throws Exception {
+        // Initialize the database
+        insertedTechnology = technologyRepository.saveAndFlush(technology);
+
+        MockHttpServletResponse response = restTechnologyMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")))
+            .andReturn()
+            .getResponse();
+
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            TechnologyDTO[] technologies = om.readValue(body, TechnologyDTO[].class);
+            assertThat(technologies).extracting(TechnologyDTO::getName).contains(DEFAULT_NAME);
+        }
+
+        restTechnologyMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+            .andExpect(status().isNotModified());
+        restTechnologyMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)));
+    }
+
+    @Test
+    @Transactional
+    void getAllTechnologiesAsCbor() throws Exception {
+        // Initialize the database
+        insertedTechnology = technologyRepository.saveAndFlush(technology);
+
+        restTechnologyMockMvc.perform(get(ENTITY_API_URL + "?sort=id,desc")).andExpect(status().isOk());
+
+        byte[] body = restTechnologyMockMvc
+            .perform(
+                get(ENTITY_API_URL + "?sort=id,desc").accept("application/cbor, */*;q=0.5").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().exists("X-Total-Count"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        TechnologyDTO[] technologies = Jackson2ObjectMapperBuilder.cbor().build().readValue(body, TechnologyDTO[].class);
+        assertThat(technologies).extracting(TechnologyDTO::getName).contains(DEFAULT_NAME);
+    }
+
+    @Test
+    void getAllTechnologiesAfterServiceChange() throws Exception {
+        restTechnologyMockMvc.perform(get(ENTITY_API_URL + "?sort=id,desc")).andExpect(status().isOk());
+
+        TechnologyDTO technologyDTO = technologyMapper.toDto(technology.name("Catalogue cache"));
+        technologyDTO = technologyService.save(technologyDTO);
+        try {
+            restTechnologyMockMvc
+                .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].name").value(hasItem("Catalogue cache")));
+        } finally {
+            technologyService.delete(technologyDTO.getId());
+        }
+
+        restTechnologyMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].name").value(not(hasItem("Catalogue cache"))));
+    }
+
     @Test
     @Transactional
     void getTechnology() throws Exception {
@@ -196,6 +316,49 @@ class TechnologyResourceIT {
         restTechnologyMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getTechnologyNotModified() throws Exception {
+        // Initialize the database
+        insertedTechnology = technologyRepository.saveAndFlush(technology);
+
+        restTechnologyMockMvc
+            .perform(get(ENTITY_API_URL_ID, technology.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"" + technology.getVersion() + "\""))
+            .andExpect(status().isNotModified());
+
+        technologyRepository.saveAndFlush(technology.name(UPDATED_NAME));
+
+        restTechnologyMockMvc
+            .perform(
+                get(ENTITY_API_URL_ID, technology.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"" + (technology.getVersion() - 1) + "\"")
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + technology.getVersion() + "\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME));
+    }
+
+    @Test
+    @Transactional
+    void putTechnologyWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        insertedTechnology = technologyRepository.saveAndFlush(technology);
+
+        TechnologyDTO technologyDTO = technologyMapper.toDto(technology);
+        technologyDTO.setName(UPDATED_NAME);
+
+        restTechnologyMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, technologyDTO.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (technology.getVersion() + 1) + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(technologyDTO))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(getPersistedTechnology(technology).getName()).isEqualTo(DEFAULT_NAME);
+    }
+
     @Test
     @Transactional
     void putExistingTechnology() throws Exception {